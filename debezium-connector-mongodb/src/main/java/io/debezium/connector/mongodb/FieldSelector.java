@@ -191,6 +191,47 @@ else if (pathsApplyingToCollection.size() > 1) {
         return doc -> doc;
     }
 
+    /**
+     * Returns the projection that excludes the fields removed from the documents of the given collection, so that
+     * reading the collection doesn't transfer them in the first place.
+     *
+     * <p>
+     * The {@code _id} field and fields addressed by their position in an array are not excluded by the projection,
+     * as are fields whose parent field is excluded already; the field filter still removes them from the documents.
+     *
+     * @param id the collection identifier, never {@code null}
+     * @return the projection, or {@code null} if all fields are to be read
+     */
+    public Document projectionFor(CollectionId id) {
+        final String namespace = id.namespace();
+        final List<String[]> excludedFields = paths.stream()
+                .filter(path -> path instanceof RemovePath && path.matches(namespace))
+                .map(path -> path.fieldNodes)
+                .filter(nodes -> !"_id".equals(nodes[0]) && Arrays.stream(nodes).noneMatch(Strings::isNumeric))
+                .collect(Collectors.toList());
+        if (excludedFields.isEmpty()) {
+            return null;
+        }
+
+        // MongoDB rejects projections containing both a field and one of its parent fields
+        final Document projection = new Document();
+        for (String[] nodes : excludedFields) {
+            if (excludedFields.stream().noneMatch(other -> other.length < nodes.length && hasPrefix(nodes, other))) {
+                projection.put(String.join(".", nodes), 0);
+            }
+        }
+        return projection;
+    }
+
+    private static boolean hasPrefix(String[] nodes, String[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (!prefix[i].equals(nodes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static final class FieldNameAndValue {
 
         private final String key;
@@ -8,6 +8,8 @@
 import java.util.Set;
 import java.util.function.Predicate;
 
+import org.bson.Document;
+
 import io.debezium.config.Configuration;
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
 import io.debezium.function.Predicates;
@@ -57,7 +59,8 @@ else if (collectionExcludeList != null && !collectionExcludeList.trim().isEmpty(
             collectionFilter = (id) -> true;
         }
         Predicate<CollectionId> isNotBuiltIn = this::isNotBuiltIn;
-        this.collectionFilter = isNotBuiltIn.and(collectionFilter);
+        // the filter is evaluated for every change event, so remember the decision for each collection
+        this.collectionFilter = Predicates.memoize(isNotBuiltIn.and(collectionFilter));
 
         // Define the field selector that provides the field filter to exclude or rename fields in a document ...
         fieldSelector = FieldSelector.builder()
@@ -94,6 +97,16 @@ public FieldFilter fieldFilterFor(CollectionId id) {
         return fieldSelector.fieldFilterFor(id);
     }
 
+    /**
+     * Get the projection excluding the fields that are removed from the documents of a given collection.
+     *
+     * @param id the collection identifier, never null
+     * @return the projection; null if all fields are to be read
+     */
+    public Document projectionFor(CollectionId id) {
+        return fieldSelector.projectionFor(id);
+    }
+
     protected boolean isNotBuiltIn(CollectionId id) {
         return !BUILT_IN_DB_NAMES.contains(id.dbName());
     }
@@ -25,6 +25,7 @@
 import io.debezium.connector.mongodb.metrics.MongoDbChangeEventSourceMetricsFactory;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.DataChangeEventSpillCodec;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.util.Clock;
@@ -83,8 +84,14 @@ public ChangeEventSourceCoordinator start(Configuration config) {
 
             this.queue = new ChangeEventQueue.Builder<DataChangeEvent>()
                     .pollInterval(connectorConfig.getPollInterval())
+                    .maxLinger(connectorConfig.getPollLinger())
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .spillDirectory(connectorConfig.getQueueSpillDirectory())
+                    .spillSegmentSize(connectorConfig.getQueueSpillSegmentSizeInBytes())
+                    .maxSpillSizeInBytes(connectorConfig.getMaxQueueSpillSizeInBytes())
+                    .spillCodec(new DataChangeEventSpillCodec())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -140,6 +147,9 @@ public void doStop() {
             if (schema != null) {
                 schema.close();
             }
+            if (queue != null) {
+                queue.close();
+            }
         }
         finally {
             previousLogContext.restore();
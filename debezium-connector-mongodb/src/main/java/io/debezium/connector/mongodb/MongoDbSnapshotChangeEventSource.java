@@ -70,7 +70,7 @@ public MongoDbSnapshotChangeEventSource(MongoDbConnectorConfig connectorConfig,
                                             ReplicaSets replicaSets, MongoDbOffsetContext previousOffset,
                                             EventDispatcher<CollectionId> dispatcher, Clock clock,
                                             SnapshotProgressListener snapshotProgressListener, ErrorHandler errorHandler) {
-        super(connectorConfig, previousOffset, snapshotProgressListener);
+        super(connectorConfig, previousOffset, snapshotProgressListener, taskContext.getSnapshotRateLimiter());
         this.connectorConfig = connectorConfig;
         this.taskContext = taskContext;
         this.connectionContext = taskContext.getConnectionContext();
@@ -445,9 +445,10 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
             final MongoCollection<Document> collection = database.getCollection(collectionId.name());
 
             final int batchSize = taskContext.getConnectorConfig().getSnapshotFetchSize();
+            final Document projection = taskContext.filters().projectionFor(collectionId);
 
             long docs = 0;
-            try (MongoCursor<Document> cursor = collection.find().batchSize(batchSize).iterator()) {
+            try (MongoCursor<Document> cursor = collection.find().projection(projection).batchSize(batchSize).iterator()) {
                 snapshotContext.lastRecordInCollection = false;
                 if (cursor.hasNext()) {
                     while (cursor.hasNext()) {
@@ -457,6 +458,7 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
 
                         Document document = cursor.next();
                         docs++;
+                        rateLimiter.acquireFor(1, document);
 
                         snapshotContext.lastRecordInCollection = !cursor.hasNext();
 
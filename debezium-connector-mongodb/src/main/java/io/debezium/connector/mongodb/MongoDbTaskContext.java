@@ -27,7 +27,8 @@ public class MongoDbTaskContext extends CdcSourceTaskContext {
      * @param config the configuration
      */
     public MongoDbTaskContext(Configuration config) {
-        super(Module.contextName(), config.getString(MongoDbConnectorConfig.LOGICAL_NAME), Collections::emptySet);
+        super(Module.contextName(), config.getString(MongoDbConnectorConfig.LOGICAL_NAME), Collections::emptySet,
+                config.getLong(MongoDbConnectorConfig.SNAPSHOT_MAX_ROWS_PER_SECOND), config.getLong(MongoDbConnectorConfig.SNAPSHOT_MAX_BYTES_PER_SECOND));
 
         final String serverName = config.getString(MongoDbConnectorConfig.LOGICAL_NAME);
         this.filters = new Filters(config);
@@ -18,6 +18,7 @@
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
 import io.debezium.schema.DataCollectionId;
+import io.debezium.util.CompactMap;
 
 /**
  * An {@link OffsetContext} implementation that is specific to a single {@link ReplicaSet}.
@@ -48,9 +49,9 @@ public ReplicaSetOffsetContext(MongoDbOffsetContext offsetContext, ReplicaSet re
 
     @Override
     public Map<String, ?> getOffset() {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> offsets = (Map<String, Object>) sourceInfo.lastOffset(replicaSetName);
-        return isSnapshotOngoing() ? offsets : offsetContext.getTransactionContext().store(offsets);
+        final Map<String, ?> offsets = sourceInfo.lastOffset(replicaSetName);
+        return isSnapshotOngoing() ? offsets
+                : offsetContext.getTransactionContext().store(CompactMap.<Object> builder().putAll(offsets)).build();
     }
 
     @Override
@@ -8,6 +8,7 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import org.apache.kafka.common.config.ConfigException;
+import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -197,6 +198,23 @@ public void shouldThrowExceptionWhenFieldRenamesRenameMappingValueIsMissing() {
         build.renameFields("db1.collectionA.name=").createFilters();
     }
 
+    @Test
+    public void shouldProjectExcludedFields() {
+        filters = build.excludeFields("db1.collectionA.name,db1.collectionA.address.street,db1.collectionA.address,db1.*.phone")
+                .renameFields("db1.collectionA.age:years")
+                .createFilters();
+        assertThat(filters.projectionFor(CollectionId.parse("rs1.", "db1.collectionA")))
+                .isEqualTo(new Document("name", 0).append("address", 0).append("phone", 0));
+        assertThat(filters.projectionFor(CollectionId.parse("rs1.", "db1.collectionB"))).isEqualTo(new Document("phone", 0));
+        assertThat(filters.projectionFor(CollectionId.parse("rs1.", "db2.collectionA"))).isNull();
+    }
+
+    @Test
+    public void shouldNotProjectIdOrArrayItems() {
+        filters = build.excludeFields("db1.collectionA._id.name,db1.collectionA.items.0.name").createFilters();
+        assertThat(filters.projectionFor(CollectionId.parse("rs1.", "db1.collectionA"))).isNull();
+    }
+
     protected void assertCollectionIncluded(String fullyQualifiedCollectionName) {
         CollectionId id = CollectionId.parse("rs1.", fullyQualifiedCollectionName);
         assertThat(id).isNotNull();
@@ -23,6 +23,7 @@
 
 import io.debezium.config.ConfigurationDefaults;
 import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.metrics.LatencyHistogram;
 import io.debezium.time.Temporals;
 import io.debezium.util.Clock;
 import io.debezium.util.Metronome;
@@ -36,6 +37,8 @@
  */
 public abstract class AbstractReader implements Reader {
 
+    private static final LatencyHistogram EMPTY_HISTOGRAM = new LatencyHistogram();
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final String name;
@@ -84,6 +87,28 @@ public int totalCapacity() {
             public int remainingCapacity() {
                 return records.remainingCapacity();
             }
+
+            @Override
+            public long maxQueueSizeInBytes() {
+                // the reader queue is bounded by the number of records only
+                return 0;
+            }
+
+            @Override
+            public long currentQueueSizeInBytes() {
+                return 0;
+            }
+
+            @Override
+            public long peakQueueSizeInBytes() {
+                return 0;
+            }
+
+            @Override
+            public LatencyHistogram enqueueToPollLatency() {
+                // enqueue times are not tracked by the reader queue
+                return EMPTY_HISTOGRAM;
+            }
         };
     }
 
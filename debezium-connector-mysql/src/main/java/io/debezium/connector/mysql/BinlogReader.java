@@ -10,6 +10,8 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -19,6 +21,7 @@
 import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -27,9 +30,13 @@
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javax.net.ssl.KeyManager;
@@ -43,6 +50,7 @@
 import org.slf4j.event.Level;
 
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.BinaryLogClient.EventListener;
 import com.github.shyiko.mysql.binlog.BinaryLogClient.LifecycleListener;
 import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.Event;
@@ -50,6 +58,7 @@
 import com.github.shyiko.mysql.binlog.event.EventHeader;
 import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
 import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.FormatDescriptionEventData;
 import com.github.shyiko.mysql.binlog.event.GtidEventData;
 import com.github.shyiko.mysql.binlog.event.QueryEventData;
 import com.github.shyiko.mysql.binlog.event.RotateEventData;
@@ -68,6 +77,7 @@
 
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SecureConnectionMode;
+import io.debezium.connector.mysql.RecordMakers.ConvertedRow;
 import io.debezium.connector.mysql.RecordMakers.RecordsForTable;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.function.BlockingConsumer;
@@ -91,11 +101,23 @@ public class BinlogReader extends AbstractReader {
     private static final long MAX_POLL_PERIOD_IN_MILLIS = TimeUnit.HOURS.toMillis(1);
     private static final String KEEPALIVE_THREAD_NAME = "blc-keepalive";
 
+    /**
+     * The minimum number of rows converted by each row conversion thread; smaller events are converted while producing
+     * their records, as handing them to other threads would take longer than converting them.
+     */
+    private static final int MIN_ROWS_PER_CONVERSION_THREAD = 64;
+
     private final boolean recordSchemaChangesInSourceRecords;
     private final RecordMakers recordMakers;
     private final SourceInfo source;
     private final EnumMap<EventType, BlockingConsumer<Event>> eventHandlers = new EnumMap<>(EventType.class);
     private final BinaryLogClient client;
+    private final EventDeserializer eventDeserializer;
+    private final Path localBinlogDirectory;
+    private final ExecutorService localBinlogReader;
+    private final EventBuffer eventBuffer;
+    private final ExecutorService rowConverter;
+    private final int rowConversionThreads;
     private final BinlogReaderMetrics metrics;
     private final Clock clock;
     private final ElapsedTimeStrategy pollOutputDelay;
@@ -111,67 +133,12 @@ public class BinlogReader extends AbstractReader {
     private final Predicate<String> gtidDmlSourceFilter;
     private final AtomicLong totalRecordCounter = new AtomicLong();
     private volatile Map<String, ?> lastOffset = null;
-    private com.github.shyiko.mysql.binlog.GtidSet gtidSet;
+    private GtidSet gtidSet;
     private Heartbeat heartbeat;
     private MySqlJdbcContext connectionContext;
     private final float heartbeatIntervalFactor = 0.8f;
     private final Map<String, Thread> binaryLogClientThreads = new ConcurrentHashMap<>(4);
 
-    public static class BinlogPosition {
-        final String filename;
-        final long position;
-
-        public BinlogPosition(String filename, long position) {
-            assert filename != null;
-
-            this.filename = filename;
-            this.position = position;
-        }
-
-        public String getFilename() {
-            return filename;
-        }
-
-        public long getPosition() {
-            return position;
-        }
-
-        @Override
-        public String toString() {
-            return filename + "/" + position;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + filename.hashCode();
-            result = prime * result + (int) (position ^ (position >>> 32));
-            return result;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            BinlogPosition other = (BinlogPosition) obj;
-            if (!filename.equals(other.filename)) {
-                return false;
-            }
-            if (position != other.position) {
-                return false;
-            }
-            return true;
-        }
-    }
-
     /**
      * Create a binlog reader.
      *
@@ -226,9 +193,19 @@ public BinlogReader(String name, MySqlTaskContext context, HaltingPredicate acce
         // multiply by keepAliveInterval and set the result value to heartbeatInterval.The default value of heartbeatIntervalFactor
         // is 0.8, and we believe the left time (0.2 * keepAliveInterval) is enough to process the packet received from the MySQL server.
         client.setHeartbeatInterval((long) (keepAliveInterval * heartbeatIntervalFactor));
-        client.registerEventListener(context.bufferSizeForBinlogReader() == 0
-                ? this::handleEvent
-                : (new EventBuffer(context.bufferSizeForBinlogReader(), this))::add);
+        eventBuffer = context.bufferSizeForBinlogReader() == 0
+                ? null
+                : new EventBuffer(context.bufferSizeForBinlogReader(), context.bufferSpillDirectoryForBinlogReader(), this);
+        client.registerEventListener(eventBuffer == null ? this::handleEvent : eventBuffer::add);
+        rowConversionThreads = context.rowConversionThreadsForBinlogReader();
+        rowConverter = rowConversionThreads > 1
+                ? Threads.newFixedThreadPool(MySqlConnector.class, context.getConnectorConfig().getLogicalName(), "binlog-row-converter",
+                        rowConversionThreads)
+                : null;
+        localBinlogDirectory = context.localBinlogDirectory();
+        localBinlogReader = localBinlogDirectory != null
+                ? Threads.newSingleThreadExecutor(MySqlConnector.class, context.getConnectorConfig().getLogicalName(), "binlog-local-reader")
+                : null;
 
         client.registerLifecycleListener(new ReaderThreadLifecycleListener());
         client.registerEventListener(this::onEvent);
@@ -241,7 +218,7 @@ public BinlogReader(String name, MySqlTaskContext context, HaltingPredicate acce
 
         // Set up the event deserializer with additional type(s) ...
         final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<Long, TableMapEventData>();
-        EventDeserializer eventDeserializer = new EventDeserializer() {
+        eventDeserializer = new EventDeserializer() {
             @Override
             public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
                 try {
@@ -347,6 +324,28 @@ protected void doStart() {
             eventHandlers.put(EventType.ROWS_QUERY, this::handleRowsQuery);
         }
 
+        setStartingPosition();
+
+        // Initial our poll output delay logic ...
+        pollOutputDelay.hasElapsed();
+        previousOutputMillis = clock.currentTimeInMillis();
+
+        final String binlogFilename = source.binlogFilename();
+        if (localBinlogDirectory != null && binlogFilename != null && Files.isRegularFile(localBinlogDirectory.resolve(binlogFilename))) {
+            // Catch up from the local binlog files on another thread, as records are only polled once the reader has been started ...
+            logger.info("Reading local binlog files from '{}' starting at {}:{}", localBinlogDirectory, binlogFilename, source.binlogPosition());
+            localBinlogReader.execute(this::readLocalBinlogFilesAndConnect);
+        }
+        else {
+            connect();
+        }
+    }
+
+    /**
+     * Set the position at which the binlog client starts reading, as well as the events and rows to skip, based upon
+     * the current offset.
+     */
+    private void setStartingPosition() {
         final boolean isGtidModeEnabled = connectionContext.isGtidModeEnabled();
         metrics.setIsGtidModeEnabled(isGtidModeEnabled);
 
@@ -370,13 +369,13 @@ protected void doStart() {
                 String filteredGtidSetStr = filteredGtidSet.toString();
                 client.setGtidSet(filteredGtidSetStr);
                 source.setCompletedGtidSet(filteredGtidSetStr);
-                gtidSet = new com.github.shyiko.mysql.binlog.GtidSet(filteredGtidSetStr);
+                gtidSet = filteredGtidSet;
             }
             else {
                 // We've not yet seen any GTIDs, so that means we have to start reading the binlog from the beginning ...
                 client.setBinlogFilename(source.binlogFilename());
                 client.setBinlogPosition(source.binlogPosition());
-                gtidSet = new com.github.shyiko.mysql.binlog.GtidSet("");
+                gtidSet = new GtidSet("");
             }
         }
         else {
@@ -393,12 +392,12 @@ protected void doStart() {
 
         // Only when we reach the first BEGIN event will we start to skip events ...
         skipEvent = false;
+    }
 
-        // Initial our poll output delay logic ...
-        pollOutputDelay.hasElapsed();
-        previousOutputMillis = clock.currentTimeInMillis();
-
-        // Start the log reader, which starts background threads ...
+    /**
+     * Connect the binlog client, which starts reading the binlog on background threads.
+     */
+    private void connect() {
         if (isRunning()) {
             long timeout = context.getConnectorConfig().getConnectionTimeout().toMillis();
             long started = context.getClock().currentTimeInMillis();
@@ -447,21 +446,118 @@ protected void doStart() {
         }
     }
 
-    protected void rewindBinaryLogClient(BinlogPosition position) {
+    /**
+     * Read the local binlog files starting at the current offset, and then continue with the binlog of the server.
+     */
+    private void readLocalBinlogFilesAndConnect() {
         try {
-            if (isRunning()) {
-                logger.debug("Rewinding binlog to position {}", position);
-                client.disconnect();
-                client.setBinlogFilename(position.getFilename());
-                client.setBinlogPosition(position.getPosition());
-                client.connect();
+            readLocalBinlogFiles();
+            if (!isRunning() || eventHandlers.isEmpty()) {
+                // The reader has been stopped or has failed ...
+                return;
+            }
+            if (eventBuffer != null) {
+                // The server will send the events of the transaction in progress again ...
+                eventBuffer.clear();
             }
+            // Continue from the last offset, exactly as if the connector had been restarted. This also skips the events
+            // and rows of the transaction in progress that have already been processed ...
+            source.setOffset(source.offset());
+            logger.info("Completed reading local binlog files, continuing with the binlog of the server at {}:{}",
+                    source.binlogFilename(), source.binlogPosition());
+            setStartingPosition();
+            connect();
         }
-        catch (IOException e) {
-            logger.error("Unexpected error when re-connecting to the MySQL binary log reader", e);
+        catch (Exception e) {
+            failed(e, "Error reading local binlog files");
+        }
+    }
+
+    /**
+     * Read the events of the local binlog files as long as they form a contiguous binlog starting at the current offset.
+     * The events are handed to the same listeners as the events received by the binlog client. Reading stops at the first
+     * local file that cannot be read, so that the binlog of the server is read from there on.
+     */
+    private void readLocalBinlogFiles() {
+        String filename = source.binlogFilename();
+        long position = source.binlogPosition();
+        boolean first = true;
+        while (filename != null && Files.isRegularFile(localBinlogDirectory.resolve(filename))) {
+            String nextFilename = null;
+            try (LocalBinlogFile file = new LocalBinlogFile(localBinlogDirectory.resolve(filename), eventDeserializer)) {
+                logger.info("Reading local binlog file '{}'", file.path());
+                if (first) {
+                    if (!seekToStartingPosition(file, position)) {
+                        return;
+                    }
+                    // Like the server, announce the file and position reading starts at ...
+                    dispatchLocalEvent(rotateEvent(filename, position));
+                    first = false;
+                }
+                Event event;
+                while (isRunning() && !eventHandlers.isEmpty() && (event = file.nextEvent()) != null) {
+                    dispatchLocalEvent(event);
+                    if (event.getHeader().getEventType() == EventType.ROTATE) {
+                        // The file is complete, continue with the next one ...
+                        RotateEventData rotate = unwrapData(event);
+                        nextFilename = rotate.getBinlogFilename();
+                    }
+                }
+                logger.info("Read local binlog file '{}' up to position {}", file.path(), file.position());
+            }
+            catch (IOException e) {
+                logger.warn("Unable to read local binlog file '{}', continuing with the binlog of the server", localBinlogDirectory.resolve(filename), e);
+                return;
+            }
+            if (!isRunning() || eventHandlers.isEmpty()) {
+                return;
+            }
+            filename = nextFilename;
         }
     }
 
+    /**
+     * Move to the position at which reading starts in the first local binlog file. A stale or partial copy of the file
+     * may not contain this position yet, in which case nothing is read from the local files.
+     *
+     * @return {@code true} if the file contains the position, or {@code false} otherwise
+     */
+    private boolean seekToStartingPosition(LocalBinlogFile file, long position) throws IOException {
+        if (position <= LocalBinlogFile.FIRST_EVENT_POSITION) {
+            return true;
+        }
+        // The format description event determines how the following events are deserialized; it is not handled
+        // though, as it would move the recorded position back to the beginning of the file ...
+        final Event formatDescription = file.nextEvent();
+        if (formatDescription == null || !(unwrapData(formatDescription) instanceof FormatDescriptionEventData)) {
+            logger.warn("Local binlog file '{}' does not start with a format description event, continuing with the binlog of the server",
+                    file.path());
+            return false;
+        }
+        if (position > file.size()) {
+            logger.warn("Local binlog file '{}' of size {} does not contain position {}, continuing with the binlog of the server",
+                    file.path(), file.size(), position);
+            return false;
+        }
+        file.seek(position);
+        return true;
+    }
+
+    private void dispatchLocalEvent(Event event) {
+        for (EventListener listener : client.getEventListeners()) {
+            listener.onEvent(event);
+        }
+    }
+
+    private static Event rotateEvent(String filename, long position) {
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.ROTATE);
+        final RotateEventData data = new RotateEventData();
+        data.setBinlogFilename(filename);
+        data.setBinlogPosition(position);
+        return new Event(header, data);
+    }
+
     /**
      * @return a copy of the last offset of this reader, or null if this reader has not completed a poll.
      */
@@ -471,6 +567,9 @@ protected void rewindBinaryLogClient(BinlogPosition position) {
 
     @Override
     protected void doStop() {
+        if (localBinlogReader != null) {
+            localBinlogReader.shutdownNow();
+        }
         try {
             if (client.isConnected()) {
                 logger.debug("Stopping binlog reader '{}', last recorded offset: {}", this.name(), lastOffset);
@@ -485,6 +584,12 @@ protected void doStop() {
 
     @Override
     protected void doCleanup() {
+        if (eventBuffer != null) {
+            eventBuffer.discardSpillFile();
+        }
+        if (rowConverter != null) {
+            rowConverter.shutdownNow();
+        }
         logger.debug("Completed writing all records that were read from the binlog before being stopped");
     }
 
@@ -542,7 +647,7 @@ protected void onEvent(Event event) {
 
         ts = clock.currentTimeInMillis() - eventTs;
         logger.trace("Current milliseconds behind source: {} ms", ts);
-        metrics.setMilliSecondsBehindSource(ts);
+        metrics.onSourceEvent(ts);
     }
 
     protected void ignoreEvent(Event event) {
@@ -721,8 +826,8 @@ protected void handleGtidEvent(Event event) {
         logger.debug("GTID transaction: {}", event);
         GtidEventData gtidEvent = unwrapData(event);
         String gtid = gtidEvent.getGtid();
-        gtidSet.add(gtid);
-        source.startGtid(gtid, gtidSet.toString()); // rather than use the client's GTID set
+        gtidSet = gtidSet.with(gtid);
+        source.startGtid(gtid, gtidSet); // rather than use the client's GTID set
         ignoreDmlEventByGtidSource = false;
         if (gtidDmlSourceFilter != null && gtid != null) {
             String uuid = gtid.trim().substring(0, gtid.indexOf(":"));
@@ -934,9 +1039,13 @@ protected void handleInsert(Event event) throws InterruptedException {
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                final ConvertedRow[] converted = convertRows(rows, recordMaker::convert);
                 for (int row = startingRowNumber; row != numRows; ++row) {
-                    count += recordMaker.create(rows.get(row), ts, row, numRows);
+                    count += converted != null
+                            ? recordMaker.create(converted[row - startingRowNumber], ts, row, numRows)
+                            : recordMaker.create(rows.get(row), ts, row, numRows);
                 }
+                metrics.onChangeEvents(recordMakers.getTableIdFromTableNumber(tableNumber), Operation.CREATE, count);
                 if (logger.isDebugEnabled()) {
                     if (startingRowNumber != 0) {
                         logger.debug("Recorded {} insert record(s) for last {} row(s) in event: {}",
@@ -985,12 +1094,19 @@ protected void handleUpdate(Event event) throws InterruptedException {
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                final ConvertedRow[] converted = convertRows(rows, changes -> recordMaker.convert(changes.getKey(), changes.getValue()));
                 for (int row = startingRowNumber; row != numRows; ++row) {
-                    Map.Entry<Serializable[], Serializable[]> changes = rows.get(row);
-                    Serializable[] before = changes.getKey();
-                    Serializable[] after = changes.getValue();
-                    count += recordMaker.update(before, after, ts, row, numRows);
+                    if (converted != null) {
+                        count += recordMaker.update(converted[row - startingRowNumber], ts, row, numRows);
+                    }
+                    else {
+                        Map.Entry<Serializable[], Serializable[]> changes = rows.get(row);
+                        Serializable[] before = changes.getKey();
+                        Serializable[] after = changes.getValue();
+                        count += recordMaker.update(before, after, ts, row, numRows);
+                    }
                 }
+                metrics.onChangeEvents(recordMakers.getTableIdFromTableNumber(tableNumber), Operation.UPDATE, count);
                 if (logger.isDebugEnabled()) {
                     if (startingRowNumber != 0) {
                         logger.debug("Recorded {} update record(s) for last {} row(s) in event: {}",
@@ -1038,9 +1154,13 @@ protected void handleDelete(Event event) throws InterruptedException {
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                final ConvertedRow[] converted = convertRows(rows, recordMaker::convert);
                 for (int row = startingRowNumber; row != numRows; ++row) {
-                    count += recordMaker.delete(rows.get(row), ts, row, numRows);
+                    count += converted != null
+                            ? recordMaker.delete(converted[row - startingRowNumber], ts, row, numRows)
+                            : recordMaker.delete(rows.get(row), ts, row, numRows);
                 }
+                metrics.onChangeEvents(recordMakers.getTableIdFromTableNumber(tableNumber), Operation.DELETE, count);
                 if (logger.isDebugEnabled()) {
                     if (startingRowNumber != 0) {
                         logger.debug("Recorded {} delete record(s) for last {} row(s) in event: {}",
@@ -1062,6 +1182,52 @@ protected void handleDelete(Event event) throws InterruptedException {
         startingRowNumber = 0;
     }
 
+    /**
+     * Convert the rows of a row event starting at {@link #startingRowNumber} using the row conversion threads. The rows
+     * are split into one contiguous range per thread, and the converted rows are returned in the order of the rows so
+     * that the records are produced and enqueued in the same order as without parallel conversion.
+     *
+     * @param rows the rows of the event; may not be null
+     * @param conversion the function converting a single row; may not be null
+     * @return the converted rows starting at {@link #startingRowNumber}, or null if the rows should be converted while
+     *         producing their records because parallel conversion is disabled or there are too few rows
+     * @throws InterruptedException if this thread is interrupted while waiting for the rows to be converted
+     */
+    private <T> ConvertedRow[] convertRows(List<T> rows, Function<T, ConvertedRow> conversion) throws InterruptedException {
+        final int offset = startingRowNumber;
+        final int numRows = rows.size() - offset;
+        if (rowConverter == null || numRows < MIN_ROWS_PER_CONVERSION_THREAD * 2) {
+            return null;
+        }
+        final ConvertedRow[] converted = new ConvertedRow[numRows];
+        final int numTasks = Math.min(rowConversionThreads, numRows / MIN_ROWS_PER_CONVERSION_THREAD);
+        final List<Future<?>> tasks = new ArrayList<>(numTasks);
+        for (int task = 0; task < numTasks; task++) {
+            final int from = (int) ((long) numRows * task / numTasks);
+            final int to = (int) ((long) numRows * (task + 1) / numTasks);
+            tasks.add(rowConverter.submit(() -> {
+                for (int i = from; i < to; i++) {
+                    converted[i] = conversion.apply(rows.get(offset + i));
+                }
+            }));
+        }
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ConnectException("Failed to convert rows of binlog event", e.getCause());
+        }
+        finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+        return converted;
+    }
+
     /**
      * Handle a {@link EventType#VIEW_CHANGE} event.
      *
@@ -1184,10 +1350,6 @@ protected BinaryLogClient getBinlogClient() {
         return client;
     }
 
-    public BinlogPosition getCurrentBinlogPosition() {
-        return new BinlogPosition(client.getBinlogFilename(), client.getBinlogPosition());
-    }
-
     private SSLSocketFactory getBinlogSslSocketFactory(MySqlJdbcContext connectionContext) {
         String acceptedTlsVersion = connectionContext.getSessionVariableForSslVersion();
         if (!isNullOrEmpty(acceptedTlsVersion)) {
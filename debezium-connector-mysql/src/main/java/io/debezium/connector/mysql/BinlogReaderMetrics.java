@@ -14,7 +14,9 @@
 import com.github.shyiko.mysql.binlog.jmx.BinaryLogClientStatistics;
 
 import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.metrics.PipelineMetrics;
+import io.debezium.relational.TableId;
 import io.debezium.util.Collect;
 
 /**
@@ -101,6 +103,8 @@ public void reset() {
         numberOfLargeTransactions.set(0);
         lastTransactionId.set(null);
         isGtidModeEnabled.set(false);
+        sourceToEnqueueLatency.reset();
+        operationCounters.reset();
     }
 
     @Override
@@ -151,6 +155,18 @@ public void setMilliSecondsBehindSource(long value) {
         milliSecondsBehindMaster.set(value);
     }
 
+    /**
+     * Updates the lag behind the source for an event read from the binlog and records it in the latency histogram.
+     */
+    public void onSourceEvent(long milliSecondsBehindSource) {
+        milliSecondsBehindMaster.set(milliSecondsBehindSource);
+        sourceToEnqueueLatency.record(milliSecondsBehindSource);
+    }
+
+    public void onChangeEvents(TableId tableId, Operation operation, int count) {
+        operationCounters.onEvent(tableId, operation, count);
+    }
+
     @Override
     public String[] getMonitoredTables() {
         return schema.monitoredTablesAsStringArray();
@@ -5,9 +5,17 @@
  */
 package io.debezium.connector.mysql;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 
+import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,8 +23,6 @@
 import com.github.shyiko.mysql.binlog.event.EventType;
 import com.github.shyiko.mysql.binlog.event.QueryEventData;
 
-import io.debezium.connector.mysql.BinlogReader.BinlogPosition;
-
 /**
  * This class represents a look-ahead buffer that allows Debezium to accumulate binlog events and decide
  * if the last event in transaction is either {@code ROLLBACK} or {@code COMMIT}. The incoming events are either
@@ -30,13 +36,10 @@
  * The transaction start is identified by a {@code BEGIN} event. Transaction is ended either by {@code COMMIT}
  * event or by {@code XID} an event.
  * <p>
- * If there are more events that can fit to the buffer then:
- * <ul>
- *     <li>Binlog position is recorded for the first event not fitting into the buffer</li>
- *     <li>Binlog position is recorded for the commit event</li>
- *     <li>Buffer content is sent to the final handler</li>
- *     <li>Binlog position is rewound and all events between the above recorded positions are sent to the final handler</li>
- * </ul>
+ * If there are more events than can fit to the buffer then the events not fitting are serialized into a spill file
+ * in the order of their arrival. When the transaction is committed, the buffer content and then the spill file content
+ * are sent to the final handler; when it is rolled back, the spill file is just deleted. So the events of a large
+ * transaction are read from the binlog only once.
  *
  * @author Jiri Pechanec
  *
@@ -45,25 +48,30 @@ class EventBuffer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EventBuffer.class);
 
+    /**
+     * The number of spilled events after which the back references kept by the object stream are dropped, so that
+     * they don't keep the spilled events in memory.
+     */
+    private static final int SPILL_RESET_INTERVAL = 1_000;
+    private static final int SPILL_STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final int capacity;
     private final Queue<Event> buffer;
     private final BinlogReader reader;
+    private final Path spillDirectory;
     private boolean txStarted = false;
 
     /**
-     * Contains the position of the first event that has not fit into the buffer.
-     */
-    private BinlogPosition largeTxNotBufferedPosition;
-
-    /**
-     * Contains the position of the last event belonging to the transaction that has not fit into
-     * the buffer.
+     * The file containing the events of the current transaction that have not fit into the buffer, if any.
      */
-    private BinlogPosition forwardTillPosition;
+    private Path spillFile;
+    private ObjectOutputStream spillOutput;
+    private long spilledEvents;
 
-    public EventBuffer(int capacity, BinlogReader reader) {
+    public EventBuffer(int capacity, Path spillDirectory, BinlogReader reader) {
         this.capacity = capacity;
         this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.spillDirectory = spillDirectory;
         this.reader = reader;
     }
 
@@ -76,14 +84,6 @@ public void add(Event event) {
             return;
         }
 
-        // we're reprocessing events of the current TX between the position where the
-        // buffer was full and the end of the TX; in this case there's nothing to do
-        // besides directly emitting the events
-        if (isReplayingEventsBeyondBufferCapacity()) {
-            reader.handleEvent(event);
-            return;
-        }
-
         if (event.getHeader().getEventType() == EventType.QUERY) {
             QueryEventData command = reader.unwrapData(event);
             LOGGER.debug("Received query command: {}", event);
@@ -110,48 +110,76 @@ else if (event.getHeader().getEventType() == EventType.XID) {
     }
 
     /**
-     * Whether we are replaying TX events from binlog that have not fit into the buffer before
-     */
-    private boolean isReplayingEventsBeyondBufferCapacity() {
-        if (forwardTillPosition != null) {
-            if (forwardTillPosition.equals(reader.getCurrentBinlogPosition())) {
-                forwardTillPosition = null;
-            }
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Adds an event to the buffer if there is a space available. Records binlog position for the first
-     * event that does not fit for later replay.
+     * Adds an event to the buffer if there is a space available, otherwise to the spill file.
      *
      * @param event
      */
     private void addToBuffer(Event event) {
-        if (isInBufferFullMode()) {
-            return;
-        }
-        if (buffer.size() == capacity) {
-            switchToBufferFullMode();
+        if (spillOutput == null && buffer.size() < capacity) {
+            buffer.add(event);
         }
         else {
-            buffer.add(event);
+            spill(event);
         }
     }
 
-    private void switchToBufferFullMode() {
-        largeTxNotBufferedPosition = reader.getCurrentBinlogPosition();
-        LOGGER.info("Buffer full, will need to re-read part of the transaction from binlog from {}", largeTxNotBufferedPosition);
-        reader.getMetrics().onLargeTransaction();
-        // Position for TABLE_MAP is not stored by com.github.shyiko.mysql.binlog.BinaryLogClient.updateClientBinlogFilenameAndPosition(Event)
-        if (buffer.peek().getHeader().getEventType() == EventType.TABLE_MAP) {
-            buffer.remove();
+    private void spill(Event event) {
+        try {
+            if (spillOutput == null) {
+                spillFile = Files.createTempFile(spillDirectory, "debezium-binlog-tx-", ".ser");
+                LOGGER.info("Buffer full, spilling the rest of the transaction to {}", spillFile);
+                reader.getMetrics().onLargeTransaction();
+                spillOutput = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile), SPILL_STREAM_BUFFER_SIZE));
+            }
+            spillOutput.writeObject(event);
+            if (++spilledEvents % SPILL_RESET_INTERVAL == 0) {
+                spillOutput.reset();
+            }
+        }
+        catch (IOException e) {
+            throw new ConnectException("Failed to write binlog event to spill file " + spillFile, e);
         }
     }
 
-    private boolean isInBufferFullMode() {
-        return largeTxNotBufferedPosition != null;
+    /**
+     * Sends the events from the spill file to the final handler, in the order they have been spilled.
+     */
+    private void handleSpilledEvents() {
+        try {
+            spillOutput.close();
+            spillOutput = null;
+            try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(spillFile), SPILL_STREAM_BUFFER_SIZE))) {
+                for (long i = 0; i < spilledEvents; i++) {
+                    reader.handleEvent((Event) input.readObject());
+                }
+            }
+        }
+        catch (IOException | ClassNotFoundException e) {
+            throw new ConnectException("Failed to read binlog events from spill file " + spillFile, e);
+        }
+    }
+
+    /**
+     * Deletes the spill file of the current transaction, if any.
+     */
+    void discardSpillFile() {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            if (spillOutput != null) {
+                spillOutput.close();
+            }
+            Files.deleteIfExists(spillFile);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete spill file {}", spillFile, e);
+        }
+        finally {
+            spillFile = null;
+            spillOutput = null;
+            spilledEvents = 0;
+        }
     }
 
     private void consumeEvent(Event event) {
@@ -175,8 +203,7 @@ private void beginTransaction(Event event) {
     }
 
     /**
-     * Sends all events from the buffer int a final handler. For large transactions it executes rewind
-     * of binlog reader back to the first event that was not stored in the buffer.
+     * Sends all events from the buffer and then from the spill file into a final handler.
      *
      * @param wellFormed
      * @param event
@@ -194,10 +221,9 @@ private void completeTransaction(boolean wellFormed, Event event) {
         for (Event e : buffer) {
             reader.handleEvent(e);
         }
-        LOGGER.debug("Executing events from binlog that have not fit into buffer");
-        if (isInBufferFullMode()) {
-            forwardTillPosition = reader.getCurrentBinlogPosition();
-            reader.rewindBinaryLogClient(largeTxNotBufferedPosition);
+        if (spillFile != null) {
+            LOGGER.debug("Executing {} events from spill file that have not fit into buffer", spilledEvents);
+            handleSpilledEvents();
         }
         reader.getMetrics().onCommittedTransaction();
         if (!wellFormed) {
@@ -221,11 +247,12 @@ private void rollbackTransaction() {
     }
 
     /**
-     * Cleans-up the buffer after the transaction is either thrown away or streamed into a Kafka topic
+     * Cleans-up the buffer after the transaction is either thrown away or streamed into a Kafka topic, or when the
+     * events of the transaction in progress are going to be read again
      */
-    private void clear() {
+    void clear() {
         buffer.clear();
-        largeTxNotBufferedPosition = null;
+        discardSpillFile();
         txStarted = false;
     }
 
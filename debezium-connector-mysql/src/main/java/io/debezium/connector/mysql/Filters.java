@@ -11,6 +11,7 @@
 
 import io.debezium.annotation.Immutable;
 import io.debezium.config.Configuration;
+import io.debezium.function.Predicates;
 import io.debezium.relational.Selectors;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables.ColumnNameFilter;
@@ -68,12 +69,13 @@ private Filters(Predicate<String> dbFilter,
                     Predicate<TableId> isBuiltInTable,
                     Predicate<TableId> isIgnoredTable,
                     ColumnNameFilter columnFilter) {
-        this.dbFilter = dbFilter;
-        this.tableFilter = tableFilter;
+        // the filters are evaluated for every change event, so remember the decision for each database and table
+        this.dbFilter = Predicates.memoize(dbFilter);
+        this.tableFilter = Predicates.memoize(tableFilter);
         this.isBuiltInDb = isBuiltInDb;
         this.isBuiltInTable = isBuiltInTable;
         this.columnFilter = columnFilter;
-        this.isIgnoredTable = isIgnoredTable;
+        this.isIgnoredTable = Predicates.memoize(isIgnoredTable);
     }
 
     public Predicate<String> databaseFilter() {
@@ -5,12 +5,10 @@
  */
 package io.debezium.connector.mysql;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -29,6 +27,7 @@
 public final class GtidSet {
 
     private final Map<String, UUIDSet> uuidSetsByServerId = new TreeMap<>(); // sorts on keys
+    private String string; // lazily computed
 
     protected GtidSet(Map<String, UUIDSet> uuidSetsByServerId) {
         this.uuidSetsByServerId.putAll(uuidSetsByServerId);
@@ -42,13 +41,6 @@ public GtidSet(String gtids) {
         new com.github.shyiko.mysql.binlog.GtidSet(gtids).getUUIDSets().forEach(uuidSet -> {
             uuidSetsByServerId.put(uuidSet.getUUID(), new UUIDSet(uuidSet));
         });
-        StringBuilder sb = new StringBuilder();
-        uuidSetsByServerId.values().forEach(uuidSet -> {
-            if (sb.length() != 0) {
-                sb.append(',');
-            }
-            sb.append(uuidSet.toString());
-        });
     }
 
     /**
@@ -126,6 +118,55 @@ public GtidSet with(GtidSet other) {
         return new GtidSet(newSet);
     }
 
+    /**
+     * Obtain a copy of this {@link GtidSet} that additionally contains the supplied GTID. Only the {@link UUIDSet} of the
+     * GTID's server is copied, all others are shared with this set, so that the GTID set can be advanced cheaply for each
+     * transaction read from the binlog.
+     *
+     * @param gtid the string representation of a single GTID, in the form {@code <server UUID>:<transaction number>}
+     * @return the new GtidSet, or this object if it already contains the GTID; never null
+     */
+    public GtidSet with(String gtid) {
+        int separator = gtid.lastIndexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid GTID: " + gtid);
+        }
+        String uuid = gtid.substring(0, separator).trim();
+        long transactionNumber = Long.parseLong(gtid.substring(separator + 1).trim());
+        UUIDSet existing = uuidSetsByServerId.get(uuid);
+        UUIDSet updated = existing == null
+                ? new UUIDSet(uuid, new Interval(transactionNumber, transactionNumber))
+                : existing.with(transactionNumber);
+        if (updated == existing) {
+            return this;
+        }
+        GtidSet result = new GtidSet(uuidSetsByServerId);
+        result.uuidSetsByServerId.put(uuid, updated);
+        return result;
+    }
+
+    /**
+     * Obtain a copy of this {@link GtidSet} with only the {@link UUIDSet}s that differ from those of the supplied set, so that
+     * {@link #with(GtidSet) adding} them to the supplied set results in this set. As the {@link UUIDSet}s of the servers without
+     * new GTIDs are shared by sets derived via {@link #with(String)}, this is cheap for a set derived from the supplied one.
+     *
+     * @param base the set to compare with; may be null
+     * @return the new GtidSet, or {@code null} if this set cannot be obtained from the supplied set by adding UUID sets as the
+     *         supplied set is null or contains servers without GTIDs in this set
+     */
+    public GtidSet changedSince(GtidSet base) {
+        if (base == null || !uuidSetsByServerId.keySet().containsAll(base.uuidSetsByServerId.keySet())) {
+            return null;
+        }
+        Map<String, UUIDSet> changed = new HashMap<>();
+        for (UUIDSet uuidSet : uuidSetsByServerId.values()) {
+            if (!uuidSet.equals(base.forServerWithId(uuidSet.getUUID()))) {
+                changed.put(uuidSet.getUUID(), uuidSet);
+            }
+        }
+        return new GtidSet(changed);
+    }
+
     /**
      * Returns a copy with all intervals set to beginning
      * @return
@@ -159,11 +200,20 @@ public boolean equals(Object obj) {
 
     @Override
     public String toString() {
-        List<String> gtids = new ArrayList<String>();
-        for (UUIDSet uuidSet : uuidSetsByServerId.values()) {
-            gtids.add(uuidSet.toString());
+        String result = string;
+        if (result == null) {
+            // the string of each UUID set is cached, so sets derived via with(String) only format the changed UUID set
+            StringBuilder sb = new StringBuilder();
+            for (UUIDSet uuidSet : uuidSetsByServerId.values()) {
+                if (sb.length() != 0) {
+                    sb.append(',');
+                }
+                sb.append(uuidSet.toString());
+            }
+            result = sb.toString();
+            string = result;
         }
-        return String.join(",", gtids);
+        return result;
     }
 
     /**
@@ -173,37 +223,123 @@ public String toString() {
     public static class UUIDSet {
 
         private final String uuid;
-        private final LinkedList<Interval> intervals = new LinkedList<>();
+        /**
+         * The intervals of transaction numbers, sorted and with overlapping and adjacent intervals collapsed.
+         */
+        private final Interval[] intervals;
+        private String string; // lazily computed
 
         protected UUIDSet(com.github.shyiko.mysql.binlog.GtidSet.UUIDSet uuidSet) {
             this.uuid = uuidSet.getUUID();
-            uuidSet.getIntervals().forEach(interval -> {
-                intervals.add(new Interval(interval.getStart(), interval.getEnd()));
-            });
-            Collections.sort(this.intervals);
-            if (this.intervals.size() > 1) {
-                // Collapse adjacent intervals ...
-                for (int i = intervals.size() - 1; i != 0; --i) {
-                    Interval before = this.intervals.get(i - 1);
-                    Interval after = this.intervals.get(i);
-                    if ((before.getEnd() + 1) == after.getStart()) {
-                        this.intervals.set(i - 1, new Interval(before.getStart(), after.getEnd()));
-                        this.intervals.remove(i);
-                    }
+            Interval[] intervals = uuidSet.getIntervals()
+                    .stream()
+                    .map(interval -> new Interval(interval.getStart(), interval.getEnd()))
+                    .sorted()
+                    .toArray(Interval[]::new);
+            // Collapse overlapping and adjacent intervals ...
+            int count = 0;
+            for (Interval interval : intervals) {
+                if (count > 0 && intervals[count - 1].getEnd() + 1 >= interval.getStart()) {
+                    Interval before = intervals[count - 1];
+                    intervals[count - 1] = new Interval(before.getStart(), Math.max(before.getEnd(), interval.getEnd()));
+                }
+                else {
+                    intervals[count++] = interval;
                 }
             }
+            this.intervals = count == intervals.length ? intervals : Arrays.copyOf(intervals, count);
         }
 
         protected UUIDSet(String uuid, Interval interval) {
+            this(uuid, new Interval[]{ interval });
+        }
+
+        private UUIDSet(String uuid, Interval[] intervals) {
             this.uuid = uuid;
-            this.intervals.add(interval);
+            this.intervals = intervals;
         }
 
         public UUIDSet asIntervalBeginning() {
-            Interval start = new Interval(intervals.get(0).getStart(), intervals.get(0).getStart());
+            Interval start = new Interval(intervals[0].getStart(), intervals[0].getStart());
             return new UUIDSet(this.uuid, start);
         }
 
+        /**
+         * Obtain a copy of this {@link UUIDSet} that additionally contains the supplied transaction number.
+         *
+         * @param transactionNumber the transaction number
+         * @return the new UUIDSet, or this object if it already contains the transaction number; never null
+         */
+        UUIDSet with(long transactionNumber) {
+            // the index of the first interval that starts after the transaction number
+            int next = -indexOf(transactionNumber) - 1;
+            if (next < 0) {
+                // already contained
+                return this;
+            }
+            boolean extendsPrevious = next > 0 && intervals[next - 1].getEnd() + 1 == transactionNumber;
+            boolean extendsNext = next < intervals.length && intervals[next].getStart() - 1 == transactionNumber;
+            Interval[] result;
+            if (extendsPrevious && extendsNext) {
+                // fills the gap between two intervals
+                result = new Interval[intervals.length - 1];
+                System.arraycopy(intervals, 0, result, 0, next - 1);
+                result[next - 1] = new Interval(intervals[next - 1].getStart(), intervals[next].getEnd());
+                System.arraycopy(intervals, next + 1, result, next, intervals.length - next - 1);
+            }
+            else if (extendsPrevious) {
+                // the common case of the next transaction of a server
+                result = intervals.clone();
+                result[next - 1] = new Interval(intervals[next - 1].getStart(), transactionNumber);
+            }
+            else if (extendsNext) {
+                result = intervals.clone();
+                result[next] = new Interval(transactionNumber, intervals[next].getEnd());
+            }
+            else {
+                result = new Interval[intervals.length + 1];
+                System.arraycopy(intervals, 0, result, 0, next);
+                result[next] = new Interval(transactionNumber, transactionNumber);
+                System.arraycopy(intervals, next, result, next + 1, intervals.length - next);
+            }
+            return new UUIDSet(uuid, result);
+        }
+
+        /**
+         * Determine if this set contains the supplied transaction number.
+         *
+         * @param transactionNumber the transaction number
+         * @return {@code true} if the transaction number is within one of the intervals, or {@code false} otherwise
+         */
+        public boolean contains(long transactionNumber) {
+            return indexOf(transactionNumber) >= 0;
+        }
+
+        /**
+         * Find the interval containing the supplied transaction number.
+         *
+         * @return the index of the interval containing the transaction number, or {@code -(insertion point) - 1} where
+         *         the insertion point is the index of the first interval starting after the transaction number
+         */
+        private int indexOf(long transactionNumber) {
+            int low = 0;
+            int high = intervals.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                Interval interval = intervals[mid];
+                if (interval.getEnd() < transactionNumber) {
+                    low = mid + 1;
+                }
+                else if (interval.getStart() > transactionNumber) {
+                    high = mid - 1;
+                }
+                else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
         /**
          * Get the Uuid for the server that generated the GTIDs.
          *
@@ -219,7 +355,7 @@ public String getUUID() {
          * @return the immutable transaction intervals; never null
          */
         public List<Interval> getIntervals() {
-            return Collections.unmodifiableList(intervals);
+            return Collections.unmodifiableList(Arrays.asList(intervals));
         }
 
         /**
@@ -238,25 +374,11 @@ public boolean isContainedWithin(UUIDSet other) {
                 // Not even the same server ...
                 return false;
             }
-            if (this.intervals.isEmpty()) {
-                return true;
-            }
-            if (other.intervals.isEmpty()) {
-                return false;
-            }
-            assert this.intervals.size() > 0;
-            assert other.intervals.size() > 0;
-
-            // Every interval in this must be within an interval of the other ...
+            // Every interval in this must be within an interval of the other; as the other's intervals are collapsed,
+            // that is the one containing the start of this interval ...
             for (Interval thisInterval : this.intervals) {
-                boolean found = false;
-                for (Interval otherInterval : other.intervals) {
-                    if (thisInterval.isContainedWithin(otherInterval)) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
+                int index = other.indexOf(thisInterval.getStart());
+                if (index < 0 || !thisInterval.isContainedWithin(other.intervals[index])) {
                     return false; // didn't find a match
                 }
             }
@@ -275,27 +397,27 @@ public boolean equals(Object obj) {
             }
             if (obj instanceof UUIDSet) {
                 UUIDSet that = (UUIDSet) obj;
-                return this.getUUID().equalsIgnoreCase(that.getUUID()) && this.getIntervals().equals(that.getIntervals());
+                return this.getUUID().equalsIgnoreCase(that.getUUID()) && Arrays.equals(this.intervals, that.intervals);
             }
             return super.equals(obj);
         }
 
         @Override
         public String toString() {
-            StringBuilder sb = new StringBuilder();
-            if (sb.length() != 0) {
-                sb.append(',');
-            }
-            sb.append(uuid).append(':');
-            Iterator<Interval> iter = intervals.iterator();
-            if (iter.hasNext()) {
-                sb.append(iter.next());
-            }
-            while (iter.hasNext()) {
-                sb.append(':');
-                sb.append(iter.next());
+            String result = string;
+            if (result == null) {
+                StringBuilder sb = new StringBuilder(uuid.length() + 16 * intervals.length);
+                sb.append(uuid).append(':');
+                for (int i = 0; i != intervals.length; ++i) {
+                    if (i != 0) {
+                        sb.append(':');
+                    }
+                    sb.append(intervals[i].getStart()).append('-').append(intervals[i].getEnd());
+                }
+                result = sb.toString();
+                string = result;
             }
-            return sb.toString();
+            return result;
         }
     }
 
@@ -0,0 +1,203 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.github.shyiko.mysql.binlog.BinaryLogFileReader;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * A binary log file on the local file system, e.g. from a backup of the MySQL server's binlog directory, read via
+ * memory-mapped I/O. The events are deserialized by the same {@link EventDeserializer} as used for the replication
+ * stream, so they can be processed exactly like the events received from the server.
+ * <p>
+ * The file may still be being written or copied, so reading stops before an event that is not completely contained
+ * in the file.
+ */
+@NotThreadSafe
+public class LocalBinlogFile implements Closeable {
+
+    /**
+     * The position of the first event in a binlog file, following the magic header.
+     */
+    public static final long FIRST_EVENT_POSITION = BinaryLogFileReader.MAGIC_HEADER.length;
+
+    private static final int EVENT_HEADER_LENGTH = 19;
+    private static final int EVENT_LENGTH_OFFSET = 9;
+
+    /**
+     * The maximum size of the region of the file that is mapped at a time; regions are mapped as needed, so files of
+     * any size can be read without exhausting the address space.
+     */
+    private static final long MAX_REGION_SIZE = 256 * 1024 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final EventDeserializer eventDeserializer;
+    private final long size;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long position;
+
+    public LocalBinlogFile(Path path, EventDeserializer eventDeserializer) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.eventDeserializer = eventDeserializer;
+        this.size = channel.size();
+        try {
+            final byte[] magicHeader = new byte[BinaryLogFileReader.MAGIC_HEADER.length];
+            if (size >= magicHeader.length) {
+                slice(0, magicHeader.length).get(magicHeader);
+            }
+            if (!Arrays.equals(magicHeader, BinaryLogFileReader.MAGIC_HEADER)) {
+                throw new IOException("Not a valid binlog file: " + path);
+            }
+        }
+        catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.position = FIRST_EVENT_POSITION;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Get the size of the file when it was opened.
+     *
+     * @return the size in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get the position of the next event to be read.
+     *
+     * @return the position in bytes from the beginning of the file
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Continue reading at the given position, which must be the position of an event. The format description event at
+     * the beginning of the file must have been read before, as it determines how the following events are deserialized.
+     *
+     * @param position the position in bytes from the beginning of the file
+     */
+    public void seek(long position) {
+        if (position < FIRST_EVENT_POSITION || position > size) {
+            throw new IllegalArgumentException("Position " + position + " is outside of binlog file " + path + " of size " + size);
+        }
+        this.position = position;
+    }
+
+    /**
+     * Read the next event.
+     *
+     * @return the event, or {@code null} if the end of the file has been reached or the next event is incomplete
+     * @throws IOException if the event cannot be read
+     */
+    public Event nextEvent() throws IOException {
+        if (size - position < EVENT_HEADER_LENGTH) {
+            return null;
+        }
+        final long eventLength = slice(position, EVENT_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN).getInt(EVENT_LENGTH_OFFSET) & 0xFFFFFFFFL;
+        if (eventLength < EVENT_HEADER_LENGTH) {
+            throw new IOException("Invalid length " + eventLength + " of event at position " + position + " in binlog file " + path);
+        }
+        if (size - position < eventLength) {
+            return null;
+        }
+        final Event event = eventDeserializer.nextEvent(new ByteArrayInputStream(new ByteBufferInputStream(slice(position, eventLength))));
+        position += eventLength;
+        return event;
+    }
+
+    /**
+     * Returns a buffer with the given range of the file, mapping the region containing it if needed.
+     */
+    private ByteBuffer slice(long start, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Event at position " + start + " in binlog file " + path + " is too large: " + length + " bytes");
+        }
+        if (region == null || start < regionStart || start + length > regionStart + region.capacity()) {
+            regionStart = start;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, Math.max(length, MAX_REGION_SIZE)));
+        }
+        final ByteBuffer slice = region.duplicate();
+        slice.position((int) (start - regionStart));
+        slice.limit((int) (start - regionStart + length));
+        return slice.slice();
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return path + "@" + position;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
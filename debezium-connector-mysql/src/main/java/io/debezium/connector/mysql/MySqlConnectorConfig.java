@@ -812,6 +812,36 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
             .withDefault(DEFAULT_BINLOG_BUFFER_SIZE)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field BUFFER_SPILL_DIRECTORY_FOR_BINLOG_READER = Field.create("binlog.buffer.spill.directory")
+            .withDisplayName("Binlog reader buffer spill directory")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory in which the binlog reader stores the events of a transaction that don't fit into the "
+                    + "look-ahead buffer (see '" + BUFFER_SIZE_FOR_BINLOG_READER.name() + "') until the transaction is committed or "
+                    + "rolled back. Defaults to the temporary directory of the JVM.");
+
+    public static final Field ROW_CONVERSION_THREADS_FOR_BINLOG_READER = Field.create("binlog.row.conversion.threads")
+            .withDisplayName("Binlog reader row conversion threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of threads used by the binlog reader to convert the rows of large row events into change events. "
+                    + "The change events are still emitted in the order of the rows. "
+                    + "Defaults to 1, i.e. the rows are converted by the thread reading the binlog.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field LOCAL_BINLOG_DIRECTORY = Field.create("binlog.local.directory")
+            .withDisplayName("Local binlog directory")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("A directory with copies of the binlog files of the MySQL server, e.g. from a backup. "
+                    + "When the binlog file of the last recorded position is found in this directory, the connector reads the binlog "
+                    + "from the local files first and then continues with the binlog of the server at the last position read locally. "
+                    + "This is useful for catching up after the connector has fallen far behind.");
+
     /**
      * The database history class is hidden in the {@link #configDef()} since that is designed to work with a user interface,
      * and in these situations using Kafka is the only way to go.
@@ -940,7 +970,8 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
             CommonConnectorConfig.MAX_QUEUE_SIZE,
             CommonConnectorConfig.MAX_BATCH_SIZE,
             CommonConnectorConfig.POLL_INTERVAL_MS,
-            BUFFER_SIZE_FOR_BINLOG_READER, Heartbeat.HEARTBEAT_INTERVAL,
+            BUFFER_SIZE_FOR_BINLOG_READER, BUFFER_SPILL_DIRECTORY_FOR_BINLOG_READER, ROW_CONVERSION_THREADS_FOR_BINLOG_READER,
+            LOCAL_BINLOG_DIRECTORY, Heartbeat.HEARTBEAT_INTERVAL,
             Heartbeat.HEARTBEAT_TOPICS_PREFIX, DATABASE_HISTORY, INCLUDE_SCHEMA_CHANGES, INCLUDE_SQL_QUERY,
             TABLE_WHITELIST, TABLE_INCLUDE_LIST, TABLE_BLACKLIST, TABLE_EXCLUDE_LIST, TABLES_IGNORE_BUILTIN,
             DATABASE_WHITELIST, DATABASE_INCLUDE_LIST, DATABASE_BLACKLIST, DATABASE_EXCLUDE_LIST,
@@ -962,6 +993,11 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
             INCONSISTENT_SCHEMA_HANDLING_MODE,
             CommonConnectorConfig.SNAPSHOT_DELAY_MS,
             CommonConnectorConfig.SNAPSHOT_FETCH_SIZE,
+            CommonConnectorConfig.SNAPSHOT_MAX_THREADS,
+            CommonConnectorConfig.SNAPSHOT_CHUNK_SIZE,
+            CommonConnectorConfig.SNAPSHOT_MAX_ROWS_PER_SECOND,
+            CommonConnectorConfig.SNAPSHOT_MAX_BYTES_PER_SECOND,
+            CommonConnectorConfig.SNAPSHOT_RESUMABLE,
             CommonConnectorConfig.TOMBSTONES_ON_DELETE, ENABLE_TIME_ADJUSTER,
             CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION,
             CommonConnectorConfig.SKIPPED_OPERATIONS,
@@ -1037,13 +1073,16 @@ protected static ConfigDef configDef() {
                 RelationalDatabaseConnectorConfig.TRUNCATE_COLUMN,
                 RelationalDatabaseConnectorConfig.SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE,
                 GTID_SOURCE_INCLUDES, GTID_SOURCE_EXCLUDES, GTID_SOURCE_FILTER_DML_EVENTS, GTID_NEW_CHANNEL_POSITION, BUFFER_SIZE_FOR_BINLOG_READER,
+                BUFFER_SPILL_DIRECTORY_FOR_BINLOG_READER, ROW_CONVERSION_THREADS_FOR_BINLOG_READER, LOCAL_BINLOG_DIRECTORY,
                 Heartbeat.HEARTBEAT_INTERVAL, Heartbeat.HEARTBEAT_TOPICS_PREFIX, EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE,
                 CommonConnectorConfig.EVENT_PROCESSING_FAILURE_HANDLING_MODE, INCONSISTENT_SCHEMA_HANDLING_MODE,
                 CommonConnectorConfig.TOMBSTONES_ON_DELETE, CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION);
         Field.group(config, "Connector", CONNECTION_TIMEOUT_MS, KEEP_ALIVE, KEEP_ALIVE_INTERVAL_MS, CommonConnectorConfig.MAX_QUEUE_SIZE,
                 CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS,
                 SNAPSHOT_MODE, SNAPSHOT_LOCKING_MODE, SNAPSHOT_NEW_TABLES, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE,
-                BIGINT_UNSIGNED_HANDLING_MODE, SNAPSHOT_DELAY_MS, SNAPSHOT_FETCH_SIZE, ENABLE_TIME_ADJUSTER, BINARY_HANDLING_MODE);
+                BIGINT_UNSIGNED_HANDLING_MODE, SNAPSHOT_DELAY_MS, SNAPSHOT_FETCH_SIZE, SNAPSHOT_MAX_THREADS, SNAPSHOT_CHUNK_SIZE,
+                SNAPSHOT_MAX_ROWS_PER_SECOND, SNAPSHOT_MAX_BYTES_PER_SECOND, SNAPSHOT_RESUMABLE,
+                ENABLE_TIME_ADJUSTER, BINARY_HANDLING_MODE);
         return config;
     }
 
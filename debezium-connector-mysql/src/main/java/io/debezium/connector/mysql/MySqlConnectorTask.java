@@ -117,9 +117,20 @@ public ChangeEventSourceCoordinator start(Configuration config) {
                                     + "to never allow snapshots. Reconfigure the connector to use snapshots initially or when needed.";
                             throw new ConnectException(msg);
                         }
-                        // Otherwise, restart a new snapshot ...
+                        // Otherwise, restart a new snapshot or continue the previous one ...
                         startWithSnapshot = true;
-                        logger.info("Prior execution was an incomplete snapshot, so starting new snapshot");
+                        if (taskContext.getConnectorConfig().isSnapshotResumable() && !source.snapshotCheckpoint().isEmpty()) {
+                            if (isBinlogAvailable()) {
+                                logger.info("Prior execution was an incomplete snapshot, so continuing it at {}", source.snapshotCheckpoint());
+                            }
+                            else {
+                                logger.info("Prior execution was an incomplete snapshot whose binlog position is no longer available, so starting new snapshot");
+                                source.snapshotCheckpoint().clear();
+                            }
+                        }
+                        else {
+                            logger.info("Prior execution was an incomplete snapshot, so starting new snapshot");
+                        }
                     }
                     else {
                         // No snapshot was in effect, so we should just start reading from the binlog ...
@@ -50,6 +50,8 @@ public class MySqlJdbcContext implements AutoCloseable {
     protected final Logger logger = LoggerFactory.getLogger(getClass());
     protected final Configuration config;
     protected final JdbcConnection jdbc;
+    private final Configuration jdbcConfig;
+    private final ConnectionFactory connectionFactory;
     private final Map<String, String> originalSystemProperties = new HashMap<>();
 
     public MySqlJdbcContext(MySqlConnectorConfig config) {
@@ -79,10 +81,10 @@ else if ("true".equals(legacyDateTime)) {
             logger.warn("'{}' is set to 'true'. This setting is not recommended and can result in timezone issues.", JDBC_PROPERTY_LEGACY_DATETIME);
         }
 
-        jdbcConfig = jdbcConfigBuilder.build();
-        String driverClassName = jdbcConfig.getString(MySqlConnectorConfig.JDBC_DRIVER);
-        this.jdbc = new JdbcConnection(jdbcConfig,
-                JdbcConnection.patternBasedFactory(MYSQL_CONNECTION_URL, driverClassName, getClass().getClassLoader()));
+        this.jdbcConfig = jdbcConfigBuilder.build();
+        String driverClassName = this.jdbcConfig.getString(MySqlConnectorConfig.JDBC_DRIVER);
+        this.connectionFactory = JdbcConnection.patternBasedFactory(MYSQL_CONNECTION_URL, driverClassName, getClass().getClassLoader());
+        this.jdbc = new JdbcConnection(this.jdbcConfig, connectionFactory);
     }
 
     public Configuration config() {
@@ -93,6 +95,14 @@ public JdbcConnection jdbc() {
         return jdbc;
     }
 
+    /**
+     * Creates an additional connection to the database with the same configuration as {@link #jdbc()}, e.g. for reading
+     * tables concurrently. The caller is responsible for closing it.
+     */
+    public JdbcConnection createConnection() {
+        return new JdbcConnection(jdbcConfig, connectionFactory);
+    }
+
     public Logger logger() {
         return logger;
     }
@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.mysql;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -57,7 +59,8 @@ public MySqlTaskContext(Configuration config, Filters filters, Map<String, ?> re
     }
 
     public MySqlTaskContext(Configuration config, Filters filters, Boolean tableIdCaseInsensitive, Map<String, ?> restartOffset) {
-        super(Module.contextName(), config.getString(MySqlConnectorConfig.SERVER_NAME), Collections::emptyList);
+        super(Module.contextName(), config.getString(MySqlConnectorConfig.SERVER_NAME), Collections::emptyList,
+                config.getLong(MySqlConnectorConfig.SNAPSHOT_MAX_ROWS_PER_SECOND), config.getLong(MySqlConnectorConfig.SNAPSHOT_MAX_BYTES_PER_SECOND));
 
         this.config = config;
         this.connectorConfig = new MySqlConnectorConfig(config);
@@ -207,6 +210,20 @@ public int bufferSizeForBinlogReader() {
         return config.getInteger(MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER);
     }
 
+    public Path bufferSpillDirectoryForBinlogReader() {
+        final String directory = config.getString(MySqlConnectorConfig.BUFFER_SPILL_DIRECTORY_FOR_BINLOG_READER);
+        return Paths.get(directory != null ? directory : System.getProperty("java.io.tmpdir"));
+    }
+
+    public Path localBinlogDirectory() {
+        final String directory = config.getString(MySqlConnectorConfig.LOCAL_BINLOG_DIRECTORY);
+        return directory != null ? Paths.get(directory) : null;
+    }
+
+    public int rowConversionThreadsForBinlogReader() {
+        return config.getInteger(MySqlConnectorConfig.ROW_CONVERSION_THREADS_FOR_BINLOG_READER);
+    }
+
     public boolean includeSchemaChangeRecords() {
         return config.getBoolean(MySqlConnectorConfig.INCLUDE_SCHEMA_CHANGES);
     }
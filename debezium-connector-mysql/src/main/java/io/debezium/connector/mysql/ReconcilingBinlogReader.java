@@ -7,6 +7,7 @@
 
 import static io.debezium.connector.mysql.SourceInfo.BINLOG_FILENAME_OFFSET_KEY;
 import static io.debezium.connector.mysql.SourceInfo.BINLOG_POSITION_OFFSET_KEY;
+import static io.debezium.connector.mysql.SourceInfo.GTID_SET_DELTA_KEY;
 import static io.debezium.connector.mysql.SourceInfo.GTID_SET_KEY;
 
 import java.util.List;
@@ -141,7 +142,7 @@ private void setupUnifiedReader() {
         unifiedReader.context.loadHistory(getLeadingReader().context.source());
         unifiedReader.context.source().setFilterDataFromConfig(unifiedReader.context.config());
         Map<String, ?> keyedOffset = reconcilingReader.getLastOffset() == null ? getLeadingReader().getLastOffset() : reconcilingReader.getLastOffset();
-        unifiedReader.context.source().setCompletedGtidSet((String) keyedOffset.get(GTID_SET_KEY));
+        unifiedReader.context.source().setCompletedGtidSet((String) keyedOffset.get(GTID_SET_KEY), (String) keyedOffset.get(GTID_SET_DELTA_KEY));
         unifiedReader.context.source()
                 .setBinlogStartPoint((String) keyedOffset.get(BINLOG_FILENAME_OFFSET_KEY),
                         (Long) keyedOffset.get(BINLOG_POSITION_OFFSET_KEY));
@@ -186,11 +186,13 @@ public void regenerate() {
             return sourceOffset;
         }
         else {
+            // the source offset is immutable and shared between records
+            final Map<String, Object> offset = new HashMap<>(sourceOffset);
             for (Entry<String, ?> restartOffsetEntry : restartOffset.entrySet()) {
-                sourceOffset.put(SourceInfo.RESTART_PREFIX + restartOffsetEntry.getKey(), restartOffsetEntry.getValue());
+                offset.put(SourceInfo.RESTART_PREFIX + restartOffsetEntry.getKey(), restartOffsetEntry.getValue());
             }
 
-            return sourceOffset;
+            return offset;
         }
     }
 
@@ -242,12 +244,22 @@ public int read(SourceInfo source, Object[] row, int rowNumber, int numberOfRows
             }
 
             @Override
-            public int insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
+            public ConvertedRow convert(Object[] before, Object[] after) {
+                validateColumnCount(tableSchema, after);
+                Struct key = tableSchema.keyFromColumnData(after);
+                Struct value = tableSchema.valueFromColumnData(after);
+                if (before == null || (value == null && key == null)) {
+                    return new ConvertedRow(key, value, null, null);
+                }
+                return new ConvertedRow(key, value, tableSchema.keyFromColumnData(before), tableSchema.valueFromColumnData(before));
+            }
+
+            @Override
+            public int insert(SourceInfo source, ConvertedRow row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
                               BlockingConsumer<SourceRecord> consumer)
                     throws InterruptedException {
-                validateColumnCount(tableSchema, row);
-                Struct key = tableSchema.keyFromColumnData(row);
-                Struct value = tableSchema.valueFromColumnData(row);
+                Struct key = row.key;
+                Struct value = row.value;
                 if (value != null || key != null) {
                     Schema keySchema = tableSchema.keySchema();
                     Map<String, ?> partition = source.partition();
@@ -263,17 +275,16 @@ public int insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRo
             }
 
             @Override
-            public int update(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows, BitSet includedColumns,
+            public int update(SourceInfo source, ConvertedRow row, int rowNumber, int numberOfRows, BitSet includedColumns,
                               Instant ts,
                               BlockingConsumer<SourceRecord> consumer)
                     throws InterruptedException {
                 int count = 0;
-                validateColumnCount(tableSchema, after);
-                Struct newkey = tableSchema.keyFromColumnData(after);
-                Struct valueAfter = tableSchema.valueFromColumnData(after);
+                Struct newkey = row.key;
+                Struct valueAfter = row.value;
                 if (valueAfter != null || newkey != null) {
-                    Object oldKey = tableSchema.keyFromColumnData(before);
-                    Struct valueBefore = tableSchema.valueFromColumnData(before);
+                    Object oldKey = row.oldKey;
+                    Struct valueBefore = row.oldValue;
                     Schema keySchema = tableSchema.keySchema();
                     Map<String, ?> partition = source.partition();
                     Map<String, Object> offset = source.offsetForRow(rowNumber, numberOfRows);
@@ -320,13 +331,12 @@ public int update(SourceInfo source, Object[] before, Object[] after, int rowNum
             }
 
             @Override
-            public int delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
+            public int delete(SourceInfo source, ConvertedRow row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
                               BlockingConsumer<SourceRecord> consumer)
                     throws InterruptedException {
                 int count = 0;
-                validateColumnCount(tableSchema, row);
-                Struct key = tableSchema.keyFromColumnData(row);
-                Struct value = tableSchema.valueFromColumnData(row);
+                Struct key = row.key;
+                Struct value = row.value;
                 if (value != null || key != null) {
                     Schema keySchema = tableSchema.keySchema();
                     Map<String, ?> partition = source.partition();
@@ -396,20 +406,41 @@ int read(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSe
                  BlockingConsumer<SourceRecord> consumer)
                 throws InterruptedException;
 
-        int insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
+        ConvertedRow convert(Object[] before, Object[] after);
+
+        int insert(SourceInfo source, ConvertedRow row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
                    BlockingConsumer<SourceRecord> consumer)
                 throws InterruptedException;
 
-        int update(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
+        int update(SourceInfo source, ConvertedRow row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
                    BlockingConsumer<SourceRecord> consumer)
                 throws InterruptedException;
 
-        int delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
+        int delete(SourceInfo source, ConvertedRow row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
                    BlockingConsumer<SourceRecord> consumer)
                 throws InterruptedException;
 
     }
 
+    /**
+     * The key and value of a changed row, converted according to the schema of its table. Converting a row does not
+     * touch the {@link SourceInfo}, so rows can be converted by any thread, whereas the records for them must be produced
+     * by the thread reading the binlog in the order of the rows.
+     */
+    public static final class ConvertedRow {
+        private final Struct key;
+        private final Struct value;
+        private final Struct oldKey;
+        private final Struct oldValue;
+
+        private ConvertedRow(Struct key, Struct value, Struct oldKey, Struct oldValue) {
+            this.key = key;
+            this.value = value;
+            this.oldKey = oldKey;
+            this.oldValue = oldValue;
+        }
+    }
+
     /**
      * A {@link SourceRecord} factory for a specific table and consumer.
      */
@@ -477,6 +508,20 @@ public int create(Object[] row, Instant ts) throws InterruptedException {
          * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
          */
         public int create(Object[] row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
+            return create(convert(row), ts, rowNumber, numberOfRows);
+        }
+
+        /**
+         * Produce a {@link io.debezium.data.Envelope.Operation#CREATE create} record for the row.
+         *
+         * @param row the {@link #convert(Object[]) converted} row
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the number of records produced; will be 0 or more
+         * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
+         */
+        public int create(ConvertedRow row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
             return converter.insert(source, row, rowNumber, numberOfRows, includedColumns, ts, consumer);
         }
 
@@ -509,7 +554,21 @@ public int update(Object[] before, Object[] after, Instant ts) throws Interrupte
          * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
          */
         public int update(Object[] before, Object[] after, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
-            return converter.update(source, before, after, rowNumber, numberOfRows, includedColumns, ts, consumer);
+            return update(convert(before, after), ts, rowNumber, numberOfRows);
+        }
+
+        /**
+         * Produce an {@link io.debezium.data.Envelope.Operation#UPDATE update} record for the row.
+         *
+         * @param row the {@link #convert(Object[], Object[]) converted} row
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the number of records produced; will be 0 or more
+         * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
+         */
+        public int update(ConvertedRow row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
+            return converter.update(source, row, rowNumber, numberOfRows, includedColumns, ts, consumer);
         }
 
         /**
@@ -537,8 +596,46 @@ public int delete(Object[] row, Instant ts) throws InterruptedException {
          * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
          */
         public int delete(Object[] row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
+            return delete(convert(row), ts, rowNumber, numberOfRows);
+        }
+
+        /**
+         * Produce a {@link io.debezium.data.Envelope.Operation#DELETE delete} record for the row.
+         *
+         * @param row the {@link #convert(Object[]) converted} row
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the number of records produced; will be 0 or more
+         * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
+         */
+        public int delete(ConvertedRow row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
             return converter.delete(source, row, rowNumber, numberOfRows, includedColumns, ts, consumer);
         }
+
+        /**
+         * Convert the values of an inserted or deleted row. This method may be called by any thread.
+         *
+         * @param row the values of the row, in the same order as the columns in the {@link Table} definition in the
+         *            {@link MySqlSchema}.
+         * @return the converted row; never null
+         */
+        public ConvertedRow convert(Object[] row) {
+            return converter.convert(null, row);
+        }
+
+        /**
+         * Convert the values of an updated row. This method may be called by any thread.
+         *
+         * @param before the values of the row <i>before</i> the update, in the same order as the columns in the {@link Table}
+         *            definition in the {@link MySqlSchema}
+         * @param after the values of the row <i>after</i> the update, in the same order as the columns in the {@link Table}
+         *            definition in the {@link MySqlSchema}
+         * @return the converted row; never null
+         */
+        public ConvertedRow convert(Object[] before, Object[] after) {
+            return converter.convert(before, after);
+        }
     }
 
     /**
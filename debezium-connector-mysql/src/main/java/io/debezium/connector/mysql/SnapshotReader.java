@@ -25,6 +25,7 @@
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
@@ -43,10 +44,13 @@
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.jdbc.JdbcConnection.StatementFactory;
+import io.debezium.pipeline.source.SnapshotCheckpoint;
 import io.debezium.relational.Column;
+import io.debezium.relational.SnapshotChunks;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
+import io.debezium.util.RateLimiter;
 import io.debezium.util.Strings;
 import io.debezium.util.Threads;
 
@@ -60,8 +64,10 @@ public class SnapshotReader extends AbstractReader {
     private final boolean includeData;
     private RecordRecorder recorder;
     private final SnapshotReaderMetrics metrics;
+    private final RateLimiter rateLimiter;
     private ExecutorService executorService;
     private final boolean useGlobalLock;
+    private boolean resumingSnapshot;
 
     private final MySqlConnectorConfig.SnapshotLockingMode snapshotLockingMode;
 
@@ -90,6 +96,7 @@ public SnapshotReader(String name, MySqlTaskContext context) {
         this.snapshotLockingMode = context.getConnectorConfig().getSnapshotLockingMode();
         recorder = this::recordRowAsRead;
         metrics = new SnapshotReaderMetrics(context, context.dbSchema(), changeEventQueueMetrics);
+        rateLimiter = context.getSnapshotRateLimiter();
         this.useGlobalLock = useGlobalLock;
     }
 
@@ -254,10 +261,19 @@ protected void execute() {
         boolean tableLocks = false;
         final List<TableId> tablesToSnapshotSchemaAfterUnlock = new ArrayList<>();
         Set<TableId> lockedTables = Collections.emptySet();
+        final List<JdbcConnection> snapshotConnections = new ArrayList<>();
 
         final Set<String> snapshotAllowedTables = context.getConnectorConfig().getDataCollectionsToBeSnapshotted();
         final Predicate<TableId> isAllowedForSnapshot = tableId -> snapshotAllowedTables.size() == 0
                 || snapshotAllowedTables.stream().anyMatch(s -> tableId.identifier().matches(s));
+
+        // Continue an interrupted snapshot from the checkpoint in the offsets, if there is one ...
+        final boolean resumable = context.getConnectorConfig().isSnapshotResumable();
+        final SnapshotCheckpoint checkpoint = source.snapshotCheckpoint();
+        resumingSnapshot = resumable && includeData && source.isSnapshotInEffect() && !checkpoint.isEmpty();
+        if (!resumingSnapshot) {
+            checkpoint.clear();
+        }
         try {
             metrics.snapshotStarted();
 
@@ -545,6 +561,31 @@ protected void execute() {
                 // ------
                 // STEP 7
                 // ------
+                // Start the transactions of the connections reading tables concurrently while writes are still prevented,
+                // so that all of them see the same consistent snapshot as our transaction ...
+                final int snapshotMaxThreads = Math.min(context.getConnectorConfig().getSnapshotMaxThreads(), capturedTableIds.size());
+                if (includeData && snapshotMaxThreads > 1 && isRunning()) {
+                    if (resumable) {
+                        logger.info("Step {}: reading tables with a single connection as the snapshot is resumable", step++);
+                    }
+                    else if (!isLocked) {
+                        logger.warn("Step {}: reading tables with a single connection as no locks are held to start consistent snapshots "
+                                + "on further connections", step++);
+                    }
+                    else {
+                        logger.info("Step {}: start transactions with consistent snapshot on {} further connections", step++, snapshotMaxThreads - 1);
+                        for (int i = 1; i < snapshotMaxThreads; i++) {
+                            final JdbcConnection connection = connectionContext.createConnection();
+                            snapshotConnections.add(connection);
+                            connection.setAutoCommit(false);
+                            sql.set("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+                            connection.executeWithoutCommitting(sql.get());
+                            sql.set("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+                            connection.executeWithoutCommitting(sql.get());
+                        }
+                    }
+                }
+
                 if (snapshotLockingMode.usesMinimalLocking() && isLocked) {
                     if (tableLocks) {
                         // We could not acquire a global read lock and instead had to obtain individual table-level read locks
@@ -586,117 +627,46 @@ protected void execute() {
                     logger.info("Step {}: scanning contents of {} tables while still in transaction", step, capturedTableIds.size());
                     metrics.monitoredDataCollectionsDetermined(capturedTableIds);
 
+                    List<TableId> tablesToRead = capturedTableIds;
+                    if (resumingSnapshot) {
+                        final List<TableId> remainingTableIds = checkpoint.remainingTables(capturedTableIds);
+                        if (remainingTableIds == null) {
+                            logger.info("Step {}: snapshot checkpoint {} doesn't match the captured tables, scanning all tables", step, checkpoint);
+                            checkpoint.clear();
+                        }
+                        else {
+                            logger.info("Step {}: continuing snapshot at {}", step, checkpoint);
+                            capturedTableIds.subList(0, capturedTableIds.size() - remainingTableIds.size())
+                                    .forEach(tableId -> metrics.dataCollectionSnapshotCompleted(tableId, 0));
+                            tablesToRead = remainingTableIds;
+                        }
+                    }
+
                     long startScan = clock.currentTimeInMillis();
                     AtomicLong totalRowCount = new AtomicLong();
-                    int counter = 0;
                     int completedCounter = 0;
-                    long largeTableCount = context.rowCountForLargeTable();
-                    Iterator<TableId> tableIdIter = capturedTableIds.iterator();
-                    while (tableIdIter.hasNext()) {
-                        TableId tableId = tableIdIter.next();
-                        AtomicLong rowNum = new AtomicLong();
-                        if (!isRunning()) {
-                            break;
+                    if (!snapshotConnections.isEmpty()) {
+                        final List<JdbcConnection> connections = new ArrayList<>(snapshotConnections.size() + 1);
+                        connections.add(mysql);
+                        connections.addAll(snapshotConnections);
+                        try {
+                            completedCounter = readTablesConcurrently(step, connections, tablesToRead, bufferedRecordQueue, totalRowCount);
                         }
-
-                        // Obtain a record maker for this table, which knows about the schema ...
-                        RecordsForTable recordMaker = context.makeRecord().forTable(tableId, null, bufferedRecordQueue);
-                        if (recordMaker != null) {
-
-                            // Switch to the table's database ...
-                            sql.set("USE " + quote(tableId.catalog()) + ";");
-                            mysql.executeWithoutCommitting(sql.get());
-
-                            AtomicLong numRows = new AtomicLong(-1);
-                            AtomicReference<String> rowCountStr = new AtomicReference<>("<unknown>");
-                            StatementFactory statementFactory = this::createStatementWithLargeResultSet;
-                            if (largeTableCount > 0) {
-                                try {
-                                    // Choose how we create statements based on the # of rows.
-                                    // This is approximate and less accurate then COUNT(*),
-                                    // but far more efficient for large InnoDB tables.
-                                    sql.set("SHOW TABLE STATUS LIKE '" + tableId.table() + "';");
-                                    mysql.query(sql.get(), rs -> {
-                                        if (rs.next()) {
-                                            numRows.set(rs.getLong(5));
-                                        }
-                                    });
-                                    if (numRows.get() <= largeTableCount) {
-                                        statementFactory = this::createStatement;
-                                    }
-                                    rowCountStr.set(numRows.toString());
-                                }
-                                catch (SQLException e) {
-                                    // Log it, but otherwise just use large result set by default ...
-                                    logger.debug("Error while getting number of rows in table {}: {}", tableId, e.getMessage(), e);
-                                }
-                            }
-
-                            // Scan the rows in the table ...
-                            long start = clock.currentTimeInMillis();
-                            logger.info("Step {}: - scanning table '{}' ({} of {} tables)", step, tableId, ++counter, capturedTableIds.size());
-
-                            Map<TableId, String> selectOverrides = context.getConnectorConfig().getSnapshotSelectOverridesByTable();
-
-                            String selectStatement = selectOverrides.getOrDefault(tableId, "SELECT * FROM " + quote(tableId));
-                            logger.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
-                            sql.set(selectStatement);
-
-                            try {
-                                int stepNum = step;
-                                mysql.query(sql.get(), statementFactory, rs -> {
-                                    try {
-                                        // The table is included in the connector's filters, so process all of the table records
-                                        // ...
-                                        final Table table = schema.tableFor(tableId);
-                                        final int numColumns = table.columns().size();
-                                        final Object[] row = new Object[numColumns];
-                                        while (rs.next()) {
-                                            for (int i = 0, j = 1; i != numColumns; ++i, ++j) {
-                                                Column actualColumn = table.columns().get(i);
-                                                row[i] = readField(rs, j, actualColumn, table);
-                                            }
-                                            recorder.recordRow(recordMaker, row, clock.currentTimeAsInstant()); // has no row number!
-                                            rowNum.incrementAndGet();
-                                            if (rowNum.get() % 100 == 0 && !isRunning()) {
-                                                // We've stopped running ...
-                                                break;
-                                            }
-                                            if (rowNum.get() % 10_000 == 0) {
-                                                if (logger.isInfoEnabled()) {
-                                                    long stop = clock.currentTimeInMillis();
-                                                    logger.info("Step {}: - {} of {} rows scanned from table '{}' after {}",
-                                                            stepNum, rowNum, rowCountStr, tableId, Strings.duration(stop - start));
-                                                }
-                                                metrics.rowsScanned(tableId, rowNum.get());
-                                            }
-                                        }
-                                        totalRowCount.addAndGet(rowNum.get());
-                                        if (isRunning()) {
-                                            if (logger.isInfoEnabled()) {
-                                                long stop = clock.currentTimeInMillis();
-                                                logger.info("Step {}: - Completed scanning a total of {} rows from table '{}' after {}",
-                                                        stepNum, rowNum, tableId, Strings.duration(stop - start));
-                                            }
-                                            metrics.rowsScanned(tableId, rowNum.get());
-                                        }
-                                    }
-                                    catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                        // We were not able to finish all rows in all tables ...
-                                        logger.info("Step {}: Stopping the snapshot due to thread interruption", stepNum);
-                                        interrupted.set(true);
-                                    }
-                                });
+                        catch (InterruptedException e) {
+                            // We were not able to finish all rows in all tables ...
+                            if (isRunning()) {
+                                Thread.currentThread().interrupt();
+                                logger.info("Step {}: Stopping the snapshot due to thread interruption", step);
                             }
-                            finally {
-                                metrics.dataCollectionSnapshotCompleted(tableId, rowNum.get());
-                                if (interrupted.get()) {
-                                    break;
-                                }
+                            else {
+                                logger.info("Step {}: Stopping the snapshot as the reader has been stopped", step);
                             }
+                            interrupted.set(true);
                         }
-                        ++completedCounter;
+                    }
+                    else {
+                        completedCounter = readTablesSequentially(step, mysql, sql, tablesToRead, capturedTableIds.size(), bufferedRecordQueue,
+                                totalRowCount, interrupted, checkpoint);
                     }
 
                     // See if we've been stopped or interrupted ...
@@ -758,6 +728,16 @@ protected void execute() {
                     // Always clean up TX resources even if no changes might be done
                     mysql.connection().rollback();
                 }
+                for (JdbcConnection connection : snapshotConnections) {
+                    try {
+                        // the transactions of the further connections only read data
+                        connection.connection().rollback();
+                        connection.close();
+                    }
+                    catch (SQLException e) {
+                        logger.warn("Failed to close snapshot connection properly", e);
+                    }
+                }
 
                 // -------
                 // STEP 10
@@ -861,6 +841,307 @@ protected void execute() {
         }
     }
 
+    /**
+     * Reads the given tables one after another using the snapshot connection, in key order if the snapshot is resumable.
+     *
+     * @return the number of tables that have been read completely
+     */
+    private int readTablesSequentially(int step, JdbcConnection mysql, AtomicReference<String> sql, List<TableId> tableIds, int tableCount,
+                                       BufferedBlockingConsumer<SourceRecord> bufferedRecordQueue, AtomicLong totalRowCount,
+                                       AtomicBoolean interrupted, SnapshotCheckpoint checkpoint)
+            throws SQLException {
+        final MySqlSchema schema = context.dbSchema();
+        final Clock clock = context.getClock();
+        final boolean resumable = context.getConnectorConfig().isSnapshotResumable();
+        final long largeTableCount = context.rowCountForLargeTable();
+        int counter = tableCount - tableIds.size();
+        int completedCounter = 0;
+        Iterator<TableId> tableIdIter = tableIds.iterator();
+        while (tableIdIter.hasNext()) {
+            TableId tableId = tableIdIter.next();
+            AtomicLong rowNum = new AtomicLong();
+            if (!isRunning()) {
+                break;
+            }
+
+            // Obtain a record maker for this table, which knows about the schema ...
+            RecordsForTable recordMaker = context.makeRecord().forTable(tableId, null, bufferedRecordQueue);
+            if (recordMaker != null) {
+
+                // Switch to the table's database ...
+                sql.set("USE " + quote(tableId.catalog()) + ";");
+                mysql.executeWithoutCommitting(sql.get());
+
+                AtomicLong numRows = new AtomicLong(-1);
+                AtomicReference<String> rowCountStr = new AtomicReference<>("<unknown>");
+                StatementFactory statementFactory = this::createStatementWithLargeResultSet;
+                if (largeTableCount > 0) {
+                    try {
+                        // Choose how we create statements based on the # of rows.
+                        // This is approximate and less accurate then COUNT(*),
+                        // but far more efficient for large InnoDB tables.
+                        sql.set("SHOW TABLE STATUS LIKE '" + tableId.table() + "';");
+                        mysql.query(sql.get(), rs -> {
+                            if (rs.next()) {
+                                numRows.set(rs.getLong(5));
+                            }
+                        });
+                        if (numRows.get() <= largeTableCount) {
+                            statementFactory = this::createStatement;
+                        }
+                        rowCountStr.set(numRows.toString());
+                    }
+                    catch (SQLException e) {
+                        // Log it, but otherwise just use large result set by default ...
+                        logger.debug("Error while getting number of rows in table {}: {}", tableId, e.getMessage(), e);
+                    }
+                }
+
+                // Scan the rows in the table ...
+                long start = clock.currentTimeInMillis();
+                logger.info("Step {}: - scanning table '{}' ({} of {} tables)", step, tableId, ++counter, tableCount);
+
+                Map<TableId, String> selectOverrides = context.getConnectorConfig().getSnapshotSelectOverridesByTable();
+
+                final Table scannedTable = schema.tableFor(tableId);
+                final List<Column> selectedColumns = snapshotColumnsFor(tableId, scannedTable);
+                String selectStatement = selectOverrides.getOrDefault(tableId, snapshotSelect(tableId, scannedTable, selectedColumns));
+
+                // Read the table in key order when the snapshot may have to be continued after the last key ...
+                final Column keyColumn = resumable && !selectOverrides.containsKey(tableId) ? SnapshotChunks.integralKeyColumn(scannedTable) : null;
+                if (resumable) {
+                    if (resumingSnapshot && tableId.identifier().equals(checkpoint.getTable())) {
+                        checkpoint.tableResumed(tableId, keyColumn != null ? checkpoint.resumeKeyFor(tableId) : null);
+                    }
+                    else {
+                        checkpoint.tableStarted(tableId);
+                    }
+                }
+                if (keyColumn != null) {
+                    final Long resumeKey = checkpoint.getLastKey();
+                    selectStatement = snapshotSelect(tableId, scannedTable, selectedColumns)
+                            + (resumeKey != null ? " WHERE " + quote(keyColumn.name()) + " > " + resumeKey : "")
+                            + " ORDER BY " + quote(keyColumn.name());
+                }
+                logger.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
+                sql.set(selectStatement);
+
+                try {
+                    int stepNum = step;
+                    mysql.query(sql.get(), statementFactory, rs -> {
+                        try {
+                            // The table is included in the connector's filters, so process all of the table records
+                            // ...
+                            final Object[] row = new Object[scannedTable.columns().size()];
+                            final int numColumns = selectedColumns.size();
+                            final int keyIndex = keyColumn != null ? keyColumn.position() - 1 : -1;
+                            while (rs.next()) {
+                                for (int i = 0, j = 1; i != numColumns; ++i, ++j) {
+                                    Column actualColumn = selectedColumns.get(i);
+                                    row[actualColumn.position() - 1] = readField(rs, j, actualColumn, scannedTable);
+                                }
+                                rateLimiter.acquireFor(1, row);
+                                if (resumable) {
+                                    checkpoint.rowStarted(keyIndex >= 0 && row[keyIndex] instanceof Number ? ((Number) row[keyIndex]).longValue() : null);
+                                }
+                                recorder.recordRow(recordMaker, row, clock.currentTimeAsInstant()); // has no row number!
+                                rowNum.incrementAndGet();
+                                if (rowNum.get() % 100 == 0 && !isRunning()) {
+                                    // We've stopped running ...
+                                    break;
+                                }
+                                if (rowNum.get() % 10_000 == 0) {
+                                    if (logger.isInfoEnabled()) {
+                                        long stop = clock.currentTimeInMillis();
+                                        logger.info("Step {}: - {} of {} rows scanned from table '{}' after {}",
+                                                stepNum, rowNum, rowCountStr, tableId, Strings.duration(stop - start));
+                                    }
+                                    metrics.rowsScanned(tableId, rowNum.get());
+                                }
+                            }
+                            totalRowCount.addAndGet(rowNum.get());
+                            if (isRunning()) {
+                                if (logger.isInfoEnabled()) {
+                                    long stop = clock.currentTimeInMillis();
+                                    logger.info("Step {}: - Completed scanning a total of {} rows from table '{}' after {}",
+                                            stepNum, rowNum, tableId, Strings.duration(stop - start));
+                                }
+                                metrics.rowsScanned(tableId, rowNum.get());
+                            }
+                        }
+                        catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            // We were not able to finish all rows in all tables ...
+                            logger.info("Step {}: Stopping the snapshot due to thread interruption", stepNum);
+                            interrupted.set(true);
+                        }
+                    });
+                }
+                finally {
+                    metrics.dataCollectionSnapshotCompleted(tableId, rowNum.get());
+                    if (interrupted.get()) {
+                        break;
+                    }
+                }
+            }
+            ++completedCounter;
+        }
+        return completedCounter;
+    }
+
+    /**
+     * Reads the given tables using the given connections concurrently, each connection reading one table or one range of
+     * the primary key of a large table at a time. The transactions of all connections must see the same consistent
+     * snapshot. The rows are recorded on the calling thread.
+     *
+     * @return the number of tables that have been read completely
+     * @throws InterruptedException if the reader has been stopped before all tables have been read
+     */
+    private int readTablesConcurrently(int step, List<JdbcConnection> connections, List<TableId> tableIds,
+                                       BufferedBlockingConsumer<SourceRecord> bufferedRecordQueue, AtomicLong totalRowCount)
+            throws Exception {
+        final Clock clock = context.getClock();
+        final JdbcConnection mysql = connections.get(0);
+        final List<TableChunk> chunks = new ArrayList<>();
+        int tableCount = 0;
+        for (TableId tableId : tableIds) {
+            if (!isRunning()) {
+                throw new InterruptedException("Interrupted while preparing snapshot of table " + tableId);
+            }
+            final RecordsForTable recordMaker = context.makeRecord().forTable(tableId, null, bufferedRecordQueue);
+            if (recordMaker != null) {
+                final Table table = context.dbSchema().tableFor(tableId);
+                final TableScan scan = new TableScan(tableId, table, snapshotColumnsFor(tableId, table), recordMaker);
+                final List<String> statements = determineTableChunks(mysql, scan);
+                scan.remainingChunks = statements.size();
+                metrics.dataCollectionChunksDetermined(tableId, statements.size());
+                for (int i = 0; i < statements.size(); i++) {
+                    chunks.add(new TableChunk(scan, statements.get(i), i + 1, statements.size()));
+                }
+                tableCount++;
+            }
+        }
+        logger.info("Step {}: scanning {} tables with {} queries using {} connections", step, tableCount, chunks.size(), connections.size());
+
+        final AtomicInteger completedTables = new AtomicInteger();
+        SnapshotChunks.readConcurrently(connections, chunks, context.getConnectorConfig().getMaxQueueSize(),
+                Threads.threadFactory(MySqlConnector.class, context.getConnectorConfig().getLogicalName(), "snapshot-table-reader", true, false),
+                this::isRunning, (connection, chunk, rows) -> readTableChunk(step, connection, chunk, rows),
+                new SnapshotChunks.ChunkHandler<TableChunk>() {
+
+                    @Override
+                    public void rowRead(TableChunk chunk, Object[] row) throws InterruptedException {
+                        final TableScan scan = chunk.scan;
+                        recorder.recordRow(scan.recordMaker, row, clock.currentTimeAsInstant()); // has no row number!
+                        if (++scan.rowCount % 10_000 == 0) {
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Step {}: - {} rows scanned from table '{}' after {}",
+                                        step, scan.rowCount, scan.tableId, Strings.duration(clock.currentTimeInMillis() - scan.start));
+                            }
+                            metrics.rowsScanned(scan.tableId, scan.rowCount);
+                        }
+                    }
+
+                    @Override
+                    public void chunkCompleted(TableChunk chunk) {
+                        final TableScan scan = chunk.scan;
+                        metrics.dataCollectionChunkCompleted(scan.tableId);
+                        if (--scan.remainingChunks == 0) {
+                            if (logger.isInfoEnabled()) {
+                                logger.info("Step {}: - Completed scanning a total of {} rows from table '{}' after {}",
+                                        step, scan.rowCount, scan.tableId, Strings.duration(clock.currentTimeInMillis() - scan.start));
+                            }
+                            metrics.rowsScanned(scan.tableId, scan.rowCount);
+                            metrics.dataCollectionSnapshotCompleted(scan.tableId, scan.rowCount);
+                            totalRowCount.addAndGet(scan.rowCount);
+                            completedTables.incrementAndGet();
+                        }
+                    }
+                });
+        return completedTables.get();
+    }
+
+    /**
+     * Determines the queries for reading the given table. Tables with more rows than the configured chunk size and a
+     * single-column integer primary key are split into ranges of the key, see {@link SnapshotChunks#keyRangeConditions}.
+     */
+    private List<String> determineTableChunks(JdbcConnection mysql, TableScan scan) throws SQLException {
+        final TableId tableId = scan.tableId;
+        final String selectOverride = context.getConnectorConfig().getSnapshotSelectOverridesByTable().get(tableId);
+        if (selectOverride != null) {
+            return Collections.singletonList(selectOverride);
+        }
+        final String selectStatement = snapshotSelect(tableId, scan.table, scan.columns);
+
+        final long chunkSize = context.getConnectorConfig().getSnapshotChunkSize();
+        final long largeTableCount = context.rowCountForLargeTable();
+        final Column keyColumn = SnapshotChunks.integralKeyColumn(scan.table);
+        if ((chunkSize <= 0 || keyColumn == null) && largeTableCount <= 0) {
+            return Collections.singletonList(selectStatement);
+        }
+
+        long rowCount = -1;
+        try {
+            // This is approximate and less accurate then COUNT(*), but far more efficient for large InnoDB tables.
+            rowCount = mysql.queryAndMap("SHOW TABLE STATUS FROM " + quote(tableId.catalog()) + " LIKE '" + tableId.table() + "';",
+                    rs -> rs.next() ? rs.getLong(5) : -1L);
+        }
+        catch (SQLException e) {
+            // Log it, but otherwise just use large result set by default ...
+            logger.debug("Error while getting number of rows in table {}: {}", tableId, e.getMessage(), e);
+        }
+        if (largeTableCount > 0 && rowCount >= 0 && rowCount <= largeTableCount) {
+            scan.statementFactory = this::createStatement;
+        }
+        if (keyColumn == null) {
+            return Collections.singletonList(selectStatement);
+        }
+
+        final List<String> conditions = SnapshotChunks.keyRangeConditions(mysql, tableId, quote(tableId), quote(keyColumn.name()), rowCount,
+                chunkSize);
+        if (conditions.isEmpty()) {
+            return Collections.singletonList(selectStatement);
+        }
+        return conditions.stream()
+                .map(condition -> selectStatement + " WHERE " + condition)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the rows of one query of a table on a reader thread, handing them over to the recording thread.
+     */
+    private void readTableChunk(int step, JdbcConnection connection, TableChunk chunk, SnapshotChunks.RowConsumer rows)
+            throws SQLException, InterruptedException {
+        final TableScan scan = chunk.scan;
+        final Table table = scan.table;
+        final int numColumns = scan.columns.size();
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        logger.info("Step {}: - scanning table '{}' (chunk {} of {}) using select statement: '{}'", step, scan.tableId, chunk.number,
+                chunk.count, chunk.selectStatement);
+
+        // Switch to the table's database, select overrides may use unqualified names ...
+        connection.executeWithoutCommitting("USE " + quote(scan.tableId.catalog()) + ";");
+        connection.query(chunk.selectStatement, scan.statementFactory, rs -> {
+            try {
+                while (rs.next()) {
+                    final Object[] row = new Object[table.columns().size()];
+                    for (int i = 0, j = 1; i != numColumns; ++i, ++j) {
+                        final Column column = scan.columns.get(i);
+                        row[column.position() - 1] = readField(rs, j, column, table);
+                    }
+                    rateLimiter.acquireFor(1, row);
+                    rows.accept(row);
+                }
+            }
+            catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        if (interrupted.get()) {
+            throw new InterruptedException("Interrupted while scanning table " + scan.tableId);
+        }
+    }
+
     private void readTableSchema(final AtomicReference<String> sql, final JdbcConnection mysql,
                                  final MySqlSchema schema, final SourceInfo source, String dbName, TableId tableId)
             throws SQLException {
@@ -893,6 +1174,11 @@ protected void readBinlogPosition(int step, SourceInfo source, JdbcConnection my
             }
             source.startSnapshot();
         }
+        else if (resumingSnapshot) {
+            // We are continuing an interrupted snapshot, so the binlog is read from the position of that snapshot
+            logger.info("Step {}: continuing snapshot started at binlog '{}' at position '{}'", step, source.binlogFilename(), source.binlogPosition());
+            source.startSnapshot();
+        }
         else {
             logger.info("Step {}: read binlog position of MySQL primary server", step);
             String showMasterStmt = "SHOW MASTER STATUS";
@@ -940,6 +1226,29 @@ private Filters getCreateTableFilters(Filters filters) {
         }
     }
 
+    /**
+     * Returns the columns to be read from the given table: all columns if the table is read by a select override,
+     * otherwise only the columns that are part of its change events.
+     */
+    private List<Column> snapshotColumnsFor(TableId tableId, Table table) {
+        if (context.getConnectorConfig().getSnapshotSelectOverridesByTable().containsKey(tableId)) {
+            return table.columns();
+        }
+        return context.dbSchema().snapshotColumnsFor(table);
+    }
+
+    /**
+     * Returns the statement reading the given columns of the table, without any condition.
+     */
+    private String snapshotSelect(TableId tableId, Table table, List<Column> columns) {
+        if (columns.size() == table.columns().size()) {
+            return "SELECT * FROM " + quote(tableId);
+        }
+        return columns.stream()
+                .map(column -> quote(column.name()))
+                .collect(Collectors.joining(", ", "SELECT ", " FROM " + quote(tableId)));
+    }
+
     protected String quote(String dbOrTableName) {
         return "`" + dbOrTableName + "`";
     }
@@ -1062,6 +1371,42 @@ protected void recordRowAsInsert(RecordsForTable recordMaker, Object[] row, Inst
         recordMaker.create(row, ts);
     }
 
+    /**
+     * The state of reading a table concurrently, only accessed by the recording thread after the queries have been
+     * determined.
+     */
+    private class TableScan {
+        private final TableId tableId;
+        private final Table table;
+        private final List<Column> columns;
+        private final RecordsForTable recordMaker;
+        private final long start = context.getClock().currentTimeInMillis();
+        private StatementFactory statementFactory = SnapshotReader.this::createStatementWithLargeResultSet;
+        private int remainingChunks;
+        private long rowCount;
+
+        private TableScan(TableId tableId, Table table, List<Column> columns, RecordsForTable recordMaker) {
+            this.tableId = tableId;
+            this.table = table;
+            this.columns = columns;
+            this.recordMaker = recordMaker;
+        }
+    }
+
+    private static class TableChunk {
+        private final TableScan scan;
+        private final String selectStatement;
+        private final int number;
+        private final int count;
+
+        private TableChunk(TableScan scan, String selectStatement, int number, int count) {
+            this.scan = scan;
+            this.selectStatement = selectStatement;
+            this.number = number;
+            this.count = count;
+        }
+    }
+
     protected static interface RecordRecorder {
         void recordRow(RecordsForTable recordMaker, Object[] row, Instant ts) throws InterruptedException;
     }
@@ -7,9 +7,9 @@
 
 import java.time.Instant;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -22,8 +22,9 @@
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.data.Envelope;
 import io.debezium.document.Document;
+import io.debezium.pipeline.source.SnapshotCheckpoint;
 import io.debezium.relational.TableId;
-import io.debezium.util.Collect;
+import io.debezium.util.CompactMap;
 
 /**
  * Information about the source of information, which includes the position in the source binary log we have previously processed.
@@ -60,7 +61,10 @@
  * }
  * </pre>
  * <p>
- * The "{@code gtids}" field only appears in offsets produced when GTIDs are enabled. The "{@code snapshot}" field only appears in
+ * The "{@code gtids}" field only appears in offsets produced when GTIDs are enabled. It holds a base GTID set, which is only
+ * replaced now and then; the {@link GtidSet.UUIDSet GTID ranges} of the servers which changed since are held in the
+ * "{@code gtids_delta}" field, so the offset of each transaction does not repeat the GTID ranges of all servers that have ever
+ * been known to the cluster. The "{@code snapshot}" field only appears in
  * offsets produced when the connector is in the middle of a snapshot. And finally, the "{@code ts}" field contains the
  * <em>seconds</em> since Unix epoch (since Jan 1, 1970) of the MySQL event; the message {@link Envelope envelopes} also have a
  * timestamp, but that timestamp is the <em>milliseconds</em> since since Jan 1, 1970.
@@ -103,6 +107,7 @@ final class SourceInfo extends AbstractSourceInfo {
 
     public static final String SERVER_PARTITION_KEY = "server";
     public static final String GTID_SET_KEY = "gtids";
+    public static final String GTID_SET_DELTA_KEY = "gtids_delta";
     public static final String GTID_KEY = "gtid";
     public static final String EVENTS_TO_SKIP_OFFSET_KEY = "event";
     public static final String BINLOG_FILENAME_OFFSET_KEY = "file";
@@ -121,13 +126,23 @@ final class SourceInfo extends AbstractSourceInfo {
     public static final String TABLE_EXCLUDE_LIST_KEY = "table_exclude_list";
     public static final String RESTART_PREFIX = "RESTART_";
 
-    private String currentGtidSet;
+    /**
+     * The GTID set put into the offsets in full, while the GTID sets of the transactions read since are put into the offsets as
+     * the {@link GtidSet#changedSince(GtidSet) changes} relative to it.
+     */
+    private String baseGtidSet;
+    private GtidSet parsedBaseGtidSet;
+    /**
+     * The GTID set including the current transaction, or {@code null} if no transaction has been read since the base GTID set
+     * has been set; likewise for {@link #restartGtidSet}.
+     */
+    private GtidSet currentGtidSet;
     private String currentGtid;
     private String currentBinlogFilename;
     private long currentBinlogPosition = 0L;
     private int currentRowNumber = 0;
     private long currentEventLengthInBytes = 0;
-    private String restartGtidSet;
+    private GtidSet restartGtidSet;
     private String restartBinlogFilename;
     private long restartBinlogPosition = 0L;
     private long restartEventsToSkip = 0;
@@ -146,11 +161,13 @@ final class SourceInfo extends AbstractSourceInfo {
     private String tableExcludeList;
     private Set<TableId> tableIds;
     private String databaseName;
+    private CachedOffset cachedOffset;
+    private SnapshotCheckpoint snapshotCheckpoint = new SnapshotCheckpoint();
 
     public SourceInfo(MySqlConnectorConfig connectorConfig) {
         super(connectorConfig);
 
-        this.sourcePartition = Collect.hashMapOf(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+        this.sourcePartition = CompactMap.of(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
         this.tableIds = new HashSet<>();
     }
 
@@ -175,7 +192,7 @@ public String getQuery() {
      * consuming. Since we're reading the binary log for a single database, the source partition specifies the
      * {@link #setServerName(String) database server}.
      * <p>
-     * The resulting map is mutable for efficiency reasons (this information rarely changes), but should not be mutated.
+     * The same immutable map is returned for all records.
      *
      * @return the source partition information; never null
      */
@@ -224,7 +241,7 @@ public void setEventPosition(long positionOfCurrentEvent, long eventSizeInBytes)
      * Get the Kafka Connect detail about the source "offset", which describes the position within the source where we last
      * have last read.
      *
-     * @return a copy of the current offset; never null
+     * @return the current offset; never null
      */
     public Map<String, ?> offset() {
         return offsetUsingPosition(this.restartRowsToSkip);
@@ -238,7 +255,7 @@ public void setEventPosition(long positionOfCurrentEvent, long eventSizeInBytes)
      *
      * @param eventRowNumber the 0-based row number within the event for which the offset is to be produced
      * @param totalNumberOfRows the total number of rows within the event being processed
-     * @return a copy of the current offset; never null
+     * @return the current offset; never null
      * @see #struct()
      */
     public Map<String, Object> offsetForRow(int eventRowNumber, int totalNumberOfRows) {
@@ -256,22 +273,50 @@ public Map<String, Object> offsetForRow(int eventRowNumber, int totalNumberOfRow
     }
 
     private Map<String, Object> offsetUsingPosition(long rowsToSkip) {
-        Map<String, Object> map = new HashMap<>();
+        CachedOffset cached = this.cachedOffset;
+        if (cached == null || !cached.isValidFor(this)) {
+            cached = new CachedOffset(this, offsetWithoutRowsToSkip(cached));
+            this.cachedOffset = cached;
+        }
+        // all rows of an event share the entries of the event's offset
+        CompactMap<Object> offset = rowsToSkip != 0 ? cached.offset.with(BINLOG_ROW_IN_EVENT_OFFSET_KEY, rowsToSkip) : cached.offset;
+        if (nextSnapshot && !snapshotCheckpoint.isEmpty()) {
+            // the checkpoint changes with every snapshot row, so it is added to rather than part of the cached offset
+            offset = withSnapshotCheckpoint(offset);
+        }
+        return offset;
+    }
+
+    private CompactMap<Object> withSnapshotCheckpoint(CompactMap<Object> offset) {
+        if (snapshotCheckpoint.getCompletedTable() != null) {
+            offset = offset.with(SnapshotCheckpoint.COMPLETED_TABLE_KEY, snapshotCheckpoint.getCompletedTable());
+        }
+        if (snapshotCheckpoint.getTable() != null) {
+            offset = offset.with(SnapshotCheckpoint.TABLE_KEY, snapshotCheckpoint.getTable());
+        }
+        if (snapshotCheckpoint.getLastKey() != null) {
+            offset = offset.with(SnapshotCheckpoint.LAST_KEY_KEY, snapshotCheckpoint.getLastKey());
+        }
+        return offset;
+    }
+
+    private CompactMap<Object> offsetWithoutRowsToSkip(CachedOffset previous) {
+        final CompactMap.Builder<Object> map = CompactMap.builder(previous != null ? previous.offset : null);
         if (serverId != 0) {
             map.put(SERVER_ID_KEY, serverId);
         }
         if (restartGtidSet != null) {
             // Put the previously-completed GTID set in the offset along with the event number ...
-            map.put(GTID_SET_KEY, restartGtidSet);
+            putGtidSet(map);
+        }
+        else if (baseGtidSet != null) {
+            map.put(GTID_SET_KEY, baseGtidSet);
         }
         map.put(BINLOG_FILENAME_OFFSET_KEY, restartBinlogFilename);
         map.put(BINLOG_POSITION_OFFSET_KEY, restartBinlogPosition);
         if (restartEventsToSkip != 0) {
             map.put(EVENTS_TO_SKIP_OFFSET_KEY, restartEventsToSkip);
         }
-        if (rowsToSkip != 0) {
-            map.put(BINLOG_ROW_IN_EVENT_OFFSET_KEY, rowsToSkip);
-        }
         if (binlogTimestampSeconds != 0) {
             map.put(TIMESTAMP_KEY, binlogTimestampSeconds);
         }
@@ -284,7 +329,82 @@ private Map<String, Object> offsetUsingPosition(long rowsToSkip) {
             map.put(TABLE_INCLUDE_LIST_KEY, tableIncludeList);
             map.put(TABLE_EXCLUDE_LIST_KEY, tableExcludeList);
         }
-        return map;
+        return map.build();
+    }
+
+    /**
+     * Puts the previously-completed GTID set into the given offset as the base GTID set and the UUID sets changed since. The base
+     * GTID set is replaced by the complete GTID set once the changed UUID sets make up more than a quarter of all UUID sets.
+     */
+    private void putGtidSet(CompactMap.Builder<Object> map) {
+        GtidSet delta = baseGtidSet != null ? restartGtidSet.changedSince(baseGtidSet()) : null;
+        if (delta == null || delta.getUUIDSets().size() * 4 > restartGtidSet.getUUIDSets().size()) {
+            baseGtidSet = restartGtidSet.toString();
+            parsedBaseGtidSet = restartGtidSet;
+            delta = null;
+        }
+        map.put(GTID_SET_KEY, baseGtidSet);
+        if (delta != null && !delta.getUUIDSets().isEmpty()) {
+            map.put(GTID_SET_DELTA_KEY, delta.toString());
+        }
+    }
+
+    private GtidSet baseGtidSet() {
+        if (parsedBaseGtidSet == null) {
+            parsedBaseGtidSet = new GtidSet(baseGtidSet);
+        }
+        return parsedBaseGtidSet;
+    }
+
+    /**
+     * The offset of the current event without the row number, along with the state it has been computed from. It is
+     * reused for all rows of the same event as long as that state doesn't change.
+     */
+    private static final class CachedOffset {
+        private final CompactMap<Object> offset;
+        private final long serverId;
+        private final String baseGtidSet;
+        private final GtidSet restartGtidSet;
+        private final String restartBinlogFilename;
+        private final long restartBinlogPosition;
+        private final long restartEventsToSkip;
+        private final long binlogTimestampSeconds;
+        private final boolean snapshot;
+        private final String databaseIncludeList;
+        private final String databaseExcludeList;
+        private final String tableIncludeList;
+        private final String tableExcludeList;
+
+        private CachedOffset(SourceInfo source, CompactMap<Object> offset) {
+            this.offset = offset;
+            this.serverId = source.serverId;
+            this.baseGtidSet = source.baseGtidSet;
+            this.restartGtidSet = source.restartGtidSet;
+            this.restartBinlogFilename = source.restartBinlogFilename;
+            this.restartBinlogPosition = source.restartBinlogPosition;
+            this.restartEventsToSkip = source.restartEventsToSkip;
+            this.binlogTimestampSeconds = source.binlogTimestampSeconds;
+            this.snapshot = source.nextSnapshot;
+            this.databaseIncludeList = source.databaseIncludeList;
+            this.databaseExcludeList = source.databaseExcludeList;
+            this.tableIncludeList = source.tableIncludeList;
+            this.tableExcludeList = source.tableExcludeList;
+        }
+
+        private boolean isValidFor(SourceInfo source) {
+            return serverId == source.serverId
+                    && restartBinlogPosition == source.restartBinlogPosition
+                    && restartEventsToSkip == source.restartEventsToSkip
+                    && binlogTimestampSeconds == source.binlogTimestampSeconds
+                    && snapshot == source.nextSnapshot
+                    && baseGtidSet == source.baseGtidSet
+                    && restartGtidSet == source.restartGtidSet
+                    && Objects.equals(restartBinlogFilename, source.restartBinlogFilename)
+                    && databaseIncludeList == source.databaseIncludeList
+                    && databaseExcludeList == source.databaseExcludeList
+                    && tableIncludeList == source.tableIncludeList
+                    && tableExcludeList == source.tableExcludeList;
+        }
     }
 
     public void databaseEvent(String databaseName) {
@@ -349,17 +469,20 @@ public void commitTransaction() {
      * Record that a new GTID transaction has been started and has been included in the set of GTIDs known to the MySQL server.
      *
      * @param gtid the string representation of a specific GTID that has been begun; may not be null
-     * @param gtidSet the string representation of GTID set that includes the newly begun GTID; may not be null
+     * @param gtidSet the GTID set that includes the newly begun GTID; may not be null
      */
-    public void startGtid(String gtid, String gtidSet) {
+    public void startGtid(String gtid, GtidSet gtidSet) {
         this.currentGtid = gtid;
-        if (gtidSet != null && !gtidSet.trim().isEmpty()) {
-            // Remove all the newline chars that exist in the GTID set string ...
-            String trimmedGtidSet = gtidSet.replaceAll("\n", "").replaceAll("\r", "");
+        if (gtidSet != null && !gtidSet.getUUIDSets().isEmpty()) {
             // Set the GTID set that we'll use if restarting BEFORE successful completion of the events in this GTID ...
-            this.restartGtidSet = this.currentGtidSet != null ? this.currentGtidSet : trimmedGtidSet;
+            if (this.currentGtidSet != null) {
+                this.restartGtidSet = this.currentGtidSet;
+            }
+            else {
+                this.restartGtidSet = this.baseGtidSet != null ? baseGtidSet() : gtidSet;
+            }
             // Record the GTID set that includes the current transaction ...
-            this.currentGtidSet = trimmedGtidSet;
+            this.currentGtidSet = gtidSet;
         }
     }
 
@@ -370,11 +493,23 @@ public void startGtid(String gtid, String gtidSet) {
      *            have been previously processed
      */
     public void setCompletedGtidSet(String gtidSet) {
+        setCompletedGtidSet(gtidSet, null);
+    }
+
+    /**
+     * Set the GTID set that captures all of the GTID transactions that have been completely processed, as stored in an offset.
+     *
+     * @param gtidSet the string representation of the base GTID set; may not be null, but may be an empty string if no GTIDs
+     *            have been previously processed
+     * @param gtidSetDelta the string representation of the UUID sets that changed relative to the base GTID set; may be null
+     */
+    public void setCompletedGtidSet(String gtidSet, String gtidSetDelta) {
         if (gtidSet != null && !gtidSet.trim().isEmpty()) {
             // Remove all the newline chars that exist in the GTID set string ...
-            String trimmedGtidSet = gtidSet.replaceAll("\n", "").replaceAll("\r", "");
-            this.currentGtidSet = trimmedGtidSet;
-            this.restartGtidSet = trimmedGtidSet;
+            this.baseGtidSet = gtidSet.replace("\n", "").replace("\r", "");
+            this.parsedBaseGtidSet = null;
+            this.currentGtidSet = gtidSetDelta != null ? baseGtidSet().with(new GtidSet(gtidSetDelta)) : null;
+            this.restartGtidSet = this.currentGtidSet;
         }
     }
 
@@ -431,6 +566,17 @@ public void markLastSnapshot(Configuration config) {
     public void completeSnapshot() {
         this.lastSnapshot = false;
         this.nextSnapshot = false;
+        this.snapshotCheckpoint.clear();
+    }
+
+    /**
+     * Get the progress of the snapshot as recorded in the offsets of snapshot records, loaded by
+     * {@link #setOffset(Map)} when a snapshot has been interrupted.
+     *
+     * @return the snapshot checkpoint; never null
+     */
+    public SnapshotCheckpoint snapshotCheckpoint() {
+        return snapshotCheckpoint;
     }
 
     /**
@@ -503,7 +649,7 @@ public String getTableExcludeList() {
     public void setOffset(Map<String, ?> sourceOffset) {
         if (sourceOffset != null) {
             // We have previously recorded an offset ...
-            setCompletedGtidSet((String) sourceOffset.get(GTID_SET_KEY)); // may be null
+            setCompletedGtidSet((String) sourceOffset.get(GTID_SET_KEY), (String) sourceOffset.get(GTID_SET_DELTA_KEY)); // may be null
             String binlogFilename = (String) sourceOffset.get(BINLOG_FILENAME_OFFSET_KEY);
             if (binlogFilename == null) {
                 throw new ConnectException("Source offset '" + BINLOG_FILENAME_OFFSET_KEY + "' parameter is missing");
@@ -514,6 +660,7 @@ public void setOffset(Map<String, ?> sourceOffset) {
             this.restartEventsToSkip = longOffsetValue(sourceOffset, EVENTS_TO_SKIP_OFFSET_KEY);
             nextSnapshot = booleanOffsetValue(sourceOffset, SNAPSHOT_KEY);
             lastSnapshot = nextSnapshot;
+            this.snapshotCheckpoint = SnapshotCheckpoint.load(sourceOffset);
             if (sourceOffset.containsKey(DATABASE_INCLUDE_LIST_KEY)) {
                 this.databaseIncludeList = (String) sourceOffset.get(DATABASE_INCLUDE_LIST_KEY);
             }
@@ -585,7 +732,7 @@ private boolean booleanOffsetValue(Map<String, ?> values, String key) {
      * @return the string representation of the binlog GTID ranges; may be null
      */
     public String gtidSet() {
-        return this.currentGtidSet != null ? this.currentGtidSet : null;
+        return this.currentGtidSet != null ? this.currentGtidSet.toString() : this.baseGtidSet;
     }
 
     /**
@@ -673,9 +820,9 @@ int getCurrentRowNumber() {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        if (currentGtidSet != null) {
+        if (currentGtidSet != null || baseGtidSet != null) {
             sb.append("GTIDs ");
-            sb.append(currentGtidSet);
+            sb.append(gtidSet());
             sb.append(" and binlog file '").append(restartBinlogFilename).append("'");
             sb.append(", pos=").append(restartBinlogPosition);
             sb.append(", skipping ").append(restartEventsToSkip);
@@ -720,6 +867,11 @@ public static Document createDocumentFromOffset(Map<String, ?> offset) {
         return offsetDocument;
     }
 
+    private static GtidSet gtidSet(String gtidSet, String gtidSetDelta) {
+        GtidSet result = new GtidSet(gtidSet);
+        return gtidSetDelta != null ? result.with(new GtidSet(gtidSetDelta)) : result;
+    }
+
     /**
      * Determine whether the first {@link #offset() offset} is at or before the point in time of the second
      * offset, where the offsets are given in JSON representation of the maps returned by {@link #offset()}.
@@ -741,12 +893,14 @@ public static Document createDocumentFromOffset(Map<String, ?> offset) {
     public static boolean isPositionAtOrBefore(Document recorded, Document desired, Predicate<String> gtidFilter) {
         String recordedGtidSetStr = recorded.getString(GTID_SET_KEY);
         String desiredGtidSetStr = desired.getString(GTID_SET_KEY);
+        String recordedGtidSetDeltaStr = recorded.getString(GTID_SET_DELTA_KEY);
+        String desiredGtidSetDeltaStr = desired.getString(GTID_SET_DELTA_KEY);
         if (desiredGtidSetStr != null) {
             // The desired position uses GTIDs, so we ideally compare using GTIDs ...
             if (recordedGtidSetStr != null) {
                 // Both have GTIDs, so base the comparison entirely on the GTID sets.
-                GtidSet recordedGtidSet = new GtidSet(recordedGtidSetStr);
-                GtidSet desiredGtidSet = new GtidSet(desiredGtidSetStr);
+                GtidSet recordedGtidSet = gtidSet(recordedGtidSetStr, recordedGtidSetDeltaStr);
+                GtidSet desiredGtidSet = gtidSet(desiredGtidSetStr, desiredGtidSetDeltaStr);
                 if (gtidFilter != null) {
                     // Apply the GTID source filter before we do any comparisons ...
                     recordedGtidSet = recordedGtidSet.retainAll(gtidFilter);
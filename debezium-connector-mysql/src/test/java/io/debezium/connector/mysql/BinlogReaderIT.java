@@ -11,6 +11,12 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -33,6 +39,8 @@
 import org.junit.Rule;
 import org.junit.Test;
 
+import com.github.shyiko.mysql.binlog.BinaryLogFileReader;
+
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.config.Configuration;
 import io.debezium.connector.mysql.AbstractReader.AcceptAllPredicate;
@@ -57,6 +65,7 @@
 public class BinlogReaderIT {
 
     private static final Path DB_HISTORY_PATH = Testing.Files.createTestingPath("file-db-history-binlog.txt").toAbsolutePath();
+    private static final Path LOCAL_BINLOG_DIRECTORY = Testing.Files.createTestingPath("local-binlog").toAbsolutePath();
     private final UniqueDatabase DATABASE = new UniqueDatabase("logical_server_name", "connector_test_ro")
             .withDbHistoryPath(DB_HISTORY_PATH);
 
@@ -72,8 +81,10 @@ public class BinlogReaderIT {
     public SkipTestRule skipRule = new SkipTestRule();
 
     @Before
-    public void beforeEach() {
+    public void beforeEach() throws IOException {
         Testing.Files.delete(DB_HISTORY_PATH);
+        Testing.Files.delete(LOCAL_BINLOG_DIRECTORY);
+        Files.createDirectories(LOCAL_BINLOG_DIRECTORY);
         DATABASE.createAndInitialize();
         this.store = KeyValueStore.createForTopicsBeginningWith(DATABASE.getServerName() + ".");
         this.schemaChanges = new SchemaChangeHistory(DATABASE.getServerName());
@@ -555,6 +566,91 @@ public void shouldAcceptTls12() {
         assertEquals("TLSv1.2", acceptedTlsVersion);
     }
 
+    @Test
+    public void shouldContinueWithBinlogOfServerAfterLocalBinlogFiles() throws Exception {
+        final String firstBinlogFile = firstBinlogFile();
+        // a local binlog file that rotates to the beginning of the binlog of the server ...
+        final byte[] name = firstBinlogFile.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer rotate = ByteBuffer.allocate(19 + 8 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+        // timestamp, type, server id, event length, next position, flags, position, file name
+        rotate.putInt(1_600_000_000).put((byte) 4).putInt(1).putInt(rotate.capacity()).putInt(4 + rotate.capacity()).putShort((short) 0);
+        rotate.putLong(4).put(name);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.write(BinaryLogFileReader.MAGIC_HEADER);
+        content.write(rotate.array());
+        Files.write(LOCAL_BINLOG_DIRECTORY.resolve("local-bin.000001"), content.toByteArray());
+
+        startWithLocalBinlogDirectory("local-bin.000001", 4L);
+
+        // all events have been read from the server ...
+        int expected = 9 + 9 + 4 + 5 + 1; // only the inserts for our 4 tables in this database and 1 create table
+        assertThat(consumeAtLeast(expected)).isGreaterThanOrEqualTo(expected);
+        assertThat(store.collection(DATABASE.getDatabaseName(), productsTableName()).numberOfCreates()).isEqualTo(9);
+    }
+
+    @Test
+    public void shouldReadBinlogOfServerWhenLocalBinlogFileDoesNotContainPosition() throws Exception {
+        final String firstBinlogFile = firstBinlogFile();
+        // a partial copy of the binlog file of the server ...
+        Files.write(LOCAL_BINLOG_DIRECTORY.resolve(firstBinlogFile), BinaryLogFileReader.MAGIC_HEADER);
+
+        startWithLocalBinlogDirectory(firstBinlogFile, positionAfterFormatDescription(firstBinlogFile));
+
+        int expected = 9 + 9 + 4 + 5 + 1; // only the inserts for our 4 tables in this database and 1 create table
+        assertThat(consumeAtLeast(expected)).isGreaterThanOrEqualTo(expected);
+        assertThat(store.collection(DATABASE.getDatabaseName(), productsTableName()).numberOfCreates()).isEqualTo(9);
+    }
+
+    @Test
+    public void shouldReadBinlogOfServerWhenLocalBinlogFileIsInvalid() throws Exception {
+        final String firstBinlogFile = firstBinlogFile();
+        Files.write(LOCAL_BINLOG_DIRECTORY.resolve(firstBinlogFile), "not a binlog".getBytes(StandardCharsets.UTF_8));
+
+        startWithLocalBinlogDirectory(firstBinlogFile, positionAfterFormatDescription(firstBinlogFile));
+
+        int expected = 9 + 9 + 4 + 5 + 1; // only the inserts for our 4 tables in this database and 1 create table
+        assertThat(consumeAtLeast(expected)).isGreaterThanOrEqualTo(expected);
+        assertThat(store.collection(DATABASE.getDatabaseName(), productsTableName()).numberOfCreates()).isEqualTo(9);
+    }
+
+    private void startWithLocalBinlogDirectory(String binlogFilename, long binlogPosition) {
+        config = simpleConfig()
+                .with(MySqlConnectorConfig.LOCAL_BINLOG_DIRECTORY, LOCAL_BINLOG_DIRECTORY.toString())
+                .build();
+        Filters filters = new Filters.Builder(config).build();
+        context = new MySqlTaskContext(config, filters);
+        context.start();
+        context.source().setBinlogStartPoint(binlogFilename, binlogPosition);
+        context.initializeHistory();
+        reader = new BinlogReader("binlog", context, new AcceptAllPredicate());
+
+        // Start reading the binlog ...
+        reader.start();
+    }
+
+    private String firstBinlogFile() throws SQLException {
+        try (MySQLConnection db = MySQLConnection.forTestDatabase(DATABASE.getDatabaseName());
+                JdbcConnection connection = db.connect()) {
+            return connection.queryAndMap("SHOW BINARY LOGS", rs -> {
+                rs.next();
+                return rs.getString(1);
+            });
+        }
+    }
+
+    /**
+     * Returns the position of the event following the format description event at the beginning of the given file.
+     */
+    private long positionAfterFormatDescription(String binlogFilename) throws SQLException {
+        try (MySQLConnection db = MySQLConnection.forTestDatabase(DATABASE.getDatabaseName());
+                JdbcConnection connection = db.connect()) {
+            return connection.queryAndMap("SHOW BINLOG EVENTS IN '" + binlogFilename + "' LIMIT 1", rs -> {
+                rs.next();
+                return rs.getLong("End_log_pos");
+            });
+        }
+    }
+
     private void inconsistentSchema(EventProcessingFailureHandlingMode mode) throws InterruptedException, SQLException {
         if (mode == null) {
             config = simpleConfig().build();
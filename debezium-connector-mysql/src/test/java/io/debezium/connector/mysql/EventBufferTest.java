@@ -0,0 +1,130 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.QueryEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.XidEventData;
+
+import io.debezium.util.IoUtil;
+
+public class EventBufferTest {
+
+    private Path spillDirectory;
+    private BinlogReader reader;
+    private BinlogReaderMetrics metrics;
+    private List<Event> handled;
+    private long position;
+
+    @Before
+    public void beforeEach() throws IOException {
+        spillDirectory = Files.createTempDirectory("event-buffer-test");
+        reader = mock(BinlogReader.class);
+        metrics = mock(BinlogReaderMetrics.class);
+        handled = new ArrayList<>();
+        when(reader.getMetrics()).thenReturn(metrics);
+        when(reader.unwrapData(any())).thenAnswer(invocation -> ((Event) invocation.getArgument(0)).getData());
+        doAnswer(invocation -> handled.add(invocation.getArgument(0))).when(reader).handleEvent(any());
+    }
+
+    @After
+    public void afterEach() throws IOException {
+        IoUtil.delete(spillDirectory);
+    }
+
+    @Test
+    public void shouldEmitTransactionLargerThanBufferAfterCommit() throws Exception {
+        final EventBuffer buffer = new EventBuffer(3, spillDirectory, reader);
+        buffer.add(query("BEGIN"));
+        for (int i = 0; i < 10; i++) {
+            buffer.add(insert(i));
+        }
+        assertThat(handled).isEmpty();
+        assertThat(spillFiles()).hasSize(1);
+
+        buffer.add(xid());
+        assertThat(handled).hasSize(12);
+        assertThat(((QueryEventData) handled.get(0).getData()).getSql()).isEqualTo("BEGIN");
+        for (int i = 0; i < 10; i++) {
+            final WriteRowsEventData data = handled.get(i + 1).getData();
+            assertThat(data.getRows().get(0)[0]).isEqualTo(i);
+        }
+        assertThat(handled.get(11).getHeader().getEventType()).isEqualTo(EventType.XID);
+        assertThat(spillFiles()).isEmpty();
+    }
+
+    @Test
+    public void shouldDiscardLargeRolledBackTransaction() throws Exception {
+        final EventBuffer buffer = new EventBuffer(2, spillDirectory, reader);
+        buffer.add(query("BEGIN"));
+        for (int i = 0; i < 5; i++) {
+            buffer.add(insert(i));
+        }
+        buffer.add(query("ROLLBACK"));
+        assertThat(handled).isEmpty();
+        assertThat(spillFiles()).isEmpty();
+
+        buffer.add(query("BEGIN"));
+        buffer.add(insert(42));
+        buffer.add(query("COMMIT"));
+        assertThat(handled).hasSize(3);
+        final WriteRowsEventData data = handled.get(1).getData();
+        assertThat(data.getRows().get(0)[0]).isEqualTo(42);
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private Event query(String sql) {
+        final QueryEventData data = new QueryEventData();
+        data.setSql(sql);
+        return event(EventType.QUERY, data);
+    }
+
+    private Event insert(int value) {
+        final WriteRowsEventData data = new WriteRowsEventData();
+        data.setRows(Collections.singletonList(new Serializable[]{ value }));
+        return event(EventType.EXT_WRITE_ROWS, data);
+    }
+
+    private Event xid() {
+        return event(EventType.XID, new XidEventData());
+    }
+
+    private Event event(EventType type, EventData data) {
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(type);
+        header.setNextPosition(position += 100);
+        return new Event(header, data);
+    }
+}
@@ -132,6 +132,76 @@ public void shouldFilterServerUuids() {
         assertThat(filtered.forServerWithId("7145bf69-d1ca-11e5-a588-0242ac110004")).isNull();
     }
 
+    @Test
+    public void shouldCollapseOverlappingIntervals() {
+        gtids = new GtidSet(UUID1 + ":1-10:5-20:30-40:35-38");
+        asertIntervalCount(UUID1, 2);
+        asertFirstInterval(UUID1, 1, 20);
+        asertLastInterval(UUID1, 30, 40);
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-20:30-40");
+    }
+
+    @Test
+    public void shouldAddGtids() {
+        final String uuid2 = "7c1de3f2-3fd2-11e6-9cdc-42010af000bc";
+        final GtidSet original = new GtidSet(UUID1 + ":1-10:20-30");
+
+        // extends the last interval
+        gtids = original.with(UUID1 + ":31");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-10:20-31");
+        // extends the next interval
+        gtids = gtids.with(UUID1 + ":19");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-10:19-31");
+        // new interval in between
+        gtids = gtids.with(UUID1 + ":15");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-10:15-15:19-31");
+        // fills a gap
+        gtids = gtids.with(UUID1 + ":11").with(UUID1 + ":13").with(UUID1 + ":12").with(UUID1 + ":14");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-15:19-31");
+        gtids = gtids.with(UUID1 + ":16").with(UUID1 + ":18").with(UUID1 + ":17");
+        asertIntervalCount(UUID1, 1);
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-31");
+        // new server
+        gtids = gtids.with(uuid2 + ":1");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-31," + uuid2 + ":1-1");
+
+        assertThat(gtids.with(UUID1 + ":5")).isSameAs(gtids);
+        assertThat(original.toString()).isEqualTo(UUID1 + ":1-10:20-30");
+        assertThat(gtids).isEqualTo(new GtidSet(UUID1 + ":1-31," + uuid2 + ":1"));
+    }
+
+    @Test
+    public void shouldDetermineChangedUuidSets() {
+        final String uuid2 = "7c1de3f2-3fd2-11e6-9cdc-42010af000bc";
+        final GtidSet base = new GtidSet(UUID1 + ":1-10," + uuid2 + ":1-5");
+
+        assertThat(base.changedSince(base).getUUIDSets()).isEmpty();
+        gtids = base.with(uuid2 + ":6").with(uuid2 + ":7");
+        assertThat(gtids.changedSince(base).toString()).isEqualTo(uuid2 + ":1-7");
+        assertThat(base.with(gtids.changedSince(base))).isEqualTo(gtids);
+
+        // the UUID sets of the base set that are not in this set cannot be removed by adding UUID sets
+        assertThat(new GtidSet(UUID1 + ":1-10").changedSince(base)).isNull();
+        assertThat(gtids.changedSince(null)).isNull();
+    }
+
+    @Test
+    public void shouldDetermineIfTransactionIsContained() {
+        gtids = new GtidSet(UUID1 + ":1-10:20-30:40-40");
+        final UUIDSet set = gtids.forServerWithId(UUID1);
+        assertThat(set.contains(1)).isTrue();
+        assertThat(set.contains(10)).isTrue();
+        assertThat(set.contains(11)).isFalse();
+        assertThat(set.contains(25)).isTrue();
+        assertThat(set.contains(40)).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(41)).isFalse();
+
+        assertThat(new GtidSet(UUID1 + ":2-5:21-30").isContainedWithin(gtids)).isTrue();
+        assertThat(new GtidSet(UUID1 + ":2-5:9-21").isContainedWithin(gtids)).isFalse();
+        assertThat(new GtidSet(UUID1 + ":35-36").isContainedWithin(gtids)).isFalse();
+    }
+
     protected void asertIntervalCount(String uuid, int count) {
         UUIDSet set = gtids.forServerWithId(uuid);
         assertThat(set.getIntervals().size()).isEqualTo(count);
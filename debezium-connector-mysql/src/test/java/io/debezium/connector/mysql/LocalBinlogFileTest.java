@@ -0,0 +1,148 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.BinaryLogFileReader;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.QueryEventData;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+
+import io.debezium.util.IoUtil;
+
+public class LocalBinlogFileTest {
+
+    private Path directory;
+    private ByteArrayOutputStream content;
+
+    @Before
+    public void beforeEach() throws IOException {
+        directory = Files.createTempDirectory("local-binlog-file-test");
+        content = new ByteArrayOutputStream();
+        content.write(BinaryLogFileReader.MAGIC_HEADER);
+    }
+
+    @After
+    public void afterEach() throws IOException {
+        IoUtil.delete(directory);
+    }
+
+    @Test
+    public void shouldReadEventsUpToIncompleteEvent() throws Exception {
+        final long second = query("BEGIN");
+        query("INSERT INTO t VALUES (1)");
+        rotate("mysql-bin.000002");
+        final long incomplete = content.size();
+        // an event that is still being written
+        content.write(event(EventType.QUERY, queryData("COMMIT")), 0, 25);
+
+        try (LocalBinlogFile file = new LocalBinlogFile(write(), new EventDeserializer())) {
+            Event event = file.nextEvent();
+            assertThat(((QueryEventData) event.getData()).getSql()).isEqualTo("BEGIN");
+            assertThat(((EventHeaderV4) event.getHeader()).getPosition()).isEqualTo(LocalBinlogFile.FIRST_EVENT_POSITION);
+            assertThat(file.position()).isEqualTo(second);
+
+            event = file.nextEvent();
+            assertThat(((QueryEventData) event.getData()).getSql()).isEqualTo("INSERT INTO t VALUES (1)");
+            assertThat(((EventHeaderV4) event.getHeader()).getPosition()).isEqualTo(second);
+
+            event = file.nextEvent();
+            assertThat(((RotateEventData) event.getData()).getBinlogFilename()).isEqualTo("mysql-bin.000002");
+            assertThat(((RotateEventData) event.getData()).getBinlogPosition()).isEqualTo(4);
+            assertThat(file.position()).isEqualTo(incomplete);
+
+            assertThat(file.nextEvent()).isNull();
+            assertThat(file.position()).isEqualTo(incomplete);
+        }
+    }
+
+    @Test
+    public void shouldSeekToEvent() throws Exception {
+        query("BEGIN");
+        final long second = query("INSERT INTO t VALUES (1)");
+        query("COMMIT");
+
+        try (LocalBinlogFile file = new LocalBinlogFile(write(), new EventDeserializer())) {
+            file.seek(second);
+            assertThat(((QueryEventData) file.nextEvent().getData()).getSql()).isEqualTo("COMMIT");
+            assertThat(file.nextEvent()).isNull();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectFileWithoutMagicHeader() throws Exception {
+        final Path path = directory.resolve("mysql-bin.000001");
+        Files.write(path, "not a binlog".getBytes(StandardCharsets.UTF_8));
+        new LocalBinlogFile(path, new EventDeserializer()).close();
+    }
+
+    private Path write() throws IOException {
+        final Path path = directory.resolve("mysql-bin.000001");
+        Files.write(path, content.toByteArray());
+        return path;
+    }
+
+    /**
+     * Appends a query event and returns the position of the next event.
+     */
+    private long query(String sql) throws IOException {
+        content.write(event(EventType.QUERY, queryData(sql)));
+        return content.size();
+    }
+
+    private void rotate(String filename) throws IOException {
+        final byte[] name = filename.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer data = ByteBuffer.allocate(8 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+        data.putLong(4).put(name);
+        content.write(event(EventType.ROTATE, data.array()));
+    }
+
+    private static byte[] queryData(String sql) {
+        final byte[] database = "db".getBytes(StandardCharsets.UTF_8);
+        final byte[] statement = sql.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer data = ByteBuffer.allocate(13 + database.length + 1 + statement.length).order(ByteOrder.LITTLE_ENDIAN);
+        // thread id, execution time, database length, error code, status variables length
+        data.putInt(1).putInt(0).put((byte) database.length).putShort((short) 0).putShort((short) 0);
+        data.put(database).put((byte) 0).put(statement);
+        return data.array();
+    }
+
+    private byte[] event(EventType type, byte[] data) {
+        final int length = 19 + data.length;
+        final ByteBuffer event = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        // timestamp, type, server id, event length, next position, flags
+        event.putInt(1_600_000_000).put((byte) typeCode(type)).putInt(1).putInt(length).putInt(content.size() + length).putShort((short) 0);
+        event.put(data);
+        return event.array();
+    }
+
+    private static int typeCode(EventType type) {
+        switch (type) {
+            case QUERY:
+                return 2;
+            case ROTATE:
+                return 4;
+            default:
+                throw new IllegalArgumentException(type.toString());
+        }
+    }
+}
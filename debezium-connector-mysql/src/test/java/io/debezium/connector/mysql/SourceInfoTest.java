@@ -656,6 +656,52 @@ public void shouldComparePositionsWithDifferentFields() {
         assertThatDocument(history).isAtOrBefore(current, (uuid) -> !excludes.contains(uuid));
     }
 
+    @Test
+    public void shouldStoreGtidSetRelativeToBaseGtidSet() {
+        final String uuid1 = "036d85a9-64e5-11e6-9b48-42010af0000c";
+        final String uuid2 = "7145bf69-d1ca-11e5-a588-0242ac110004";
+        final String uuid3 = "7c1de3f2-3fd2-11e6-9cdc-42010af000bc";
+        final String uuid4 = "96c2072e-e428-11e6-9590-42010a28002d";
+        final String baseGtidSet = uuid1 + ":1-10," + uuid2 + ":1-5," + uuid3 + ":1-7," + uuid4 + ":1-3";
+        sourceWith(offset(baseGtidSet, 100, 0, false));
+
+        GtidSet gtidSet = new GtidSet(baseGtidSet).with(uuid4 + ":4");
+        source.startGtid(uuid4 + ":4", gtidSet);
+        source.commitTransaction();
+        Map<String, ?> offset = source.offset();
+        assertThat(offset.get(SourceInfo.GTID_SET_KEY)).isEqualTo(baseGtidSet);
+        assertThat(offset.get(SourceInfo.GTID_SET_DELTA_KEY)).isEqualTo(uuid4 + ":1-4");
+        assertThat(source.gtidSet()).isEqualTo(uuid1 + ":1-10," + uuid2 + ":1-5," + uuid3 + ":1-7," + uuid4 + ":1-4");
+
+        // the complete GTID set is restored from the base GTID set and the changed UUID sets
+        final SourceInfo restored = new SourceInfo(new MySqlConnectorConfig(Configuration.create()
+                .with(MySqlConnectorConfig.SERVER_NAME, SERVER_NAME)
+                .build()));
+        restored.setOffset(offset);
+        assertThat(restored.gtidSet()).isEqualTo(source.gtidSet());
+        assertThat(restored.offset().get(SourceInfo.GTID_SET_KEY)).isEqualTo(baseGtidSet);
+        assertThat(restored.offset().get(SourceInfo.GTID_SET_DELTA_KEY)).isEqualTo(uuid4 + ":1-4");
+
+        // the base GTID set is replaced once the UUID sets of more than a quarter of the servers changed
+        gtidSet = gtidSet.with(uuid3 + ":8");
+        source.startGtid(uuid3 + ":8", gtidSet);
+        source.commitTransaction();
+        offset = source.offset();
+        assertThat(offset.get(SourceInfo.GTID_SET_KEY)).isEqualTo(gtidSet.toString());
+        assertThat(offset.get(SourceInfo.GTID_SET_DELTA_KEY)).isNull();
+    }
+
+    @Test
+    public void shouldComparePositionsWithChangedUuidSets() {
+        final String uuid1 = "036d85a9-64e5-11e6-9b48-42010af0000c";
+        final String uuid2 = "7145bf69-d1ca-11e5-a588-0242ac110004";
+        final Document recorded = Document.create(SourceInfo.GTID_SET_KEY, uuid1 + ":1-10," + uuid2 + ":1-5",
+                SourceInfo.GTID_SET_DELTA_KEY, uuid2 + ":1-6");
+        assertThatDocument(recorded).isAtOrBefore(positionWithGtids(uuid1 + ":1-10," + uuid2 + ":1-6"));
+        assertThatDocument(recorded).isAtOrBefore(positionWithGtids(uuid1 + ":1-10," + uuid2 + ":1-7"));
+        assertThatDocument(recorded).isAfter(positionWithGtids(uuid1 + ":1-10," + uuid2 + ":1-5"));
+    }
+
     @FixFor("DBZ-107")
     @Test
     public void shouldRemoveNewlinesFromGtidSet() {
@@ -11,6 +11,7 @@
 import java.util.function.Predicate;
 
 import io.debezium.annotation.Immutable;
+import io.debezium.function.Predicates;
 import io.debezium.relational.Selectors;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables.ColumnNameFilter;
@@ -56,12 +57,13 @@ public Filters(PostgresConnectorConfig config) {
         }
 
         // Define the filter using the include/exclude lists for table names ...
-        this.tableFilter = TableFilter.fromPredicate(Selectors.tableSelector()
+        // and remember the decision for each table, as the filter is evaluated for every change event
+        this.tableFilter = TableFilter.fromPredicate(Predicates.memoize(Selectors.tableSelector()
                 .includeTables(config.tableIncludeList())
                 .excludeTables(tableExcludeList)
                 .includeSchemas(config.schemaIncludeList())
                 .excludeSchemas(schemaExcludeList)
-                .build());
+                .build()));
 
         String columnIncludeList = config.columnIncludeList();
         if (columnIncludeList != null) {
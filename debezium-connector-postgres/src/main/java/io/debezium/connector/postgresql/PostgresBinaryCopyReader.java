@@ -0,0 +1,298 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGStatement;
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.util.PGobject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalSnapshotChangeEventSource.SnapshotRowReader;
+import io.debezium.relational.Table;
+import io.debezium.util.ColumnUtils;
+
+/**
+ * Reads the rows of a snapshot query via {@code COPY (...) TO STDOUT (FORMAT binary)}, decoding the binary values
+ * into the same Java types as {@link PostgresSnapshotChangeEventSource#readColumnValue} obtains them via JDBC, so they
+ * are converted alike. This avoids rendering the values as text on the server and parsing them again in the driver.
+ * <p>
+ * Only tables whose columns all have a type with a known binary format can be read this way.
+ */
+class PostgresBinaryCopyReader implements SnapshotRowReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresBinaryCopyReader.class);
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 };
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime POSTGRES_EPOCH = POSTGRES_EPOCH_DATE.atStartOfDay();
+    private static final Instant POSTGRES_EPOCH_INSTANT = Instant.parse("2000-01-01T00:00:00Z");
+
+    private final DataInputStream input;
+    private final Column[] columns;
+    private final int[] typeOids;
+    private final int rowLength;
+    private byte[] buffer = new byte[256];
+    private boolean headerRead;
+    private boolean completed;
+
+    PostgresBinaryCopyReader(InputStream input, ColumnUtils.ColumnArray columnArray, int[] typeOids) {
+        this.input = new DataInputStream(input instanceof BufferedInputStream ? input : new BufferedInputStream(input, BUFFER_SIZE));
+        this.columns = columnArray.getColumns();
+        this.typeOids = typeOids;
+        this.rowLength = columnArray.getGreatestColumnPosition();
+    }
+
+    /**
+     * Starts reading the rows of the given query via {@code COPY}.
+     *
+     * @return the reader or empty if the query returns a column of a type that cannot be decoded
+     */
+    static Optional<SnapshotRowReader> open(JdbcConnection connection, Table table, String selectStatement, TypeRegistry typeRegistry)
+            throws SQLException {
+        final ColumnUtils.ColumnArray columnArray;
+        final int[] typeOids;
+        try (PreparedStatement statement = connection.connection().prepareStatement(selectStatement)) {
+            // only describes the query, it isn't executed
+            final ResultSetMetaData metaData = statement.getMetaData();
+            if (metaData == null) {
+                return Optional.empty();
+            }
+            typeOids = new int[metaData.getColumnCount()];
+            for (int i = 0; i < typeOids.length; i++) {
+                final PostgresType type = typeRegistry.get(metaData.getColumnTypeName(i + 1));
+                if (type.isArrayType() || !isSupported(type.getOid())) {
+                    LOGGER.info("\t Column '{}' of table '{}' has type '{}' that is not read in binary format, using a SELECT query", metaData.getColumnName(i + 1),
+                            table.id(), type.getName());
+                    return Optional.empty();
+                }
+                typeOids[i] = type.getOid();
+            }
+            columnArray = ColumnUtils.toArray(metaData, table);
+        }
+
+        final String copyStatement = "COPY (" + selectStatement + ") TO STDOUT (FORMAT binary)";
+        LOGGER.debug("\t Reading table '{}' using statement '{}'", table.id(), copyStatement);
+        final PGCopyInputStream copyStream = new PGCopyInputStream(connection.connection().unwrap(PGConnection.class), copyStatement);
+        return Optional.of(new PostgresBinaryCopyReader(new BufferedInputStream(copyStream, BUFFER_SIZE), columnArray, typeOids));
+    }
+
+    static boolean isSupported(int typeOid) {
+        switch (typeOid) {
+            case PgOid.BOOL:
+            case PgOid.INT2:
+            case PgOid.INT4:
+            case PgOid.INT8:
+            case PgOid.OID:
+            case PgOid.FLOAT4:
+            case PgOid.FLOAT8:
+            case PgOid.NUMERIC:
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.NAME:
+            case PgOid.BYTEA:
+            case PgOid.UUID:
+            case PgOid.JSON:
+            case PgOid.JSONB_OID:
+            case PgOid.DATE:
+            case PgOid.TIME:
+            case PgOid.TIMESTAMP:
+            case PgOid.TIMESTAMPTZ:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public Object[] next() throws SQLException {
+        if (completed) {
+            return null;
+        }
+        try {
+            if (!headerRead) {
+                readHeader();
+                headerRead = true;
+            }
+            final short fieldCount = input.readShort();
+            if (fieldCount == -1) {
+                completed = true;
+                return null;
+            }
+            if (fieldCount != columns.length) {
+                throw new SQLException("Expected " + columns.length + " fields in COPY row but got " + fieldCount);
+            }
+            final Object[] row = new Object[rowLength];
+            for (int i = 0; i < columns.length; i++) {
+                final int length = input.readInt();
+                if (length == -1) {
+                    continue;
+                }
+                if (buffer.length < length) {
+                    buffer = new byte[Math.max(length, buffer.length * 2)];
+                }
+                input.readFully(buffer, 0, length);
+                row[columns[i].position() - 1] = decode(typeOids[i], buffer, length);
+            }
+            return row;
+        }
+        catch (EOFException e) {
+            throw new SQLException("Unexpected end of COPY data", e);
+        }
+        catch (IOException e) {
+            throw new SQLException("Failed to read COPY data", e);
+        }
+    }
+
+    private void readHeader() throws IOException, SQLException {
+        final byte[] signature = new byte[SIGNATURE.length];
+        input.readFully(signature);
+        if (!Arrays.equals(SIGNATURE, signature)) {
+            throw new SQLException("Invalid binary COPY signature");
+        }
+        final int flags = input.readInt();
+        if ((flags & (1 << 16)) != 0) {
+            throw new SQLException("Binary COPY data with OIDs is not supported");
+        }
+        final int extensionLength = input.readInt();
+        input.skipBytes(extensionLength);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            // cancels the COPY if not all rows have been read
+            input.close();
+        }
+        catch (IOException e) {
+            throw new SQLException("Failed to close COPY stream", e);
+        }
+    }
+
+    /**
+     * Decodes a value in the binary format of the given type.
+     */
+    static Object decode(int typeOid, byte[] bytes, int length) throws SQLException {
+        switch (typeOid) {
+            case PgOid.BOOL:
+                return bytes[0] != 0;
+            case PgOid.INT2:
+                return (int) getShort(bytes, 0);
+            case PgOid.INT4:
+                return getInt(bytes, 0);
+            case PgOid.INT8:
+                return getLong(bytes, 0);
+            case PgOid.OID:
+                return getInt(bytes, 0) & 0xFFFFFFFFL;
+            case PgOid.FLOAT4:
+                return Float.intBitsToFloat(getInt(bytes, 0));
+            case PgOid.FLOAT8:
+                return Double.longBitsToDouble(getLong(bytes, 0));
+            case PgOid.NUMERIC:
+                return PostgresBinaryFormat.decodeNumeric(ByteBuffer.wrap(bytes, 0, length));
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.NAME:
+                return new String(bytes, 0, length, StandardCharsets.UTF_8);
+            case PgOid.BYTEA:
+                return Arrays.copyOf(bytes, length);
+            case PgOid.UUID:
+                return new UUID(getLong(bytes, 0), getLong(bytes, 8));
+            case PgOid.JSON:
+                return pgObject("json", new String(bytes, 0, length, StandardCharsets.UTF_8));
+            case PgOid.JSONB_OID:
+                // the first byte is the version of the jsonb format, followed by the text
+                return pgObject("jsonb", new String(bytes, 1, length - 1, StandardCharsets.UTF_8));
+            case PgOid.DATE:
+                return decodeDate(getInt(bytes, 0));
+            case PgOid.TIME:
+                return PostgresBinaryFormat.decodeTime(getLong(bytes, 0));
+            case PgOid.TIMESTAMP:
+                return decodeTimestamp(getLong(bytes, 0));
+            case PgOid.TIMESTAMPTZ:
+                return decodeTimestampWithTimeZone(getLong(bytes, 0));
+            default:
+                throw new SQLException("Binary format of type with OID " + typeOid + " is not supported");
+        }
+    }
+
+    private static Date decodeDate(int days) {
+        if (days == Integer.MAX_VALUE) {
+            return new Date(PGStatement.DATE_POSITIVE_INFINITY);
+        }
+        if (days == Integer.MIN_VALUE) {
+            return new Date(PGStatement.DATE_NEGATIVE_INFINITY);
+        }
+        return Date.valueOf(POSTGRES_EPOCH_DATE.plusDays(days));
+    }
+
+    private static Timestamp decodeTimestamp(long micros) {
+        if (micros == Long.MAX_VALUE) {
+            return new Timestamp(PGStatement.DATE_POSITIVE_INFINITY);
+        }
+        if (micros == Long.MIN_VALUE) {
+            return new Timestamp(PGStatement.DATE_NEGATIVE_INFINITY);
+        }
+        // the local date and time, interpreted in the default time zone like the JDBC driver does
+        return Timestamp.valueOf(POSTGRES_EPOCH.plus(micros, ChronoUnit.MICROS));
+    }
+
+    private static Timestamp decodeTimestampWithTimeZone(long micros) {
+        if (micros == Long.MAX_VALUE) {
+            return new Timestamp(PGStatement.DATE_POSITIVE_INFINITY);
+        }
+        if (micros == Long.MIN_VALUE) {
+            return new Timestamp(PGStatement.DATE_NEGATIVE_INFINITY);
+        }
+        return Timestamp.from(POSTGRES_EPOCH_INSTANT.plus(micros, ChronoUnit.MICROS));
+    }
+
+    private static PGobject pgObject(String type, String value) throws SQLException {
+        final PGobject object = new PGobject();
+        object.setType(type);
+        object.setValue(value);
+        return object;
+    }
+
+    private static short getShort(byte[] bytes, int offset) {
+        return (short) (((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF));
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16) | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        return ((long) getInt(bytes, offset) << 32) | (getInt(bytes, offset + 4) & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import io.debezium.data.SpecialValueDecimal;
+
+/**
+ * Decoding of values in the binary format of the database, as sent by the {@code *send} functions of the types, which
+ * is shared by reading snapshots via binary {@code COPY} and by streaming changes from pgoutput in binary mode.
+ */
+public final class PostgresBinaryFormat {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_POSITIVE_INFINITY = 0xD000;
+    private static final int NUMERIC_NEGATIVE_INFINITY = 0xF000;
+
+    private PostgresBinaryFormat() {
+    }
+
+    /**
+     * Decodes a {@code numeric} value starting at the current position of the given buffer.
+     */
+    public static SpecialValueDecimal decodeNumeric(ByteBuffer buffer) {
+        final int digitCount = buffer.getShort();
+        final int weight = buffer.getShort();
+        final int sign = buffer.getShort() & 0xFFFF;
+        final int scale = buffer.getShort();
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_POSITIVE_INFINITY:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NEGATIVE_INFINITY:
+                return SpecialValueDecimal.NEGATIVE_INF;
+        }
+
+        // the digits are in base 10000, the first one multiplied by 10000^weight
+        BigInteger unscaled = BigInteger.ZERO;
+        long digits = 0;
+        int pending = 0;
+        for (int i = 0; i < digitCount; i++) {
+            digits = digits * 10_000 + buffer.getShort();
+            if (++pending == 4) {
+                unscaled = unscaled.multiply(BigInteger.TEN.pow(16)).add(BigInteger.valueOf(digits));
+                digits = 0;
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            unscaled = unscaled.multiply(BigInteger.TEN.pow(4 * pending)).add(BigInteger.valueOf(digits));
+        }
+        if (sign == NUMERIC_NEGATIVE) {
+            unscaled = unscaled.negate();
+        }
+        final int exponent = 4 * (weight - digitCount + 1);
+        // digits beyond the display scale are always zero, so no rounding takes place
+        final BigDecimal value = new BigDecimal(unscaled, -exponent).setScale(scale);
+        return new SpecialValueDecimal(value);
+    }
+
+    /**
+     * Renders a time like the text output of the database, as TIME values are read as strings to support 24:00:00.
+     *
+     * @param micros the microseconds since midnight
+     */
+    public static String decodeTime(long micros) {
+        final long seconds = micros / MICROS_PER_SECOND;
+        final long fraction = micros % MICROS_PER_SECOND;
+        final StringBuilder time = new StringBuilder(15);
+        appendTwoDigits(time, seconds / 3600).append(':');
+        appendTwoDigits(time, (seconds / 60) % 60).append(':');
+        appendTwoDigits(time, seconds % 60);
+        if (fraction != 0) {
+            final String digits = Long.toString(MICROS_PER_SECOND + fraction).substring(1);
+            int end = digits.length();
+            while (digits.charAt(end - 1) == '0') {
+                end--;
+            }
+            time.append('.').append(digits, 0, end);
+        }
+        return time.toString();
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, long value) {
+        if (value < 10) {
+            builder.append('0');
+        }
+        return builder.append(value);
+    }
+}
@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.postgresql;
 
+import java.util.Optional;
+
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
@@ -13,11 +15,13 @@
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.ChangeEventSourceFactory;
+import io.debezium.pipeline.source.spi.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionId;
 import io.debezium.util.Clock;
 
 public class PostgresChangeEventSourceFactory implements ChangeEventSourceFactory {
@@ -62,6 +66,7 @@ public SnapshotChangeEventSource getSnapshotChangeEventSource(OffsetContext offs
                 dispatcher,
                 clock,
                 snapshotProgressListener,
+                taskContext.getSnapshotRateLimiter(),
                 slotCreatedInfo,
                 startingSlotInfo);
     }
@@ -80,4 +85,17 @@ public StreamingChangeEventSource getStreamingChangeEventSource(OffsetContext of
                 taskContext,
                 replicationConnection);
     }
+
+    @Override
+    public Optional<IncrementalSnapshotChangeEventSource<? extends DataCollectionId>> getIncrementalSnapshotChangeEventSource(OffsetContext offsetContext) {
+        if (configuration.getSignalingDataCollectionId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new PostgresIncrementalSnapshotChangeEventSource(
+                configuration,
+                jdbcConnection,
+                dispatcher,
+                schema,
+                clock));
+    }
 }
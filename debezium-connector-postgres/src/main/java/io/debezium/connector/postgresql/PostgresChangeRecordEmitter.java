@@ -52,6 +52,8 @@ public class PostgresChangeRecordEmitter extends RelationalChangeRecordEmitter {
     private final boolean unchangedToastColumnMarkerMissing;
     private final boolean nullToastedValuesMissingFromOld;
     private final Map<String, Object> cachedOldToastedValues = new HashMap<>();
+    private final ToastedValueCache toastedValueCache;
+    private Object[] oldColumnValues;
 
     public PostgresChangeRecordEmitter(OffsetContext offset, Clock clock, PostgresConnectorConfig connectorConfig, PostgresSchema schema, PostgresConnection connection,
                                        ReplicationMessage message) {
@@ -65,6 +67,7 @@ public PostgresChangeRecordEmitter(OffsetContext offset, Clock clock, PostgresCo
         this.tableId = PostgresSchema.parse(message.getTable());
         this.unchangedToastColumnMarkerMissing = !connectorConfig.plugin().hasUnchangedToastColumnMarker();
         this.nullToastedValuesMissingFromOld = !connectorConfig.plugin().sendsNullToastedValuesInOld();
+        this.toastedValueCache = schema.getToastedValueCache();
         Objects.requireNonNull(tableId);
     }
 
@@ -84,10 +87,18 @@ protected Operation getOperation() {
 
     @Override
     public void emitChangeRecords(DataCollectionSchema schema, Receiver receiver) throws InterruptedException {
-        schema = synchronizeTableSchema(schema);
+        if (!isPrepared()) {
+            schema = synchronizeTableSchema(schema);
+        }
         super.emitChangeRecords(schema, receiver);
     }
 
+    @Override
+    public DataCollectionSchema prepareForConcurrentEmission(DataCollectionSchema schema) {
+        // the schema refresh may access the database and must happen before the column values are read
+        return super.prepareForConcurrentEmission(synchronizeTableSchema(schema));
+    }
+
     @Override
     protected Object[] getOldColumnValues() {
         try {
@@ -95,9 +106,15 @@ protected Object[] getOldColumnValues() {
                 case CREATE:
                     return null;
                 case UPDATE:
-                    return columnValues(message.getOldTupleList(), tableId, true, message.hasTypeMetadata(), true, true);
+                    oldColumnValues = columnValues(message.getOldTupleList(), tableId, true, message.hasTypeMetadata(), true, true);
+                    return applyToastedValueCache(oldColumnValues, false);
                 default:
-                    return columnValues(message.getOldTupleList(), tableId, true, message.hasTypeMetadata(), false, true);
+                    final Object[] values = columnValues(message.getOldTupleList(), tableId, true, message.hasTypeMetadata(), false, true);
+                    applyToastedValueCache(values, false);
+                    if (toastedValueCache.isEnabled() && values != null) {
+                        toastedValueCache.remove(schema.tableFor(tableId), values);
+                    }
+                    return values;
             }
         }
         catch (SQLException e) {
@@ -110,9 +127,9 @@ protected Object[] getNewColumnValues() {
         try {
             switch (getOperation()) {
                 case CREATE:
-                    return columnValues(message.getNewTupleList(), tableId, true, message.hasTypeMetadata(), false, false);
+                    return applyToastedValueCache(columnValues(message.getNewTupleList(), tableId, true, message.hasTypeMetadata(), false, false), true);
                 case UPDATE:
-                    return columnValues(message.getNewTupleList(), tableId, true, message.hasTypeMetadata(), false, false);
+                    return applyToastedValueCache(columnValues(message.getNewTupleList(), tableId, true, message.hasTypeMetadata(), false, false), true);
                 default:
                     return null;
             }
@@ -122,6 +139,26 @@ protected Object[] getNewColumnValues() {
         }
     }
 
+    /**
+     * Fills in unchanged TOASTed values remembered from previous changes of the row and, for new values, remembers
+     * the values of the toastable columns for subsequent changes.
+     */
+    private Object[] applyToastedValueCache(Object[] values, boolean newValues) {
+        if (!toastedValueCache.isEnabled() || values == null) {
+            return values;
+        }
+        final Table table = schema.tableFor(tableId);
+        toastedValueCache.fill(table, values);
+        if (newValues) {
+            if (toastedValueCache.isKeyChanged(table, oldColumnValues, values)) {
+                toastedValueCache.remove(table, oldColumnValues);
+            }
+            schema.ensureToastableColumns(connection, tableId);
+            toastedValueCache.put(table, schema.getToastableColumnsForTableId(tableId), values);
+        }
+        return values;
+    }
+
     private DataCollectionSchema synchronizeTableSchema(DataCollectionSchema tableSchema) {
         final boolean metadataInMessage = message.hasTypeMetadata();
         final TableId tableId = (TableId) tableSchema.id();
@@ -134,6 +171,8 @@ private DataCollectionSchema synchronizeTableSchema(DataCollectionSchema tableSc
         if (schemaChanged(columns, table, metadataInMessage)) {
             // Refresh the schema so we get information about primary keys
             refreshTableFromDatabase(tableId);
+            // remembered values may not match the changed columns
+            schema.getToastedValueCache().remove(tableId);
             // Update the schema with metadata coming from decoder message
             if (metadataInMessage) {
                 schema.refresh(tableFromFromMessage(columns, schema.tableFor(tableId)));
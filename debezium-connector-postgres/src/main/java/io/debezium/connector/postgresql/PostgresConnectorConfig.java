@@ -6,6 +6,8 @@
 
 package io.debezium.connector.postgresql;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -850,6 +852,17 @@ public static AutoCreateMode parse(String value, String defaultValue) {
             .withDescription("Frequency in milliseconds for sending replication connection status updates to the server. Defaults to 10 seconds (10000 ms).")
             .withValidation(Field::isPositiveInteger);
 
+    public static final Field REPLICATION_BUFFER_SIZE = Field.create("replication.buffer.size")
+            .withDisplayName("Replication buffer size")
+            .withType(Type.INT)
+            .withDefault(0)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of messages received from the replication stream that are buffered while they wait to be decoded. "
+                    + "If positive, messages are read from the server on a separate thread, which keeps sending status updates while decoding is slow. "
+                    + "Defaults to 0, i.e. messages are read and decoded on the same thread.")
+            .withValidation(Field::isNonNegativeInteger);
+
     public static final Field TCP_KEEPALIVE = Field.create(DATABASE_CONFIG_PREFIX + "tcpKeepAlive")
             .withDisplayName("TCP keep-alive probe")
             .withType(Type.BOOLEAN)
@@ -883,6 +896,58 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                     "have TOASTed data that are rarely part of these updates. However, it is possible for the in-memory schema to " +
                     "become outdated if TOASTable columns are dropped from the table.");
 
+    public static final Field SNAPSHOT_COPY_BINARY = Field.create("snapshot.copy.binary")
+            .withDisplayName("Read snapshot via binary COPY")
+            .withType(Type.BOOLEAN)
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether tables are read during snapshots via 'COPY ... TO STDOUT (FORMAT binary)' rather than via a SELECT query, "
+                    + "which avoids formatting and parsing the values as text. Tables with columns of types whose binary format is not "
+                    + "supported (e.g. arrays, geometric or user-defined types) are still read via a SELECT query.")
+            .withValidation(Field::isBoolean);
+
+    public static final Field PGOUTPUT_BINARY = Field.create("pgoutput.binary")
+            .withDisplayName("Receive pgoutput values in binary format")
+            .withType(Type.BOOLEAN)
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the values of changed rows are received from the pgoutput plugin in binary rather than text format "
+                    + "(PostgreSQL 14+), which avoids formatting and parsing the values as text. Text format is used if the server "
+                    + "does not support it or if a published table has a column of a type whose binary format is not supported "
+                    + "(e.g. arrays, geometric or user-defined types other than enums and domains).")
+            .withValidation(Field::isBoolean);
+
+    public static final Field PGOUTPUT_STREAMING = Field.create("pgoutput.streaming")
+            .withDisplayName("Receive in-progress transactions from pgoutput")
+            .withType(Type.BOOLEAN)
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether large transactions are received from the pgoutput plugin while they are still in progress "
+                    + "(protocol version 2, PostgreSQL 14+), rather than only after they have been committed. Their changes are "
+                    + "buffered by the connector and emitted once the transaction is committed, or discarded if it is aborted.")
+            .withValidation(Field::isBoolean);
+
+    public static final Field PGOUTPUT_STREAMING_BUFFER_SIZE = Field.create("pgoutput.streaming.buffer.size")
+            .withDisplayName("In-progress transactions buffer size (bytes)")
+            .withType(Type.LONG)
+            .withDefault(64L * 1024 * 1024)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of bytes of changes of in-progress transactions (see '" + PGOUTPUT_STREAMING.name()
+                    + "') that are held in memory. Further changes are written to disk until their transactions are committed or aborted.")
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_DIRECTORY = Field.create("pgoutput.streaming.spill.directory")
+            .withDisplayName("In-progress transactions spill directory")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory in which the changes of in-progress transactions that don't fit into the buffer (see '"
+                    + PGOUTPUT_STREAMING_BUFFER_SIZE.name() + "') are stored. Defaults to the temporary directory of the JVM.");
+
     public static final Field XMIN_FETCH_INTERVAL = Field.create("xmin.fetch.interval.ms")
             .withDisplayName("Xmin fetch interval (ms)")
             .withType(Type.LONG)
@@ -906,6 +971,18 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                     "the original value is a toasted value not provided by the database. " +
                     "If starts with 'hex:' prefix it is expected that the rest of the string repesents hexadecimally encoded octets.");
 
+    public static final Field TOASTED_VALUE_CACHE_SIZE = Field.create("toasted.value.cache.size.bytes")
+            .withDisplayName("Toasted value cache size (bytes)")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withDefault(0L)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum approximate size in bytes of the last seen values of toastable columns that are remembered per table and "
+                    + "primary key, in order to provide unchanged toasted values in change events instead of the '" + TOASTED_VALUE_PLACEHOLDER.name() + "'. "
+                    + "The values are taken from the initial snapshot, inserts and updates; the least recently used rows are evicted first. "
+                    + "Defaults to 0, which disables the cache.")
+            .withValidation(Field::isNonNegativeLong);
+
     private final HStoreHandlingMode hStoreHandlingMode;
     private final IntervalHandlingMode intervalHandlingMode;
     private final SnapshotMode snapshotMode;
@@ -978,6 +1055,10 @@ protected Duration statusUpdateInterval() {
         return Duration.ofMillis(getConfig().getLong(PostgresConnectorConfig.STATUS_UPDATE_INTERVAL_MS));
     }
 
+    protected int replicationBufferSize() {
+        return getConfig().getInteger(REPLICATION_BUFFER_SIZE);
+    }
+
     protected HStoreHandlingMode hStoreHandlingMode() {
         return hStoreHandlingMode;
     }
@@ -1006,6 +1087,27 @@ protected boolean skipRefreshSchemaOnMissingToastableData() {
         return SchemaRefreshMode.COLUMNS_DIFF_EXCLUDE_UNCHANGED_TOAST == this.schemaRefreshMode;
     }
 
+    public boolean snapshotCopyBinary() {
+        return getConfig().getBoolean(SNAPSHOT_COPY_BINARY);
+    }
+
+    public boolean pgoutputBinary() {
+        return getConfig().getBoolean(PGOUTPUT_BINARY);
+    }
+
+    public boolean pgoutputStreaming() {
+        return getConfig().getBoolean(PGOUTPUT_STREAMING);
+    }
+
+    public long pgoutputStreamingBufferSize() {
+        return getConfig().getLong(PGOUTPUT_STREAMING_BUFFER_SIZE);
+    }
+
+    public Path pgoutputStreamingSpillDirectory() {
+        final String directory = getConfig().getString(PGOUTPUT_STREAMING_SPILL_DIRECTORY);
+        return Paths.get(directory != null ? directory : System.getProperty("java.io.tmpdir"));
+    }
+
     protected Duration xminFetchInterval() {
         return Duration.ofMillis(getConfig().getLong(PostgresConnectorConfig.XMIN_FETCH_INTERVAL));
     }
@@ -1018,6 +1120,10 @@ protected byte[] toastedValuePlaceholder() {
         return placeholder.getBytes();
     }
 
+    protected long toastedValueCacheSize() {
+        return getConfig().getLong(TOASTED_VALUE_CACHE_SIZE);
+    }
+
     @Override
     protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStructMaker(Version version) {
         switch (version) {
@@ -1052,19 +1158,26 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     RETRY_DELAY_MS,
                     SSL_SOCKET_FACTORY,
                     STATUS_UPDATE_INTERVAL_MS,
+                    REPLICATION_BUFFER_SIZE,
                     TCP_KEEPALIVE,
                     XMIN_FETCH_INTERVAL)
             .events(
                     INCLUDE_UNKNOWN_DATATYPES,
                     DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY,
-                    TOASTED_VALUE_PLACEHOLDER)
+                    TOASTED_VALUE_PLACEHOLDER,
+                    TOASTED_VALUE_CACHE_SIZE)
             .connector(
                     SNAPSHOT_MODE,
                     SNAPSHOT_MODE_CLASS,
                     HSTORE_HANDLING_MODE,
                     BINARY_HANDLING_MODE,
                     INTERVAL_HANDLING_MODE,
-                    SCHEMA_REFRESH_MODE)
+                    SCHEMA_REFRESH_MODE,
+                    SNAPSHOT_COPY_BINARY,
+                    PGOUTPUT_BINARY,
+                    PGOUTPUT_STREAMING,
+                    PGOUTPUT_STREAMING_BUFFER_SIZE,
+                    PGOUTPUT_STREAMING_SPILL_DIRECTORY)
             .excluding(INCLUDE_SCHEMA_CHANGES)
             .create();
 
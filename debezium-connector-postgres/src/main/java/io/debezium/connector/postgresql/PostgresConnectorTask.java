@@ -24,15 +24,16 @@
 import io.debezium.connector.common.BaseSourceTask;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.connector.postgresql.metrics.PostgresChangeEventSourceMetricsFactory;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.SlotState;
 import io.debezium.connector.postgresql.spi.Snapshotter;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.DataChangeEventSpillCodec;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
-import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
 import io.debezium.relational.TableId;
 import io.debezium.schema.TopicSelector;
 import io.debezium.util.Clock;
@@ -146,8 +147,14 @@ public ChangeEventSourceCoordinator start(Configuration config) {
 
             queue = new ChangeEventQueue.Builder<DataChangeEvent>()
                     .pollInterval(connectorConfig.getPollInterval())
+                    .maxLinger(connectorConfig.getPollLinger())
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .spillDirectory(connectorConfig.getQueueSpillDirectory())
+                    .spillSegmentSize(connectorConfig.getQueueSpillSegmentSizeInBytes())
+                    .maxSpillSizeInBytes(connectorConfig.getMaxQueueSpillSizeInBytes())
+                    .spillCodec(new DataChangeEventSpillCodec())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -187,7 +194,7 @@ public ChangeEventSourceCoordinator start(Configuration config) {
                             replicationConnection,
                             slotCreatedInfo,
                             slotInfo),
-                    new DefaultChangeEventSourceMetricsFactory(),
+                    new PostgresChangeEventSourceMetricsFactory(replicationConnection, schema.getToastedValueCache()),
                     dispatcher,
                     schema,
                     snapshotter,
@@ -257,6 +264,10 @@ protected void doStop() {
         if (schema != null) {
             schema.close();
         }
+
+        if (queue != null) {
+            queue.close();
+        }
     }
 
     @Override
@@ -0,0 +1,35 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.snapshot.incremental.SignalBasedIncrementalSnapshotChangeEventSource;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+
+/**
+ * Reads incremental snapshot chunks with the same value handling as the initial snapshot.
+ */
+public class PostgresIncrementalSnapshotChangeEventSource extends SignalBasedIncrementalSnapshotChangeEventSource {
+
+    private final PostgresSchema schema;
+
+    public PostgresIncrementalSnapshotChangeEventSource(PostgresConnectorConfig connectorConfig, PostgresConnection jdbcConnection,
+                                                        EventDispatcher<TableId> dispatcher, PostgresSchema schema, Clock clock) {
+        super(connectorConfig, jdbcConnection, dispatcher, schema, clock);
+        this.schema = schema;
+    }
+
+    @Override
+    protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+        return PostgresSnapshotChangeEventSource.readColumnValue(rs, columnIndex, schema);
+    }
+}
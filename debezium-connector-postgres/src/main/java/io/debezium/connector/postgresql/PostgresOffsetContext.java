@@ -8,7 +8,6 @@
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.connect.data.Schema;
@@ -21,12 +20,15 @@
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.spi.OffsetState;
+import io.debezium.pipeline.source.SnapshotCheckpoint;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
 import io.debezium.relational.TableId;
 import io.debezium.schema.DataCollectionId;
 import io.debezium.time.Conversions;
 import io.debezium.util.Clock;
+import io.debezium.util.CompactMap;
 
 public class PostgresOffsetContext implements OffsetContext {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSnapshotChangeEventSource.class);
@@ -43,10 +45,17 @@ public class PostgresOffsetContext implements OffsetContext {
     private Lsn lastCommitLsn;
     private Lsn streamingStoppingLsn = null;
     private final TransactionContext transactionContext;
+    private final SnapshotCheckpoint snapshotCheckpoint;
+    private final IncrementalSnapshotContext incrementalSnapshotContext;
+    /**
+     * The last offset, whose keys are shared by the next one if they are the same.
+     */
+    private CompactMap<Object> lastOffset;
 
     private PostgresOffsetContext(PostgresConnectorConfig connectorConfig, Lsn lsn, Lsn lastCompletelyProcessedLsn, Lsn lastCommitLsn, Long txId, Instant time,
                                   boolean snapshot,
-                                  boolean lastSnapshotRecord, TransactionContext transactionContext) {
+                                  boolean lastSnapshotRecord, TransactionContext transactionContext, SnapshotCheckpoint snapshotCheckpoint,
+                                  IncrementalSnapshotContext incrementalSnapshotContext) {
         partition = Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
         sourceInfo = new SourceInfo(connectorConfig);
 
@@ -63,6 +72,8 @@ private PostgresOffsetContext(PostgresConnectorConfig connectorConfig, Lsn lsn,
             sourceInfo.setSnapshot(snapshot ? SnapshotRecord.TRUE : SnapshotRecord.FALSE);
         }
         this.transactionContext = transactionContext;
+        this.snapshotCheckpoint = snapshotCheckpoint;
+        this.incrementalSnapshotContext = incrementalSnapshotContext;
     }
 
     @Override
@@ -72,7 +83,7 @@ private PostgresOffsetContext(PostgresConnectorConfig connectorConfig, Lsn lsn,
 
     @Override
     public Map<String, ?> getOffset() {
-        Map<String, Object> result = new HashMap<>();
+        final CompactMap.Builder<Object> result = CompactMap.builder(lastOffset);
         if (sourceInfo.timestamp() != null) {
             result.put(SourceInfo.TIMESTAMP_USEC_KEY, Conversions.toEpochMicros(sourceInfo.timestamp()));
         }
@@ -95,7 +106,10 @@ private PostgresOffsetContext(PostgresConnectorConfig connectorConfig, Lsn lsn,
         if (lastCommitLsn != null) {
             result.put(LAST_COMMIT_LSN_KEY, lastCommitLsn.asLong());
         }
-        return sourceInfo.isSnapshot() ? result : transactionContext.store(result);
+        final CompactMap<Object> offset = sourceInfo.isSnapshot() ? snapshotCheckpoint.store(result).build()
+                : incrementalSnapshotContext.store(transactionContext.store(result)).build();
+        lastOffset = offset;
+        return offset;
     }
 
     @Override
@@ -213,7 +227,7 @@ public OffsetContext load(Map<String, ?> offset) {
             final boolean snapshot = (boolean) ((Map<String, Object>) offset).getOrDefault(SourceInfo.SNAPSHOT_KEY, Boolean.FALSE);
             final boolean lastSnapshotRecord = (boolean) ((Map<String, Object>) offset).getOrDefault(SourceInfo.LAST_SNAPSHOT_RECORD_KEY, Boolean.FALSE);
             return new PostgresOffsetContext(connectorConfig, lsn, lastCompletelyProcessedLsn, lastCommitLsn, txId, useconds, snapshot, lastSnapshotRecord,
-                    TransactionContext.load(offset));
+                    TransactionContext.load(offset), SnapshotCheckpoint.load(offset), IncrementalSnapshotContext.load(offset));
         }
     }
 
@@ -222,7 +236,8 @@ public String toString() {
         return "PostgresOffsetContext [sourceInfoSchema=" + sourceInfoSchema + ", sourceInfo=" + sourceInfo
                 + ", partition=" + partition + ", lastSnapshotRecord=" + lastSnapshotRecord
                 + ", lastCompletelyProcessedLsn=" + lastCompletelyProcessedLsn + ", lastCommitLsn=" + lastCommitLsn
-                + ", transactionContext=" + transactionContext + "]";
+                + ", transactionContext=" + transactionContext + ", snapshotCheckpoint=" + snapshotCheckpoint
+                + ", incrementalSnapshotContext=" + incrementalSnapshotContext + "]";
     }
 
     public static PostgresOffsetContext initialContext(PostgresConnectorConfig connectorConfig, PostgresConnection jdbcConnection, Clock clock) {
@@ -245,7 +260,9 @@ public static PostgresOffsetContext initialContext(PostgresConnectorConfig conne
                     clock.currentTimeAsInstant(),
                     false,
                     false,
-                    new TransactionContext());
+                    new TransactionContext(),
+                    new SnapshotCheckpoint(),
+                    new IncrementalSnapshotContext());
         }
         catch (SQLException e) {
             throw new ConnectException("Database processing error", e);
@@ -275,4 +292,14 @@ public void event(DataCollectionId tableId, Instant instant) {
     public TransactionContext getTransactionContext() {
         return transactionContext;
     }
+
+    @Override
+    public SnapshotCheckpoint getSnapshotCheckpoint() {
+        return snapshotCheckpoint;
+    }
+
+    @Override
+    public IncrementalSnapshotContext getIncrementalSnapshotContext() {
+        return incrementalSnapshotContext;
+    }
 }
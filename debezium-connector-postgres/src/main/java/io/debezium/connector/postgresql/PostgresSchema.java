@@ -51,6 +51,7 @@ public class PostgresSchema extends RelationalDatabaseSchema {
     private final Map<TableId, List<String>> tableIdToToastableColumns;
     private final Map<Integer, TableId> relationIdToTableId;
     private final boolean readToastableColumns;
+    private final ToastedValueCache toastedValueCache;
 
     /**
      * Create a schema component given the supplied {@link PostgresConnectorConfig Postgres connector configuration}.
@@ -66,7 +67,9 @@ protected PostgresSchema(PostgresConnectorConfig config, TypeRegistry typeRegist
         this.typeRegistry = typeRegistry;
         this.tableIdToToastableColumns = new HashMap<>();
         this.relationIdToTableId = new HashMap<>();
-        this.readToastableColumns = config.skipRefreshSchemaOnMissingToastableData();
+        this.toastedValueCache = new ToastedValueCache(config.toastedValueCacheSize());
+        // the toastable columns determine the values remembered by the cache
+        this.readToastableColumns = config.skipRefreshSchemaOnMissingToastableData() || toastedValueCache.isEnabled();
     }
 
     private static TableSchemaBuilder getTableSchemaBuilder(PostgresConnectorConfig config, TypeRegistry typeRegistry, Charset databaseCharset) {
@@ -142,7 +145,7 @@ protected void refresh(PostgresConnection connection, TableId tableId, boolean r
         // refresh the schema
         refreshSchema(tableId);
 
-        if (refreshToastableColumns) {
+        if (refreshToastableColumns || toastedValueCache.isEnabled()) {
             // and refresh toastable columns info
             refreshToastableColumnsMap(connection, tableId);
         }
@@ -246,6 +249,23 @@ public TypeRegistry getTypeRegistry() {
         return typeRegistry;
     }
 
+    /**
+     * Reads the toastable columns of a table that has not been refreshed from the database yet, e.g. a table that
+     * has only been received from the replication stream, if they are needed.
+     */
+    protected void ensureToastableColumns(PostgresConnection connection, TableId tableId) {
+        if (readToastableColumns && !tableIdToToastableColumns.containsKey(tableId)) {
+            refreshToastableColumnsMap(connection, tableId);
+        }
+    }
+
+    /**
+     * Returns the cache of the last seen values of toastable columns, which is disabled unless configured.
+     */
+    public ToastedValueCache getToastedValueCache() {
+        return toastedValueCache;
+    }
+
     public List<String> getToastableColumnsForTableId(TableId tableId) {
         return tableIdToToastableColumns.getOrDefault(tableId, Collections.emptyList());
     }
@@ -265,6 +285,9 @@ public void applySchemaChangesForTable(int relationId, Table table) {
         }
 
         relationIdToTableId.put(relationId, table.id());
+        if (toastedValueCache.isEnabled() && !table.equals(tableFor(table.id()))) {
+            toastedValueCache.remove(table.id());
+        }
         refresh(table);
     }
 
@@ -9,7 +9,9 @@
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,8 +25,10 @@
 import io.debezium.connector.postgresql.spi.SlotState;
 import io.debezium.connector.postgresql.spi.Snapshotter;
 import io.debezium.data.SpecialValueDecimal;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.Column;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
@@ -33,6 +37,7 @@
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.schema.SchemaChangeEvent.SchemaChangeEventType;
 import io.debezium.util.Clock;
+import io.debezium.util.RateLimiter;
 
 public class PostgresSnapshotChangeEventSource extends RelationalSnapshotChangeEventSource {
 
@@ -48,8 +53,9 @@ public class PostgresSnapshotChangeEventSource extends RelationalSnapshotChangeE
 
     public PostgresSnapshotChangeEventSource(PostgresConnectorConfig connectorConfig, Snapshotter snapshotter, PostgresOffsetContext previousOffset,
                                              PostgresConnection jdbcConnection, PostgresSchema schema, EventDispatcher<TableId> dispatcher, Clock clock,
-                                             SnapshotProgressListener snapshotProgressListener, SlotCreationResult slotCreatedInfo, SlotState startingSlotInfo) {
-        super(connectorConfig, previousOffset, jdbcConnection, dispatcher, clock, snapshotProgressListener);
+                                             SnapshotProgressListener snapshotProgressListener, RateLimiter rateLimiter, SlotCreationResult slotCreatedInfo,
+                                             SlotState startingSlotInfo) {
+        super(connectorConfig, previousOffset, jdbcConnection, dispatcher, clock, snapshotProgressListener, rateLimiter);
         this.connectorConfig = connectorConfig;
         this.jdbcConnection = jdbcConnection;
         this.schema = schema;
@@ -225,13 +231,80 @@ protected SchemaChangeEvent getCreateTableEvent(RelationalSnapshotContext snapsh
     protected void complete(SnapshotContext snapshotContext) {
     }
 
+    @Override
+    protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext snapshotContext, TableId tableId, Object[] row) {
+        final ToastedValueCache toastedValueCache = schema.getToastedValueCache();
+        if (toastedValueCache.isEnabled()) {
+            // changes streamed after the snapshot may omit the unchanged toasted values read here
+            toastedValueCache.put(schema.tableFor(tableId), schema.getToastableColumnsForTableId(tableId), row);
+        }
+        return super.getChangeRecordEmitter(snapshotContext, tableId, row);
+    }
+
+    @Override
+    protected OptionalLong estimateRowCount(RelationalSnapshotContext snapshotContext, TableId tableId) throws SQLException {
+        // the row count estimated by the latest VACUUM or ANALYZE
+        final String tableName = new TableId(null, tableId.schema(), tableId.table()).toDoubleQuotedString();
+        return jdbcConnection.prepareQueryAndMap("SELECT reltuples::bigint FROM pg_class WHERE oid = ?::regclass",
+                statement -> statement.setString(1, tableName),
+                rs -> rs.next() && rs.getLong(1) > 0 ? OptionalLong.of(rs.getLong(1)) : OptionalLong.empty());
+    }
+
+    /**
+     * Opens a connection whose transaction imports the snapshot of the snapshot transaction, so that all tables are
+     * read from the same consistent state of the database.
+     */
+    @Override
+    protected Optional<JdbcConnection> createParallelSnapshotConnection(RelationalSnapshotContext snapshotContext) throws Exception {
+        final PostgresSnapshotContext ctx = (PostgresSnapshotContext) snapshotContext;
+        if (ctx.exportedSnapshot == null) {
+            ctx.exportedSnapshot = jdbcConnection.queryAndMap("SELECT pg_export_snapshot()", rs -> rs.next() ? rs.getString(1) : null);
+            LOGGER.info("Exported snapshot '{}' for reading tables concurrently", ctx.exportedSnapshot);
+        }
+
+        final PostgresConnection connection = new PostgresConnection(connectorConfig.jdbcConfig());
+        try {
+            connection.setAutoCommit(false);
+            connection.executeWithoutCommitting("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY; \n"
+                    + String.format("SET TRANSACTION SNAPSHOT '%s';", ctx.exportedSnapshot));
+        }
+        catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return Optional.of(connection);
+    }
+
     @Override
     protected Optional<String> getSnapshotSelect(RelationalSnapshotContext snapshotContext, TableId tableId) {
-        return snapshotter.buildSnapshotQuery(tableId);
+        final List<String> columns = schema.snapshotColumnsFor(schema.tableFor(tableId))
+                .stream()
+                .map(column -> "\"" + column.name().replace("\"", "\"\"") + "\"")
+                .collect(Collectors.toList());
+        return snapshotter.buildSnapshotQuery(tableId, columns);
     }
 
     @Override
     protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+        return readColumnValue(rs, columnIndex, schema);
+    }
+
+    @Override
+    protected SnapshotRowReader openSnapshotRowReader(JdbcConnection connection, Table table, String selectStatement) throws SQLException {
+        if (connectorConfig.snapshotCopyBinary()) {
+            final Optional<SnapshotRowReader> reader = PostgresBinaryCopyReader.open(connection, table, selectStatement, schema.getTypeRegistry());
+            if (reader.isPresent()) {
+                return reader.get();
+            }
+        }
+        return super.openSnapshotRowReader(connection, table, selectStatement);
+    }
+
+    /**
+     * Reads the value of the given column of the current row of a result set, working around types that the JDBC
+     * driver doesn't map suitably.
+     */
+    static Object readColumnValue(ResultSet rs, int columnIndex, PostgresSchema schema) throws SQLException {
         try {
             final ResultSetMetaData metaData = rs.getMetaData();
             final String columnTypeName = metaData.getColumnTypeName(columnIndex);
@@ -284,7 +357,7 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
         }
         catch (SQLException e) {
             // not a known type
-            return super.getColumnValue(rs, columnIndex, column);
+            return rs.getObject(columnIndex);
         }
     }
 
@@ -300,6 +373,11 @@ protected void setSnapshotTransactionIsolationLevel() throws SQLException {
      */
     private static class PostgresSnapshotContext extends RelationalSnapshotContext {
 
+        /**
+         * The snapshot of the snapshot transaction, exported for the connections reading tables concurrently
+         */
+        private String exportedSnapshot;
+
         public PostgresSnapshotContext(String catalogName) throws SQLException {
             super(catalogName);
         }
@@ -16,6 +16,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.postgresql.connection.BinaryFormatNotSupportedException;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
@@ -97,54 +98,21 @@ public void execute(ChangeEventSourceContext context) throws InterruptedExceptio
         }
 
         try {
-            final WalPositionLocator walPosition;
-            if (hasStartLsnStoredInContext) {
-                // start streaming from the last recorded position in the offset
-                final Lsn lsn = offsetContext.lastCompletelyProcessedLsn() != null ? offsetContext.lastCompletelyProcessedLsn() : offsetContext.lsn();
-                LOGGER.info("Retrieved latest position from stored offset '{}'", lsn);
-                walPosition = new WalPositionLocator(offsetContext.lastCommitLsn(), lsn);
-                replicationStream.compareAndSet(null, replicationConnection.startStreaming(lsn, walPosition));
-            }
-            else {
-                LOGGER.info("No previous LSN found in Kafka, streaming from the latest xlogpos or flushed LSN...");
-                walPosition = new WalPositionLocator();
-                replicationStream.compareAndSet(null, replicationConnection.startStreaming(walPosition));
-            }
-            // for large dbs, the refresh of schema can take too much time
-            // such that the connection times out. We must enable keep
-            // alive to ensure that it doesn't time out
-            ReplicationStream stream = this.replicationStream.get();
-            stream.startKeepAlive(Executors.newSingleThreadExecutor());
-
-            // refresh the schema so we have a latest view of the DB tables
-            taskContext.refreshSchema(connection, true);
-
-            // If we need to do a pre-snapshot streaming catch up, we should allow the snapshot transaction to persist
-            // but normally we want to start streaming without any open transactions.
-            if (!isInPreSnapshotCatchUpStreaming()) {
-                connection.commit();
-            }
-
-            this.lastCompletelyProcessedLsn = replicationStream.get().startLsn();
-
-            if (walPosition.searchingEnabled()) {
-                searchWalPosition(context, stream, walPosition);
+            boolean fromOffset = hasStartLsnStoredInContext;
+            while (true) {
                 try {
-                    if (!isInPreSnapshotCatchUpStreaming()) {
-                        connection.commit();
-                    }
+                    processMessages(context, startStreaming(context, fromOffset));
+                    break;
                 }
-                catch (Exception e) {
-                    LOGGER.info("Commit failed while preparing for reconnect", e);
+                catch (BinaryFormatNotSupportedException e) {
+                    // A relation can only be received in text format, continue from the last processed position
+                    // exactly as if the connector had been restarted
+                    LOGGER.info("Restarting the replication stream to receive values in text format");
+                    replicationStream.get().stopKeepAlive();
+                    replicationConnection.reconnect();
+                    fromOffset = hasStartLsnStoredInContext || offsetContext.lastCompletelyProcessedLsn() != null;
                 }
-                walPosition.enableFiltering();
-                stream.stopKeepAlive();
-                replicationConnection.reconnect();
-                replicationStream.set(replicationConnection.startStreaming(walPosition.getLastEventStoredLsn(), walPosition));
-                stream = this.replicationStream.get();
-                stream.startKeepAlive(Executors.newSingleThreadExecutor());
             }
-            processMessages(context, stream);
         }
         catch (Throwable e) {
             errorHandler.setProducerThrowable(e);
@@ -175,6 +143,61 @@ public void execute(ChangeEventSourceContext context) throws InterruptedExceptio
         }
     }
 
+    /**
+     * Starts streaming from the position recorded in the offset, or from the position of the replication slot, and
+     * refreshes the schema.
+     */
+    private ReplicationStream startStreaming(ChangeEventSourceContext context, boolean fromOffset) throws SQLException, InterruptedException {
+        final WalPositionLocator walPosition;
+        if (fromOffset) {
+            // start streaming from the last recorded position in the offset
+            final Lsn lsn = offsetContext.lastCompletelyProcessedLsn() != null ? offsetContext.lastCompletelyProcessedLsn() : offsetContext.lsn();
+            LOGGER.info("Retrieved latest position from stored offset '{}'", lsn);
+            walPosition = new WalPositionLocator(offsetContext.lastCommitLsn(), lsn);
+            replicationStream.set(replicationConnection.startStreaming(lsn, walPosition));
+        }
+        else {
+            LOGGER.info("No previous LSN found in Kafka, streaming from the latest xlogpos or flushed LSN...");
+            walPosition = new WalPositionLocator();
+            replicationStream.set(replicationConnection.startStreaming(walPosition));
+        }
+        // for large dbs, the refresh of schema can take too much time
+        // such that the connection times out. We must enable keep
+        // alive to ensure that it doesn't time out
+        ReplicationStream stream = this.replicationStream.get();
+        stream.startKeepAlive(Executors.newSingleThreadExecutor());
+
+        // refresh the schema so we have a latest view of the DB tables
+        taskContext.refreshSchema(connection, true);
+
+        // If we need to do a pre-snapshot streaming catch up, we should allow the snapshot transaction to persist
+        // but normally we want to start streaming without any open transactions.
+        if (!isInPreSnapshotCatchUpStreaming()) {
+            connection.commit();
+        }
+
+        this.lastCompletelyProcessedLsn = replicationStream.get().startLsn();
+
+        if (walPosition.searchingEnabled()) {
+            searchWalPosition(context, stream, walPosition);
+            try {
+                if (!isInPreSnapshotCatchUpStreaming()) {
+                    connection.commit();
+                }
+            }
+            catch (Exception e) {
+                LOGGER.info("Commit failed while preparing for reconnect", e);
+            }
+            walPosition.enableFiltering();
+            stream.stopKeepAlive();
+            replicationConnection.reconnect();
+            replicationStream.set(replicationConnection.startStreaming(walPosition.getLastEventStoredLsn(), walPosition));
+            stream = this.replicationStream.get();
+            stream.startKeepAlive(Executors.newSingleThreadExecutor());
+        }
+        return stream;
+    }
+
     private void processMessages(ChangeEventSourceContext context, final ReplicationStream stream)
             throws SQLException, InterruptedException {
         LOGGER.info("Processing messages");
@@ -272,7 +295,8 @@ private void searchWalPosition(ChangeEventSourceContext context, final Replicati
 
             boolean receivedMessage = stream.readPending(message -> {
                 final Lsn lsn = stream.lastReceivedLsn();
-                resumeLsn.set(walPosition.resumeFromLsn(lsn, message).orElse(null));
+                // a streamed transaction emits all of its messages at once, the first position found is kept
+                walPosition.resumeFromLsn(lsn, message).ifPresent(position -> resumeLsn.compareAndSet(null, position));
             });
 
             if (receivedMessage) {
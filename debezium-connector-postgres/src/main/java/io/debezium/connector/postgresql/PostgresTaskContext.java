@@ -41,7 +41,8 @@ public class PostgresTaskContext extends CdcSourceTaskContext {
     private Long lastXmin;
 
     protected PostgresTaskContext(PostgresConnectorConfig config, PostgresSchema schema, TopicSelector<TableId> topicSelector) {
-        super(config.getContextName(), config.getLogicalName(), Collections::emptySet);
+        super(config.getContextName(), config.getLogicalName(), Collections::emptySet, config.getSnapshotMaxRowsPerSecond(),
+                config.getSnapshotMaxBytesPerSecond());
 
         this.config = config;
         if (config.xminFetchInterval().toMillis() > 0) {
@@ -117,6 +118,9 @@ protected ReplicationConnection createReplicationConnection(boolean exportSnapsh
                 .exportSnapshotOnCreate(exportSnapshot)
                 .doSnapshot(doSnapshot)
                 .withSchema(schema)
+                .binaryFormat(config.pgoutputBinary())
+                .streamInProgressTransactions(config.pgoutputStreaming(), config.pgoutputStreamingBufferSize(), config.pgoutputStreamingSpillDirectory())
+                .replicationBuffer(config.replicationBufferSize(), config.getLogicalName())
                 .build();
     }
 
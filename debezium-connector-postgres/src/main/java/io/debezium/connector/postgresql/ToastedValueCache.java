@@ -0,0 +1,275 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.RateLimiter;
+
+/**
+ * Remembers the last seen values of the toastable columns of rows, by table and primary key, so that unchanged
+ * TOASTed values, which are not contained in the change events of updates, can be filled in. The values are taken
+ * from the initial snapshot and from streamed inserts and updates, i.e. in the order in which the rows changed, so
+ * that a remembered value always is the value of the column at the time of the next change of the row.
+ * <p>
+ * The cache is bounded by the approximate size of the remembered values; the least recently used rows are evicted
+ * first. A cache with a size of zero is disabled and ignores all values.
+ */
+@ThreadSafe
+public class ToastedValueCache {
+
+    /**
+     * The approximate overhead in bytes of remembering a row, in addition to the size of its key and values.
+     */
+    private static final long ROW_OVERHEAD = 64;
+
+    private final long maxSizeInBytes;
+    private final LinkedHashMap<RowKey, Row> rows = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long sizeInBytes;
+
+    public ToastedValueCache(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    public boolean isEnabled() {
+        return maxSizeInBytes > 0;
+    }
+
+    /**
+     * Remembers the values of the given toastable columns of a row, replacing the values remembered for the row
+     * before. Null values and placeholders of unchanged TOASTed values are not remembered.
+     *
+     * @param table the table of the row
+     * @param toastableColumns the names of the toastable columns of the table
+     * @param values the values of the row, by column position
+     */
+    public void put(Table table, Collection<String> toastableColumns, Object[] values) {
+        if (!isEnabled() || toastableColumns.isEmpty()) {
+            return;
+        }
+        final Object[] key = keyOf(table, values);
+        if (key == null) {
+            return;
+        }
+        final Map<String, Object> toastedValues = new HashMap<>();
+        long size = ROW_OVERHEAD + RateLimiter.sizeOf(key);
+        for (String columnName : toastableColumns) {
+            final Object value = valueOf(table, columnName, values);
+            if (value != null && value != UnchangedToastedReplicationMessageColumn.UNCHANGED_TOAST_VALUE) {
+                toastedValues.put(columnName, value);
+                size += RateLimiter.sizeOf(value);
+            }
+        }
+        final RowKey rowKey = new RowKey(table.id(), key);
+        synchronized (this) {
+            final Row previous = toastedValues.isEmpty() ? rows.remove(rowKey) : rows.put(rowKey, new Row(toastedValues, size));
+            if (previous != null) {
+                sizeInBytes -= previous.size;
+            }
+            if (!toastedValues.isEmpty()) {
+                sizeInBytes += size;
+            }
+            evict();
+        }
+    }
+
+    /**
+     * Replaces the placeholders of unchanged TOASTed values among the given values of a row with the values
+     * remembered for the row, where known.
+     *
+     * @param table the table of the row
+     * @param values the values of the row, by column position; updated in place
+     */
+    public void fill(Table table, Object[] values) {
+        if (!isEnabled() || values == null) {
+            return;
+        }
+        Row row = null;
+        boolean looked = false;
+        for (Column column : table.columns()) {
+            final int position = column.position() - 1;
+            if (position >= values.length || values[position] != UnchangedToastedReplicationMessageColumn.UNCHANGED_TOAST_VALUE) {
+                continue;
+            }
+            if (!looked) {
+                looked = true;
+                final Object[] key = keyOf(table, values);
+                if (key != null) {
+                    synchronized (this) {
+                        row = rows.get(new RowKey(table.id(), key));
+                    }
+                }
+            }
+            final Object value = row != null ? row.values.get(column.name()) : null;
+            if (value != null) {
+                values[position] = value;
+                hits.incrementAndGet();
+            }
+            else {
+                misses.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Forgets the values remembered for a row, e.g. after it has been deleted.
+     *
+     * @param table the table of the row
+     * @param values the values of the row, by column position
+     */
+    public void remove(Table table, Object[] values) {
+        if (!isEnabled() || values == null) {
+            return;
+        }
+        final Object[] key = keyOf(table, values);
+        if (key != null) {
+            synchronized (this) {
+                final Row previous = rows.remove(new RowKey(table.id(), key));
+                if (previous != null) {
+                    sizeInBytes -= previous.size;
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the values remembered for all rows of a table, e.g. after its structure changed.
+     */
+    public synchronized void remove(TableId tableId) {
+        for (Iterator<Map.Entry<RowKey, Row>> iterator = rows.entrySet().iterator(); iterator.hasNext();) {
+            final Map.Entry<RowKey, Row> entry = iterator.next();
+            if (entry.getKey().tableId.equals(tableId)) {
+                sizeInBytes -= entry.getValue().size;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the rows of the given values have different keys, e.g. if the key of a row has been updated.
+     */
+    public boolean isKeyChanged(Table table, Object[] oldValues, Object[] newValues) {
+        if (oldValues == null || newValues == null) {
+            return false;
+        }
+        final Object[] oldKey = keyOf(table, oldValues);
+        return oldKey != null && !Arrays.deepEquals(oldKey, keyOf(table, newValues));
+    }
+
+    private void evict() {
+        for (Iterator<Row> iterator = rows.values().iterator(); sizeInBytes > maxSizeInBytes && iterator.hasNext();) {
+            sizeInBytes -= iterator.next().size;
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the values of the primary key columns of a row, or {@code null} if the table has no primary key or the
+     * values are not known.
+     */
+    private static Object[] keyOf(Table table, Object[] values) {
+        final List<String> keyColumns = table.primaryKeyColumnNames();
+        if (keyColumns.isEmpty()) {
+            return null;
+        }
+        final Object[] key = new Object[keyColumns.size()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = valueOf(table, keyColumns.get(i), values);
+            if (key[i] == null || key[i] == UnchangedToastedReplicationMessageColumn.UNCHANGED_TOAST_VALUE) {
+                return null;
+            }
+        }
+        return key;
+    }
+
+    private static Object valueOf(Table table, String columnName, Object[] values) {
+        final Column column = table.columnWithName(columnName);
+        if (column == null || column.position() < 1 || column.position() > values.length) {
+            return null;
+        }
+        return values[column.position() - 1];
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public synchronized int getRowCount() {
+        return rows.size();
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    private static class RowKey {
+
+        private final TableId tableId;
+        private final Object[] key;
+        private final int hashCode;
+
+        RowKey(TableId tableId, Object[] key) {
+            this.tableId = tableId;
+            this.key = key;
+            this.hashCode = 31 * tableId.hashCode() + Arrays.deepHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RowKey)) {
+                return false;
+            }
+            final RowKey other = (RowKey) obj;
+            return tableId.equals(other.tableId) && Arrays.deepEquals(key, other.key);
+        }
+    }
+
+    private static class Row {
+
+        private final Map<String, Object> values;
+        private final long size;
+
+        Row(Map<String, Object> values, long size) {
+            this.values = values;
+            this.size = size;
+        }
+    }
+}
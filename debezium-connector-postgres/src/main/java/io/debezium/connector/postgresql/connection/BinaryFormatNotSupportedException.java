@@ -0,0 +1,20 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+/**
+ * Thrown by a {@link MessageDecoder} receiving values in binary format when the replication stream describes a relation
+ * with a column whose type cannot be decoded from its binary format, e.g. after a column has been added or a table has
+ * been added to the publication. The replication stream is to be restarted in text format then.
+ */
+public class BinaryFormatNotSupportedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BinaryFormatNotSupportedException(String message) {
+        super(message);
+    }
+}
@@ -11,6 +11,7 @@
 
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
+import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
 
@@ -32,6 +33,20 @@ public interface MessageDecoder {
      */
     void processMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry) throws SQLException, InterruptedException;
 
+    /**
+     * Process a message upon arrival from logical decoder that has been received at the given LSN. Decoders that hold
+     * back messages to process them later, i.e. with another LSN than the last received one, override this method.
+     *
+     * @param buffer - binary representation of replication message
+     * @param lsn - the LSN at which the message has been received
+     * @param processor - message processing on arrival
+     * @param typeRegistry - registry with known types
+     */
+    default void processMessage(ByteBuffer buffer, Lsn lsn, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        processMessage(buffer, processor, typeRegistry);
+    }
+
     /**
      * Allows MessageDecoder to configure options with which the replication stream is started.
      * The messages CAN contain type metadata.
@@ -59,6 +74,27 @@ public interface MessageDecoder {
     default void setContainsMetadata(boolean flag) {
     }
 
+    /**
+     * Whether this decoder can receive values of the given type in binary rather than text format.
+     */
+    default boolean supportsBinaryFormat(PostgresType type) {
+        return false;
+    }
+
+    /**
+     * Signals to this decoder whether to request column values in binary rather than text format; only to be enabled
+     * if {@link #supportsBinaryFormat(PostgresType)} returns {@code true} for the types of all published columns.
+     */
+    default void setBinaryFormat(boolean flag) {
+    }
+
+    /**
+     * Signals to this decoder whether to request transactions to be streamed while they are still in progress, rather
+     * than only after they have been committed.
+     */
+    default void setStreaming(boolean flag) {
+    }
+
     /**
      * A callback into the decoder allowing it to decide whether the supplied message should be processed
      * by the decoder or whether it can be skipped.
@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.postgresql.connection;
 
+import java.nio.file.Path;
+
 import io.debezium.config.Configuration;
 import io.debezium.connector.postgresql.PostgresSchema;
 
@@ -20,13 +22,18 @@ public class MessageDecoderConfig {
     private final String publicationName;
     private final boolean exportedSnapshot;
     private final boolean doSnapshot;
+    private final long streamingBufferSize;
+    private final Path streamingSpillDirectory;
 
-    public MessageDecoderConfig(Configuration configuration, PostgresSchema schema, String publicationName, boolean exportedSnapshot, boolean doSnapshot) {
+    public MessageDecoderConfig(Configuration configuration, PostgresSchema schema, String publicationName, boolean exportedSnapshot, boolean doSnapshot,
+                                long streamingBufferSize, Path streamingSpillDirectory) {
         this.configuration = configuration;
         this.schema = schema;
         this.publicationName = publicationName;
         this.exportedSnapshot = exportedSnapshot;
         this.doSnapshot = doSnapshot;
+        this.streamingBufferSize = streamingBufferSize;
+        this.streamingSpillDirectory = streamingSpillDirectory;
     }
 
     public Configuration getConfiguration() {
@@ -48,4 +55,19 @@ public boolean exportedSnapshot() {
     public boolean doSnapshot() {
         return doSnapshot;
     }
+
+    /**
+     * Returns the maximum number of bytes of the messages of transactions streamed while in progress that are held in
+     * memory until the transactions are committed or aborted.
+     */
+    public long getStreamingBufferSize() {
+        return streamingBufferSize;
+    }
+
+    /**
+     * Returns the directory to which messages of streamed transactions that exceed the buffer size are written.
+     */
+    public Path getStreamingSpillDirectory() {
+        return streamingSpillDirectory;
+    }
 }
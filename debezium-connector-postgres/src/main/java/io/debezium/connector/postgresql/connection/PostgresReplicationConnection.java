@@ -9,6 +9,7 @@
 import static java.lang.Math.toIntExact;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
@@ -36,8 +37,10 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnector;
 import io.debezium.connector.postgresql.PostgresConnectorConfig;
 import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.jdbc.JdbcConnection;
@@ -46,6 +49,7 @@
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
 import io.debezium.util.Metronome;
+import io.debezium.util.Threads;
 
 /**
  * Implementation of a {@link ReplicationConnection} for Postgresql. Note that replication connections in PG cannot execute
@@ -69,6 +73,20 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
     private final MessageDecoder messageDecoder;
     private final TypeRegistry typeRegistry;
     private final Properties streamParams;
+    private final boolean binaryFormat;
+    /**
+     * Whether the replication stream described a relation whose values cannot be received in binary format, in which
+     * case values are received in text format for the lifetime of this connection.
+     */
+    private volatile boolean binaryFormatNotSupported;
+    private final boolean streamInProgressTransactions;
+    private final int replicationBufferSize;
+    private final String connectorName;
+
+    /**
+     * The reader of the current stream if messages are read on a separate thread.
+     */
+    private volatile ReplicationStreamReader streamReader;
 
     private Lsn defaultStartingPos;
     private SlotCreationResult slotCreationInfo;
@@ -90,6 +108,12 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
      * @param typeRegistry              registry with PostgreSQL types
      * @param streamParams              additional parameters to pass to the replication stream
      * @param schema                    the schema; must not be null
+     * @param binaryFormat              whether to receive column values in binary format if supported
+     * @param streamInProgressTransactions whether to receive transactions while they are in progress if supported
+     * @param streamingBufferSize       the maximum number of bytes of in-progress transactions held in memory
+     * @param streamingSpillDirectory   the directory to which in-progress transactions exceeding the buffer are written
+     * @param replicationBufferSize     the number of messages buffered by a separate reader thread, or 0 to read and decode on one thread
+     * @param connectorName             the logical name of the connector, used for naming the reader thread
      *                                  <p>
      *                                  updates to the server
      */
@@ -105,7 +129,13 @@ private PostgresReplicationConnection(Configuration config,
                                           Duration statusUpdateInterval,
                                           TypeRegistry typeRegistry,
                                           Properties streamParams,
-                                          PostgresSchema schema) {
+                                          PostgresSchema schema,
+                                          boolean binaryFormat,
+                                          boolean streamInProgressTransactions,
+                                          long streamingBufferSize,
+                                          Path streamingSpillDirectory,
+                                          int replicationBufferSize,
+                                          String connectorName) {
         super(config, PostgresConnection.FACTORY, null, PostgresReplicationConnection::defaultSettings);
 
         this.originalConfig = config;
@@ -117,9 +147,14 @@ private PostgresReplicationConnection(Configuration config,
         this.dropSlotOnClose = dropSlotOnClose;
         this.statusUpdateInterval = statusUpdateInterval;
         this.exportSnapshot = exportSnapshot;
-        this.messageDecoder = plugin.messageDecoder(new MessageDecoderConfig(config, schema, publicationName, exportSnapshot, doSnapshot));
+        this.messageDecoder = plugin.messageDecoder(new MessageDecoderConfig(config, schema, publicationName, exportSnapshot, doSnapshot,
+                streamingBufferSize, streamingSpillDirectory));
         this.typeRegistry = typeRegistry;
         this.streamParams = streamParams;
+        this.binaryFormat = binaryFormat;
+        this.streamInProgressTransactions = streamInProgressTransactions;
+        this.replicationBufferSize = replicationBufferSize;
+        this.connectorName = connectorName;
         this.slotCreationInfo = null;
         this.hasInitedSlot = false;
     }
@@ -383,9 +418,54 @@ private SlotCreationResult parseSlotCreation(ResultSet rs) {
         }
     }
 
+    /**
+     * Whether the values of all columns of the published tables can be received in binary format, which pgoutput
+     * supports as of PostgreSQL 14.
+     */
+    private boolean isBinaryFormatSupported() throws SQLException {
+        if (!PostgresConnectorConfig.LogicalDecoder.PGOUTPUT.equals(plugin) || !pgConnection().haveMinimumServerVersion(140000)) {
+            LOGGER.warn("Receiving values in binary format requires the pgoutput plugin and PostgreSQL 14 or later, using text format");
+            return false;
+        }
+        final String selectTypes = String.format("SELECT DISTINCT a.atttypid FROM pg_publication_tables p "
+                + "JOIN pg_attribute a ON a.attrelid = format('%%I.%%I', p.schemaname, p.tablename)::regclass "
+                + "WHERE p.pubname = '%s' AND a.attnum > 0 AND NOT a.attisdropped", publicationName);
+        try (Statement stmt = pgConnection().createStatement(); ResultSet rs = stmt.executeQuery(selectTypes)) {
+            while (rs.next()) {
+                final PostgresType type = typeRegistry.get((int) rs.getLong(1));
+                if (!messageDecoder.supportsBinaryFormat(type)) {
+                    LOGGER.warn("Publication '{}' contains a column of type '{}' whose binary format is not supported, using text format", publicationName,
+                            type.getName());
+                    return false;
+                }
+            }
+        }
+        LOGGER.info("Receiving values of publication '{}' in binary format", publicationName);
+        return true;
+    }
+
+    /**
+     * Whether transactions can be received while they are in progress, which pgoutput supports as of PostgreSQL 14
+     * with protocol version 2.
+     */
+    private boolean isStreamingSupported() throws SQLException {
+        if (!PostgresConnectorConfig.LogicalDecoder.PGOUTPUT.equals(plugin) || !pgConnection().haveMinimumServerVersion(140000)) {
+            LOGGER.warn("Receiving transactions in progress requires the pgoutput plugin and PostgreSQL 14 or later, receiving them on commit");
+            return false;
+        }
+        return true;
+    }
+
     private ReplicationStream createReplicationStream(final Lsn startLsn, WalPositionLocator walPosition) throws SQLException, InterruptedException {
         PGReplicationStream s;
 
+        if (binaryFormat && !plugin.forceRds()) {
+            messageDecoder.setBinaryFormat(!binaryFormatNotSupported && isBinaryFormatSupported());
+        }
+        if (streamInProgressTransactions && !plugin.forceRds()) {
+            messageDecoder.setStreaming(isStreamingSupported());
+        }
+
         try {
             try {
                 s = startPgReplicationStream(startLsn,
@@ -432,6 +512,17 @@ else if (e.getMessage().matches("(?s)ERROR: requested WAL segment .* has already
         }
 
         final PGReplicationStream stream = s;
+        final ReplicationStreamReader reader;
+        if (replicationBufferSize > 0) {
+            reader = new ReplicationStreamReader(stream, replicationBufferSize, statusUpdateInterval,
+                    Threads.newSingleThreadExecutor(PostgresConnector.class, connectorName, "replication-reader"));
+            reader.start();
+            LOGGER.info("Reading replication stream on a separate thread, buffering up to {} messages", replicationBufferSize);
+        }
+        else {
+            reader = null;
+        }
+        streamReader = reader;
 
         return new ReplicationStream() {
 
@@ -446,17 +537,29 @@ else if (e.getMessage().matches("(?s)ERROR: requested WAL segment .* has already
 
             @Override
             public void read(ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
+                if (reader != null) {
+                    process(reader.take(), processor);
+                    return;
+                }
                 ByteBuffer read = stream.read();
                 final Lsn lastReceiveLsn = Lsn.valueOf(stream.getLastReceiveLSN());
                 LOGGER.trace("Streaming requested from LSN {}, received LSN {}", startLsn, lastReceiveLsn);
                 if (messageDecoder.shouldMessageBeSkipped(read, lastReceiveLsn, startLsn, walPosition)) {
                     return;
                 }
-                deserializeMessages(read, processor);
+                deserializeMessages(read, lastReceiveLsn, processor);
             }
 
             @Override
             public boolean readPending(ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
+                if (reader != null) {
+                    final ReplicationStreamReader.RawMessage message = reader.poll();
+                    if (message == null) {
+                        return false;
+                    }
+                    process(message, processor);
+                    return true;
+                }
                 ByteBuffer read = stream.readPending();
                 final Lsn lastReceiveLsn = Lsn.valueOf(stream.getLastReceiveLSN());
                 LOGGER.trace("Streaming requested from LSN {}, received LSN {}", startLsn, lastReceiveLsn);
@@ -469,19 +572,59 @@ public boolean readPending(ReplicationMessageProcessor processor) throws SQLExce
                     return true;
                 }
 
-                deserializeMessages(read, processor);
+                deserializeMessages(read, lastReceiveLsn, processor);
 
                 return true;
             }
 
-            private void deserializeMessages(ByteBuffer buffer, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
-                lastReceivedLsn = Lsn.valueOf(stream.getLastReceiveLSN());
+            private void process(ReplicationStreamReader.RawMessage message, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
+                LOGGER.trace("Streaming requested from LSN {}, received LSN {}", startLsn, message.lsn());
+                if (messageDecoder.shouldMessageBeSkipped(message.buffer(), message.lsn(), startLsn, walPosition)) {
+                    return;
+                }
+                deserializeMessages(message.buffer(), message.lsn(), processor);
+            }
+
+            private void deserializeMessages(ByteBuffer buffer, Lsn receivedLsn, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
+                lastReceivedLsn = receivedLsn;
                 LOGGER.trace("Received message at LSN {}", lastReceivedLsn);
-                messageDecoder.processMessage(buffer, processor, typeRegistry);
+                try {
+                    messageDecoder.processMessage(buffer, receivedLsn, new ReplicationMessageProcessor() {
+                        @Override
+                        public void process(ReplicationMessage message) throws SQLException, InterruptedException {
+                            lastReceivedLsn = receivedLsn;
+                            processor.process(message);
+                        }
+
+                        @Override
+                        public void process(ReplicationMessage message, Lsn lsn) throws SQLException, InterruptedException {
+                            // the processor obtains the LSN of the message via lastReceivedLsn()
+                            lastReceivedLsn = lsn;
+                            processor.process(message);
+                        }
+                    }, typeRegistry);
+                }
+                catch (BinaryFormatNotSupportedException e) {
+                    LOGGER.warn("{}, values will be received in text format once the replication stream has been restarted", e.getMessage());
+                    binaryFormatNotSupported = true;
+                    throw e;
+                }
+                lastReceivedLsn = receivedLsn;
             }
 
             @Override
             public void close() throws SQLException {
+                if (reader != null) {
+                    try {
+                        reader.close();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (streamReader == reader) {
+                        streamReader = null;
+                    }
+                }
                 processWarnings(true);
                 stream.close();
             }
@@ -495,7 +638,13 @@ private void doFlushLsn(Lsn lsn) throws SQLException {
                 stream.setFlushedLSN(lsn.asLogSequenceNumber());
                 stream.setAppliedLSN(lsn.asLogSequenceNumber());
 
-                stream.forceUpdateStatus();
+                if (reader != null) {
+                    // the reader is the only thread using the connection
+                    reader.requestStatusUpdate();
+                }
+                else {
+                    stream.forceUpdateStatus();
+                }
             }
 
             @Override
@@ -505,6 +654,11 @@ public Lsn lastReceivedLsn() {
 
             @Override
             public void startKeepAlive(ExecutorService service) {
+                if (reader != null) {
+                    // the reader keeps sending status updates while the stream is not processed
+                    service.shutdown();
+                    return;
+                }
                 if (keepAliveExecutor == null) {
                     keepAliveExecutor = service;
                     keepAliveRunning = new AtomicBoolean(true);
@@ -579,12 +733,34 @@ private PGReplicationStream startPgReplicationStream(final Lsn lsn, Function<Cha
         return stream;
     }
 
+    @Override
+    public int bufferedMessageCount() {
+        final ReplicationStreamReader reader = streamReader;
+        return reader != null ? reader.size() : 0;
+    }
+
+    @Override
+    public int messageBufferCapacity() {
+        return replicationBufferSize;
+    }
+
     @Override
     public synchronized void close() {
         close(true);
     }
 
     public synchronized void close(boolean dropSlot) {
+        final ReplicationStreamReader reader = streamReader;
+        if (reader != null) {
+            // the stream is not necessarily closed before the connection
+            try {
+                reader.close();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            streamReader = null;
+        }
         try {
             LOGGER.debug("Closing replication connection");
             super.close();
@@ -633,6 +809,12 @@ protected static class ReplicationConnectionBuilder implements Builder {
         private TypeRegistry typeRegistry;
         private PostgresSchema schema;
         private Properties slotStreamParams = new Properties();
+        private boolean binaryFormat;
+        private boolean streamInProgressTransactions;
+        private long streamingBufferSize;
+        private Path streamingSpillDirectory;
+        private int replicationBufferSize;
+        private String connectorName;
 
         protected ReplicationConnectionBuilder(Configuration config) {
             assert config != null;
@@ -720,7 +902,8 @@ public Builder doSnapshot(boolean doSnapshot) {
         public ReplicationConnection build() {
             assert plugin != null : "Decoding plugin name is not set";
             return new PostgresReplicationConnection(config, slotName, publicationName, tableFilter, publicationAutocreateMode, plugin, dropSlotOnClose, exportSnapshot,
-                    doSnapshot, statusUpdateIntervalVal, typeRegistry, slotStreamParams, schema);
+                    doSnapshot, statusUpdateIntervalVal, typeRegistry, slotStreamParams, schema, binaryFormat,
+                    streamInProgressTransactions, streamingBufferSize, streamingSpillDirectory, replicationBufferSize, connectorName);
         }
 
         @Override
@@ -734,5 +917,26 @@ public Builder withSchema(PostgresSchema schema) {
             this.schema = schema;
             return this;
         }
+
+        @Override
+        public Builder binaryFormat(boolean binaryFormat) {
+            this.binaryFormat = binaryFormat;
+            return this;
+        }
+
+        @Override
+        public Builder streamInProgressTransactions(boolean streamInProgressTransactions, long bufferSize, Path spillDirectory) {
+            this.streamInProgressTransactions = streamInProgressTransactions;
+            this.streamingBufferSize = bufferSize;
+            this.streamingSpillDirectory = spillDirectory;
+            return this;
+        }
+
+        @Override
+        public Builder replicationBuffer(int bufferSize, String connectorName) {
+            this.replicationBufferSize = bufferSize;
+            this.connectorName = connectorName;
+            return this;
+        }
     }
 }
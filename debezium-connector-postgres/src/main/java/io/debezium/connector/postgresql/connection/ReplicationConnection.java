@@ -6,6 +6,7 @@
 
 package io.debezium.connector.postgresql.connection;
 
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Optional;
@@ -82,6 +83,25 @@ public interface ReplicationConnection extends AutoCloseable {
      */
     boolean isConnected() throws SQLException;
 
+    /**
+     * Returns the number of messages that have been read from the server but not yet been decoded, if messages are
+     * read on a separate thread.
+     *
+     * @return the number of buffered messages, 0 if messages are not read on a separate thread
+     */
+    default int bufferedMessageCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the maximum number of messages read from the server that are buffered for decoding.
+     *
+     * @return the capacity of the buffer, 0 if messages are not read on a separate thread
+     */
+    default int messageBufferCapacity() {
+        return 0;
+    }
+
     /**
      * Creates a new {@link Builder} instance which can be used for creating replication connections.
      *
@@ -179,6 +199,36 @@ interface Builder {
          */
         Builder withSchema(PostgresSchema schema);
 
+        /**
+         * Whether column values are to be received in binary rather than text format, if supported by the plugin, the
+         * server and the types of all published columns.
+         *
+         * @param binaryFormat true to receive column values in binary format
+         * @return this instance
+         */
+        Builder binaryFormat(boolean binaryFormat);
+
+        /**
+         * Whether transactions are to be received while they are still in progress, if supported by the plugin and the
+         * server. Their messages are held back until the transactions are committed.
+         *
+         * @param streamInProgressTransactions true to receive transactions while they are in progress
+         * @param bufferSize the maximum number of bytes of messages of such transactions to hold in memory
+         * @param spillDirectory the directory to which messages exceeding the buffer size are written
+         * @return this instance
+         */
+        Builder streamInProgressTransactions(boolean streamInProgressTransactions, long bufferSize, Path spillDirectory);
+
+        /**
+         * Whether messages are to be read from the server on a separate thread into a buffer, from which they are
+         * decoded by the thread processing the stream, so that status updates are sent while decoding is slow.
+         *
+         * @param bufferSize the maximum number of buffered messages, or 0 to read and decode messages on the same thread
+         * @param connectorName the logical name of the connector, used for naming the reader thread
+         * @return this instance
+         */
+        Builder replicationBuffer(int bufferSize, String connectorName);
+
         /**
          * Optional parameters to pass to the logical decoder when the stream starts.
          *
@@ -26,6 +26,16 @@ public interface ReplicationMessageProcessor {
          * @param message The replication message, never {@code null}.
          */
         void process(ReplicationMessage message) throws SQLException, InterruptedException;
+
+        /**
+         * Processes the given replication message that is emitted at another LSN than the one last received, e.g. a
+         * change of a transaction that has been streamed while in progress and is processed once it is committed.
+         * @param message The replication message, never {@code null}.
+         * @param lsn The LSN of the message
+         */
+        default void process(ReplicationMessage message, Lsn lsn) throws SQLException, InterruptedException {
+            process(message);
+        }
     }
 
     /**
@@ -0,0 +1,202 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.util.Clock;
+import io.debezium.util.Metronome;
+
+/**
+ * Reads the messages of a replication stream on a separate thread into a bounded buffer, from which they are decoded
+ * by the thread processing the stream. While the buffer is full, the reader keeps sending status updates to the
+ * server, so a slow decoder is not mistaken for a dead client and disconnected after {@code wal_sender_timeout}.
+ * <p>
+ * The reader is the only thread using the underlying stream once started; the flushed LSN is set by other threads,
+ * but the status update informing the server about it is sent by the reader.
+ */
+@ThreadSafe
+class ReplicationStreamReader implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationStreamReader.class);
+
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    /**
+     * A message copied from the stream, along with the LSN it has been received at.
+     */
+    static class RawMessage {
+
+        private final ByteBuffer buffer;
+        private final Lsn lsn;
+
+        RawMessage(ByteBuffer buffer, Lsn lsn) {
+            this.buffer = buffer;
+            this.lsn = lsn;
+        }
+
+        ByteBuffer buffer() {
+            return buffer;
+        }
+
+        Lsn lsn() {
+            return lsn;
+        }
+    }
+
+    private final PGReplicationStream stream;
+    private final BlockingQueue<RawMessage> buffer;
+    private final int capacity;
+    private final long statusUpdateIntervalMillis;
+    private final ExecutorService executor;
+    private final Metronome noMessagePause = Metronome.sleeper(Duration.ofMillis(POLL_INTERVAL_MILLIS), Clock.SYSTEM);
+    private volatile boolean running;
+    private volatile boolean statusUpdateRequested;
+    private volatile Throwable failure;
+
+    /**
+     * @param stream the stream to read from
+     * @param capacity the maximum number of messages to buffer
+     * @param statusUpdateInterval the interval at which status updates are sent while the buffer is full; may be null
+     * @param executor the executor running the reader, which is shut down once the reader is closed
+     */
+    ReplicationStreamReader(PGReplicationStream stream, int capacity, Duration statusUpdateInterval, ExecutorService executor) {
+        this.stream = stream;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.statusUpdateIntervalMillis = statusUpdateInterval != null && statusUpdateInterval.toMillis() > 0
+                ? statusUpdateInterval.toMillis()
+                : TimeUnit.SECONDS.toMillis(10);
+        this.executor = executor;
+    }
+
+    void start() {
+        running = true;
+        executor.submit(this::read);
+    }
+
+    private void read() {
+        long lastStatusUpdate = System.currentTimeMillis();
+        try {
+            while (running) {
+                if (statusUpdateRequested) {
+                    statusUpdateRequested = false;
+                    stream.forceUpdateStatus();
+                    lastStatusUpdate = System.currentTimeMillis();
+                }
+                final ByteBuffer read = stream.readPending();
+                if (read == null) {
+                    noMessagePause.pause();
+                    continue;
+                }
+                final ByteBuffer copy = ByteBuffer.allocate(read.remaining());
+                copy.put(read);
+                copy.flip();
+                final RawMessage message = new RawMessage(copy, Lsn.valueOf(stream.getLastReceiveLSN()));
+
+                while (!buffer.offer(message, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (!running) {
+                        return;
+                    }
+                    // the stream is not read while waiting, so the status has to be sent explicitly
+                    final long now = System.currentTimeMillis();
+                    if (statusUpdateRequested || now - lastStatusUpdate >= statusUpdateIntervalMillis) {
+                        statusUpdateRequested = false;
+                        LOGGER.trace("Replication buffer is full, forcing status update");
+                        stream.forceUpdateStatus();
+                        lastStatusUpdate = now;
+                    }
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (Throwable e) {
+            if (running) {
+                LOGGER.error("Failed to read from replication stream", e);
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * Returns the next buffered message if there is one.
+     *
+     * @return the message or {@code null} if the buffer is empty
+     * @throws SQLException if the reader failed to read from the stream
+     */
+    RawMessage poll() throws SQLException {
+        final RawMessage message = buffer.poll();
+        if (message == null) {
+            checkFailure();
+        }
+        return message;
+    }
+
+    /**
+     * Returns the next message, waiting until one has been read.
+     *
+     * @throws SQLException if the reader failed to read from the stream
+     */
+    RawMessage take() throws SQLException, InterruptedException {
+        RawMessage message;
+        while ((message = buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+            checkFailure();
+        }
+        return message;
+    }
+
+    private void checkFailure() throws SQLException {
+        final Throwable failure = this.failure;
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        else if (failure != null) {
+            throw new ConnectException("Failed to read from replication stream", failure);
+        }
+    }
+
+    /**
+     * Makes the reader send a status update, e.g. after the flushed LSN has been changed.
+     */
+    void requestStatusUpdate() {
+        statusUpdateRequested = true;
+    }
+
+    /**
+     * Returns the number of messages that have been read but not yet been taken for decoding.
+     */
+    int size() {
+        return buffer.size();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        executor.shutdownNow();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            LOGGER.warn("Replication stream reader did not stop in time");
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.apache.kafka.connect.errors.ConnectException;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresBinaryFormat;
+import io.debezium.connector.postgresql.PostgresType;
+
+/**
+ * Decodes column values sent by pgoutput in binary format (PostgreSQL 14+ with the {@code binary} option) into the
+ * same Java types as {@link PgOutputReplicationMessage#getValue} resolves from their text representation, so they are
+ * converted alike.
+ */
+final class PgOutputBinaryValueDecoder {
+
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final Instant POSTGRES_EPOCH_INSTANT = POSTGRES_EPOCH_DATE.atStartOfDay().toInstant(ZoneOffset.UTC);
+
+    private PgOutputBinaryValueDecoder() {
+    }
+
+    /**
+     * Whether values of the given type can be decoded from their binary format.
+     */
+    static boolean isSupported(PostgresType type) {
+        final PostgresType rootType = type.getRootType();
+        return !rootType.isArrayType() && (rootType.isEnumType() || isSupported(rootType.getOid()));
+    }
+
+    private static boolean isSupported(int typeOid) {
+        switch (typeOid) {
+            case PgOid.BOOL:
+            case PgOid.INT2:
+            case PgOid.INT4:
+            case PgOid.INT8:
+            case PgOid.FLOAT4:
+            case PgOid.FLOAT8:
+            case PgOid.NUMERIC:
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.BYTEA:
+            case PgOid.UUID:
+            case PgOid.JSON:
+            case PgOid.JSONB_OID:
+            case PgOid.XML:
+            case PgOid.DATE:
+            case PgOid.TIME:
+            case PgOid.TIMETZ:
+            case PgOid.TIMESTAMP:
+            case PgOid.TIMESTAMPTZ:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Decodes a value of the given type from the next {@code length} bytes of the buffer.
+     */
+    static Object decode(PostgresType type, ByteBuffer buffer, int length) {
+        final PostgresType rootType = type.getRootType();
+        final int end = buffer.position() + length;
+        final Object value;
+        if (rootType.isEnumType()) {
+            value = readString(buffer, length);
+        }
+        else {
+            final ByteBuffer slice = buffer.slice();
+            slice.limit(length);
+            value = decodeValue(rootType, slice, length);
+        }
+        buffer.position(end);
+        return value;
+    }
+
+    private static Object decodeValue(PostgresType type, ByteBuffer value, int length) {
+        switch (type.getOid()) {
+            case PgOid.BOOL:
+                return value.get() != 0;
+            case PgOid.INT2:
+                return (int) value.getShort();
+            case PgOid.INT4:
+                return value.getInt();
+            case PgOid.INT8:
+                return value.getLong();
+            case PgOid.FLOAT4:
+                return value.getFloat();
+            case PgOid.FLOAT8:
+                return value.getDouble();
+            case PgOid.NUMERIC:
+                return PostgresBinaryFormat.decodeNumeric(value);
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.JSON:
+            case PgOid.XML:
+                return readString(value, length);
+            case PgOid.JSONB_OID:
+                // the first byte is the version of the jsonb format, followed by the text
+                value.get();
+                return readString(value, length - 1);
+            case PgOid.BYTEA:
+                final byte[] bytes = new byte[length];
+                value.get(bytes);
+                return bytes;
+            case PgOid.UUID:
+                return new UUID(value.getLong(), value.getLong()).toString();
+            case PgOid.DATE:
+                final int days = value.getInt();
+                if (days == Integer.MAX_VALUE || days == Integer.MIN_VALUE) {
+                    throw infiniteValue(type);
+                }
+                return POSTGRES_EPOCH_DATE.plusDays(days);
+            case PgOid.TIME:
+                return PostgresBinaryFormat.decodeTime(value.getLong());
+            case PgOid.TIMETZ:
+                final LocalTime time = LocalTime.ofNanoOfDay(value.getLong() * 1_000);
+                // the offset is sent in seconds west of UTC
+                final ZoneOffset offset = ZoneOffset.ofTotalSeconds(-value.getInt());
+                return OffsetTime.of(time, offset).withOffsetSameInstant(ZoneOffset.UTC);
+            case PgOid.TIMESTAMP:
+                return timestamp(type, value.getLong());
+            case PgOid.TIMESTAMPTZ:
+                return timestamp(type, value.getLong()).atOffset(ZoneOffset.UTC);
+            default:
+                // not expected, as relations with columns of such types are rejected before their values are received
+                throw new ConnectException("Binary format of type '" + type.getName() + "' is not supported");
+        }
+    }
+
+    private static Instant timestamp(PostgresType type, long micros) {
+        if (micros == Long.MAX_VALUE || micros == Long.MIN_VALUE) {
+            throw infiniteValue(type);
+        }
+        return POSTGRES_EPOCH_INSTANT.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private static ConnectException infiniteValue(PostgresType type) {
+        return new ConnectException("Infinite values of type '" + type.getName() + "' are not supported");
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
@@ -5,10 +5,10 @@
  */
 package io.debezium.connector.postgresql.connection.pgoutput;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
+import java.sql.Array;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -23,6 +23,7 @@
 import java.util.Optional;
 import java.util.Set;
 
+import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +34,7 @@
 import io.debezium.connector.postgresql.UnchangedToastedReplicationMessageColumn;
 import io.debezium.connector.postgresql.connection.AbstractMessageDecoder;
 import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
+import io.debezium.connector.postgresql.connection.BinaryFormatNotSupportedException;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.MessageDecoderConfig;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
@@ -65,6 +67,28 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
     private int transactionId;
 
     private final MessageDecoderConfig config;
+    private boolean binaryFormat;
+    private boolean streaming;
+
+    /**
+     * The LSN at which the message currently being processed has been received.
+     */
+    private Lsn messageLsn = Lsn.INVALID_LSN;
+
+    /**
+     * Transactions streamed while in progress, by their id, whose changes are held back until they are committed.
+     */
+    private final Map<Integer, PgOutputStreamedTransaction> streamedTransactions = new HashMap<>();
+    private PgOutputStreamedTransaction currentStreamedTransaction;
+    private long streamedBytesInMemory;
+
+    /**
+     * The locator of the position to resume streaming from, passed with the message currently being processed. The
+     * changes of streamed transactions are checked against it once they are emitted on commit.
+     */
+    private WalPositionLocator walPosition;
+
+    private final PgOutputRelationMetaDataCache relationMetaDataCache;
 
     public enum MessageType {
         RELATION,
@@ -75,7 +99,11 @@ public enum MessageType {
         DELETE,
         TYPE,
         ORIGIN,
-        TRUNCATE;
+        TRUNCATE,
+        STREAM_START,
+        STREAM_STOP,
+        STREAM_COMMIT,
+        STREAM_ABORT;
 
         public static MessageType forType(char type) {
             switch (type) {
@@ -97,6 +125,14 @@ public static MessageType forType(char type) {
                     return ORIGIN;
                 case 'T':
                     return TRUNCATE;
+                case 'S':
+                    return STREAM_START;
+                case 'E':
+                    return STREAM_STOP;
+                case 'c':
+                    return STREAM_COMMIT;
+                case 'A':
+                    return STREAM_ABORT;
                 default:
                     throw new IllegalArgumentException("Unsupported message type: " + type);
             }
@@ -106,6 +142,7 @@ public static MessageType forType(char type) {
     public PgOutputMessageDecoder(MessageDecoderConfig config) {
         super(config);
         this.config = config;
+        this.relationMetaDataCache = new PgOutputRelationMetaDataCache(this::readRelationMetaData);
     }
 
     @Override
@@ -116,6 +153,15 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         try {
             MessageType type = MessageType.forType((char) buffer.get());
             LOGGER.trace("Message Type: {}", type);
+            this.walPosition = walPosition;
+            if (currentStreamedTransaction != null || isStreamMessage(type)) {
+                // Once the replication stream has been restarted, the server streams the transactions in progress again
+                // from their first change, which may precede the position to resume from. Hence the messages of streamed
+                // transactions are only checked once they are emitted on commit, in the order they have been emitted
+                // while searching for that position.
+                LOGGER.trace("{} messages of streamed transactions are checked on commit", type);
+                return false;
+            }
             final boolean candidateForSkipping = super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition);
             switch (type) {
                 case TRUNCATE:
@@ -161,6 +207,25 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         }
     }
 
+    private static boolean isStreamMessage(MessageType type) {
+        switch (type) {
+            case STREAM_START:
+            case STREAM_STOP:
+            case STREAM_COMMIT:
+            case STREAM_ABORT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void processMessage(ByteBuffer buffer, Lsn lsn, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        messageLsn = lsn != null ? lsn : Lsn.INVALID_LSN;
+        processMessage(buffer, processor, typeRegistry);
+    }
+
     @Override
     public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry) throws SQLException, InterruptedException {
         if (LOGGER.isTraceEnabled()) {
@@ -176,7 +241,20 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
             LOGGER.trace("Message arrived from database {}", HexConverter.convertToHexString(content));
         }
 
-        final MessageType messageType = MessageType.forType((char) buffer.get());
+        final byte type = buffer.get();
+        final MessageType messageType = MessageType.forType((char) type);
+        if (currentStreamedTransaction != null) {
+            switch (messageType) {
+                case RELATION:
+                case INSERT:
+                case UPDATE:
+                case DELETE:
+                    bufferStreamedMessage(type, buffer);
+                    return;
+                default:
+                    break;
+            }
+        }
         switch (messageType) {
             case BEGIN:
                 handleBeginMessage(buffer, processor);
@@ -196,6 +274,19 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
             case DELETE:
                 decodeDelete(buffer, typeRegistry, processor);
                 break;
+            case STREAM_START:
+                handleStreamStartMessage(buffer);
+                break;
+            case STREAM_STOP:
+                LOGGER.trace("Event: {}", MessageType.STREAM_STOP);
+                currentStreamedTransaction = null;
+                break;
+            case STREAM_COMMIT:
+                handleStreamCommitMessage(buffer, processor, typeRegistry);
+                break;
+            case STREAM_ABORT:
+                handleStreamAbortMessage(buffer);
+                break;
             default:
                 LOGGER.trace("Message Type {} skipped, not processed.", messageType);
                 break;
@@ -204,8 +295,34 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
 
     @Override
     public ChainedLogicalStreamBuilder optionsWithMetadata(ChainedLogicalStreamBuilder builder) {
-        return builder.withSlotOption("proto_version", 1)
+        // the server streams all transactions in progress again once the replication stream is (re-)started
+        releaseStreamedTransactions();
+        relationMetaDataCache.sessionStarted();
+
+        builder = builder.withSlotOption("proto_version", streaming ? 2 : 1)
                 .withSlotOption("publication_names", config.getPublicationName());
+        if (binaryFormat) {
+            builder = builder.withSlotOption("binary", true);
+        }
+        if (streaming) {
+            builder = builder.withSlotOption("streaming", "on");
+        }
+        return builder;
+    }
+
+    @Override
+    public boolean supportsBinaryFormat(PostgresType type) {
+        return PgOutputBinaryValueDecoder.isSupported(type);
+    }
+
+    @Override
+    public void setBinaryFormat(boolean flag) {
+        this.binaryFormat = flag;
+    }
+
+    @Override
+    public void setStreaming(boolean flag) {
+        this.streaming = flag;
     }
 
     @Override
@@ -249,6 +366,186 @@ private void handleCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor
         processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
     }
 
+    /**
+     * Callback handler for the 'S' stream start replication message, which precedes a segment of the changes of a
+     * transaction that is in progress.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamStartMessage(ByteBuffer buffer) {
+        final int xid = buffer.getInt();
+        final boolean firstSegment = buffer.get() == 1;
+        LOGGER.trace("Event: {}, XID: {}, First segment: {}", MessageType.STREAM_START, xid, firstSegment);
+
+        PgOutputStreamedTransaction transaction = streamedTransactions.get(xid);
+        if (firstSegment || transaction == null) {
+            if (transaction != null) {
+                releaseStreamedTransaction(transaction);
+            }
+            else if (!firstSegment) {
+                LOGGER.warn("Received a segment of streamed transaction {} without its first segment", Integer.toUnsignedString(xid));
+            }
+            // the first segment is sent at the LSN of the first change of the transaction
+            transaction = new PgOutputStreamedTransaction(xid, messageLsn, config.getStreamingSpillDirectory());
+            streamedTransactions.put(xid, transaction);
+        }
+        currentStreamedTransaction = transaction;
+    }
+
+    /**
+     * Holds back a message of the transaction whose changes are currently streamed. The message is held in memory
+     * unless the messages of all streamed transactions exceed the buffer size, in which case it's written to disk.
+     *
+     * @param type The type of the message
+     * @param buffer The replication stream buffer, positioned at the transaction id of the message
+     */
+    private void bufferStreamedMessage(byte type, ByteBuffer buffer) {
+        final int subXid = buffer.getInt();
+        final byte[] message = new byte[1 + buffer.remaining()];
+        message[0] = type;
+        buffer.get(message, 1, message.length - 1);
+
+        final boolean spill = streamedBytesInMemory + message.length > config.getStreamingBufferSize();
+        if (spill && !currentStreamedTransaction.isSpilled()) {
+            LOGGER.info("Buffered changes of streamed transactions exceed {} bytes, writing the changes of transaction {} to disk",
+                    config.getStreamingBufferSize(), Integer.toUnsignedString(currentStreamedTransaction.transactionId()));
+        }
+        try {
+            streamedBytesInMemory += currentStreamedTransaction.add(messageLsn, subXid, message, spill);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Failed to write the changes of streamed transaction " + currentStreamedTransaction + " to disk", e);
+        }
+    }
+
+    /**
+     * Callback handler for the 'c' stream commit replication message, which emits the held back changes of the
+     * transaction within the usual transaction boundaries.
+     *
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void handleStreamCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final int xid = buffer.getInt();
+        int flags = buffer.get(); // flags, currently unused
+        final Lsn lsn = Lsn.valueOf(buffer.getLong()); // LSN of the commit
+        final Lsn endLsn = Lsn.valueOf(buffer.getLong()); // End LSN of the transaction
+        this.commitTimestamp = PG_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        this.transactionId = xid;
+        LOGGER.trace("Event: {}", MessageType.STREAM_COMMIT);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("Flags: {} (currently unused and most likely 0)", flags);
+        LOGGER.trace("Commit LSN: {}", lsn);
+        LOGGER.trace("End LSN of transaction: {}", endLsn);
+        LOGGER.trace("Commit timestamp of transaction: {}", commitTimestamp);
+
+        final PgOutputStreamedTransaction transaction = streamedTransactions.remove(xid);
+        if (transaction == null) {
+            LOGGER.warn("Received commit of streamed transaction {} without any of its changes", Integer.toUnsignedString(xid));
+            processor.process(new TransactionMessage(Operation.BEGIN, transactionId, commitTimestamp));
+            processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
+            return;
+        }
+        try {
+            // like those of other transactions, BEGIN and COMMIT are never skipped but may be the position to resume from
+            skipStreamedMessage(transaction.firstLsn());
+            processor.process(new TransactionMessage(Operation.BEGIN, transactionId, commitTimestamp), transaction.firstLsn());
+            transaction.replay((changeLsn, message) -> {
+                // the changes are emitted with the LSNs they have been received at
+                final ReplicationMessageProcessor changeProcessor = change -> {
+                    if (!skipStreamedMessage(changeLsn)) {
+                        processor.process(change, changeLsn);
+                    }
+                };
+                final MessageType messageType = MessageType.forType((char) message.get());
+                switch (messageType) {
+                    case RELATION:
+                        handleRelationMessage(message, typeRegistry);
+                        break;
+                    case INSERT:
+                        decodeInsert(message, typeRegistry, changeProcessor);
+                        break;
+                    case UPDATE:
+                        decodeUpdate(message, typeRegistry, changeProcessor);
+                        break;
+                    case DELETE:
+                        decodeDelete(message, typeRegistry, changeProcessor);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unexpected message type " + messageType + " of streamed transaction " + transaction);
+                }
+            });
+            skipStreamedMessage(messageLsn);
+            processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
+        }
+        catch (IOException e) {
+            throw new ConnectException("Failed to read the changes of streamed transaction " + transaction + " from disk", e);
+        }
+        finally {
+            releaseStreamedTransaction(transaction);
+        }
+    }
+
+    /**
+     * Callback handler for the 'A' stream abort replication message, which discards the held back changes of the
+     * transaction or of one of its subtransactions.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamAbortMessage(ByteBuffer buffer) {
+        final int xid = buffer.getInt();
+        final int subXid = buffer.getInt();
+        LOGGER.trace("Event: {}, XID: {}, Subtransaction XID: {}", MessageType.STREAM_ABORT, xid, subXid);
+
+        final PgOutputStreamedTransaction transaction = streamedTransactions.get(xid);
+        if (transaction == null) {
+            return;
+        }
+        if (xid == subXid) {
+            streamedTransactions.remove(xid);
+            releaseStreamedTransaction(transaction);
+        }
+        else {
+            streamedBytesInMemory -= transaction.abort(subXid);
+        }
+    }
+
+    /**
+     * Whether the message of a streamed transaction emitted at the given LSN has already been processed before the
+     * replication stream was restarted.
+     */
+    private boolean skipStreamedMessage(Lsn lsn) {
+        if (walPosition != null && walPosition.skipMessage(lsn)) {
+            LOGGER.debug("Message of streamed transaction at LSN {} identified as already processed", lsn);
+            return true;
+        }
+        return false;
+    }
+
+    private void releaseStreamedTransaction(PgOutputStreamedTransaction transaction) {
+        streamedBytesInMemory -= transaction.bufferedBytes();
+        if (currentStreamedTransaction == transaction) {
+            currentStreamedTransaction = null;
+        }
+        try {
+            transaction.close();
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete the spill file of streamed transaction {}", transaction, e);
+        }
+    }
+
+    private void releaseStreamedTransactions() {
+        for (PgOutputStreamedTransaction transaction : streamedTransactions.values()) {
+            releaseStreamedTransaction(transaction);
+        }
+        streamedTransactions.clear();
+        currentStreamedTransaction = null;
+        streamedBytesInMemory = 0;
+    }
+
     /**
      * Callback handler for the 'R' relation replication message.
      *
@@ -265,30 +562,48 @@ private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry)
         LOGGER.trace("Event: {}, RelationId: {}, Replica Identity: {}, Columns: {}", MessageType.RELATION, relationId, replicaIdentityId, columnCount);
         LOGGER.trace("Schema: '{}', Table: '{}'", schemaName, tableName);
 
-        // Perform several out-of-bands database metadata queries
-        Map<String, Boolean> columnOptionality;
-        Set<String> primaryKeyColumns;
-        try (final PostgresConnection connection = new PostgresConnection(config.getConfiguration())) {
-            final DatabaseMetaData databaseMetadata = connection.connection().getMetaData();
-            columnOptionality = getTableColumnOptionalityFromDatabase(databaseMetadata, schemaName, tableName);
-            primaryKeyColumns = getTablePrimaryKeyColumnNamesFromDatabase(databaseMetadata, schemaName, tableName);
-            if (primaryKeyColumns == null || primaryKeyColumns.isEmpty()) {
-                LOGGER.warn("Primary keys are not defined for table '{}', defaulting to unique indices", tableName);
-                primaryKeyColumns = new HashSet<>(connection.readTableUniqueIndices(databaseMetadata, new TableId(null, schemaName, tableName)));
+        List<String> columnNames = new ArrayList<>(columnCount);
+        int[] columnTypes = new int[columnCount];
+        int[] columnTypeModifiers = new int[columnCount];
+        final PgOutputRelationMetaDataCache.RelationDefinition definition = new PgOutputRelationMetaDataCache.RelationDefinition(schemaName,
+                tableName, replicaIdentityId);
+        for (short i = 0; i < columnCount; ++i) {
+            byte flags = buffer.get();
+            String columnName = Strings.unquoteIdentifierPart(readString(buffer));
+            columnNames.add(columnName);
+            columnTypes[i] = buffer.getInt();
+            columnTypeModifiers[i] = buffer.getInt();
+            definition.addColumn(flags, columnName, columnTypes[i], columnTypeModifiers[i]);
+        }
+
+        if (binaryFormat) {
+            // The relation may have changed since the stream has been started, its values can only be decoded if
+            // the binary format of all column types is supported
+            for (short i = 0; i < columnCount; ++i) {
+                final PostgresType postgresType = typeRegistry.get(columnTypes[i]);
+                if (!PgOutputBinaryValueDecoder.isSupported(postgresType)) {
+                    throw new BinaryFormatNotSupportedException("Column '" + columnNames.get(i) + "' of table '" + schemaName + "." + tableName
+                            + "' is of type '" + postgresType.getName() + "' whose binary format is not supported");
+                }
             }
         }
 
+        // The optionality and primary key columns are not part of the message, they are read out-of-band once
+        // and then only again after the definition of the relation changed
+        final PgOutputRelationMetaDataCache.RelationMetaData metaData = relationMetaDataCache.get(relationId, definition);
+        Set<String> primaryKeyColumns = metaData.primaryKeyColumns();
+        if (primaryKeyColumns.isEmpty()) {
+            LOGGER.warn("Primary keys are not defined for table '{}', defaulting to unique indices", tableName);
+        }
+
         List<ColumnMetaData> columns = new ArrayList<>();
         for (short i = 0; i < columnCount; ++i) {
-            byte flags = buffer.get();
-            String columnName = Strings.unquoteIdentifierPart(readString(buffer));
-            int columnType = buffer.getInt();
-            int attypmod = buffer.getInt();
-
-            final PostgresType postgresType = typeRegistry.get(columnType);
+            final String columnName = columnNames.get(i);
+            final int attypmod = columnTypeModifiers[i];
+            final PostgresType postgresType = typeRegistry.get(columnTypes[i]);
             boolean key = isColumnInPrimaryKey(schemaName, tableName, columnName, primaryKeyColumns);
 
-            Boolean optional = columnOptionality.get(columnName);
+            Boolean optional = metaData.columnOptionality().get(columnName);
             if (optional == null) {
                 LOGGER.warn("Column '{}' optionality could not be determined, defaulting to true", columnName);
                 optional = true;
@@ -301,33 +616,57 @@ private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry)
         config.getSchema().applySchemaChangesForTable(relationId, table);
     }
 
-    private Map<String, Boolean> getTableColumnOptionalityFromDatabase(DatabaseMetaData databaseMetadata, String schemaName, String tableName) {
-        Map<String, Boolean> columnOptionality = new HashMap<>();
-        try {
-            try (ResultSet resultSet = databaseMetadata.getColumns(null, schemaName, tableName, null)) {
-                while (resultSet.next()) {
-                    columnOptionality.put(resultSet.getString("COLUMN_NAME"), resultSet.getString("IS_NULLABLE").equals("YES"));
+    /**
+     * Reads the optionality of the columns and the primary key columns, or those of the first unique index if there
+     * is no primary key, of the given relation or of all relations of the publication with a single catalog query.
+     * A column is optional unless it is declared not null or its type is a domain declared not null.
+     */
+    private Map<Integer, PgOutputRelationMetaDataCache.RelationMetaData> readRelationMetaData(Integer relationId) throws SQLException {
+        final String query = "SELECT c.oid, "
+                + "array_agg(a.attname ORDER BY a.attnum) AS column_names, "
+                + "array_agg(NOT (a.attnotnull OR (t.typtype = 'd' AND t.typnotnull)) ORDER BY a.attnum) AS column_optionality, "
+                + "(SELECT array_agg(pa.attname) FROM pg_constraint pk, unnest(pk.conkey) AS k(attnum) "
+                + "JOIN pg_attribute pa ON pa.attrelid = pk.conrelid AND pa.attnum = k.attnum "
+                + "WHERE pk.conrelid = c.oid AND pk.contype = 'p') AS primary_key_columns, "
+                + "(SELECT array_agg(ua.attname) FROM (SELECT i.indkey FROM pg_index i JOIN pg_class ic ON ic.oid = i.indexrelid "
+                + "WHERE i.indrelid = c.oid AND i.indisunique ORDER BY ic.relname LIMIT 1) ui, unnest(ui.indkey::int2[]) AS k(attnum) "
+                + "JOIN pg_attribute ua ON ua.attrelid = c.oid AND ua.attnum = k.attnum) AS unique_index_columns "
+                + "FROM pg_class c "
+                + "JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped "
+                + "JOIN pg_type t ON t.oid = a.atttypid "
+                + (relationId == null
+                        ? "WHERE c.oid IN (SELECT format('%I.%I', schemaname, tablename)::regclass FROM pg_publication_tables WHERE pubname = ?) "
+                        : "WHERE c.oid = ? ")
+                + "GROUP BY c.oid";
+        final Map<Integer, PgOutputRelationMetaDataCache.RelationMetaData> metaData = new HashMap<>();
+        try (PostgresConnection connection = new PostgresConnection(config.getConfiguration())) {
+            connection.prepareQuery(query, statement -> {
+                if (relationId == null) {
+                    statement.setString(1, config.getPublicationName());
                 }
-            }
-        }
-        catch (SQLException e) {
-            LOGGER.warn("Failed to read column optionality metadata for '{}.{}'", schemaName, tableName);
-            // todo: DBZ-766 Should this throw the exception or just log the warning?
-        }
-        return columnOptionality;
-    }
-
-    private Set<String> getTablePrimaryKeyColumnNamesFromDatabase(DatabaseMetaData databaseMetadata, String schemaName, String tableName) {
-        Set<String> primaryKeyColumns = new HashSet<>();
-        try (ResultSet resultSet = databaseMetadata.getPrimaryKeys(null, schemaName, tableName)) {
-            while (resultSet.next()) {
-                primaryKeyColumns.add(resultSet.getString("COLUMN_NAME"));
-            }
-        }
-        catch (SQLException e) {
-            LOGGER.warn("Failed to read table {}.{} primary keys", schemaName, tableName);
+                else {
+                    statement.setLong(1, relationId & 0xFFFFFFFFL);
+                }
+            }, rs -> {
+                while (rs.next()) {
+                    final String[] columnNames = (String[]) rs.getArray(2).getArray();
+                    final Boolean[] optional = (Boolean[]) rs.getArray(3).getArray();
+                    final Map<String, Boolean> columnOptionality = new HashMap<>();
+                    for (int i = 0; i < columnNames.length; i++) {
+                        columnOptionality.put(columnNames[i], optional[i]);
+                    }
+                    Array keyColumns = rs.getArray(4);
+                    if (keyColumns == null) {
+                        keyColumns = rs.getArray(5);
+                    }
+                    final Set<String> primaryKeyColumns = keyColumns == null
+                            ? new HashSet<>()
+                            : new HashSet<>(Arrays.asList((String[]) keyColumns.getArray()));
+                    metaData.put((int) rs.getLong(1), new PgOutputRelationMetaDataCache.RelationMetaData(columnOptionality, primaryKeyColumns));
+                }
+            });
         }
-        return primaryKeyColumns;
+        return metaData;
     }
 
     private boolean isColumnInPrimaryKey(String schemaName, String tableName, String columnName, Set<String> primaryKeyColumns) {
@@ -567,6 +906,7 @@ private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer,
 
             // Read the sub-message type
             // 't' : Value is represented as text
+            // 'b' : Value is represented in binary format (PG14+)
             // 'u' : An unchanged TOAST-ed value, actual value is not sent.
             // 'n' : Value is null.
             char type = (char) buffer.get();
@@ -586,6 +926,22 @@ public String toString() {
                             }
                         });
             }
+            else if (type == 'b') {
+                final int length = buffer.getInt();
+                final Object value = PgOutputBinaryValueDecoder.decode(columnType, buffer, length);
+                columns.add(
+                        new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional, true) {
+                            @Override
+                            public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                                return value;
+                            }
+
+                            @Override
+                            public String toString() {
+                                return columnName + "(" + typeExpression + ")=" + value;
+                            }
+                        });
+            }
             else if (type == 'u') {
                 columns.add(
                         new UnchangedToastedReplicationMessageColumn(columnName, columnType, typeExpression, optional, true) {
@@ -0,0 +1,253 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * Caches the metadata of relations that is not contained in pgoutput RELATION messages, i.e. the optionality of the
+ * columns and the primary key columns, by relation OID. The server sends a RELATION message whenever the decoding
+ * session encounters a relation for the first time or its definition changed, so without caching the catalog would be
+ * queried for every table after each restart and reconnect.
+ * <p>
+ * The metadata of all published relations is loaded with a single catalog query when the first relation is looked up
+ * after the replication stream has been started; it is used for the first RELATION message of each relation in that
+ * session if the message describes the same columns. Any further RELATION message of a relation in the same session
+ * means that the relation has been altered, possibly in a way the message doesn't reflect, e.g. by
+ * {@code SET NOT NULL}, so its metadata is read again then.
+ */
+@NotThreadSafe
+class PgOutputRelationMetaDataCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputRelationMetaDataCache.class);
+
+    /**
+     * Reads relation metadata from the catalog.
+     */
+    @FunctionalInterface
+    interface Loader {
+
+        /**
+         * Reads the metadata of the given relation or, if {@code relationId} is {@code null}, of all published relations.
+         *
+         * @return the metadata by relation OID
+         */
+        Map<Integer, RelationMetaData> load(Integer relationId) throws SQLException;
+    }
+
+    static class RelationMetaData {
+
+        static final RelationMetaData EMPTY = new RelationMetaData(Collections.emptyMap(), Collections.emptySet());
+
+        private final Map<String, Boolean> columnOptionality;
+        private final Set<String> primaryKeyColumns;
+
+        RelationMetaData(Map<String, Boolean> columnOptionality, Set<String> primaryKeyColumns) {
+            this.columnOptionality = Collections.unmodifiableMap(columnOptionality);
+            this.primaryKeyColumns = Collections.unmodifiableSet(primaryKeyColumns);
+        }
+
+        /**
+         * @return whether each column is optional, by column name
+         */
+        Map<String, Boolean> columnOptionality() {
+            return columnOptionality;
+        }
+
+        /**
+         * @return the names of the primary key columns, or those of the first unique index if the relation has no
+         *         primary key
+         */
+        Set<String> primaryKeyColumns() {
+            return primaryKeyColumns;
+        }
+    }
+
+    /**
+     * The definition of a relation as described by a RELATION message.
+     */
+    static class RelationDefinition {
+
+        private final String schemaName;
+        private final String tableName;
+        private final int replicaIdentity;
+        private final List<ColumnDefinition> columns = new ArrayList<>();
+
+        RelationDefinition(String schemaName, String tableName, int replicaIdentity) {
+            this.schemaName = schemaName;
+            this.tableName = tableName;
+            this.replicaIdentity = replicaIdentity;
+        }
+
+        RelationDefinition addColumn(byte flags, String name, int typeOid, int typeModifier) {
+            columns.add(new ColumnDefinition(flags, name, typeOid, typeModifier));
+            return this;
+        }
+
+        Set<String> columnNames() {
+            return columns.stream().map(column -> column.name).collect(Collectors.toSet());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final RelationDefinition that = (RelationDefinition) o;
+            return replicaIdentity == that.replicaIdentity
+                    && schemaName.equals(that.schemaName)
+                    && tableName.equals(that.tableName)
+                    && columns.equals(that.columns);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schemaName, tableName, replicaIdentity, columns);
+        }
+    }
+
+    private static class ColumnDefinition {
+
+        private final byte flags;
+        private final String name;
+        private final int typeOid;
+        private final int typeModifier;
+
+        ColumnDefinition(byte flags, String name, int typeOid, int typeModifier) {
+            this.flags = flags;
+            this.name = name;
+            this.typeOid = typeOid;
+            this.typeModifier = typeModifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ColumnDefinition that = (ColumnDefinition) o;
+            return flags == that.flags
+                    && typeOid == that.typeOid
+                    && typeModifier == that.typeModifier
+                    && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(flags, name, typeOid, typeModifier);
+        }
+    }
+
+    private static class Entry {
+
+        /**
+         * The definition of the relation the metadata belongs to, or {@code null} if the metadata has been loaded in
+         * bulk and not been looked up yet.
+         */
+        private RelationDefinition definition;
+        private final RelationMetaData metaData;
+
+        Entry(RelationDefinition definition, RelationMetaData metaData) {
+            this.definition = definition;
+            this.metaData = metaData;
+        }
+
+        private boolean matches(RelationDefinition definition) {
+            if (this.definition != null) {
+                return this.definition.equals(definition);
+            }
+            // metadata loaded in bulk is valid for the first message of the relation unless its columns differ
+            if (metaData.columnOptionality().keySet().equals(definition.columnNames())) {
+                this.definition = definition;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final Loader loader;
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * The relations a RELATION message has been received for since the replication stream has been started.
+     */
+    private final Set<Integer> describedRelations = new HashSet<>();
+    private boolean loaded;
+
+    PgOutputRelationMetaDataCache(Loader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Signals that the replication stream has been (re-)started, so the server sends a RELATION message for each
+     * relation again before its first change.
+     */
+    void sessionStarted() {
+        describedRelations.clear();
+        loaded = false;
+    }
+
+    /**
+     * Returns the metadata of a relation, reading it from the catalog if it is not known yet or if the relation
+     * changed since it has been read.
+     *
+     * @param relationId the OID of the relation
+     * @param definition the definition of the relation from the RELATION message
+     * @return the metadata, never {@code null}
+     */
+    RelationMetaData get(int relationId, RelationDefinition definition) throws SQLException {
+        if (!describedRelations.add(relationId)) {
+            // the relation has been altered since its last RELATION message in this session
+            entries.remove(relationId);
+        }
+        else {
+            Entry entry = entries.get(relationId);
+            if (entry != null && entry.matches(definition)) {
+                return entry.metaData;
+            }
+            if (!loaded) {
+                loaded = true;
+                final Map<Integer, RelationMetaData> metaData = loader.load(null);
+                entries.clear();
+                metaData.forEach((id, relationMetaData) -> entries.put(id, new Entry(null, relationMetaData)));
+                LOGGER.info("Read metadata of {} published relations", metaData.size());
+                entry = entries.get(relationId);
+                if (entry != null && entry.matches(definition)) {
+                    return entry.metaData;
+                }
+            }
+        }
+        LOGGER.debug("Reading metadata of relation {}", relationId);
+        final RelationMetaData metaData = loader.load(relationId).get(relationId);
+        if (metaData == null) {
+            // the relation has been dropped since the change has been made
+            entries.remove(relationId);
+            return RelationMetaData.EMPTY;
+        }
+        entries.put(relationId, new Entry(definition, metaData));
+        return metaData;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.postgresql.connection.Lsn;
+
+/**
+ * The messages of a transaction that pgoutput streams while it is still in progress (protocol version 2), held back
+ * until the transaction is committed or aborted. Messages are kept in memory until the caller decides to spill them;
+ * from then on all further messages of the transaction are appended to a file, so the order is retained.
+ * <p>
+ * The messages of aborted subtransactions are dropped when they are in memory and skipped on replay otherwise.
+ */
+@NotThreadSafe
+final class PgOutputStreamedTransaction implements Closeable {
+
+    @FunctionalInterface
+    interface MessageConsumer {
+        void accept(Lsn lsn, ByteBuffer message) throws SQLException, InterruptedException;
+    }
+
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+    private final int transactionId;
+    private final Lsn firstLsn;
+    private final Path spillDirectory;
+    private final List<Message> messages = new ArrayList<>();
+    private final Set<Integer> abortedSubTransactions = new HashSet<>();
+    private long bufferedBytes;
+    private Path spillFile;
+    private DataOutputStream spillOutput;
+
+    PgOutputStreamedTransaction(int transactionId, Lsn firstLsn, Path spillDirectory) {
+        this.transactionId = transactionId;
+        this.firstLsn = firstLsn;
+        this.spillDirectory = spillDirectory;
+    }
+
+    int transactionId() {
+        return transactionId;
+    }
+
+    /**
+     * Returns the LSN of the first change of the transaction.
+     */
+    Lsn firstLsn() {
+        return firstLsn;
+    }
+
+    /**
+     * Returns the number of bytes of the messages held in memory.
+     */
+    long bufferedBytes() {
+        return bufferedBytes;
+    }
+
+    boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Adds a message of the transaction or one of its subtransactions.
+     *
+     * @param lsn the LSN of the message
+     * @param subTransactionId the id of the (sub)transaction the message belongs to
+     * @param message the message, starting with its type and without the transaction id
+     * @param spill whether to write the message to disk rather than keeping it in memory; once a message has been
+     *            spilled, all following messages are spilled as well
+     * @return the number of bytes added to memory
+     */
+    long add(Lsn lsn, int subTransactionId, byte[] message, boolean spill) throws IOException {
+        if (spill || spillFile != null) {
+            if (spillOutput == null) {
+                spillFile = Files.createTempFile(spillDirectory, "debezium-pgoutput-tx-" + Integer.toUnsignedString(transactionId) + "-", ".bin");
+                spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile), SPILL_BUFFER_SIZE));
+            }
+            spillOutput.writeLong(lsn.asLong());
+            spillOutput.writeInt(subTransactionId);
+            spillOutput.writeInt(message.length);
+            spillOutput.write(message);
+            return 0;
+        }
+        messages.add(new Message(lsn, subTransactionId, message));
+        bufferedBytes += message.length;
+        return message.length;
+    }
+
+    /**
+     * Discards the messages of the given subtransaction.
+     *
+     * @return the number of bytes released from memory
+     */
+    long abort(int subTransactionId) {
+        abortedSubTransactions.add(subTransactionId);
+        long released = 0;
+        for (Iterator<Message> iterator = messages.iterator(); iterator.hasNext();) {
+            final Message message = iterator.next();
+            if (message.subTransactionId == subTransactionId) {
+                released += message.bytes.length;
+                iterator.remove();
+            }
+        }
+        bufferedBytes -= released;
+        return released;
+    }
+
+    /**
+     * Passes all messages of the transaction that have not been aborted to the given consumer, in the order they were
+     * added.
+     */
+    void replay(MessageConsumer consumer) throws IOException, SQLException, InterruptedException {
+        for (Message message : messages) {
+            consumer.accept(message.lsn, ByteBuffer.wrap(message.bytes));
+        }
+        if (spillFile == null) {
+            return;
+        }
+        spillOutput.close();
+        spillOutput = null;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile), SPILL_BUFFER_SIZE))) {
+            while (true) {
+                final long lsn;
+                try {
+                    lsn = input.readLong();
+                }
+                catch (EOFException e) {
+                    break;
+                }
+                final int subTransactionId = input.readInt();
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                if (!abortedSubTransactions.contains(subTransactionId)) {
+                    consumer.accept(Lsn.valueOf(lsn), ByteBuffer.wrap(bytes));
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the messages and deletes the spill file, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        messages.clear();
+        bufferedBytes = 0;
+        if (spillOutput != null) {
+            spillOutput.close();
+            spillOutput = null;
+        }
+        if (spillFile != null) {
+            Files.deleteIfExists(spillFile);
+            spillFile = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PgOutputStreamedTransaction [transactionId=" + Integer.toUnsignedString(transactionId) + ", firstLsn=" + firstLsn + ", messages="
+                + messages.size() + ", spillFile=" + spillFile + "]";
+    }
+
+    private static final class Message {
+
+        private final Lsn lsn;
+        private final int subTransactionId;
+        private final byte[] bytes;
+
+        private Message(Lsn lsn, int subTransactionId, byte[] bytes) {
+            this.lsn = lsn;
+            this.subTransactionId = subTransactionId;
+            this.bytes = bytes;
+        }
+    }
+}
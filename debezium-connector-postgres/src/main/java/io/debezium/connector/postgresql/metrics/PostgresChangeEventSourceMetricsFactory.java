@@ -0,0 +1,36 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.metrics;
+
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.connector.postgresql.ToastedValueCache;
+import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+
+public class PostgresChangeEventSourceMetricsFactory extends DefaultChangeEventSourceMetricsFactory {
+
+    private final ReplicationConnection replicationConnection;
+    private final ToastedValueCache toastedValueCache;
+
+    /**
+     * @param replicationConnection the connection streaming changes; may be null if the connector doesn't stream
+     * @param toastedValueCache the cache of last seen toasted values
+     */
+    public PostgresChangeEventSourceMetricsFactory(ReplicationConnection replicationConnection, ToastedValueCache toastedValueCache) {
+        this.replicationConnection = replicationConnection;
+        this.toastedValueCache = toastedValueCache;
+    }
+
+    @Override
+    public <T extends CdcSourceTaskContext> StreamingChangeEventSourceMetrics getStreamingMetrics(T taskContext,
+                                                                                                  ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                                                  EventMetadataProvider eventMetadataProvider) {
+        return new PostgresStreamingChangeEventSourceMetrics(taskContext, changeEventQueueMetrics, eventMetadataProvider, replicationConnection, toastedValueCache);
+    }
+}
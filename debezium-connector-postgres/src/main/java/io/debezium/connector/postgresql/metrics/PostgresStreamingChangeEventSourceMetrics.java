@@ -0,0 +1,65 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.metrics;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.connector.postgresql.ToastedValueCache;
+import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+
+@ThreadSafe
+public class PostgresStreamingChangeEventSourceMetrics extends StreamingChangeEventSourceMetrics implements PostgresStreamingChangeEventSourceMetricsMXBean {
+
+    private final ReplicationConnection replicationConnection;
+    private final ToastedValueCache toastedValueCache;
+
+    <T extends CdcSourceTaskContext> PostgresStreamingChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                               EventMetadataProvider eventMetadataProvider,
+                                                                               ReplicationConnection replicationConnection,
+                                                                               ToastedValueCache toastedValueCache) {
+        super(taskContext, changeEventQueueMetrics, eventMetadataProvider);
+        this.replicationConnection = replicationConnection;
+        this.toastedValueCache = toastedValueCache;
+    }
+
+    @Override
+    public int getReplicationBufferDepth() {
+        return replicationConnection != null ? replicationConnection.bufferedMessageCount() : 0;
+    }
+
+    @Override
+    public int getReplicationBufferCapacity() {
+        return replicationConnection != null ? replicationConnection.messageBufferCapacity() : 0;
+    }
+
+    @Override
+    public long getToastedValueCacheHits() {
+        return toastedValueCache.getHits();
+    }
+
+    @Override
+    public long getToastedValueCacheMisses() {
+        return toastedValueCache.getMisses();
+    }
+
+    @Override
+    public long getToastedValueCacheEvictions() {
+        return toastedValueCache.getEvictions();
+    }
+
+    @Override
+    public int getToastedValueCacheRowCount() {
+        return toastedValueCache.getRowCount();
+    }
+
+    @Override
+    public long getToastedValueCacheSizeInBytes() {
+        return toastedValueCache.getSizeInBytes();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.metrics;
+
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetricsMXBean;
+
+/**
+ * Extended metrics exposed by the Postgres connector during streaming.
+ */
+public interface PostgresStreamingChangeEventSourceMetricsMXBean extends StreamingChangeEventSourceMetricsMXBean {
+
+    /**
+     * The number of messages read from the replication stream that are waiting to be decoded, if messages are read on
+     * a separate thread.
+     */
+    int getReplicationBufferDepth();
+
+    int getReplicationBufferCapacity();
+
+    /**
+     * The number of unchanged toasted values that have been filled in from the cache of last seen values.
+     */
+    long getToastedValueCacheHits();
+
+    /**
+     * The number of unchanged toasted values that were not found in the cache of last seen values.
+     */
+    long getToastedValueCacheMisses();
+
+    long getToastedValueCacheEvictions();
+
+    int getToastedValueCacheRowCount();
+
+    long getToastedValueCacheSizeInBytes();
+}
@@ -6,6 +6,7 @@
 package io.debezium.connector.postgresql.snapshot;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -60,7 +61,15 @@ public boolean exportSnapshot() {
 
     @Override
     public Optional<String> buildSnapshotQuery(TableId tableId) {
-        return Optional.of("select * from " + tableId.toDoubleQuotedString());
+        return Optional.of(selectFrom(tableId, "*"));
+    }
+
+    @Override
+    public Optional<String> buildSnapshotQuery(TableId tableId, List<String> snapshotSelectColumns) {
+        // only the default query is narrowed down, overrides of the single-argument variant are kept as they are
+        final String selectAll = selectFrom(tableId, "*");
+        return buildSnapshotQuery(tableId)
+                .map(query -> query.equals(selectAll) ? selectFrom(tableId, String.join(", ", snapshotSelectColumns)) : query);
     }
 
     @Override
@@ -76,4 +85,8 @@ public String snapshotTransactionIsolationLevelStatement(SlotCreationResult newS
         }
         return Snapshotter.super.snapshotTransactionIsolationLevelStatement(newSlotInfo);
     }
+
+    private static String selectFrom(TableId tableId, String columns) {
+        return "select " + columns + " from " + tableId.toDoubleQuotedString();
+    }
 }
@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.postgresql.snapshot;
 
+import java.util.List;
 import java.util.Optional;
 
 import io.debezium.connector.postgresql.PostgresConnectorConfig;
@@ -21,10 +22,25 @@ public void init(PostgresConnectorConfig config, OffsetState sourceInfo, SlotSta
 
     @Override
     public Optional<String> buildSnapshotQuery(TableId tableId) {
+        return Optional.of(selectFrom(tableId, "*"));
+    }
+
+    @Override
+    public Optional<String> buildSnapshotQuery(TableId tableId, List<String> snapshotSelectColumns) {
+        // sub-classes may skip or customize tables by overriding the single-argument variant, so only the
+        // default query is narrowed down to the given columns
+        final String selectAll = selectFrom(tableId, "*");
+        return buildSnapshotQuery(tableId)
+                .map(query -> query.equals(selectAll) ? selectFrom(tableId, String.join(", ", snapshotSelectColumns)) : query);
+    }
+
+    private static String selectFrom(TableId tableId, String columns) {
         // DBZ-298 Quoting name in case it has been quoted originally; it doesn't do harm if it hasn't been quoted
         StringBuilder q = new StringBuilder();
-        q.append("SELECT * FROM ");
+        q.append("SELECT ");
+        q.append(columns);
+        q.append(" FROM ");
         q.append(tableId.toDoubleQuotedString());
-        return Optional.of(q.toString());
+        return q.toString();
     }
 }
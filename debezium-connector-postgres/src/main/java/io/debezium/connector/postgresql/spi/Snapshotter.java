@@ -6,6 +6,7 @@
 package io.debezium.connector.postgresql.spi;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -71,6 +72,20 @@ default boolean exportSnapshot() {
      */
     Optional<String> buildSnapshotQuery(TableId tableId);
 
+    /**
+     * Generate a valid postgres query string for the specified table that reads the given columns, or an empty
+     * {@link Optional} to skip snapshotting this table. By default, the query of {@link #buildSnapshotQuery(TableId)}
+     * is used, i.e. all columns are read.
+     *
+     * @param tableId the table to generate a query for
+     * @param snapshotSelectColumns the quoted names of the columns to be read, i.e. those not removed by the column
+     *                              filters and those forming the key of the table
+     * @return a valid query string, or none to skip snapshotting this table
+     */
+    default Optional<String> buildSnapshotQuery(TableId tableId, List<String> snapshotSelectColumns) {
+        return buildSnapshotQuery(tableId);
+    }
+
     /**
      * Return a new string that set up the transaction for snapshotting
      *
@@ -0,0 +1,151 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+import org.postgresql.PGStatement;
+import org.postgresql.util.PGobject;
+
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.ColumnUtils;
+
+public class PostgresBinaryCopyReaderTest {
+
+    @Test
+    public void shouldDecodeNumerics() throws Exception {
+        // 12345.6780 with display scale 4: digits 1, 2345, 6780
+        assertThat(numeric(3, 1, 0x0000, 4, 1, 2345, 6780)).isEqualTo(new SpecialValueDecimal(new BigDecimal("12345.6780")));
+        // -0.05 with display scale 2: digit 500 at weight -1
+        assertThat(numeric(1, -1, 0x4000, 2, 500)).isEqualTo(new SpecialValueDecimal(new BigDecimal("-0.05")));
+        // 2 * 10000^5, trailing zero digit groups are omitted
+        assertThat(numeric(1, 5, 0x0000, 0, 2)).isEqualTo(new SpecialValueDecimal(new BigDecimal("200000000000000000000")));
+        assertThat(numeric(0, 0, 0x0000, 3)).isEqualTo(new SpecialValueDecimal(new BigDecimal("0.000")));
+        // more than four digit groups
+        assertThat(numeric(6, 5, 0x0000, 0, 1, 2, 3, 4, 5, 6))
+                .isEqualTo(new SpecialValueDecimal(new BigDecimal("100020003000400050006")));
+        assertThat(numeric(0, 0, 0xC000, 0)).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+    }
+
+    @Test
+    public void shouldDecodeTimes() throws Exception {
+        assertThat(PostgresBinaryCopyReader.decode(PgOid.TIME, longBytes(0L), 8)).isEqualTo("00:00:00");
+        assertThat(PostgresBinaryCopyReader.decode(PgOid.TIME, longBytes(((13 * 60 + 5) * 60 + 9) * 1_000_000L + 120_000L), 8))
+                .isEqualTo("13:05:09.12");
+        assertThat(PostgresBinaryCopyReader.decode(PgOid.TIME, longBytes(86_400_000_000L), 8)).isEqualTo("24:00:00");
+    }
+
+    @Test
+    public void shouldDecodeDatesAndTimestamps() throws Exception {
+        assertThat(PostgresBinaryCopyReader.decode(PgOid.DATE, intBytes(-1), 4)).isEqualTo(Date.valueOf(LocalDate.of(1999, 12, 31)));
+        assertThat(PostgresBinaryCopyReader.decode(PgOid.DATE, intBytes(Integer.MAX_VALUE), 4))
+                .isEqualTo(new Date(PGStatement.DATE_POSITIVE_INFINITY));
+        assertThat(PostgresBinaryCopyReader.decode(PgOid.TIMESTAMP, longBytes(86_400_000_001L), 8))
+                .isEqualTo(Timestamp.valueOf(LocalDateTime.of(2000, 1, 2, 0, 0, 0, 1_000)));
+        assertThat(PostgresBinaryCopyReader.decode(PgOid.TIMESTAMPTZ, longBytes(0L), 8))
+                .isEqualTo(new Timestamp(946_684_800_000L));
+    }
+
+    @Test
+    public void shouldReadRowsInColumnPositions() throws Exception {
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "s", "t"))
+                .addColumn(Column.editor().name("id").type("int8").jdbcType(Types.BIGINT).position(1).create())
+                .addColumn(Column.editor().name("name").type("text").jdbcType(Types.VARCHAR).position(2).create())
+                .addColumn(Column.editor().name("doc").type("jsonb").jdbcType(Types.OTHER).position(3).create())
+                .create();
+        // the query returns the columns in a different order than the table has them
+        final ColumnUtils.ColumnArray columns = new ColumnUtils.ColumnArray(
+                new Column[]{ table.columnWithName("name"), table.columnWithName("id"), table.columnWithName("doc") }, 3);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[]{ 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 });
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeShort(3);
+        writeField(out, "first".getBytes(StandardCharsets.UTF_8));
+        writeField(out, longBytes(1L));
+        writeField(out, "\u0001{\"a\": 1}".getBytes(StandardCharsets.UTF_8));
+        out.writeShort(3);
+        out.writeInt(-1);
+        writeField(out, longBytes(2L));
+        out.writeInt(-1);
+        out.writeShort(-1);
+
+        try (PostgresBinaryCopyReader reader = new PostgresBinaryCopyReader(new ByteArrayInputStream(bytes.toByteArray()), columns,
+                new int[]{ PgOid.TEXT, PgOid.INT8, PgOid.JSONB_OID })) {
+            final Object[] first = reader.next();
+            assertThat(first[0]).isEqualTo(1L);
+            assertThat(first[1]).isEqualTo("first");
+            assertThat(((PGobject) first[2]).getType()).isEqualTo("jsonb");
+            assertThat(((PGobject) first[2]).getValue()).isEqualTo("{\"a\": 1}");
+
+            assertThat(reader.next()).isEqualTo(new Object[]{ 2L, null, null });
+            assertThat(reader.next()).isNull();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test(expected = SQLException.class)
+    public void shouldRejectInvalidSignature() throws Exception {
+        try (PostgresBinaryCopyReader reader = new PostgresBinaryCopyReader(new ByteArrayInputStream("1\tfoo\n".getBytes(StandardCharsets.UTF_8)),
+                new ColumnUtils.ColumnArray(new Column[0], 0), new int[0])) {
+            reader.next();
+        }
+    }
+
+    private static Object numeric(int digitCount, int weight, int sign, int scale, int... digits) throws SQLException {
+        final byte[] bytes = new byte[8 + 2 * digitCount];
+        putShort(bytes, 0, digitCount);
+        putShort(bytes, 2, weight);
+        putShort(bytes, 4, sign);
+        putShort(bytes, 6, scale);
+        for (int i = 0; i < digits.length; i++) {
+            putShort(bytes, 8 + 2 * i, digits[i]);
+        }
+        return PostgresBinaryCopyReader.decode(PgOid.NUMERIC, bytes, bytes.length);
+    }
+
+    private static void putShort(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >> 8);
+        bytes[offset + 1] = (byte) value;
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[]{ (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value };
+    }
+
+    private static byte[] longBytes(long value) {
+        final byte[] bytes = new byte[8];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (value >> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    private static void writeField(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+}
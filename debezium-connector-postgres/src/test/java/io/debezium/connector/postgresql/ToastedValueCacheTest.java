@@ -0,0 +1,96 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+public class ToastedValueCacheTest {
+
+    private static final Object UNCHANGED = UnchangedToastedReplicationMessageColumn.UNCHANGED_TOAST_VALUE;
+    private static final List<String> TOASTABLE = Collections.singletonList("text");
+
+    private final Table table = Table.editor()
+            .tableId(new TableId(null, "s", "t"))
+            .addColumns(
+                    Column.editor().name("id").type("int4").jdbcType(Types.INTEGER).position(1).create(),
+                    Column.editor().name("text").type("text").jdbcType(Types.VARCHAR).position(2).create(),
+                    Column.editor().name("flag").type("bool").jdbcType(Types.BOOLEAN).position(3).create())
+            .setPrimaryKeyNames("id")
+            .create();
+
+    @Test
+    public void shouldFillUnchangedToastedValues() {
+        final ToastedValueCache cache = new ToastedValueCache(1024);
+        cache.put(table, TOASTABLE, new Object[]{ 1, "large value", true });
+
+        final Object[] update = new Object[]{ 1, UNCHANGED, false };
+        cache.fill(table, update);
+        assertThat(update).isEqualTo(new Object[]{ 1, "large value", false });
+
+        final Object[] other = new Object[]{ 2, UNCHANGED, false };
+        cache.fill(table, other);
+        assertThat(other[1]).isSameAs(UNCHANGED);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldForgetDeletedRowsAndChangedKeys() {
+        final ToastedValueCache cache = new ToastedValueCache(1024);
+        cache.put(table, TOASTABLE, new Object[]{ 1, "a", true });
+        cache.put(table, TOASTABLE, new Object[]{ 2, "b", true });
+        assertThat(cache.isKeyChanged(table, new Object[]{ 1, null, null }, new Object[]{ 3, "a", true })).isTrue();
+        assertThat(cache.isKeyChanged(table, new Object[]{ 1, null, null }, new Object[]{ 1, "a", true })).isFalse();
+
+        cache.remove(table, new Object[]{ 1, null, null });
+        assertThat(cache.getRowCount()).isEqualTo(1);
+        cache.remove(table.id());
+        assertThat(cache.getRowCount()).isEqualTo(0);
+        assertThat(cache.getSizeInBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedRowsBeyondBudget() {
+        final char[] value = new char[100];
+        Arrays.fill(value, 'x');
+        final ToastedValueCache cache = new ToastedValueCache(500);
+        for (int i = 0; i < 10; i++) {
+            cache.put(table, TOASTABLE, new Object[]{ i, new String(value), true });
+            // keep the first row in use
+            cache.fill(table, new Object[]{ 0, UNCHANGED, true });
+        }
+        assertThat(cache.getSizeInBytes()).isLessThanOrEqualTo(500);
+        assertThat(cache.getEvictions()).isGreaterThan(0);
+
+        final Object[] first = new Object[]{ 0, UNCHANGED, true };
+        cache.fill(table, first);
+        assertThat(first[1]).isEqualTo(new String(value));
+        final Object[] evicted = new Object[]{ 1, UNCHANGED, true };
+        cache.fill(table, evicted);
+        assertThat(evicted[1]).isSameAs(UNCHANGED);
+    }
+
+    @Test
+    public void shouldIgnoreValuesWhenDisabled() {
+        final ToastedValueCache cache = new ToastedValueCache(0);
+        cache.put(table, TOASTABLE, new Object[]{ 1, "a", true });
+        final Object[] update = new Object[]{ 1, UNCHANGED, false };
+        cache.fill(table, update);
+        assertThat(update[1]).isSameAs(UNCHANGED);
+        assertThat(cache.getRowCount()).isEqualTo(0);
+    }
+}
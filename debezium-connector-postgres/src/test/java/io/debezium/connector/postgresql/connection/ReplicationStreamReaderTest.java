@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+
+public class ReplicationStreamReaderTest {
+
+    private final PGReplicationStream stream = mock(PGReplicationStream.class);
+
+    @Test
+    public void shouldBufferCopiesOfMessagesWithTheirLsn() throws Exception {
+        final ByteBuffer first = ByteBuffer.wrap(new byte[]{ 0, 1, 2 }, 1, 2);
+        when(stream.readPending()).thenReturn(first, ByteBuffer.wrap(new byte[]{ 3 }), null);
+        when(stream.getLastReceiveLSN()).thenReturn(LogSequenceNumber.valueOf(100), LogSequenceNumber.valueOf(200));
+
+        try (ReplicationStreamReader reader = new ReplicationStreamReader(stream, 10, Duration.ofSeconds(10), Executors.newSingleThreadExecutor())) {
+            reader.start();
+            ReplicationStreamReader.RawMessage message = reader.take();
+            assertThat(message.lsn()).isEqualTo(Lsn.valueOf(100L));
+            assertThat(message.buffer().remaining()).isEqualTo(2);
+            assertThat(message.buffer().get()).isEqualTo((byte) 1);
+
+            message = reader.take();
+            assertThat(message.lsn()).isEqualTo(Lsn.valueOf(200L));
+            assertThat(message.buffer().get()).isEqualTo((byte) 3);
+            assertThat(reader.poll()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldSendStatusUpdatesWhileBufferIsFull() throws Exception {
+        when(stream.readPending()).thenAnswer(invocation -> ByteBuffer.wrap(new byte[]{ 1 }));
+        when(stream.getLastReceiveLSN()).thenReturn(LogSequenceNumber.valueOf(100));
+
+        try (ReplicationStreamReader reader = new ReplicationStreamReader(stream, 2, Duration.ofMillis(1), Executors.newSingleThreadExecutor())) {
+            reader.start();
+            verify(stream, timeout(5_000).atLeast(3)).forceUpdateStatus();
+            assertThat(reader.size()).isEqualTo(2);
+            assertThat(reader.capacity()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void shouldSendRequestedStatusUpdate() throws Exception {
+        try (ReplicationStreamReader reader = new ReplicationStreamReader(stream, 2, Duration.ofSeconds(10), Executors.newSingleThreadExecutor())) {
+            reader.start();
+            reader.requestStatusUpdate();
+            verify(stream, timeout(5_000).atLeastOnce()).forceUpdateStatus();
+        }
+        verify(stream, atLeastOnce()).readPending();
+    }
+
+    @Test(expected = SQLException.class)
+    public void shouldRethrowReadFailure() throws Exception {
+        when(stream.readPending()).thenThrow(new SQLException("connection lost"));
+
+        try (ReplicationStreamReader reader = new ReplicationStreamReader(stream, 2, Duration.ofSeconds(10), Executors.newSingleThreadExecutor())) {
+            reader.start();
+            reader.take();
+        }
+    }
+}
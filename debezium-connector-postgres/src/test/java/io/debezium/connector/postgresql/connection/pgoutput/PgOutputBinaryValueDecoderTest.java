@@ -0,0 +1,109 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+
+public class PgOutputBinaryValueDecoderTest {
+
+    @Test
+    public void shouldDecodeScalarValues() {
+        assertThat(decode(type("bool", PgOid.BOOL), ByteBuffer.allocate(1).put((byte) 1))).isEqualTo(true);
+        assertThat(decode(type("int2", PgOid.INT2), ByteBuffer.allocate(2).putShort((short) -3))).isEqualTo(-3);
+        assertThat(decode(type("int4", PgOid.INT4), ByteBuffer.allocate(4).putInt(42))).isEqualTo(42);
+        assertThat(decode(type("int8", PgOid.INT8), ByteBuffer.allocate(8).putLong(1L << 40))).isEqualTo(1L << 40);
+        assertThat(decode(type("float8", PgOid.FLOAT8), ByteBuffer.allocate(8).putDouble(1.5))).isEqualTo(1.5);
+        assertThat(decode(type("numeric", PgOid.NUMERIC), ByteBuffer.allocate(12).putShort((short) 2).putShort((short) 0).putShort((short) 0)
+                .putShort((short) 2).putShort((short) 12).putShort((short) 5000)))
+                        .isEqualTo(new SpecialValueDecimal(new BigDecimal("12.50")));
+        assertThat(decode(type("text", PgOid.TEXT), ByteBuffer.wrap("Grüße".getBytes(StandardCharsets.UTF_8)))).isEqualTo("Grüße");
+        assertThat(decode(type("jsonb", PgOid.JSONB_OID), ByteBuffer.wrap("\u0001{\"a\": 1}".getBytes(StandardCharsets.UTF_8)))).isEqualTo("{\"a\": 1}");
+        assertThat(decode(type("uuid", PgOid.UUID), ByteBuffer.allocate(16).putLong(0x0123456789abcdefL).putLong(0x0123456789abcdefL)))
+                .isEqualTo("01234567-89ab-cdef-0123-456789abcdef");
+        assertThat((byte[]) decode(type("bytea", PgOid.BYTEA), ByteBuffer.wrap(new byte[]{ 1, 2, 3 }))).isEqualTo(new byte[]{ 1, 2, 3 });
+    }
+
+    @Test
+    public void shouldDecodeTemporalValues() {
+        assertThat(decode(type("date", PgOid.DATE), ByteBuffer.allocate(4).putInt(-1))).isEqualTo(LocalDate.of(1999, 12, 31));
+        assertThat(decode(type("time", PgOid.TIME), ByteBuffer.allocate(8).putLong(86_400_000_000L))).isEqualTo("24:00:00");
+        assertThat(decode(type("timetz", PgOid.TIMETZ), ByteBuffer.allocate(12).putLong(3_600_000_000L).putInt(-2 * 3600)))
+                .isEqualTo(OffsetTime.of(23, 0, 0, 0, ZoneOffset.UTC));
+        assertThat(decode(type("timestamp", PgOid.TIMESTAMP), ByteBuffer.allocate(8).putLong(86_400_000_001L)))
+                .isEqualTo(Instant.parse("2000-01-02T00:00:00.000001Z"));
+        assertThat(decode(type("timestamptz", PgOid.TIMESTAMPTZ), ByteBuffer.allocate(8).putLong(0L)))
+                .isEqualTo(OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+    }
+
+    @Test(expected = ConnectException.class)
+    public void shouldRejectInfiniteTimestamp() {
+        decode(type("timestamp", PgOid.TIMESTAMP), ByteBuffer.allocate(8).putLong(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldDecodeEnumsAndDomains() {
+        final PostgresType enumType = new PostgresType.Builder(null, "mood", 100_000, Types.VARCHAR, -1, null)
+                .enumValues(Arrays.asList("happy", "sad"))
+                .build();
+        assertThat(PgOutputBinaryValueDecoder.isSupported(enumType)).isTrue();
+        assertThat(decode(enumType, ByteBuffer.wrap("sad".getBytes(StandardCharsets.UTF_8)))).isEqualTo("sad");
+
+        final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.get(PgOid.INT4)).thenReturn(type("int4", PgOid.INT4));
+        final PostgresType domainType = new PostgresType.Builder(typeRegistry, "positive", 100_001, Types.INTEGER, -1, null)
+                .parentType(PgOid.INT4)
+                .build();
+        assertThat(PgOutputBinaryValueDecoder.isSupported(domainType)).isTrue();
+        assertThat(decode(domainType, ByteBuffer.allocate(4).putInt(7))).isEqualTo(7);
+    }
+
+    @Test
+    public void shouldNotSupportOtherTypes() {
+        assertThat(PgOutputBinaryValueDecoder.isSupported(type("point", PgOid.POINT))).isFalse();
+        assertThat(PgOutputBinaryValueDecoder.isSupported(type("interval", PgOid.INTERVAL))).isFalse();
+    }
+
+    @Test
+    public void shouldAdvanceBufferPastValue() {
+        final ByteBuffer buffer = ByteBuffer.allocate(12).putInt(42).putLong(-1L);
+        buffer.flip();
+        assertThat(PgOutputBinaryValueDecoder.decode(type("int4", PgOid.INT4), buffer, 4)).isEqualTo(42);
+        assertThat(buffer.position()).isEqualTo(4);
+        assertThat(buffer.getLong()).isEqualTo(-1L);
+    }
+
+    private static PostgresType type(String name, int oid) {
+        return new PostgresType.Builder(null, name, oid, Types.OTHER, -1, null).build();
+    }
+
+    private static Object decode(PostgresType type, ByteBuffer value) {
+        if (value.position() > 0) {
+            value.flip();
+        }
+        return PgOutputBinaryValueDecoder.decode(type, value, value.remaining());
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.MessageDecoderConfig;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+import io.debezium.connector.postgresql.connection.WalPositionLocator;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.IoUtil;
+
+public class PgOutputMessageDecoderTest {
+
+    private static final int RELATION_ID = 16384;
+
+    private Path spillDirectory;
+    private PostgresSchema schema;
+    private TypeRegistry typeRegistry;
+    private List<String> processed;
+
+    @Before
+    public void beforeEach() throws IOException {
+        spillDirectory = Files.createTempDirectory("pgoutput-decoder-test");
+        final PostgresType int4 = new PostgresType.Builder(null, "int4", PgOid.INT4, Types.INTEGER, -1, null).build();
+        typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.get("int4")).thenReturn(int4);
+        schema = mock(PostgresSchema.class);
+        when(schema.tableFor(RELATION_ID)).thenReturn(Table.editor()
+                .tableId(new TableId(null, "public", "t"))
+                .addColumn(Column.editor().name("id").type("int4").jdbcType(Types.INTEGER).create())
+                .setPrimaryKeyNames("id")
+                .create());
+        processed = new ArrayList<>();
+    }
+
+    @After
+    public void afterEach() throws IOException {
+        IoUtil.delete(spillDirectory);
+    }
+
+    @Test
+    public void shouldEmitStreamedTransactionOnCommit() throws Exception {
+        assertStreamedTransactionEmittedOnCommit(decoder(1024 * 1024));
+        assertThat(spillFiles()).isEmpty();
+    }
+
+    @Test
+    public void shouldEmitSpilledStreamedTransactionOnCommit() throws Exception {
+        assertStreamedTransactionEmittedOnCommit(decoder(0));
+        assertThat(spillFiles()).isEmpty();
+    }
+
+    @Test
+    public void shouldDiscardAbortedStreamedTransaction() throws Exception {
+        final PgOutputMessageDecoder decoder = decoder(10);
+        process(decoder, 10, streamStart(100, true));
+        process(decoder, 11, insert(100, 1));
+        process(decoder, 12, insert(100, 2));
+        process(decoder, 12, streamStop());
+        assertThat(spillFiles()).hasSize(1);
+        process(decoder, 13, streamAbort(100, 100));
+        assertThat(processed).isEmpty();
+        assertThat(spillFiles()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotSkipChangesOfStreamedTransactionInProgressOnRestart() throws Exception {
+        // the connector stopped after the change at LSN 21, so streaming resumes at the commit of its transaction;
+        // transaction 100 is still in progress and is streamed again from its first change
+        final WalPositionLocator walPosition = new WalPositionLocator(Lsn.valueOf(14), Lsn.valueOf(21));
+        final Messages restartedStream = consumer -> {
+            consumer.send(10, streamStart(100, true));
+            consumer.send(11, insert(100, 1));
+            consumer.send(11, streamStop());
+            consumer.send(12, begin(200));
+            consumer.send(13, insert(null, 2));
+            consumer.send(14, commit());
+            consumer.send(20, begin(300));
+            consumer.send(21, insert(null, 4));
+            consumer.send(22, commit());
+            consumer.send(23, streamStart(100, false));
+            consumer.send(25, insert(100, 3));
+            consumer.send(25, streamStop());
+            consumer.send(30, streamCommit(100));
+        };
+
+        assertThat(searchWalPosition(restartedStream, walPosition)).isEqualTo(Lsn.valueOf(22));
+        streamFromWalPosition(restartedStream, walPosition);
+        assertThat(processed).containsExactly("BEGIN@12", "COMMIT@14", "BEGIN@20", "COMMIT@22",
+                "BEGIN@10", "INSERT 1@11", "INSERT 3@25", "COMMIT@30");
+    }
+
+    @Test
+    public void shouldSkipChangesOfStreamedTransactionCommittedBeforeRestart() throws Exception {
+        // the connector stopped after the commit of transaction 100 at LSN 14
+        final WalPositionLocator walPosition = new WalPositionLocator(Lsn.valueOf(14), Lsn.valueOf(14));
+        final Messages restartedStream = consumer -> {
+            consumer.send(10, streamStart(100, true));
+            consumer.send(11, insert(100, 1));
+            consumer.send(11, streamStop());
+            consumer.send(14, streamCommit(100));
+            consumer.send(20, begin(200));
+            consumer.send(21, insert(null, 2));
+            consumer.send(22, commit());
+        };
+
+        assertThat(searchWalPosition(restartedStream, walPosition)).isEqualTo(Lsn.valueOf(20));
+        streamFromWalPosition(restartedStream, walPosition);
+        assertThat(processed).containsExactly("BEGIN@10", "COMMIT@14", "BEGIN@20", "INSERT 2@21", "COMMIT@22");
+    }
+
+    /**
+     * Processes the messages like the streaming source does while searching for the position to resume from after a
+     * restart, returning that position.
+     */
+    private Lsn searchWalPosition(Messages stream, WalPositionLocator walPosition) throws Exception {
+        final PgOutputMessageDecoder decoder = decoder(1024 * 1024);
+        final AtomicReference<Lsn> resumeLsn = new AtomicReference<>();
+        stream.sendTo((lsn, message) -> {
+            final Lsn receivedLsn = Lsn.valueOf(lsn);
+            if (!decoder.shouldMessageBeSkipped(message, receivedLsn, walPosition.getLastEventStoredLsn(), walPosition)) {
+                decoder.processMessage(message, receivedLsn, new ReplicationMessageProcessor() {
+                    @Override
+                    public void process(ReplicationMessage message) {
+                        process(message, receivedLsn);
+                    }
+
+                    @Override
+                    public void process(ReplicationMessage message, Lsn lsn) {
+                        walPosition.resumeFromLsn(lsn, message).ifPresent(position -> resumeLsn.compareAndSet(null, position));
+                    }
+                }, typeRegistry);
+            }
+        });
+        return resumeLsn.get();
+    }
+
+    /**
+     * Processes the messages like the streaming source does once the position to resume from has been found and the
+     * replication stream has been started again.
+     */
+    private void streamFromWalPosition(Messages stream, WalPositionLocator walPosition) throws Exception {
+        walPosition.enableFiltering();
+        final PgOutputMessageDecoder decoder = decoder(1024 * 1024);
+        stream.sendTo((lsn, message) -> {
+            if (!decoder.shouldMessageBeSkipped(message, Lsn.valueOf(lsn), walPosition.getLastEventStoredLsn(), walPosition)) {
+                process(decoder, lsn, message);
+            }
+        });
+    }
+
+    private void assertStreamedTransactionEmittedOnCommit(PgOutputMessageDecoder decoder) throws Exception {
+        process(decoder, 10, streamStart(100, true));
+        process(decoder, 11, insert(100, 1));
+        process(decoder, 11, streamStop());
+
+        // a transaction committed while the other one is in progress
+        process(decoder, 12, begin(200));
+        process(decoder, 13, insert(null, 2));
+        process(decoder, 14, commit());
+
+        process(decoder, 10, streamStart(100, false));
+        process(decoder, 15, insert(101, 3));
+        process(decoder, 16, insert(102, 4));
+        process(decoder, 16, streamStop());
+        process(decoder, 17, streamAbort(100, 102));
+        assertThat(processed).containsExactly("BEGIN@12", "INSERT 2@13", "COMMIT@14");
+
+        process(decoder, 18, streamCommit(100));
+        assertThat(processed).containsExactly("BEGIN@12", "INSERT 2@13", "COMMIT@14",
+                "BEGIN@10", "INSERT 1@11", "INSERT 3@15", "COMMIT@18");
+    }
+
+    private PgOutputMessageDecoder decoder(long bufferSize) {
+        final MessageDecoderConfig config = new MessageDecoderConfig(Configuration.empty(), schema, "dbz_publication", false, false, bufferSize,
+                spillDirectory);
+        final PgOutputMessageDecoder decoder = new PgOutputMessageDecoder(config);
+        decoder.setStreaming(true);
+        return decoder;
+    }
+
+    private void process(PgOutputMessageDecoder decoder, long lsn, ByteBuffer message) throws SQLException, InterruptedException {
+        final Lsn receivedLsn = Lsn.valueOf(lsn);
+        decoder.processMessage(message, receivedLsn, new ReplicationMessageProcessor() {
+            @Override
+            public void process(ReplicationMessage message) {
+                record(message, receivedLsn);
+            }
+
+            @Override
+            public void process(ReplicationMessage message, Lsn lsn) {
+                record(message, lsn);
+            }
+        }, typeRegistry);
+    }
+
+    private void record(ReplicationMessage message, Lsn lsn) {
+        if (message.isTransactionalMessage()) {
+            processed.add(message.getOperation() + "@" + lsn.asLong());
+        }
+        else {
+            processed.add(message.getOperation() + " " + message.getNewTupleList().get(0).getValue(null, false) + "@" + lsn.asLong());
+        }
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Messages {
+
+        void sendTo(MessageConsumer consumer) throws SQLException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface MessageConsumer {
+
+        void send(long lsn, ByteBuffer message) throws SQLException, InterruptedException;
+    }
+
+    private static ByteBuffer begin(int xid) {
+        return message(ByteBuffer.allocate(21).put((byte) 'B').putLong(14).putLong(0).putInt(xid));
+    }
+
+    private static ByteBuffer commit() {
+        return message(ByteBuffer.allocate(26).put((byte) 'C').put((byte) 0).putLong(14).putLong(14).putLong(0));
+    }
+
+    private static ByteBuffer insert(Integer xid, int id) {
+        final byte[] value = Integer.toString(id).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(64).put((byte) 'I');
+        if (xid != null) {
+            buffer.putInt(xid);
+        }
+        buffer.putInt(RELATION_ID).put((byte) 'N').putShort((short) 1).put((byte) 't').putInt(value.length).put(value);
+        return message(buffer);
+    }
+
+    private static ByteBuffer streamStart(int xid, boolean firstSegment) {
+        return message(ByteBuffer.allocate(6).put((byte) 'S').putInt(xid).put((byte) (firstSegment ? 1 : 0)));
+    }
+
+    private static ByteBuffer streamStop() {
+        return message(ByteBuffer.allocate(1).put((byte) 'E'));
+    }
+
+    private static ByteBuffer streamCommit(int xid) {
+        return message(ByteBuffer.allocate(30).put((byte) 'c').putInt(xid).put((byte) 0).putLong(17).putLong(18).putLong(0));
+    }
+
+    private static ByteBuffer streamAbort(int xid, int subXid) {
+        return message(ByteBuffer.allocate(9).put((byte) 'A').putInt(xid).putInt(subXid));
+    }
+
+    private static ByteBuffer message(ByteBuffer buffer) {
+        buffer.flip();
+        return buffer;
+    }
+}
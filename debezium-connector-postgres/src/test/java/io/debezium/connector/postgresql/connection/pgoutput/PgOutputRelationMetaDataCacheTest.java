@@ -0,0 +1,105 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputRelationMetaDataCache.RelationDefinition;
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputRelationMetaDataCache.RelationMetaData;
+
+public class PgOutputRelationMetaDataCacheTest {
+
+    private final List<Integer> loads = new ArrayList<>();
+    private final Map<Integer, RelationMetaData> catalog = new HashMap<>();
+    private final PgOutputRelationMetaDataCache cache = new PgOutputRelationMetaDataCache(relationId -> {
+        loads.add(relationId);
+        if (relationId == null) {
+            return new HashMap<>(catalog);
+        }
+        return catalog.containsKey(relationId) ? Collections.singletonMap(relationId, catalog.get(relationId)) : Collections.emptyMap();
+    });
+
+    @Test
+    public void shouldLoadPublishedRelationsOnce() throws Exception {
+        catalog.put(1, metaData("id", "a"));
+        catalog.put(2, metaData("id", "b"));
+
+        assertThat(cache.get(1, definition("t1", "id", "a")).columnOptionality()).hasSize(2);
+        assertThat(cache.get(2, definition("t2", "id", "b")).primaryKeyColumns()).containsOnly("id");
+        assertThat(loads).containsExactly((Integer) null);
+    }
+
+    @Test
+    public void shouldReloadRelationDescribedAgainInSameSession() throws Exception {
+        catalog.put(1, metaData("id", "a"));
+        cache.get(1, definition("t1", "id", "a"));
+
+        // e.g. after ALTER TABLE ... SET NOT NULL, which doesn't change the RELATION message
+        catalog.put(1, metaData("id", "a", "b"));
+        assertThat(cache.get(1, definition("t1", "id", "a")).columnOptionality()).hasSize(3);
+        assertThat(loads).containsExactly(null, 1);
+    }
+
+    @Test
+    public void shouldReuseMetaDataOfUnchangedRelationInNewSession() throws Exception {
+        catalog.put(1, metaData("id", "a"));
+        cache.get(1, definition("t1", "id", "a"));
+
+        cache.sessionStarted();
+        assertThat(cache.get(1, definition("t1", "id", "a")).columnOptionality()).hasSize(2);
+        assertThat(loads).containsExactly((Integer) null);
+    }
+
+    @Test
+    public void shouldReloadRelationWithDifferentColumnTypesInNewSession() throws Exception {
+        catalog.put(1, metaData("id", "a"));
+        cache.get(1, definition("t1", "id", "a"));
+
+        cache.sessionStarted();
+        assertThat(cache.get(1, new RelationDefinition("s", "t1", 'd')
+                .addColumn((byte) 1, "id", 23, -1)
+                .addColumn((byte) 0, "a", 20, -1)).columnOptionality()).hasSize(2);
+        assertThat(loads).containsExactly(null, null);
+    }
+
+    @Test
+    public void shouldReloadBulkLoadedRelationWithDifferentColumns() throws Exception {
+        catalog.put(1, metaData("id", "a"));
+        cache.get(1, definition("t1", "id", "a"));
+        catalog.put(2, metaData("id"));
+
+        // relation 2 has been created after the bulk load
+        assertThat(cache.get(2, definition("t2", "id")).columnOptionality()).hasSize(1);
+        // relation 3 does not exist anymore
+        assertThat(cache.get(3, definition("t3", "id")).columnOptionality()).isEmpty();
+        assertThat(loads).containsExactly(null, 2, 3);
+    }
+
+    private static RelationDefinition definition(String tableName, String... columns) {
+        final RelationDefinition definition = new RelationDefinition("s", tableName, 'd');
+        for (int i = 0; i < columns.length; i++) {
+            definition.addColumn((byte) (i == 0 ? 1 : 0), columns[i], 23, -1);
+        }
+        return definition;
+    }
+
+    private static RelationMetaData metaData(String key, String... columns) {
+        final Map<String, Boolean> optionality = new HashMap<>();
+        optionality.put(key, false);
+        for (String column : columns) {
+            optionality.put(column, true);
+        }
+        return new RelationMetaData(optionality, Collections.singleton(key));
+    }
+}
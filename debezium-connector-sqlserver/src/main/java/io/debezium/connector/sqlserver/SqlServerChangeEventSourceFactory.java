@@ -5,14 +5,18 @@
  */
 package io.debezium.connector.sqlserver;
 
+import java.util.Optional;
+
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.ChangeEventSourceFactory;
+import io.debezium.pipeline.source.spi.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionId;
 import io.debezium.util.Clock;
 
 public class SqlServerChangeEventSourceFactory implements ChangeEventSourceFactory {
@@ -24,9 +28,11 @@ public class SqlServerChangeEventSourceFactory implements ChangeEventSourceFacto
     private final EventDispatcher<TableId> dispatcher;
     private final Clock clock;
     private final SqlServerDatabaseSchema schema;
+    private final SqlServerTaskContext taskContext;
 
     public SqlServerChangeEventSourceFactory(SqlServerConnectorConfig configuration, SqlServerConnection dataConnection, SqlServerConnection metadataConnection,
-                                             ErrorHandler errorHandler, EventDispatcher<TableId> dispatcher, Clock clock, SqlServerDatabaseSchema schema) {
+                                             ErrorHandler errorHandler, EventDispatcher<TableId> dispatcher, Clock clock, SqlServerDatabaseSchema schema,
+                                             SqlServerTaskContext taskContext) {
         this.configuration = configuration;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
@@ -34,12 +40,13 @@ public SqlServerChangeEventSourceFactory(SqlServerConnectorConfig configuration,
         this.dispatcher = dispatcher;
         this.clock = clock;
         this.schema = schema;
+        this.taskContext = taskContext;
     }
 
     @Override
     public SnapshotChangeEventSource getSnapshotChangeEventSource(OffsetContext offsetContext, SnapshotProgressListener snapshotProgressListener) {
         return new SqlServerSnapshotChangeEventSource(configuration, (SqlServerOffsetContext) offsetContext, dataConnection, schema, dispatcher, clock,
-                snapshotProgressListener);
+                snapshotProgressListener, taskContext.getSnapshotRateLimiter());
     }
 
     @Override
@@ -54,4 +61,17 @@ public StreamingChangeEventSource getStreamingChangeEventSource(OffsetContext of
                 clock,
                 schema);
     }
+
+    @Override
+    public Optional<IncrementalSnapshotChangeEventSource<? extends DataCollectionId>> getIncrementalSnapshotChangeEventSource(OffsetContext offsetContext) {
+        if (configuration.getSignalingDataCollectionId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SqlServerIncrementalSnapshotChangeEventSource(
+                configuration,
+                dataConnection,
+                dispatcher,
+                schema,
+                clock));
+    }
 }
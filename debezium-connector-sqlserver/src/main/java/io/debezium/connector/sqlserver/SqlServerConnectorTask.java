@@ -20,6 +20,7 @@
 import io.debezium.connector.common.BaseSourceTask;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.DataChangeEventSpillCodec;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
@@ -93,8 +94,14 @@ public ChangeEventSourceCoordinator start(Configuration config) {
         // Set up the task record queue ...
         this.queue = new ChangeEventQueue.Builder<DataChangeEvent>()
                 .pollInterval(connectorConfig.getPollInterval())
+                .maxLinger(connectorConfig.getPollLinger())
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
+                .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .spillDirectory(connectorConfig.getQueueSpillDirectory())
+                .spillSegmentSize(connectorConfig.getQueueSpillSegmentSizeInBytes())
+                .maxSpillSizeInBytes(connectorConfig.getMaxQueueSpillSizeInBytes())
+                .spillCodec(new DataChangeEventSpillCodec())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
@@ -117,7 +124,7 @@ public ChangeEventSourceCoordinator start(Configuration config) {
                 errorHandler,
                 SqlServerConnector.class,
                 connectorConfig,
-                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, errorHandler, dispatcher, clock, schema),
+                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, errorHandler, dispatcher, clock, schema, taskContext),
                 new DefaultChangeEventSourceMetricsFactory(),
                 dispatcher,
                 schema);
@@ -161,6 +168,10 @@ protected void doStop() {
         if (schema != null) {
             schema.close();
         }
+
+        if (queue != null) {
+            queue.close();
+        }
     }
 
     @Override
@@ -0,0 +1,41 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.snapshot.incremental.SignalBasedIncrementalSnapshotChangeEventSource;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+
+/**
+ * Reads incremental snapshot chunks using SQL Server's {@code TOP} clause and the same value handling as the initial
+ * snapshot.
+ */
+public class SqlServerIncrementalSnapshotChangeEventSource extends SignalBasedIncrementalSnapshotChangeEventSource {
+
+    public SqlServerIncrementalSnapshotChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection jdbcConnection,
+                                                         EventDispatcher<TableId> dispatcher, SqlServerDatabaseSchema schema, Clock clock) {
+        super(connectorConfig, jdbcConnection, dispatcher, schema, clock);
+    }
+
+    @Override
+    protected String withRowLimit(String query, int limit) {
+        return "SELECT TOP " + limit + query.substring("SELECT".length());
+    }
+
+    @Override
+    protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+        if (rs.getMetaData().getColumnType(columnIndex) == Types.TIME) {
+            return rs.getTimestamp(columnIndex);
+        }
+        return super.getColumnValue(rs, columnIndex, column);
+    }
+}
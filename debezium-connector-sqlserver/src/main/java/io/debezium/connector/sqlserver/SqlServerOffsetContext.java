@@ -13,11 +13,13 @@
 import org.apache.kafka.connect.data.Struct;
 
 import io.debezium.connector.SnapshotRecord;
+import io.debezium.pipeline.source.SnapshotCheckpoint;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
 import io.debezium.relational.TableId;
 import io.debezium.schema.DataCollectionId;
-import io.debezium.util.Collect;
+import io.debezium.util.CompactMap;
 
 public class SqlServerOffsetContext implements OffsetContext {
 
@@ -29,6 +31,12 @@ public class SqlServerOffsetContext implements OffsetContext {
     private final Map<String, String> partition;
     private boolean snapshotCompleted;
     private final TransactionContext transactionContext;
+    private final SnapshotCheckpoint snapshotCheckpoint;
+    private final IncrementalSnapshotContext incrementalSnapshotContext;
+    /**
+     * The last offset, whose keys are shared by the next one if they are the same.
+     */
+    private CompactMap<Object> lastOffset;
 
     /**
      * The index of the current event within the current transaction.
@@ -37,6 +45,13 @@ public class SqlServerOffsetContext implements OffsetContext {
 
     public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPosition position, boolean snapshot, boolean snapshotCompleted, long eventSerialNo,
                                   TransactionContext transactionContext) {
+        this(connectorConfig, position, snapshot, snapshotCompleted, eventSerialNo, transactionContext, new SnapshotCheckpoint(),
+                new IncrementalSnapshotContext());
+    }
+
+    public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPosition position, boolean snapshot, boolean snapshotCompleted, long eventSerialNo,
+                                  TransactionContext transactionContext, SnapshotCheckpoint snapshotCheckpoint,
+                                  IncrementalSnapshotContext incrementalSnapshotContext) {
         partition = Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
         sourceInfo = new SourceInfo(connectorConfig);
 
@@ -53,6 +68,8 @@ public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPos
         }
         this.eventSerialNo = eventSerialNo;
         this.transactionContext = transactionContext;
+        this.snapshotCheckpoint = snapshotCheckpoint;
+        this.incrementalSnapshotContext = incrementalSnapshotContext;
     }
 
     public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPosition position, boolean snapshot, boolean snapshotCompleted) {
@@ -66,19 +83,24 @@ public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPos
 
     @Override
     public Map<String, ?> getOffset() {
+        final CompactMap.Builder<Object> offsetBuilder = CompactMap.builder(lastOffset);
+        final CompactMap<Object> offset;
         if (sourceInfo.isSnapshot()) {
-            return Collect.hashMapOf(
-                    SourceInfo.SNAPSHOT_KEY, true,
-                    SNAPSHOT_COMPLETED_KEY, snapshotCompleted,
-                    SourceInfo.COMMIT_LSN_KEY, sourceInfo.getCommitLsn().toString());
+            offsetBuilder
+                    .put(SourceInfo.SNAPSHOT_KEY, true)
+                    .put(SNAPSHOT_COMPLETED_KEY, snapshotCompleted)
+                    .put(SourceInfo.COMMIT_LSN_KEY, sourceInfo.getCommitLsn().toString());
+            offset = snapshotCheckpoint.store(offsetBuilder).build();
         }
         else {
-            return transactionContext.store(Collect.hashMapOf(
-                    SourceInfo.COMMIT_LSN_KEY, sourceInfo.getCommitLsn().toString(),
-                    SourceInfo.CHANGE_LSN_KEY,
-                    sourceInfo.getChangeLsn() == null ? null : sourceInfo.getChangeLsn().toString(),
-                    SourceInfo.EVENT_SERIAL_NO_KEY, eventSerialNo));
+            offsetBuilder
+                    .put(SourceInfo.COMMIT_LSN_KEY, sourceInfo.getCommitLsn().toString())
+                    .put(SourceInfo.CHANGE_LSN_KEY, sourceInfo.getChangeLsn() == null ? null : sourceInfo.getChangeLsn().toString())
+                    .put(SourceInfo.EVENT_SERIAL_NO_KEY, eventSerialNo);
+            offset = incrementalSnapshotContext.store(transactionContext.store(offsetBuilder)).build();
         }
+        lastOffset = offset;
+        return offset;
     }
 
     @Override
@@ -163,7 +185,7 @@ public OffsetContext load(Map<String, ?> offset) {
             }
 
             return new SqlServerOffsetContext(connectorConfig, TxLogPosition.valueOf(commitLsn, changeLsn), snapshot, snapshotCompleted, eventSerialNo,
-                    TransactionContext.load(offset));
+                    TransactionContext.load(offset), SnapshotCheckpoint.load(offset), IncrementalSnapshotContext.load(offset));
         }
     }
 
@@ -175,6 +197,8 @@ public String toString() {
                 ", partition=" + partition +
                 ", snapshotCompleted=" + snapshotCompleted +
                 ", eventSerialNo=" + eventSerialNo +
+                ", snapshotCheckpoint=" + snapshotCheckpoint +
+                ", incrementalSnapshotContext=" + incrementalSnapshotContext +
                 "]";
     }
 
@@ -193,4 +217,14 @@ public void event(DataCollectionId tableId, Instant timestamp) {
     public TransactionContext getTransactionContext() {
         return transactionContext;
     }
+
+    @Override
+    public SnapshotCheckpoint getSnapshotCheckpoint() {
+        return snapshotCheckpoint;
+    }
+
+    @Override
+    public IncrementalSnapshotContext getIncrementalSnapshotContext() {
+        return incrementalSnapshotContext;
+    }
 }
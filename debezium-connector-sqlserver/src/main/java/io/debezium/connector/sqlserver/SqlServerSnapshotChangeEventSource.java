@@ -15,6 +15,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,6 +23,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.sqlserver.SqlServerConnectorConfig.SnapshotIsolationMode;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.spi.OffsetContext;
@@ -32,6 +34,7 @@
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.schema.SchemaChangeEvent.SchemaChangeEventType;
 import io.debezium.util.Clock;
+import io.debezium.util.RateLimiter;
 
 public class SqlServerSnapshotChangeEventSource extends RelationalSnapshotChangeEventSource {
 
@@ -49,8 +52,8 @@ public class SqlServerSnapshotChangeEventSource extends RelationalSnapshotChange
 
     public SqlServerSnapshotChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerOffsetContext previousOffset, SqlServerConnection jdbcConnection,
                                               SqlServerDatabaseSchema schema, EventDispatcher<TableId> dispatcher, Clock clock,
-                                              SnapshotProgressListener snapshotProgressListener) {
-        super(connectorConfig, previousOffset, jdbcConnection, schema, dispatcher, clock, snapshotProgressListener);
+                                              SnapshotProgressListener snapshotProgressListener, RateLimiter rateLimiter) {
+        super(connectorConfig, previousOffset, jdbcConnection, schema, dispatcher, clock, snapshotProgressListener, rateLimiter);
         this.connectorConfig = connectorConfig;
         this.jdbcConnection = jdbcConnection;
         this.sqlServerDatabaseSchema = schema;
@@ -235,6 +238,57 @@ protected void complete(SnapshotContext snapshotContext) {
         }
     }
 
+    @Override
+    protected OptionalLong estimateRowCount(RelationalSnapshotContext snapshotContext, TableId tableId) throws SQLException {
+        // the row count of the heap or clustered index as maintained by the database
+        final String tableName = String.format("[%s].[%s]", tableId.schema(), tableId.table());
+        return jdbcConnection.prepareQueryAndMap("SELECT SUM(rows) FROM sys.partitions WHERE object_id = OBJECT_ID(?) AND index_id IN (0, 1)",
+                statement -> statement.setString(1, tableName),
+                rs -> rs.next() && rs.getLong(1) > 0 ? OptionalLong.of(rs.getLong(1)) : OptionalLong.empty());
+    }
+
+    /**
+     * Opens a connection using the configured snapshot isolation mode. SQL Server cannot share a transaction snapshot
+     * between sessions, so the data of a table reflects the state of the database when its connection first read
+     * data. As that is after the snapshot offset has been determined, no changes are missed; changes applied in the
+     * meantime may be emitted again while streaming, just as with tables read by the snapshot connection later on.
+     */
+    @Override
+    protected Optional<JdbcConnection> createParallelSnapshotConnection(RelationalSnapshotContext snapshotContext) throws Exception {
+        final int isolationLevel;
+        switch (connectorConfig.getSnapshotIsolationMode()) {
+            case SNAPSHOT:
+                isolationLevel = TRANSACTION_SNAPSHOT;
+                break;
+            case READ_UNCOMMITTED:
+                isolationLevel = Connection.TRANSACTION_READ_UNCOMMITTED;
+                break;
+            case READ_COMMITTED:
+                isolationLevel = Connection.TRANSACTION_READ_COMMITTED;
+                break;
+            case REPEATABLE_READ:
+                isolationLevel = Connection.TRANSACTION_REPEATABLE_READ;
+                break;
+            default:
+                // the exclusive table locks are held by the snapshot transaction until the snapshot is completed
+                LOGGER.warn("Tables cannot be read concurrently in isolation mode '{}'", connectorConfig.getSnapshotIsolationMode().getValue());
+                return Optional.empty();
+        }
+
+        // the connection only reads table rows, so no value converters for column defaults are needed
+        final SqlServerConnection connection = new SqlServerConnection(jdbcConnection.config(), clock, connectorConfig.getSourceTimestampMode(), null,
+                () -> getClass().getClassLoader());
+        try {
+            connection.setAutoCommit(false);
+            connection.connection().setTransactionIsolation(isolationLevel);
+        }
+        catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return Optional.of(connection);
+    }
+
     /**
      * Generate a valid sqlserver query string for the specified table
      *
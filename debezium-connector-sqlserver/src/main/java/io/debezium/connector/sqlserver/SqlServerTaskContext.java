@@ -16,6 +16,7 @@
 public class SqlServerTaskContext extends CdcSourceTaskContext {
 
     public SqlServerTaskContext(SqlServerConnectorConfig config, SqlServerDatabaseSchema schema) {
-        super(config.getContextName(), config.getLogicalName(), schema::tableIds);
+        super(config.getContextName(), config.getLogicalName(), schema::tableIds, config.getSnapshotMaxRowsPerSecond(),
+                config.getSnapshotMaxBytesPerSecond());
     }
 }
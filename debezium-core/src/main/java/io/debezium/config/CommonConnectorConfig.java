@@ -5,6 +5,8 @@
  */
 package io.debezium.config;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -236,9 +238,18 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
     private static final String APICURIO_AVRO_CONVERTER = "io.apicurio.registry.utils.converter.AvroConverter";
 
     public static final int DEFAULT_MAX_QUEUE_SIZE = 8192;
+    public static final long DEFAULT_MAX_QUEUE_SIZE_IN_BYTES = 0;
+    public static final long DEFAULT_QUEUE_SPILL_SEGMENT_SIZE_IN_BYTES = 64 * 1024 * 1024;
     public static final int DEFAULT_MAX_BATCH_SIZE = 2048;
     public static final int DEFAULT_QUERY_FETCH_SIZE = 0;
     public static final long DEFAULT_POLL_INTERVAL_MILLIS = 500;
+    public static final long DEFAULT_POLL_LINGER_MILLIS = 0;
+    public static final int DEFAULT_EVENT_PROCESSING_THREADS = 0;
+    public static final int DEFAULT_SNAPSHOT_MAX_THREADS = 1;
+    public static final long DEFAULT_SNAPSHOT_CHUNK_SIZE = 0;
+    public static final int DEFAULT_INCREMENTAL_SNAPSHOT_CHUNK_SIZE = 1024;
+    public static final long DEFAULT_SNAPSHOT_MAX_ROWS_PER_SECOND = 0;
+    public static final long DEFAULT_SNAPSHOT_MAX_BYTES_PER_SECOND = 0;
     public static final String DATABASE_CONFIG_PREFIX = "database.";
     private static final String CONVERTER_TYPE_SUFFIX = ".type";
     public static final long DEFAULT_RETRIABLE_RESTART_WAIT = 10000L;
@@ -275,6 +286,47 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
             .withDefault(DEFAULT_MAX_QUEUE_SIZE)
             .withValidation(CommonConnectorConfig::validateMaxQueueSize);
 
+    public static final Field MAX_QUEUE_SIZE_IN_BYTES = Field.create("max.queue.size.in.bytes")
+            .withDisplayName("Change event buffer size in bytes")
+            .withType(Type.LONG)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.MEDIUM)
+            .withDescription("Maximum size of the queue in bytes for change events read from the database log but not yet recorded or forwarded. "
+                    + "The size of each event is estimated from its key and value structs. Defaults to " + DEFAULT_MAX_QUEUE_SIZE_IN_BYTES
+                    + ", which means that the queue is only bounded by the number of events as set via '" + MAX_QUEUE_SIZE.name() + "'.")
+            .withDefault(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field QUEUE_SPILL_DIRECTORY = Field.create("queue.spill.directory")
+            .withDisplayName("Change event buffer spill directory")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("Directory to which change events are spilled once the change event queue is full, so that reading from the database "
+                    + "can continue while writing events to Kafka is stalled. Spilled events are read back in order. The directory is created if it "
+                    + "does not exist; spill files left behind by tasks which were not stopped cleanly are deleted on startup. If not set (the default), "
+                    + "reading from the database blocks until there is space in the queue again.");
+
+    public static final Field QUEUE_SPILL_SEGMENT_SIZE_IN_BYTES = Field.create("queue.spill.segment.size.in.bytes")
+            .withDisplayName("Change event buffer spill segment size in bytes")
+            .withType(Type.LONG)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("Size in bytes after which a new spill file is started. Spill files are deleted as soon as all their events have been read back. "
+                    + "Defaults to " + DEFAULT_QUEUE_SPILL_SEGMENT_SIZE_IN_BYTES + ".")
+            .withDefault(DEFAULT_QUEUE_SPILL_SEGMENT_SIZE_IN_BYTES)
+            .withValidation(CommonConnectorConfig::validateQueueSpillSegmentSize);
+
+    public static final Field MAX_QUEUE_SPILL_SIZE_IN_BYTES = Field.create("max.queue.spill.size.in.bytes")
+            .withDisplayName("Change event buffer maximum spill size in bytes")
+            .withType(Type.LONG)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("Maximum number of bytes of change events spilled to disk; once reached, reading from the database blocks until spilled "
+                    + "events have been read back. Defaults to 0, which means no limit.")
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong);
+
     public static final Field MAX_BATCH_SIZE = Field.create("max.batch.size")
             .withDisplayName("Change event batch size")
             .withType(Type.INT)
@@ -294,6 +346,17 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
             .withDefault(DEFAULT_POLL_INTERVAL_MILLIS)
             .withValidation(Field::isPositiveInteger);
 
+    public static final Field POLL_LINGER_MS = Field.create("poll.linger.ms")
+            .withDisplayName("Poll linger (ms)")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Maximum time in milliseconds to wait for a batch to fill up to '" + MAX_BATCH_SIZE.name() + "' events once the first change event "
+                    + "is available. Larger values produce larger batches at the cost of latency. Defaults to " + DEFAULT_POLL_LINGER_MILLIS
+                    + "ms, which returns available events immediately.")
+            .withDefault(DEFAULT_POLL_LINGER_MILLIS)
+            .withValidation(Field::isNonNegativeLong);
+
     public static final Field SNAPSHOT_DELAY_MS = Field.create("snapshot.delay.ms")
             .withDisplayName("Snapshot Delay (milliseconds)")
             .withType(Type.LONG)
@@ -311,6 +374,85 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
             .withDescription("The maximum number of records that should be loaded into memory while performing a snapshot")
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field SNAPSHOT_MAX_THREADS = Field.create("snapshot.max.threads")
+            .withDisplayName("Snapshot maximum threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of threads used to read the captured tables while performing a snapshot. "
+                    + "Each thread reads one table at a time using its own database connection, which sees the same consistent "
+                    + "state of the database as the other connections if the connector supports that. "
+                    + "Defaults to " + DEFAULT_SNAPSHOT_MAX_THREADS + ", which reads all tables one after another.")
+            .withDefault(DEFAULT_SNAPSHOT_MAX_THREADS)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field SNAPSHOT_CHUNK_SIZE = Field.create("snapshot.chunk.size")
+            .withDisplayName("Snapshot chunk size")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The approximate number of rows of a table that are read by a single query while performing a snapshot "
+                    + "using more than one thread (see '" + SNAPSHOT_MAX_THREADS.name() + "'). Tables with a single-column integer primary key "
+                    + "and more rows than this are split into primary key ranges which are read concurrently. "
+                    + "Defaults to " + DEFAULT_SNAPSHOT_CHUNK_SIZE + ", which reads each table with a single query.")
+            .withDefault(DEFAULT_SNAPSHOT_CHUNK_SIZE)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field SNAPSHOT_MAX_ROWS_PER_SECOND = Field.create("snapshot.max.rows.per.second")
+            .withDisplayName("Snapshot maximum rows per second")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of rows per second that are read from the database while performing a snapshot, "
+                    + "shared by all snapshot threads. Can be changed while the connector is running through the snapshot metrics MBean. "
+                    + "Defaults to " + DEFAULT_SNAPSHOT_MAX_ROWS_PER_SECOND + ", which doesn't limit the rate.")
+            .withDefault(DEFAULT_SNAPSHOT_MAX_ROWS_PER_SECOND)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field SNAPSHOT_MAX_BYTES_PER_SECOND = Field.create("snapshot.max.bytes.per.second")
+            .withDisplayName("Snapshot maximum bytes per second")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of bytes per second that are read from the database while performing a snapshot, "
+                    + "shared by all snapshot threads. The size of a row is estimated from its column values. Can be changed while the "
+                    + "connector is running through the snapshot metrics MBean. "
+                    + "Defaults to " + DEFAULT_SNAPSHOT_MAX_BYTES_PER_SECOND + ", which doesn't limit the rate.")
+            .withDefault(DEFAULT_SNAPSHOT_MAX_BYTES_PER_SECOND)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field SNAPSHOT_RESUMABLE = Field.create("snapshot.resumable")
+            .withDisplayName("Resumable snapshots")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the progress of a snapshot should be recorded in the offsets, so that a snapshot interrupted by a restart "
+                    + "continues with the table that was being read rather than starting over. Tables with a single-column integer primary "
+                    + "key are read in the order of that key and continue after the last emitted row. Changes made since the interrupted "
+                    + "snapshot was started are streamed after the snapshot completes, so some of them may be emitted although the snapshot "
+                    + "already reflects them. Only applies to snapshots read by a single thread.")
+            .withDefault(false)
+            .withValidation(Field::isBoolean);
+
+    public static final Field SIGNAL_DATA_COLLECTION = Field.create("signal.data.collection")
+            .withDisplayName("Signaling data collection")
+            .withType(Type.STRING)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The fully-qualified name of the data collection that is used to send signals to the connector, "
+                    + "e.g. to start an incremental snapshot. The data collection must have the columns 'id', 'type' and 'data', "
+                    + "in this order, and is captured in addition to the configured data collections.");
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE = Field.create("incremental.snapshot.chunk.size")
+            .withDisplayName("Incremental snapshot chunk size")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of rows that are read from a table at once and kept in memory while performing an "
+                    + "incremental snapshot. Defaults to " + DEFAULT_INCREMENTAL_SNAPSHOT_CHUNK_SIZE + ".")
+            .withDefault(DEFAULT_INCREMENTAL_SNAPSHOT_CHUNK_SIZE)
+            .withValidation(Field::isPositiveInteger);
+
     public static final Field SNAPSHOT_MODE_TABLES = Field.create("snapshot.include.collection.list")
             .withDisplayName("Snapshot mode include data collection")
             .withType(Type.LIST)
@@ -354,6 +496,18 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
                     + "'warn' the problematic event and its position will be logged and the event will be skipped;"
                     + "'ignore' the problematic event will be skipped.");
 
+    public static final Field EVENT_PROCESSING_THREADS = Field.create("event.processing.threads")
+            .withDisplayName("Event processing threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of threads used to convert captured row changes into change records while streaming. "
+                    + "Records are still delivered in the order in which the changes were read from the database. "
+                    + "Defaults to " + DEFAULT_EVENT_PROCESSING_THREADS + ", which converts all changes on the thread reading the change stream. "
+                    + "Ignored if '" + PROVIDE_TRANSACTION_METADATA.name() + "' is enabled.")
+            .withDefault(DEFAULT_EVENT_PROCESSING_THREADS)
+            .withValidation(Field::isNonNegativeInteger);
+
     public static final Field CUSTOM_CONVERTERS = Field.create("converters")
             .withDisplayName("List of prefixes defining custom values converters.")
             .withType(Type.STRING)
@@ -393,14 +547,27 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
     protected static final ConfigDefinition CONFIG_DEFINITION = ConfigDefinition.editor()
             .connector(
                     EVENT_PROCESSING_FAILURE_HANDLING_MODE,
+                    EVENT_PROCESSING_THREADS,
                     MAX_BATCH_SIZE,
                     MAX_QUEUE_SIZE,
+                    MAX_QUEUE_SIZE_IN_BYTES,
+                    QUEUE_SPILL_DIRECTORY,
+                    QUEUE_SPILL_SEGMENT_SIZE_IN_BYTES,
+                    MAX_QUEUE_SPILL_SIZE_IN_BYTES,
                     POLL_INTERVAL_MS,
+                    POLL_LINGER_MS,
                     PROVIDE_TRANSACTION_METADATA,
                     SKIPPED_OPERATIONS,
                     SNAPSHOT_DELAY_MS,
                     SNAPSHOT_MODE_TABLES,
                     SNAPSHOT_FETCH_SIZE,
+                    SNAPSHOT_MAX_THREADS,
+                    SNAPSHOT_CHUNK_SIZE,
+                    SNAPSHOT_MAX_ROWS_PER_SECOND,
+                    SNAPSHOT_MAX_BYTES_PER_SECOND,
+                    SNAPSHOT_RESUMABLE,
+                    SIGNAL_DATA_COLLECTION,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
                     RETRIABLE_RESTART_WAIT,
                     QUERY_FETCH_SIZE)
             .events(
@@ -415,18 +582,31 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
     private final Configuration config;
     private final boolean emitTombstoneOnDelete;
     private final int maxQueueSize;
+    private final long maxQueueSizeInBytes;
+    private final Path queueSpillDirectory;
+    private final long queueSpillSegmentSizeInBytes;
+    private final long maxQueueSpillSizeInBytes;
     private final int maxBatchSize;
     private final Duration pollInterval;
+    private final Duration pollLinger;
     private final String logicalName;
     private final String heartbeatTopicsPrefix;
     private final Duration snapshotDelayMs;
     private final Duration retriableRestartWait;
     private final int snapshotFetchSize;
+    private final int snapshotMaxThreads;
+    private final long snapshotChunkSize;
+    private final long snapshotMaxRowsPerSecond;
+    private final long snapshotMaxBytesPerSecond;
+    private final boolean snapshotResumable;
+    private final String signalDataCollection;
+    private final int incrementalSnapshotChunkSize;
     private final Integer queryFetchSize;
     private final SourceInfoStructMaker<? extends AbstractSourceInfo> sourceInfoStructMaker;
     private final boolean sanitizeFieldNames;
     private final boolean shouldProvideTransactionMetadata;
     private final EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode;
+    private final int eventProcessingThreads;
     private final CustomConverterRegistry customConverterRegistry;
     private final BinaryHandlingMode binaryHandlingMode;
 
@@ -434,18 +614,31 @@ protected CommonConnectorConfig(Configuration config, String logicalName, int de
         this.config = config;
         this.emitTombstoneOnDelete = config.getBoolean(CommonConnectorConfig.TOMBSTONES_ON_DELETE);
         this.maxQueueSize = config.getInteger(MAX_QUEUE_SIZE);
+        this.maxQueueSizeInBytes = config.getLong(MAX_QUEUE_SIZE_IN_BYTES);
+        this.queueSpillDirectory = Strings.isNullOrEmpty(config.getString(QUEUE_SPILL_DIRECTORY)) ? null : Paths.get(config.getString(QUEUE_SPILL_DIRECTORY));
+        this.queueSpillSegmentSizeInBytes = config.getLong(QUEUE_SPILL_SEGMENT_SIZE_IN_BYTES);
+        this.maxQueueSpillSizeInBytes = config.getLong(MAX_QUEUE_SPILL_SIZE_IN_BYTES);
         this.maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
         this.pollInterval = config.getDuration(POLL_INTERVAL_MS, ChronoUnit.MILLIS);
+        this.pollLinger = config.getDuration(POLL_LINGER_MS, ChronoUnit.MILLIS);
         this.logicalName = logicalName;
         this.heartbeatTopicsPrefix = config.getString(Heartbeat.HEARTBEAT_TOPICS_PREFIX);
         this.snapshotDelayMs = Duration.ofMillis(config.getLong(SNAPSHOT_DELAY_MS));
         this.retriableRestartWait = Duration.ofMillis(config.getLong(RETRIABLE_RESTART_WAIT));
         this.snapshotFetchSize = config.getInteger(SNAPSHOT_FETCH_SIZE, defaultSnapshotFetchSize);
+        this.snapshotMaxThreads = config.getInteger(SNAPSHOT_MAX_THREADS);
+        this.snapshotChunkSize = config.getLong(SNAPSHOT_CHUNK_SIZE);
+        this.snapshotMaxRowsPerSecond = config.getLong(SNAPSHOT_MAX_ROWS_PER_SECOND);
+        this.snapshotMaxBytesPerSecond = config.getLong(SNAPSHOT_MAX_BYTES_PER_SECOND);
+        this.snapshotResumable = config.getBoolean(SNAPSHOT_RESUMABLE);
+        this.signalDataCollection = config.getString(SIGNAL_DATA_COLLECTION);
+        this.incrementalSnapshotChunkSize = config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
         this.queryFetchSize = config.getInteger(QUERY_FETCH_SIZE);
         this.sourceInfoStructMaker = getSourceInfoStructMaker(Version.parse(config.getString(SOURCE_STRUCT_MAKER_VERSION)));
         this.sanitizeFieldNames = config.getBoolean(SANITIZE_FIELD_NAMES) || isUsingAvroConverter(config);
         this.shouldProvideTransactionMetadata = config.getBoolean(PROVIDE_TRANSACTION_METADATA);
         this.eventProcessingFailureHandlingMode = EventProcessingFailureHandlingMode.parse(config.getString(EVENT_PROCESSING_FAILURE_HANDLING_MODE));
+        this.eventProcessingThreads = config.getInteger(EVENT_PROCESSING_THREADS);
         this.customConverterRegistry = new CustomConverterRegistry(getCustomConverters());
         this.binaryHandlingMode = BinaryHandlingMode.parse(config.getString(BINARY_HANDLING_MODE));
     }
@@ -468,6 +661,26 @@ public int getMaxQueueSize() {
         return maxQueueSize;
     }
 
+    public long getMaxQueueSizeInBytes() {
+        return maxQueueSizeInBytes;
+    }
+
+    /**
+     * Returns the directory to which change events are spilled once the queue is full, or {@code null} if spilling is
+     * disabled.
+     */
+    public Path getQueueSpillDirectory() {
+        return queueSpillDirectory;
+    }
+
+    public long getQueueSpillSegmentSizeInBytes() {
+        return queueSpillSegmentSizeInBytes;
+    }
+
+    public long getMaxQueueSpillSizeInBytes() {
+        return maxQueueSpillSizeInBytes;
+    }
+
     public int getMaxBatchSize() {
         return maxBatchSize;
     }
@@ -476,6 +689,10 @@ public Duration getPollInterval() {
         return pollInterval;
     }
 
+    public Duration getPollLinger() {
+        return pollLinger;
+    }
+
     public String getLogicalName() {
         return logicalName;
     }
@@ -500,6 +717,34 @@ public int getSnapshotFetchSize() {
         return snapshotFetchSize;
     }
 
+    public int getSnapshotMaxThreads() {
+        return snapshotMaxThreads;
+    }
+
+    public long getSnapshotChunkSize() {
+        return snapshotChunkSize;
+    }
+
+    public long getSnapshotMaxRowsPerSecond() {
+        return snapshotMaxRowsPerSecond;
+    }
+
+    public long getSnapshotMaxBytesPerSecond() {
+        return snapshotMaxBytesPerSecond;
+    }
+
+    public boolean isSnapshotResumable() {
+        return snapshotResumable;
+    }
+
+    public String getSignalingDataCollectionId() {
+        return signalDataCollection;
+    }
+
+    public int getIncrementalSnapshotChunkSize() {
+        return incrementalSnapshotChunkSize;
+    }
+
     public int getQueryFetchSize() {
         return queryFetchSize;
     }
@@ -512,6 +757,14 @@ public EventProcessingFailureHandlingMode getEventProcessingFailureHandlingMode(
         return eventProcessingFailureHandlingMode;
     }
 
+    /**
+     * Returns the number of threads converting streamed changes into change records, or {@code 0} if changes are
+     * converted on the thread reading the change stream.
+     */
+    public int getEventProcessingThreads() {
+        return eventProcessingThreads;
+    }
+
     public CustomConverterRegistry customConverterRegistry() {
         return customConverterRegistry;
     }
@@ -582,6 +835,15 @@ private static int validateMaxQueueSize(Configuration config, Field field, Field
         return count;
     }
 
+    private static int validateQueueSpillSegmentSize(Configuration config, Field field, Field.ValidationOutput problems) {
+        long segmentSize = config.getLong(field);
+        if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE) {
+            problems.accept(field, segmentSize, "A positive segment size of at most " + Integer.MAX_VALUE + " bytes is required");
+            return 1;
+        }
+        return 0;
+    }
+
     private static int validateSkippedOperation(Configuration config, Field field, ValidationOutput problems) {
         String operations = config.getString(field);
 
@@ -5,37 +5,55 @@
  */
 package io.debezium.connector.base;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.ConfigurationDefaults;
+import io.debezium.metrics.LatencyHistogram;
 import io.debezium.time.Temporals;
-import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.LoggingContext.PreviousContext;
-import io.debezium.util.Metronome;
-import io.debezium.util.Threads;
-import io.debezium.util.Threads.Timer;
 
 /**
  * A queue which serves as handover point between producer threads (e.g. MySQL's
  * binlog reader thread) and the Kafka Connect polling loop.
  * <p>
  * The queue is configurable in different aspects, e.g. its maximum size and the
- * time to sleep (block) between two subsequent poll calls. See the
+ * maximum time to block in a single poll call. See the
  * {@link Builder} for the different options. The queue applies back-pressure
  * semantics, i.e. if it holds the maximum number of elements, subsequent calls
- * to {@link #enqueue(Object)} will block until elements have been removed from
+ * to {@link #enqueue(Sizeable)} will block until elements have been removed from
  * the queue.
  * <p>
+ * The time elements spend in memory between being enqueued and being polled is
+ * recorded in a histogram, see {@link #enqueueToPollLatency()}.
+ * <p>
+ * Optionally the queue can also be bounded by the approximate size of its
+ * elements in bytes (see {@link Builder#maxQueueSizeInBytes(long)}). In that case
+ * producers are blocked as soon as either of the two limits is reached. An element
+ * which alone exceeds the byte limit is still accepted once the queue is empty, so
+ * that single large events cannot stall the producer forever.
+ * <p>
+ * If a spill directory is configured (see {@link Builder#spillDirectory(Path)}),
+ * elements which do not fit into memory are written to append-only segment files
+ * instead of blocking the producer, so that a stalled consumer does not stall the
+ * reading of the source database. Once elements have been spilled, all further
+ * elements are spilled too until the spill files have been read back, which keeps
+ * the order of elements intact. Producers are only blocked once the spill files
+ * reach their maximum size, if any.
+ * <p>
  * If an exception occurs on the producer side, the producer should make that
  * exception known by calling {@link #producerException(RuntimeException)} before stopping its
  * operation. Upon the next call to {@link #poll()}, that exception will be
@@ -50,33 +68,60 @@
  *            producers to the consumer, a custom type wrapping source records
  *            may be used.
  */
-public class ChangeEventQueue<T> implements ChangeEventQueueMetrics {
+public class ChangeEventQueue<T extends Sizeable> implements ChangeEventQueueMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
 
     private final Duration pollInterval;
     private final int maxBatchSize;
     private final int maxQueueSize;
-    private final BlockingQueue<T> queue;
-    private final Metronome metronome;
+    private final long maxQueueSizeInBytes;
+    private final ReentrantLock lock;
+    private final Condition isNotFull;
+    private final Condition isNotEmpty;
+    private final Queue<T> queue;
+    private final long maxLingerNanos;
+    private final SpillBuffer<T> spillBuffer;
     private final Supplier<PreviousContext> loggingContextSupplier;
 
+    // Guarded by lock; enqueue times (System.nanoTime()) of the elements in the in-memory queue, in the same order
+    private final long[] enqueueTimes;
+    private int enqueueTimesHead = 0;
+    private final LatencyHistogram enqueueToPollLatency = new LatencyHistogram();
+
+    // Guarded by lock; volatile so that metrics can be read without acquiring it
+    private volatile long currentQueueSizeInBytes = 0;
+    private volatile long peakQueueSizeInBytes = 0;
+
     private volatile RuntimeException producerException;
 
-    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
+    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+                             long maxQueueSizeInBytes, Duration maxLinger, SpillBuffer<T> spillBuffer) {
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
-        this.metronome = Metronome.sleeper(pollInterval, Clock.SYSTEM);
+        this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+        this.lock = new ReentrantLock();
+        this.isNotFull = lock.newCondition();
+        this.isNotEmpty = lock.newCondition();
+        this.queue = new ArrayDeque<>(maxQueueSize);
+        this.enqueueTimes = new long[maxQueueSize];
+        this.maxLingerNanos = maxLinger != null ? maxLinger.toNanos() : 0;
+        this.spillBuffer = spillBuffer;
         this.loggingContextSupplier = loggingContextSupplier;
     }
 
-    public static class Builder<T> {
+    public static class Builder<T extends Sizeable> {
 
         private Duration pollInterval;
         private int maxQueueSize;
         private int maxBatchSize;
+        private long maxQueueSizeInBytes;
+        private Duration maxLinger = Duration.ZERO;
+        private Path spillDirectory;
+        private long spillSegmentSize = CommonConnectorConfig.DEFAULT_QUEUE_SPILL_SEGMENT_SIZE_IN_BYTES;
+        private long maxSpillSizeInBytes;
+        private SpillCodec<T> spillCodec;
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
 
         public Builder<T> pollInterval(Duration pollInterval) {
@@ -89,24 +134,81 @@ public Builder<T> maxQueueSize(int maxQueueSize) {
             return this;
         }
 
+        /**
+         * Sets the maximum approximate size of all queued elements in bytes. A value of {@code 0} (the default) disables
+         * the byte-based limit, so that the queue is bounded only by {@link #maxQueueSize(int)}.
+         */
+        public Builder<T> maxQueueSizeInBytes(long maxQueueSizeInBytes) {
+            this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+            return this;
+        }
+
         public Builder<T> maxBatchSize(int maxBatchSize) {
             this.maxBatchSize = maxBatchSize;
             return this;
         }
 
+        /**
+         * Sets the maximum time {@link ChangeEventQueue#poll()} waits for a batch to fill up to the maximum batch size
+         * once the first element has become available. The default of zero returns available elements right away,
+         * favouring low latency over large batches.
+         */
+        public Builder<T> maxLinger(Duration maxLinger) {
+            this.maxLinger = maxLinger;
+            return this;
+        }
+
+        /**
+         * Sets the directory to which elements are spilled once the in-memory queue is full. If not set (the default),
+         * producers are blocked instead. Requires a {@link #spillCodec(SpillCodec) codec} to be set. The directory is
+         * created if it doesn't exist yet; spill files left behind in it by queues which haven't been
+         * {@link ChangeEventQueue#close() closed} are deleted.
+         */
+        public Builder<T> spillDirectory(Path spillDirectory) {
+            this.spillDirectory = spillDirectory;
+            return this;
+        }
+
+        public Builder<T> spillSegmentSize(long spillSegmentSize) {
+            this.spillSegmentSize = spillSegmentSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes that may be spilled to disk; producers are blocked once it has been reached.
+         * A value of {@code 0} (the default) means no limit.
+         */
+        public Builder<T> maxSpillSizeInBytes(long maxSpillSizeInBytes) {
+            this.maxSpillSizeInBytes = maxSpillSizeInBytes;
+            return this;
+        }
+
+        public Builder<T> spillCodec(SpillCodec<T> spillCodec) {
+            this.spillCodec = spillCodec;
+            return this;
+        }
+
         public Builder<T> loggingContextSupplier(Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
             this.loggingContextSupplier = loggingContextSupplier;
             return this;
         }
 
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier);
+            SpillBuffer<T> spillBuffer = null;
+            if (spillDirectory != null) {
+                if (spillCodec == null) {
+                    throw new IllegalStateException("A spill codec is required when spilling to '" + spillDirectory + "'");
+                }
+                spillBuffer = new SpillBuffer<>(spillDirectory, spillSegmentSize, maxSpillSizeInBytes, spillCodec);
+            }
+            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, maxLinger, spillBuffer);
         }
     }
 
     /**
      * Enqueues a record so that it can be obtained via {@link #poll()}. This method
-     * will block if the queue is full.
+     * will block if the queue is full, i.e. if it either holds the maximum number of
+     * elements or, if enabled, the maximum number of bytes.
      *
      * @param record
      *            the record to be enqueued
@@ -127,13 +229,140 @@ public void enqueue(T record) throws InterruptedException {
             LOGGER.debug("Enqueuing source record '{}'", record);
         }
 
-        // this will also raise an InterruptedException if the thread is interrupted while waiting for space in the queue
-        queue.put(record);
+        final long recordSize = maxQueueSizeInBytes > 0 ? record.objectSize() : 0;
+
+        lock.lock();
+        try {
+            // this will also raise an InterruptedException if the thread is interrupted while waiting for space in the queue
+            while (isFull(recordSize)) {
+                if (spillBuffer != null && !spillBuffer.isFull()) {
+                    if (spillBuffer.isEmpty()) {
+                        LOGGER.info("Change event queue is full, spilling change events to disk");
+                    }
+                    break;
+                }
+                isNotFull.await();
+            }
+
+            if (!isFull(recordSize)) {
+                enqueueInMemory(record, recordSize);
+                return;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+
+        // written to disk without holding the lock
+        spill(record);
+    }
+
+    /**
+     * Adds the given record to the in-memory queue. Must be called while holding the lock.
+     */
+    private void enqueueInMemory(T record, long recordSize) {
+        enqueueTimes[(enqueueTimesHead + queue.size()) % maxQueueSize] = System.nanoTime();
+        queue.add(record);
+        isNotEmpty.signal();
+
+        if (maxQueueSizeInBytes > 0) {
+            currentQueueSizeInBytes += recordSize;
+            if (currentQueueSizeInBytes > peakQueueSizeInBytes) {
+                peakQueueSizeInBytes = currentQueueSizeInBytes;
+            }
+        }
+    }
+
+    /**
+     * Writes the given record to disk; must be called without holding the lock, so that the consumer isn't blocked by
+     * the I/O. The order of the records of a producer is retained, as its subsequent records are spilled too once this
+     * one has been appended, see {@link #isFull(long)}.
+     */
+    private void spill(T record) {
+        spillBuffer.append(record);
+
+        lock.lock();
+        try {
+            isNotEmpty.signal();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull(long recordSize) {
+        // once spilling, keep spilling until all spilled records have been read back so as to retain their order
+        if (spillBuffer != null && !spillBuffer.isEmpty()) {
+            return true;
+        }
+        if (queue.size() >= maxQueueSize) {
+            return true;
+        }
+        // an empty queue always accepts a record, even if it alone exceeds the byte limit
+        return maxQueueSizeInBytes > 0 && !queue.isEmpty() && currentQueueSizeInBytes + recordSize > maxQueueSizeInBytes;
+    }
+
+    private long size() {
+        return spillBuffer != null ? queue.size() + spillBuffer.size() : queue.size();
+    }
+
+    /**
+     * Moves up to {@code maxBatchSize} elements of the in-memory queue into the given list. Must be called while holding
+     * the lock.
+     */
+    private void drainTo(List<T> records) {
+        int drained = 0;
+        final long now = queue.isEmpty() ? 0 : System.nanoTime();
+        while (drained < maxBatchSize && !queue.isEmpty()) {
+            final T record = queue.poll();
+            enqueueToPollLatency.record((now - enqueueTimes[enqueueTimesHead]) / 1_000);
+            enqueueTimesHead = (enqueueTimesHead + 1) % maxQueueSize;
+            if (maxQueueSizeInBytes > 0) {
+                currentQueueSizeInBytes -= record.objectSize();
+            }
+            records.add(record);
+            drained++;
+        }
+        if (drained > 0) {
+            isNotFull.signalAll();
+        }
+    }
+
+    /**
+     * Moves spilled elements into the given list until it holds {@code maxBatchSize} elements. Must be called without
+     * holding the lock, so that producers aren't blocked by the I/O. Spilled records are always younger than the ones
+     * in memory.
+     */
+    private void drainSpilledTo(List<T> records) {
+        int drained = 0;
+        while (records.size() < maxBatchSize && !spillBuffer.isEmpty()) {
+            final T record = spillBuffer.poll();
+            if (record == null) {
+                break;
+            }
+            records.add(record);
+            drained++;
+            if (spillBuffer.isEmpty()) {
+                LOGGER.info("All spilled change events have been read back from disk");
+            }
+        }
+        if (drained > 0) {
+            // producers waiting for the spill files to shrink below their maximum size
+            lock.lock();
+            try {
+                isNotFull.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
     }
 
     /**
      * Returns the next batch of elements from this queue. May be empty in case no
-     * elements have arrived in the maximum waiting time.
+     * elements have arrived in the maximum waiting time. The calling thread is woken
+     * up as soon as an element is enqueued; if a linger time is configured, it then
+     * waits at most that long for the batch to fill up before returning.
      *
      * @throws InterruptedException
      *             if this thread has been interrupted while waiting for more
@@ -144,15 +373,38 @@ public List<T> poll() throws InterruptedException {
 
         try {
             LOGGER.debug("polling records...");
-            List<T> records = new ArrayList<>();
-            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
-            while (!timeout.expired() && queue.drainTo(records, maxBatchSize) == 0) {
-                throwProducerExceptionIfPresent();
-
-                LOGGER.debug("no records available yet, sleeping a bit...");
-                // no records yet, so wait a bit
-                metronome.pause();
-                LOGGER.debug("checking for more records...");
+            final long timeout = Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL).toNanos();
+            final List<T> records = new ArrayList<>();
+
+            lock.lock();
+            try {
+                long remaining = timeout;
+                while (size() == 0) {
+                    throwProducerExceptionIfPresent();
+                    if (remaining <= 0) {
+                        return records;
+                    }
+                    LOGGER.debug("no records available yet, waiting for more records...");
+                    // woken up immediately by the producer once a record has been enqueued
+                    remaining = isNotEmpty.awaitNanos(remaining);
+                }
+
+                if (maxLingerNanos > 0) {
+                    remaining = maxLingerNanos;
+                    while (size() < maxBatchSize && remaining > 0 && producerException == null) {
+                        LOGGER.debug("batch not yet complete, lingering for more records...");
+                        remaining = isNotEmpty.awaitNanos(remaining);
+                    }
+                }
+
+                drainTo(records);
+            }
+            finally {
+                lock.unlock();
+            }
+
+            if (spillBuffer != null) {
+                drainSpilledTo(records);
             }
             return records;
         }
@@ -161,8 +413,27 @@ public List<T> poll() throws InterruptedException {
         }
     }
 
+    /**
+     * Deletes the spill files of this queue, if any, discarding the spilled elements not polled yet. To be called once
+     * the producers and the consumer of this queue have been stopped.
+     */
+    public void close() {
+        if (spillBuffer != null) {
+            spillBuffer.close();
+        }
+    }
+
     public void producerException(final RuntimeException producerException) {
         this.producerException = producerException;
+
+        // wake up a waiting poller so that the exception is raised right away
+        lock.lock();
+        try {
+            isNotEmpty.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
     private void throwProducerExceptionIfPresent() {
@@ -178,6 +449,36 @@ public int totalCapacity() {
 
     @Override
     public int remainingCapacity() {
-        return queue.remainingCapacity();
+        lock.lock();
+        try {
+            return maxQueueSize - queue.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long maxQueueSizeInBytes() {
+        return maxQueueSizeInBytes;
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes;
+    }
+
+    @Override
+    public long peakQueueSizeInBytes() {
+        return peakQueueSizeInBytes;
+    }
+
+    /**
+     * Returns the histogram of microseconds elements spent in memory between being enqueued and being polled. Elements
+     * spilled to disk are not recorded.
+     */
+    @Override
+    public LatencyHistogram enqueueToPollLatency() {
+        return enqueueToPollLatency;
     }
 }
@@ -5,9 +5,19 @@
  */
 package io.debezium.connector.base;
 
+import io.debezium.metrics.LatencyHistogram;
+
 public interface ChangeEventQueueMetrics {
 
     int totalCapacity();
 
     int remainingCapacity();
+
+    long maxQueueSizeInBytes();
+
+    long currentQueueSizeInBytes();
+
+    long peakQueueSizeInBytes();
+
+    LatencyHistogram enqueueToPollLatency();
 }
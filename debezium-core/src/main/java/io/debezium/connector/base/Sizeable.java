@@ -0,0 +1,21 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+/**
+ * An element of a {@link ChangeEventQueue} which can report its approximate size in memory. This is used by the queue
+ * when it is bounded by a number of bytes in addition to the number of elements.
+ */
+public interface Sizeable {
+
+    /**
+     * Returns the approximate size of this element in bytes. Implementations are expected to be cheap, so the
+     * returned value is an estimate rather than the exact retained heap size.
+     *
+     * @return the approximate size in bytes; never negative
+     */
+    long objectSize();
+}
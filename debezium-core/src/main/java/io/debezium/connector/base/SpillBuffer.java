@@ -0,0 +1,340 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.GuardedBy;
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A FIFO buffer of queue elements backed by a sequence of append-only segment files. New elements are appended to the
+ * last segment; once it reaches the configured segment size a new one is started. Elements are read back in order from
+ * the first segment, which is deleted as soon as it has been read completely, so disk space is reclaimed while the
+ * buffer is still in use.
+ * <p>
+ * Each buffer holds a lock on a lock file in the spill directory for as long as it is open; the names of its segment
+ * files start with the name of that lock file. Segment files left behind by buffers which have not been closed, e.g.
+ * after a crash, are deleted when the next buffer is created in the same directory, as their lock isn't held any more.
+ * Several buffers, also of different processes, can share the same directory that way.
+ * <p>
+ * Appending and polling are guarded by a lock of this buffer, so that the producers of the owning queue can write to
+ * disk without holding the lock of the queue.
+ *
+ * @param <T> the type of the buffered elements
+ */
+@ThreadSafe
+class SpillBuffer<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillBuffer.class);
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final String FILE_PREFIX = "debezium-queue-";
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    private static final String SEGMENT_FILE_SUFFIX = ".spill";
+
+    /**
+     * Serializes the creation of buffers across processes, so that no lock file is considered abandoned before its
+     * owner has locked it.
+     */
+    private static final String DIRECTORY_LOCK_FILE = "debezium-queue.lock";
+
+    /**
+     * The lock files held by buffers of this process; these must not be opened again, as closing any channel of a
+     * file may release all locks of the process on that file.
+     */
+    @GuardedBy("SpillBuffer.class")
+    private static final Set<Path> OWNED_LOCK_FILES = new HashSet<>();
+
+    private final Path directory;
+    private final long segmentSize;
+    private final long maxSizeInBytes;
+    private final SpillCodec<T> codec;
+    private final LockFile lockFile;
+    private final String segmentPrefix;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @GuardedBy("lock")
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    @GuardedBy("lock")
+    private boolean closed = false;
+
+    // Guarded by lock; volatile so that the owning queue can read them without acquiring it
+    private volatile long size = 0;
+    private volatile long sizeInBytes = 0;
+
+    SpillBuffer(Path directory, long segmentSize, long maxSizeInBytes, SpillCodec<T> codec) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.codec = codec;
+        try {
+            Files.createDirectories(directory);
+            this.lockFile = createLockFile(directory);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Unable to set up spill directory '" + directory + "'", e);
+        }
+        final String lockFileName = lockFile.path.getFileName().toString();
+        this.segmentPrefix = lockFileName.substring(0, lockFileName.length() - LOCK_FILE_SUFFIX.length()) + "-";
+    }
+
+    /**
+     * Whether no more elements can be appended as the configured maximum size on disk has been reached.
+     */
+    boolean isFull() {
+        return maxSizeInBytes > 0 && sizeInBytes >= maxSizeInBytes;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    void append(T element) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Spill buffer in '" + directory + "' has been closed");
+            }
+            Segment segment = segments.peekLast();
+            if (segment == null || segment.written >= segmentSize) {
+                if (segment != null) {
+                    segment.out.flush();
+                    segment.flushed = true;
+                }
+                segment = new Segment(Files.createTempFile(directory, segmentPrefix, SEGMENT_FILE_SUFFIX));
+                segments.addLast(segment);
+            }
+            final int before = segment.out.size();
+            codec.write(element, segment.out);
+            final long length = segment.out.size() - before;
+            segment.written += length;
+            segment.pending++;
+            segment.flushed = false;
+            sizeInBytes += length;
+            size++;
+        }
+        catch (IOException e) {
+            throw new ConnectException("Unable to spill change event to '" + directory + "'", e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the oldest element of this buffer.
+     */
+    T poll() {
+        lock.lock();
+        try {
+            final Segment segment = segments.peekFirst();
+            if (segment == null) {
+                return null;
+            }
+            try {
+                final T element = segment.read(codec);
+                size--;
+                if (segment.pending == 0) {
+                    sizeInBytes -= segment.written;
+                    segments.removeFirst();
+                    segment.delete();
+                    if (segments.isEmpty()) {
+                        codec.reset();
+                    }
+                }
+                return element;
+            }
+            catch (IOException e) {
+                throw new ConnectException("Unable to read spilled change event from '" + segment.path + "'", e);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes all segment files of this buffer, discarding the elements not read back yet, and releases its lock file.
+     */
+    void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment : segments) {
+                try {
+                    segment.delete();
+                }
+                catch (IOException e) {
+                    LOGGER.warn("Unable to delete spill file '{}'", segment.path, e);
+                }
+            }
+            segments.clear();
+            size = 0;
+            sizeInBytes = 0;
+            codec.reset();
+            releaseLockFile(lockFile);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the files of abandoned buffers in the given directory and creates a new, locked lock file.
+     */
+    private static synchronized LockFile createLockFile(Path directory) throws IOException {
+        try (FileChannel directoryChannel = FileChannel.open(directory.resolve(DIRECTORY_LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+                FileLock directoryLock = directoryChannel.lock()) {
+            deleteAbandonedFiles(directory);
+
+            final Path path = Files.createTempFile(directory, FILE_PREFIX, LOCK_FILE_SUFFIX);
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+            try {
+                final LockFile lockFile = new LockFile(path, channel.lock());
+                OWNED_LOCK_FILES.add(path.toRealPath());
+                return lockFile;
+            }
+            catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+    }
+
+    private static void deleteAbandonedFiles(Path directory) throws IOException {
+        final List<Path> abandonedLockFiles = new ArrayList<>();
+        try (DirectoryStream<Path> lockFiles = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + LOCK_FILE_SUFFIX)) {
+            for (Path lockFile : lockFiles) {
+                try {
+                    if (OWNED_LOCK_FILES.contains(lockFile.toRealPath())) {
+                        continue;
+                    }
+                    try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE);
+                            FileLock lock = channel.tryLock()) {
+                        if (lock != null) {
+                            abandonedLockFiles.add(lockFile);
+                        }
+                    }
+                }
+                catch (NoSuchFileException e) {
+                    // released by its owner in the meantime
+                }
+            }
+        }
+        // only deleted once the channels have been closed, which is required on some platforms
+        for (Path lockFile : abandonedLockFiles) {
+            LOGGER.info("Deleting abandoned spill lock file '{}'", lockFile);
+            Files.deleteIfExists(lockFile);
+        }
+
+        // segment files are only ever created once their lock file is held, so those without one are abandoned
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path segmentFile : segmentFiles) {
+                final String name = segmentFile.getFileName().toString();
+                final String owner = name.substring(0, name.lastIndexOf('-'));
+                if (!Files.exists(directory.resolve(owner + LOCK_FILE_SUFFIX))) {
+                    LOGGER.info("Deleting abandoned spill file '{}'", segmentFile);
+                    Files.deleteIfExists(segmentFile);
+                }
+            }
+        }
+    }
+
+    private static synchronized void releaseLockFile(LockFile lockFile) {
+        try {
+            OWNED_LOCK_FILES.remove(lockFile.path.toRealPath());
+            lockFile.lock.channel().close();
+            Files.deleteIfExists(lockFile.path);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Unable to delete spill lock file '{}'", lockFile.path, e);
+        }
+    }
+
+    private static class LockFile {
+
+        private final Path path;
+        private final FileLock lock;
+
+        LockFile(Path path, FileLock lock) {
+            this.path = path;
+            this.lock = lock;
+        }
+    }
+
+    private static class Segment {
+
+        private final Path path;
+        private final DataOutputStream out;
+        private DataInputStream in;
+        private long written = 0;
+        private long pending = 0;
+        private boolean flushed = true;
+
+        Segment(Path path) throws IOException {
+            this.path = path;
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+            LOGGER.debug("Spilling change events to '{}'", path);
+        }
+
+        <T> T read(SpillCodec<T> codec) throws IOException {
+            if (in == null) {
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE));
+            }
+            // the reader may catch up with the writer of the same segment at any time
+            if (!flushed) {
+                out.flush();
+                flushed = true;
+            }
+            final T element = codec.read(in);
+            pending--;
+            return element;
+        }
+
+        void delete() throws IOException {
+            out.close();
+            if (in != null) {
+                in.close();
+            }
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes elements of a {@link ChangeEventQueue} into a binary form so they can be spilled to disk when the in-memory
+ * queue is full, and decodes them again when they are read back. Spilled elements are only ever read back by the same
+ * queue instance, so implementations may keep state such as a table of already seen schemas.
+ *
+ * @param <T> the type of the queue elements
+ */
+public interface SpillCodec<T> {
+
+    void write(T element, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Invoked once all spilled elements have been read back, allowing implementations to release any state kept for
+     * decoding them.
+     */
+    default void reset() {
+    }
+}
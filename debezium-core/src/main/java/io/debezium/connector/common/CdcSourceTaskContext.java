@@ -14,6 +14,7 @@
 import io.debezium.schema.DataCollectionId;
 import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
+import io.debezium.util.RateLimiter;
 
 /**
  * Contains contextual information and objects scoped to the lifecycle of Debezium's {@link SourceTask} implementations.
@@ -31,12 +32,23 @@ public class CdcSourceTaskContext {
      */
     private final Supplier<Collection<? extends DataCollectionId>> collectionsSupplier;
 
+    /**
+     * Limits the rate of rows and bytes read by all threads of a snapshot; its limits can be changed via the snapshot metrics.
+     */
+    private final RateLimiter snapshotRateLimiter;
+
     public CdcSourceTaskContext(String connectorType, String connectorName, Supplier<Collection<? extends DataCollectionId>> collectionsSupplier) {
+        this(connectorType, connectorName, collectionsSupplier, 0, 0);
+    }
+
+    public CdcSourceTaskContext(String connectorType, String connectorName, Supplier<Collection<? extends DataCollectionId>> collectionsSupplier,
+                                long snapshotMaxRowsPerSecond, long snapshotMaxBytesPerSecond) {
         this.connectorType = connectorType;
         this.connectorName = connectorName;
         this.collectionsSupplier = collectionsSupplier != null ? collectionsSupplier : Collections::emptyList;
 
         this.clock = Clock.system();
+        this.snapshotRateLimiter = new RateLimiter(clock, snapshotMaxRowsPerSecond, snapshotMaxBytesPerSecond);
     }
 
     /**
@@ -57,6 +69,10 @@ public Clock getClock() {
         return clock;
     }
 
+    public RateLimiter getSnapshotRateLimiter() {
+        return snapshotRateLimiter;
+    }
+
     public String[] capturedDataCollections() {
         return collectionsSupplier.get()
                 .stream()
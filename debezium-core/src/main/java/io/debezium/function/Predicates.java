@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -19,6 +20,9 @@
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
 import io.debezium.util.Strings;
 
 /**
@@ -31,6 +35,11 @@ public class Predicates {
 
     private static final Pattern LITERAL_SEPARATOR_PATTERN = Pattern.compile(",");
 
+    /**
+     * The default maximum number of decisions remembered by a {@link #memoize(Predicate) memoized} predicate.
+     */
+    public static final int DEFAULT_MEMOIZED_DECISIONS = 10_000;
+
     /**
      * Generate a predicate function that for any supplied UUID strings returns {@code true} if <i>any</i> of the comma-separated
      * UUID literals or regular expressions matches the predicate parameter. This supplied strings can be a mixture
@@ -287,6 +296,35 @@ public static <T> Predicate<T> filter(Predicate<T> allowed, Predicate<T> disallo
         return allowed != null ? allowed : (disallowed != null ? disallowed : (id) -> true);
     }
 
+    /**
+     * Generate a predicate function that remembers the results of the supplied predicate, so that it is evaluated only
+     * once for each distinct parameter. This is intended for expensive but stateless predicates, e.g. matching
+     * identifiers against many regular expressions, that are evaluated for every change event. At most
+     * {@link #DEFAULT_MEMOIZED_DECISIONS} results are remembered.
+     *
+     * @param predicate the stateless predicate whose results are to be remembered; may not be null
+     * @return the memoizing predicate; never null
+     */
+    public static <T> Predicate<T> memoize(Predicate<T> predicate) {
+        return memoize(predicate, DEFAULT_MEMOIZED_DECISIONS);
+    }
+
+    /**
+     * Generate a predicate function that remembers the results of the supplied predicate, so that it is evaluated only
+     * once for each distinct parameter. Once {@code maxSize} results have been remembered, the least recently used one
+     * is forgotten, which bounds the memory used in the presence of many short-lived identifiers.
+     *
+     * @param predicate the stateless predicate whose results are to be remembered; may not be null
+     * @param maxSize the maximum number of remembered results; must be positive
+     * @return the memoizing predicate; never null
+     */
+    public static <T> Predicate<T> memoize(Predicate<T> predicate, int maxSize) {
+        if (predicate instanceof MemoizedPredicate) {
+            return predicate;
+        }
+        return new MemoizedPredicate<>(predicate, maxSize);
+    }
+
     public static <R> Predicate<R> not(Predicate<R> predicate) {
         return predicate.negate();
     }
@@ -303,4 +341,32 @@ public boolean test(T t) {
     private Predicates() {
     }
 
+    @ThreadSafe
+    private static final class MemoizedPredicate<T> implements Predicate<T> {
+
+        private final Predicate<T> delegate;
+        private final ConcurrentMap<T, Boolean> decisions;
+
+        private MemoizedPredicate(Predicate<T> delegate, int maxSize) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("The maximum number of remembered decisions must be positive");
+            }
+            this.delegate = delegate;
+            this.decisions = new BoundedConcurrentHashMap<>(maxSize, 10, Eviction.LRU);
+        }
+
+        @Override
+        public boolean test(T t) {
+            if (t == null) {
+                return delegate.test(t);
+            }
+            final Boolean decision = decisions.get(t);
+            if (decision != null) {
+                return decision;
+            }
+            final boolean result = delegate.test(t);
+            decisions.put(t, result);
+            return result;
+        }
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A fixed-size histogram of non-negative values, e.g. latencies, in the style of HdrHistogram. Values below
+ * {@code 2^precisionBits} are counted exactly; larger values are counted in log-linear buckets whose width is a
+ * power of two, so that the relative error of reported percentiles is bounded by {@code 2^(1-precisionBits)}.
+ * <p>
+ * Recording a value doesn't allocate and only performs atomic increments, so this histogram can be updated from hot
+ * paths by multiple threads. Reads are not atomic with regards to concurrent updates, which is acceptable for
+ * monitoring purposes.
+ */
+@ThreadSafe
+public class LatencyHistogram {
+
+    /**
+     * The default precision of 7 bits results in a relative error of less than 2%.
+     */
+    public static final int DEFAULT_PRECISION_BITS = 7;
+
+    /**
+     * By default, values up to {@code 2^40} are tracked, which is more than 12 days when recording microseconds.
+     */
+    public static final int DEFAULT_MAGNITUDE_BITS = 40;
+
+    private final int precisionBits;
+    private final int subBucketCount;
+    private final int subBucketHalfCount;
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public LatencyHistogram() {
+        this(DEFAULT_PRECISION_BITS, DEFAULT_MAGNITUDE_BITS);
+    }
+
+    /**
+     * @param precisionBits the number of bits of each value that are preserved, determining the precision
+     * @param magnitudeBits the number of bits of the largest trackable value; larger values are counted as the largest one
+     */
+    public LatencyHistogram(int precisionBits, int magnitudeBits) {
+        if (precisionBits < 1 || magnitudeBits <= precisionBits || magnitudeBits > 62) {
+            throw new IllegalArgumentException("Invalid histogram dimensions: " + precisionBits + " precision bits, " + magnitudeBits + " magnitude bits");
+        }
+        this.precisionBits = precisionBits;
+        this.subBucketCount = 1 << precisionBits;
+        this.subBucketHalfCount = subBucketCount >> 1;
+        this.highestTrackableValue = (1L << magnitudeBits) - 1;
+        this.counts = new AtomicLongArray(indexOf(highestTrackableValue) + 1);
+    }
+
+    /**
+     * Records a single value. Negative values are recorded as zero, values beyond the trackable range as the highest
+     * trackable value.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        else if (value > highestTrackableValue) {
+            value = highestTrackableValue;
+        }
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(value);
+
+        long currentMax = maxValue.get();
+        while (value > currentMax && !maxValue.compareAndSet(currentMax, value)) {
+            currentMax = maxValue.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the largest recorded value, or {@code 0} if no value has been recorded.
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the arithmetic mean of all recorded values, or {@code 0} if no value has been recorded.
+     */
+    public double getMean() {
+        final long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of recorded values lie, or {@code 0} if no value has
+     * been recorded.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     */
+    public long getValueAtPercentile(double percentile) {
+        final long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        final double boundedPercentile = Math.min(Math.max(percentile, 0.0), 100.0);
+        final long countAtPercentile = Math.max(1, (long) Math.ceil(boundedPercentile / 100.0 * count));
+
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalSum.set(0);
+        maxValue.set(0);
+    }
+
+    private int indexOf(long value) {
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value | 1);
+        if (magnitude < precisionBits) {
+            return (int) value;
+        }
+        final int shift = magnitude - precisionBits + 1;
+        return shift * subBucketHalfCount + (int) (value >>> shift);
+    }
+
+    private long highestEquivalentValue(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int shift = index / subBucketHalfCount - 1;
+        final long subBucket = index - shift * subBucketHalfCount;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
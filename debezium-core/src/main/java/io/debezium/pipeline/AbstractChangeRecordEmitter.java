@@ -18,7 +18,7 @@
  */
 public abstract class AbstractChangeRecordEmitter<T extends DataCollectionSchema> implements ChangeRecordEmitter {
 
-    private final OffsetContext offsetContext;
+    private OffsetContext offsetContext;
     private final Clock clock;
 
     public AbstractChangeRecordEmitter(OffsetContext offsetContext, Clock clock) {
@@ -53,6 +53,16 @@ public OffsetContext getOffset() {
         return offsetContext;
     }
 
+    /**
+     * Replaces the offset of this emitter with an immutable copy of its current state, so the change record(s) can be
+     * emitted after the original offset context has been advanced by subsequent changes.
+     */
+    protected void freezeOffset() {
+        if (!(offsetContext instanceof OffsetContextSnapshot)) {
+            offsetContext = new OffsetContextSnapshot(offsetContext);
+        }
+    }
+
     /**
      * Returns the clock of the change record(s) emitted.
      */
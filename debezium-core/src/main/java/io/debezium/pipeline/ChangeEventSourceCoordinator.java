@@ -7,6 +7,7 @@
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -26,11 +27,13 @@
 import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
 import io.debezium.pipeline.source.spi.ChangeEventSourceFactory;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.source.spi.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.SnapshotResult;
 import io.debezium.pipeline.spi.SnapshotResult.SnapshotResultStatus;
+import io.debezium.schema.DataCollectionId;
 import io.debezium.schema.DatabaseSchema;
 import io.debezium.util.Threads;
 
@@ -136,6 +139,12 @@ protected void streamEvents(OffsetContext offsetContext, ChangeEventSourceContex
         streamingSource = changeEventSourceFactory.getStreamingChangeEventSource(offsetContext);
         eventDispatcher.setEventListener(streamingMetrics);
         streamingMetrics.connected(true);
+        final Optional<IncrementalSnapshotChangeEventSource<? extends DataCollectionId>> incrementalSnapshotSource = changeEventSourceFactory
+                .getIncrementalSnapshotChangeEventSource(offsetContext);
+        eventDispatcher.setIncrementalSnapshotChangeEventSource(incrementalSnapshotSource);
+        if (incrementalSnapshotSource.isPresent()) {
+            incrementalSnapshotSource.get().init(offsetContext);
+        }
         LOGGER.info("Starting streaming");
         streamingSource.execute(context);
         LOGGER.info("Finished streaming");
@@ -169,6 +178,7 @@ public synchronized void stop() throws InterruptedException {
             }
         }
         finally {
+            eventDispatcher.close();
             snapshotMetrics.unregister(LOGGER);
             streamingMetrics.unregister(LOGGER);
         }
@@ -7,9 +7,13 @@
 
 import org.apache.kafka.connect.source.SourceRecord;
 
-public class DataChangeEvent {
+import io.debezium.connector.base.Sizeable;
+import io.debezium.util.ApproximateStructSizeCalculator;
+
+public class DataChangeEvent implements Sizeable {
 
     private final SourceRecord record;
+    private long objectSize = -1;
 
     public DataChangeEvent(SourceRecord record) {
         this.record = record;
@@ -19,6 +23,15 @@ public SourceRecord getRecord() {
         return record;
     }
 
+    @Override
+    public long objectSize() {
+        // computed lazily as it is only needed if the queue is bounded by size in bytes
+        if (objectSize == -1) {
+            objectSize = ApproximateStructSizeCalculator.getApproximateRecordSize(record);
+        }
+        return objectSize;
+    }
+
     @Override
     public String toString() {
         return "DataChangeEvent [record=" + record + "]";
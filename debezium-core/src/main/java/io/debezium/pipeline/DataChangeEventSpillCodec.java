@@ -0,0 +1,440 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.base.SpillCodec;
+
+/**
+ * A compact binary encoding of {@link DataChangeEvent}s used for spilling them from the change event queue to disk.
+ * <p>
+ * Values are written guided by their schemas, i.e. without any type information or field names. The schemas
+ * themselves are not serialized; as spilled events are only read back by the same process, each distinct schema
+ * instance is registered in a table and referenced by its index instead. Source partitions and offsets, which have no
+ * schema, are written with a type tag per value.
+ */
+@NotThreadSafe
+public class DataChangeEventSpillCodec implements SpillCodec<DataChangeEvent> {
+
+    private static final int NO_SCHEMA = -1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_FLOAT = 6;
+    private static final byte TAG_SHORT = 7;
+    private static final byte TAG_BYTE = 8;
+    private static final byte TAG_BYTES = 9;
+
+    private static final byte BYTES_ARRAY = 0;
+    private static final byte BYTES_BUFFER = 1;
+
+    private final Map<Schema, Integer> schemaIds = new IdentityHashMap<>();
+    private final List<Schema> schemas = new ArrayList<>();
+
+    @Override
+    public void write(DataChangeEvent event, DataOutput out) throws IOException {
+        final SourceRecord record = event.getRecord();
+
+        writeMap(record.sourcePartition(), out);
+        writeMap(record.sourceOffset(), out);
+        writeString(record.topic(), out);
+        writeNullableInt(record.kafkaPartition(), out);
+        writeSchemaAndValue(record.keySchema(), record.key(), out);
+        writeSchemaAndValue(record.valueSchema(), record.value(), out);
+        writeNullableLong(record.timestamp(), out);
+
+        out.writeInt(record.headers().size());
+        for (Header header : record.headers()) {
+            writeString(header.key(), out);
+            writeSchemaAndValue(header.schema(), header.value(), out);
+        }
+    }
+
+    @Override
+    public DataChangeEvent read(DataInput in) throws IOException {
+        final Map<String, ?> partition = readMap(in);
+        final Map<String, ?> offset = readMap(in);
+        final String topic = readString(in);
+        final Integer kafkaPartition = readNullableInt(in);
+        final Schema keySchema = readSchema(in);
+        final Object key = readValue(keySchema, in);
+        final Schema valueSchema = readSchema(in);
+        final Object value = readValue(valueSchema, in);
+        final Long timestamp = readNullableLong(in);
+
+        final int headerCount = in.readInt();
+        final ConnectHeaders headers = new ConnectHeaders();
+        for (int i = 0; i < headerCount; i++) {
+            final String headerKey = readString(in);
+            final Schema headerSchema = readSchema(in);
+            headers.add(headerKey, readValue(headerSchema, in), headerSchema);
+        }
+
+        return new DataChangeEvent(new SourceRecord(partition, offset, topic, kafkaPartition, keySchema, key, valueSchema, value, timestamp, headers));
+    }
+
+    @Override
+    public void reset() {
+        schemaIds.clear();
+        schemas.clear();
+    }
+
+    private void writeSchemaAndValue(Schema schema, Object value, DataOutput out) throws IOException {
+        if (schema == null) {
+            out.writeInt(NO_SCHEMA);
+            writeUntypedValue(value, out);
+            return;
+        }
+        Integer id = schemaIds.get(schema);
+        if (id == null) {
+            id = schemas.size();
+            schemas.add(schema);
+            schemaIds.put(schema, id);
+        }
+        out.writeInt(id);
+        writeValue(schema, value, out);
+    }
+
+    private Schema readSchema(DataInput in) throws IOException {
+        final int id = in.readInt();
+        return id == NO_SCHEMA ? null : schemas.get(id);
+    }
+
+    private void writeValue(Schema schema, Object value, DataOutput out) throws IOException {
+        if (schema == null) {
+            writeUntypedValue(value, out);
+            return;
+        }
+        if (schema.isOptional() || schema.defaultValue() != null) {
+            out.writeBoolean(value != null);
+            if (value == null) {
+                return;
+            }
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                if (value instanceof java.util.Date) {
+                    out.writeLong(((java.util.Date) value).getTime());
+                }
+                else {
+                    out.writeInt((Integer) value);
+                }
+                break;
+            case INT64:
+                if (value instanceof java.util.Date) {
+                    out.writeLong(((java.util.Date) value).getTime());
+                }
+                else {
+                    out.writeLong((Long) value);
+                }
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeString((String) value, out);
+                break;
+            case BYTES:
+                if (value instanceof BigDecimal) {
+                    final BigDecimal decimal = (BigDecimal) value;
+                    out.writeInt(decimal.scale());
+                    writeBytes(decimal.unscaledValue().toByteArray(), out);
+                }
+                else if (value instanceof ByteBuffer) {
+                    out.writeByte(BYTES_BUFFER);
+                    final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    final byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    writeBytes(bytes, out);
+                }
+                else {
+                    out.writeByte(BYTES_ARRAY);
+                    writeBytes((byte[]) value, out);
+                }
+                break;
+            case ARRAY:
+                final List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(schema.valueSchema(), element, out);
+                }
+                break;
+            case MAP:
+                final Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(schema.keySchema(), entry.getKey(), out);
+                    writeValue(schema.valueSchema(), entry.getValue(), out);
+                }
+                break;
+            case STRUCT:
+                final Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(field.schema(), struct.getWithoutDefault(field.name()), out);
+                }
+                break;
+            default:
+                throw new ConnectException("Unsupported schema type " + schema.type() + " of schema " + schema);
+        }
+    }
+
+    private Object readValue(Schema schema, DataInput in) throws IOException {
+        if (schema == null) {
+            return readUntypedValue(in);
+        }
+        if (schema.isOptional() || schema.defaultValue() != null) {
+            if (!in.readBoolean()) {
+                return null;
+            }
+        }
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                if (Date.LOGICAL_NAME.equals(schema.name()) || Time.LOGICAL_NAME.equals(schema.name())) {
+                    return new java.util.Date(in.readLong());
+                }
+                return in.readInt();
+            case INT64:
+                if (Timestamp.LOGICAL_NAME.equals(schema.name())) {
+                    return new java.util.Date(in.readLong());
+                }
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return readString(in);
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+                    final int scale = in.readInt();
+                    return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                }
+                final byte kind = in.readByte();
+                final byte[] bytes = readBytes(in);
+                return kind == BYTES_BUFFER ? ByteBuffer.wrap(bytes) : bytes;
+            case ARRAY:
+                final int length = in.readInt();
+                final List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(readValue(schema.valueSchema(), in));
+                }
+                return list;
+            case MAP:
+                final int size = in.readInt();
+                final Map<Object, Object> map = new HashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(schema.keySchema(), in), readValue(schema.valueSchema(), in));
+                }
+                return map;
+            case STRUCT:
+                final Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    final Object fieldValue = readValue(field.schema(), in);
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                return struct;
+            default:
+                throw new ConnectException("Unsupported schema type " + schema.type() + " of schema " + schema);
+        }
+    }
+
+    private void writeMap(Map<String, ?> map, DataOutput out) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Entry<String, ?> entry : map.entrySet()) {
+            writeString(entry.getKey(), out);
+            writeUntypedValue(entry.getValue(), out);
+        }
+    }
+
+    private Map<String, ?> readMap(DataInput in) throws IOException {
+        final int size = in.readInt();
+        if (size == -1) {
+            return null;
+        }
+        final Map<String, Object> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readUntypedValue(in));
+        }
+        return map;
+    }
+
+    private void writeUntypedValue(Object value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        }
+        else if (value instanceof String) {
+            out.writeByte(TAG_STRING);
+            writeString((String) value, out);
+        }
+        else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        }
+        else if (value instanceof Integer) {
+            out.writeByte(TAG_INTEGER);
+            out.writeInt((Integer) value);
+        }
+        else if (value instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        }
+        else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        }
+        else if (value instanceof Float) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat((Float) value);
+        }
+        else if (value instanceof Short) {
+            out.writeByte(TAG_SHORT);
+            out.writeShort((Short) value);
+        }
+        else if (value instanceof Byte) {
+            out.writeByte(TAG_BYTE);
+            out.writeByte((Byte) value);
+        }
+        else if (value instanceof byte[]) {
+            out.writeByte(TAG_BYTES);
+            writeBytes((byte[]) value, out);
+        }
+        else {
+            throw new ConnectException("Unsupported schemaless value of type " + value.getClass().getName());
+        }
+    }
+
+    private Object readUntypedValue(DataInput in) throws IOException {
+        final byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_INTEGER:
+                return in.readInt();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_SHORT:
+                return in.readShort();
+            case TAG_BYTE:
+                return in.readByte();
+            case TAG_BYTES:
+                return readBytes(in);
+            default:
+                throw new ConnectException("Unknown value tag " + tag);
+        }
+    }
+
+    private void writeString(String value, DataOutput out) throws IOException {
+        writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    private String readString(DataInput in) throws IOException {
+        final byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeBytes(byte[] value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private byte[] readBytes(DataInput in) throws IOException {
+        final int length = in.readInt();
+        if (length == -1) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private void writeNullableInt(Integer value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private Integer readNullableInt(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private void writeNullableLong(Long value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+}
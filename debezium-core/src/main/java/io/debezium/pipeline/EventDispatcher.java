@@ -5,9 +5,12 @@
  */
 package io.debezium.pipeline;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import org.apache.kafka.connect.data.Schema;
@@ -25,11 +28,15 @@
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.signal.ExecuteSnapshot;
+import io.debezium.pipeline.signal.Signal;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.source.spi.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.spi.ChangeEventCreator;
 import io.debezium.pipeline.spi.ChangeRecordEmitter;
 import io.debezium.pipeline.spi.ChangeRecordEmitter.Receiver;
+import io.debezium.pipeline.spi.ConcurrentChangeRecordEmitter;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.SchemaChangeEventEmitter;
 import io.debezium.pipeline.txmetadata.TransactionMonitor;
@@ -44,6 +51,7 @@
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.schema.TopicSelector;
 import io.debezium.util.SchemaNameAdjuster;
+import io.debezium.util.Threads;
 
 /**
  * Central dispatcher for data change and schema change events. The former will be routed to the change event queue, the
@@ -58,6 +66,11 @@
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EventDispatcher.class);
 
+    /**
+     * The number of events which may be in flight per event processing thread.
+     */
+    private static final int CONCURRENT_EVENTS_PER_THREAD = 64;
+
     private final TopicSelector<T> topicSelector;
     private final DatabaseSchema<T> schema;
     private final HistorizedDatabaseSchema<T> historizedSchema;
@@ -70,6 +83,8 @@
     private final InconsistentSchemaHandler<T> inconsistentSchemaHandler;
     private final TransactionMonitor transactionMonitor;
     private final CommonConnectorConfig connectorConfig;
+    private final Signal signal;
+    private IncrementalSnapshotChangeEventSource<T> incrementalSnapshotChangeEventSource;
 
     private final Schema schemaChangeKeySchema;
     private final Schema schemaChangeValueSchema;
@@ -80,6 +95,11 @@
      */
     private final StreamingChangeRecordReceiver streamingReceiver;
 
+    /**
+     * Constructs change records of streamed events on multiple threads, if enabled; {@code null} otherwise.
+     */
+    private final OrderedTaskExecutor eventProcessingExecutor;
+
     public EventDispatcher(CommonConnectorConfig connectorConfig, TopicSelector<T> topicSelector,
                            DatabaseSchema<T> schema, ChangeEventQueue<DataChangeEvent> queue, DataCollectionFilter<T> filter,
                            ChangeEventCreator changeEventCreator, EventMetadataProvider metadataProvider, SchemaNameAdjuster schemaNameAdjuster) {
@@ -111,6 +131,8 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicSelector<T> t
         this.inconsistentSchemaHandler = inconsistentSchemaHandler != null ? inconsistentSchemaHandler : this::errorOnMissingSchema;
 
         this.transactionMonitor = new TransactionMonitor(connectorConfig, metadataProvider, this::enqueueTransactionMessage);
+        this.eventProcessingExecutor = createEventProcessingExecutor(connectorConfig);
+        this.signal = new Signal(connectorConfig);
         if (customHeartbeat != null) {
             heartbeat = customHeartbeat;
         }
@@ -133,8 +155,26 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicSelector<T> t
                 .build();
     }
 
+    private static OrderedTaskExecutor createEventProcessingExecutor(CommonConnectorConfig connectorConfig) {
+        final int threads = connectorConfig.getEventProcessingThreads();
+        if (threads <= 0) {
+            return null;
+        }
+        // the transaction monitor updates the offset with every event, so records must be built in sequence
+        if (connectorConfig.shouldProvideTransactionMetadata()) {
+            LOGGER.warn("Transaction metadata is enabled, change events will be processed by a single thread");
+            return null;
+        }
+        LOGGER.info("Processing change events using {} threads", threads);
+        return new OrderedTaskExecutor(
+                Executors.newFixedThreadPool(threads, Threads.threadFactory(connectorConfig.getConnectorName(), connectorConfig.getLogicalName(),
+                        "event-processing", true, true)),
+                threads * CONCURRENT_EVENTS_PER_THREAD);
+    }
+
     public void dispatchSnapshotEvent(T dataCollectionId, ChangeRecordEmitter changeRecordEmitter, SnapshotReceiver receiver) throws InterruptedException {
         // TODO Handle Heartbeat
+        awaitConcurrentlyEmittedEvents();
 
         DataCollectionSchema dataCollectionSchema = schema.schemaFor(dataCollectionId);
 
@@ -162,6 +202,25 @@ public SnapshotReceiver getSnapshotChangeEventReceiver() {
         return new BufferingSnapshotChangeRecordReceiver();
     }
 
+    /**
+     * Returns a receiver for the events of an incremental snapshot, which are enqueued immediately like streamed events.
+     */
+    public SnapshotReceiver getIncrementalSnapshotChangeEventReceiver() {
+        return new SnapshotReceiver() {
+
+            @Override
+            public void changeRecord(DataCollectionSchema schema, Operation operation, Object key, Struct value, OffsetContext offset,
+                                     ConnectHeaders headers)
+                    throws InterruptedException {
+                streamingReceiver.changeRecord(schema, operation, key, value, offset, headers);
+            }
+
+            @Override
+            public void completeSnapshot() throws InterruptedException {
+            }
+        };
+    }
+
     /**
      * Dispatches one or more {@link DataChangeEvent}s. If the given data collection is included in the currently
      * captured set of collections, the given emitter will be invoked, so it can emit one or more events (in the common
@@ -172,7 +231,18 @@ public SnapshotReceiver getSnapshotChangeEventReceiver() {
      * @return {@code true} if an event was dispatched (i.e. sent to the message broker), {@code false} otherwise.
      */
     public boolean dispatchDataChangeEvent(T dataCollectionId, ChangeRecordEmitter changeRecordEmitter) throws InterruptedException {
+        if (!(changeRecordEmitter instanceof ConcurrentChangeRecordEmitter)) {
+            awaitConcurrentlyEmittedEvents();
+        }
+
+        DataCollectionSchema concurrentSchema = null;
         try {
+            if (signal.isSignal(dataCollectionId)) {
+                // all preceding events must have been passed to the incremental snapshot before a watermark is processed
+                awaitConcurrentlyEmittedEvents();
+                processSignal(dataCollectionId, changeRecordEmitter);
+            }
+
             boolean handled = false;
             if (!filter.isIncluded(dataCollectionId)) {
                 LOGGER.trace("Filtered data change event for {}", dataCollectionId);
@@ -190,47 +260,138 @@ public boolean dispatchDataChangeEvent(T dataCollectionId, ChangeRecordEmitter c
                     dataCollectionSchema = replacementSchema.get();
                 }
 
-                changeRecordEmitter.emitChangeRecords(dataCollectionSchema, new Receiver() {
-
-                    @Override
-                    public void changeRecord(DataCollectionSchema schema,
-                                             Operation operation,
-                                             Object key, Struct value,
-                                             OffsetContext offset,
-                                             ConnectHeaders headers)
-                            throws InterruptedException {
-                        transactionMonitor.dataEvent(dataCollectionId, offset, key, value);
-                        eventListener.onEvent(dataCollectionId, offset, key, value);
-                        streamingReceiver.changeRecord(schema, operation, key, value, offset, headers);
-                    }
-                });
+                if (eventProcessingExecutor != null && changeRecordEmitter instanceof ConcurrentChangeRecordEmitter) {
+                    concurrentSchema = ((ConcurrentChangeRecordEmitter) changeRecordEmitter).prepareForConcurrentEmission(dataCollectionSchema);
+                }
+                else {
+                    changeRecordEmitter.emitChangeRecords(dataCollectionSchema, new Receiver() {
+
+                        @Override
+                        public void changeRecord(DataCollectionSchema schema,
+                                                 Operation operation,
+                                                 Object key, Struct value,
+                                                 OffsetContext offset,
+                                                 ConnectHeaders headers)
+                                throws InterruptedException {
+                            transactionMonitor.dataEvent(dataCollectionId, offset, key, value);
+                            eventListener.onEvent(dataCollectionId, offset, key, value);
+                            if (incrementalSnapshotChangeEventSource != null) {
+                                incrementalSnapshotChangeEventSource.processMessage(dataCollectionId, key);
+                            }
+                            streamingReceiver.changeRecord(schema, operation, key, value, offset, headers);
+                        }
+                    });
+                }
                 handled = true;
             }
 
-            heartbeat.heartbeat(
-                    changeRecordEmitter.getOffset().getPartition(),
-                    changeRecordEmitter.getOffset().getOffset(),
-                    this::enqueueHeartbeat);
+            if (concurrentSchema == null) {
+                dispatchHeartbeatEvent(changeRecordEmitter.getOffset());
+            }
 
-            return handled;
+            if (!handled) {
+                return false;
+            }
         }
         catch (Exception e) {
-            switch (connectorConfig.getEventProcessingFailureHandlingMode()) {
-                case FAIL:
-                    throw new ConnectException("Error while processing event at offset " + changeRecordEmitter.getOffset().getOffset(), e);
-                case WARN:
-                    LOGGER.warn(
-                            "Error while processing event at offset {}",
-                            changeRecordEmitter.getOffset().getOffset());
-                    break;
-                case SKIP:
-                    LOGGER.debug(
-                            "Error while processing event at offset {}",
-                            changeRecordEmitter.getOffset().getOffset());
-                    break;
-            }
+            handleEventProcessingFailure(changeRecordEmitter.getOffset(), e);
             return false;
         }
+
+        if (concurrentSchema != null) {
+            dispatchConcurrently(dataCollectionId, concurrentSchema, changeRecordEmitter);
+        }
+        return true;
+    }
+
+    /**
+     * Hands over the construction of the change records of the given prepared emitter to the event processing threads.
+     * The records are enqueued in the order in which the events have been dispatched, each event followed by a
+     * heartbeat if one is due.
+     */
+    private void dispatchConcurrently(T dataCollectionId, DataCollectionSchema dataCollectionSchema, ChangeRecordEmitter changeRecordEmitter)
+            throws InterruptedException {
+        final OffsetContext offset = changeRecordEmitter.getOffset();
+
+        eventProcessingExecutor.<List<EmittedRecord>> submit(
+                () -> {
+                    final List<EmittedRecord> records = new ArrayList<>(1);
+                    try {
+                        changeRecordEmitter.emitChangeRecords(dataCollectionSchema, (schema, operation, key, value, recordOffset, headers) -> {
+                            records.add(new EmittedRecord(schema, operation, key, value, recordOffset, headers));
+                        });
+                    }
+                    catch (InterruptedException e) {
+                        throw e;
+                    }
+                    catch (Exception e) {
+                        handleEventProcessingFailure(offset, e);
+                        records.clear();
+                    }
+                    return records;
+                },
+                records -> {
+                    for (EmittedRecord record : records) {
+                        eventListener.onEvent(dataCollectionId, record.offset, record.key, record.value);
+                        if (incrementalSnapshotChangeEventSource != null) {
+                            incrementalSnapshotChangeEventSource.processMessage(dataCollectionId, record.key);
+                        }
+                        streamingReceiver.changeRecord(record.schema, record.operation, record.key, record.value, record.offset, record.headers);
+                    }
+                    heartbeat.heartbeat(offset.getPartition(), offset.getOffset(), this::enqueueHeartbeat);
+                });
+    }
+
+    /**
+     * Passes the signal inserted into the signaling data collection to the registered signal actions.
+     */
+    private void processSignal(T dataCollectionId, ChangeRecordEmitter changeRecordEmitter) throws InterruptedException {
+        final DataCollectionSchema dataCollectionSchema = schema.schemaFor(dataCollectionId);
+        if (dataCollectionSchema == null) {
+            LOGGER.warn("No metadata registered for the signaling data collection {}, ignoring signal", dataCollectionId);
+            return;
+        }
+        changeRecordEmitter.emitChangeRecords(dataCollectionSchema, (schema, operation, key, value, offset, headers) -> {
+            if (operation == Operation.CREATE) {
+                signal.process(value, offset);
+            }
+        });
+    }
+
+    private void handleEventProcessingFailure(OffsetContext offset, Exception e) {
+        switch (connectorConfig.getEventProcessingFailureHandlingMode()) {
+            case FAIL:
+                throw new ConnectException("Error while processing event at offset " + offset.getOffset(), e);
+            case WARN:
+                LOGGER.warn(
+                        "Error while processing event at offset {}",
+                        offset.getOffset());
+                break;
+            case SKIP:
+                LOGGER.debug(
+                        "Error while processing event at offset {}",
+                        offset.getOffset());
+                break;
+        }
+    }
+
+    /**
+     * Blocks until the change records of all events handed over to the event processing threads have been enqueued,
+     * so that events dispatched subsequently, e.g. schema changes, aren't enqueued before them.
+     */
+    private void awaitConcurrentlyEmittedEvents() throws InterruptedException {
+        if (eventProcessingExecutor != null) {
+            eventProcessingExecutor.awaitCompletion();
+        }
+    }
+
+    /**
+     * Stops the event processing threads, if any. Change records not yet enqueued are discarded.
+     */
+    public void close() {
+        if (eventProcessingExecutor != null) {
+            eventProcessingExecutor.close();
+        }
     }
 
     public void dispatchTransactionCommittedEvent(OffsetContext offset) throws InterruptedException {
@@ -260,6 +421,7 @@ public void dispatchSchemaChangeEvent(T dataCollectionId, SchemaChangeEventEmitt
             return;
         }
 
+        awaitConcurrentlyEmittedEvents();
         schemaChangeEventEmitter.emitSchemaChangeEvent(new SchemaChangeEventReceiver());
     }
 
@@ -278,10 +440,12 @@ public void dispatchSchemaChangeEvent(List<T> dataCollectionIds, SchemaChangeEve
             return;
         }
 
+        awaitConcurrentlyEmittedEvents();
         schemaChangeEventEmitter.emitSchemaChangeEvent(new SchemaChangeEventReceiver());
     }
 
     public void alwaysDispatchHeartbeatEvent(OffsetContext offset) throws InterruptedException {
+        awaitConcurrentlyEmittedEvents();
         heartbeat.forcedBeat(
                 offset.getPartition(),
                 offset.getOffset(),
@@ -289,6 +453,13 @@ public void alwaysDispatchHeartbeatEvent(OffsetContext offset) throws Interrupte
     }
 
     public void dispatchHeartbeatEvent(OffsetContext offset) throws InterruptedException {
+        if (eventProcessingExecutor != null && !eventProcessingExecutor.isIdle()) {
+            // the heartbeat must not overtake change events still being processed
+            final Map<String, ?> partition = offset.getPartition();
+            final Map<String, ?> offsetValues = offset.getOffset();
+            eventProcessingExecutor.submit(null, ignored -> heartbeat.heartbeat(partition, offsetValues, this::enqueueHeartbeat));
+            return;
+        }
         heartbeat.heartbeat(
                 offset.getPartition(),
                 offset.getOffset(),
@@ -363,6 +534,27 @@ public void changeRecord(DataCollectionSchema dataCollectionSchema,
         }
     }
 
+    /**
+     * A change record constructed by an event processing thread, awaiting its delivery to the queue.
+     */
+    private static final class EmittedRecord {
+        private final DataCollectionSchema schema;
+        private final Operation operation;
+        private final Object key;
+        private final Struct value;
+        private final OffsetContext offset;
+        private final ConnectHeaders headers;
+
+        private EmittedRecord(DataCollectionSchema schema, Operation operation, Object key, Struct value, OffsetContext offset, ConnectHeaders headers) {
+            this.schema = schema;
+            this.operation = operation;
+            this.key = key;
+            this.value = value;
+            this.offset = offset;
+            this.headers = headers;
+        }
+    }
+
     private final class BufferingSnapshotChangeRecordReceiver implements SnapshotReceiver {
 
         private Supplier<DataChangeEvent> bufferedEvent;
@@ -453,6 +645,26 @@ public void schemaChangeEvent(SchemaChangeEvent event) throws InterruptedExcepti
         }
     }
 
+    /**
+     * Sets the source of incremental snapshots, which are started and driven by signals, if any.
+     */
+    @SuppressWarnings("unchecked")
+    public void setIncrementalSnapshotChangeEventSource(Optional<IncrementalSnapshotChangeEventSource<? extends DataCollectionId>> incrementalSnapshotChangeEventSource) {
+        this.incrementalSnapshotChangeEventSource = (IncrementalSnapshotChangeEventSource<T>) incrementalSnapshotChangeEventSource.orElse(null);
+        if (this.incrementalSnapshotChangeEventSource != null) {
+            final IncrementalSnapshotChangeEventSource<T> source = this.incrementalSnapshotChangeEventSource;
+            signal.registerSignalAction(ExecuteSnapshot.NAME, new ExecuteSnapshot(source));
+            signal.registerSignalAction(IncrementalSnapshotChangeEventSource.OPEN_WINDOW, payload -> {
+                source.windowOpened(payload.id);
+                return true;
+            });
+            signal.registerSignalAction(IncrementalSnapshotChangeEventSource.CLOSE_WINDOW, payload -> {
+                source.windowClosed(payload.id, payload.offsetContext);
+                return true;
+            });
+        }
+    }
+
     /**
      * Provide a listener that is invoked for every incoming event to be processed.
      *
@@ -0,0 +1,101 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.annotation.Immutable;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.schema.DataCollectionId;
+
+/**
+ * An immutable copy of the state of an {@link OffsetContext} at a given point of the change stream. Used when change
+ * records are constructed after the original offset context has moved on to subsequent changes.
+ */
+@Immutable
+final class OffsetContextSnapshot implements OffsetContext {
+
+    private final Map<String, ?> partition;
+    private final Map<String, ?> offset;
+    private final Schema sourceInfoSchema;
+    private final Struct sourceInfo;
+    private final boolean snapshotRunning;
+    private final TransactionContext transactionContext;
+
+    OffsetContextSnapshot(OffsetContext offsetContext) {
+        this.partition = offsetContext.getPartition();
+        this.offset = offsetContext.getOffset();
+        this.sourceInfoSchema = offsetContext.getSourceInfoSchema();
+        this.sourceInfo = offsetContext.getSourceInfo();
+        this.snapshotRunning = offsetContext.isSnapshotRunning();
+        this.transactionContext = offsetContext.getTransactionContext();
+    }
+
+    @Override
+    public Map<String, ?> getPartition() {
+        return partition;
+    }
+
+    @Override
+    public Map<String, ?> getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Schema getSourceInfoSchema() {
+        return sourceInfoSchema;
+    }
+
+    @Override
+    public Struct getSourceInfo() {
+        return sourceInfo;
+    }
+
+    @Override
+    public boolean isSnapshotRunning() {
+        return snapshotRunning;
+    }
+
+    @Override
+    public void markLastSnapshotRecord() {
+        throw new UnsupportedOperationException("Offset snapshot cannot be modified");
+    }
+
+    @Override
+    public void preSnapshotStart() {
+        throw new UnsupportedOperationException("Offset snapshot cannot be modified");
+    }
+
+    @Override
+    public void preSnapshotCompletion() {
+        throw new UnsupportedOperationException("Offset snapshot cannot be modified");
+    }
+
+    @Override
+    public void postSnapshotCompletion() {
+        throw new UnsupportedOperationException("Offset snapshot cannot be modified");
+    }
+
+    @Override
+    public void event(DataCollectionId collectionId, Instant timestamp) {
+        throw new UnsupportedOperationException("Offset snapshot cannot be modified");
+    }
+
+    @Override
+    public TransactionContext getTransactionContext() {
+        return transactionContext;
+    }
+
+    @Override
+    public String toString() {
+        return "OffsetContextSnapshot [partition=" + partition + ", offset=" + offset + "]";
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.GuardedBy;
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Executes tasks concurrently on a pool of worker threads, while handing over their results strictly in the order in
+ * which the tasks have been submitted. At most {@code capacity} tasks can be in flight at any time; submitting further
+ * tasks blocks until the oldest ones have been delivered.
+ * <p>
+ * Results are delivered by whichever thread completes the oldest outstanding task, but never by two threads at the
+ * same time. If a task or a delivery fails, no further results are delivered and the failure is rethrown to the
+ * submitting thread upon the next invocation of {@link #submit(Task, Delivery)} or {@link #awaitCompletion()}.
+ */
+@ThreadSafe
+class OrderedTaskExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderedTaskExecutor.class);
+
+    /**
+     * A unit of work executed on a worker thread.
+     */
+    @FunctionalInterface
+    interface Task<R> {
+        R execute() throws Exception;
+    }
+
+    /**
+     * Receives the result of a task, in submission order.
+     */
+    @FunctionalInterface
+    interface Delivery<R> {
+        void deliver(R result) throws InterruptedException;
+    }
+
+    private static final class Slot<R> {
+        private final Delivery<R> delivery;
+        private R result;
+        private Throwable failure;
+        private boolean completed;
+
+        private Slot(Delivery<R> delivery) {
+            this.delivery = delivery;
+        }
+
+        private void deliver() throws InterruptedException {
+            delivery.deliver(result);
+        }
+    }
+
+    private final ExecutorService executor;
+    private final Slot<?>[] slots;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition isNotFull = lock.newCondition();
+    private final Condition isEmpty = lock.newCondition();
+
+    @GuardedBy("lock")
+    private long nextSubmitted;
+    @GuardedBy("lock")
+    private long nextDelivered;
+    @GuardedBy("lock")
+    private boolean delivering;
+    @GuardedBy("lock")
+    private Throwable failure;
+
+    OrderedTaskExecutor(ExecutorService executor, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.executor = executor;
+        this.slots = new Slot<?>[capacity];
+    }
+
+    /**
+     * Submits a task for execution. Blocks while the maximum number of tasks is in flight.
+     *
+     * @param task the task to execute; may be {@code null} if there's nothing to execute but the delivery must still
+     *        happen in order
+     * @param delivery the callback receiving the result of the task
+     */
+    <R> void submit(Task<R> task, Delivery<R> delivery) throws InterruptedException {
+        final Slot<R> slot = new Slot<>(delivery);
+        final long sequence;
+
+        lock.lockInterruptibly();
+        try {
+            while (failure == null && nextSubmitted - nextDelivered >= slots.length) {
+                isNotFull.await();
+            }
+            throwIfFailed();
+            sequence = nextSubmitted++;
+            slots[index(sequence)] = slot;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (task == null) {
+            complete(slot, null, null);
+            return;
+        }
+
+        try {
+            executor.execute(() -> execute(slot, task));
+        }
+        catch (RejectedExecutionException e) {
+            complete(slot, null, e);
+        }
+    }
+
+    /**
+     * Whether there are no tasks whose results haven't been delivered yet.
+     */
+    boolean isIdle() {
+        lock.lock();
+        try {
+            return nextSubmitted == nextDelivered;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the results of all submitted tasks have been delivered.
+     *
+     * @throws ConnectException if a task or a delivery has failed
+     */
+    void awaitCompletion() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (failure == null && nextDelivered < nextSubmitted) {
+                isEmpty.await();
+            }
+            throwIfFailed();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                LOGGER.warn("Event processing threads did not terminate in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <R> void execute(Slot<R> slot, Task<R> task) {
+        R result = null;
+        Throwable taskFailure = null;
+        try {
+            result = task.execute();
+        }
+        catch (Throwable e) {
+            taskFailure = e;
+        }
+        complete(slot, result, taskFailure);
+    }
+
+    private <R> void complete(Slot<R> slot, R result, Throwable taskFailure) {
+        lock.lock();
+        try {
+            slot.result = result;
+            slot.failure = taskFailure;
+            slot.completed = true;
+            if (delivering) {
+                // the current deliverer will pick up this slot once it reaches it
+                return;
+            }
+            delivering = true;
+            try {
+                deliverCompleted();
+            }
+            finally {
+                delivering = false;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Delivers the results of all completed tasks at the head of the ring. The lock is released while a result is
+     * being delivered, so that workers and the submitter aren't blocked by a slow receiver.
+     */
+    @GuardedBy("lock")
+    private void deliverCompleted() {
+        while (nextDelivered < nextSubmitted) {
+            final int index = index(nextDelivered);
+            final Slot<?> head = slots[index];
+            if (!head.completed) {
+                break;
+            }
+
+            if (failure == null) {
+                if (head.failure != null) {
+                    failure = head.failure;
+                }
+                else {
+                    final Throwable deliveryFailure = deliverUnlocked(head);
+                    if (deliveryFailure != null) {
+                        failure = deliveryFailure;
+                    }
+                }
+            }
+
+            slots[index] = null;
+            nextDelivered++;
+            isNotFull.signalAll();
+        }
+
+        if (failure != null || nextDelivered == nextSubmitted) {
+            isEmpty.signalAll();
+            isNotFull.signalAll();
+        }
+    }
+
+    @GuardedBy("lock")
+    private Throwable deliverUnlocked(Slot<?> slot) {
+        lock.unlock();
+        try {
+            slot.deliver();
+            return null;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+        catch (Throwable e) {
+            return e;
+        }
+        finally {
+            lock.lock();
+        }
+    }
+
+    @GuardedBy("lock")
+    private void throwIfFailed() {
+        if (failure != null) {
+            if (failure instanceof ConnectException) {
+                throw (ConnectException) failure;
+            }
+            throw new ConnectException("Error while processing change event", failure);
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % slots.length);
+    }
+}
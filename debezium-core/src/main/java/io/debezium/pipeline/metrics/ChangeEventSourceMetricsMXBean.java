@@ -28,5 +28,11 @@ public interface ChangeEventSourceMetricsMXBean {
 
     int getQueueRemainingCapacity();
 
+    long getMaxQueueSizeInBytes();
+
+    long getCurrentQueueSizeInBytes();
+
+    long getPeakQueueSizeInBytes();
+
     void reset();
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.schema.DataCollectionId;
+
+/**
+ * Counts the create, update and delete events per captured table or collection. Counting an event for a data
+ * collection that has been seen before doesn't allocate.
+ */
+@ThreadSafe
+public class DataCollectionOperationCounters {
+
+    private static final class Counters {
+        private final AtomicLong creates = new AtomicLong();
+        private final AtomicLong updates = new AtomicLong();
+        private final AtomicLong deletes = new AtomicLong();
+    }
+
+    private final ConcurrentMap<DataCollectionId, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Counts a data change event based on the operation found in its envelope. Events without an envelope, e.g.
+     * tombstones, and snapshot reads are ignored.
+     */
+    public void onEvent(DataCollectionId source, Struct value) {
+        if (source == null || value == null) {
+            return;
+        }
+        final Field operationField = value.schema().field(Envelope.FieldName.OPERATION);
+        if (operationField == null) {
+            return;
+        }
+        final Object code = value.get(operationField);
+        if (code == null) {
+            return;
+        }
+        // not using Operation.forCode() as it copies the values array on each invocation
+        switch ((String) code) {
+            case "c":
+                onEvent(source, Operation.CREATE, 1);
+                break;
+            case "u":
+                onEvent(source, Operation.UPDATE, 1);
+                break;
+            case "d":
+                onEvent(source, Operation.DELETE, 1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Counts the given number of events of the given operation.
+     */
+    public void onEvent(DataCollectionId source, Operation operation, long count) {
+        if (source == null || count == 0) {
+            return;
+        }
+        switch (operation) {
+            case CREATE:
+                countersFor(source).creates.addAndGet(count);
+                break;
+            case UPDATE:
+                countersFor(source).updates.addAndGet(count);
+                break;
+            case DELETE:
+                countersFor(source).deletes.addAndGet(count);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public Map<String, Long> getCreates() {
+        final Map<String, Long> result = new HashMap<>();
+        counters.forEach((id, c) -> result.put(id.toString(), c.creates.get()));
+        return result;
+    }
+
+    public Map<String, Long> getUpdates() {
+        final Map<String, Long> result = new HashMap<>();
+        counters.forEach((id, c) -> result.put(id.toString(), c.updates.get()));
+        return result;
+    }
+
+    public Map<String, Long> getDeletes() {
+        final Map<String, Long> result = new HashMap<>();
+        counters.forEach((id, c) -> result.put(id.toString(), c.deletes.get()));
+        return result;
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    private Counters countersFor(DataCollectionId source) {
+        Counters result = counters.get(source);
+        if (result == null) {
+            final Counters newCounters = new Counters();
+            result = counters.putIfAbsent(source, newCounters);
+            if (result == null) {
+                result = newCounters;
+            }
+        }
+        return result;
+    }
+}
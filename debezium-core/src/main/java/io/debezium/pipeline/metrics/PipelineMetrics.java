@@ -5,6 +5,7 @@
  */
 package io.debezium.pipeline.metrics;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.kafka.connect.data.Struct;
@@ -12,6 +13,7 @@
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.base.ChangeEventQueueMetrics;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.metrics.LatencyHistogram;
 import io.debezium.metrics.Metrics;
 import io.debezium.pipeline.ConnectorEvent;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
@@ -35,8 +37,14 @@ public abstract class PipelineMetrics extends Metrics implements DataChangeEvent
     protected final AtomicLong lastEventTimestamp = new AtomicLong(-1);
     private volatile String lastEvent;
 
+    /**
+     * Milliseconds between a change in the source database and the moment its event was emitted to the queue.
+     */
+    protected final LatencyHistogram sourceToEnqueueLatency = new LatencyHistogram();
+    protected final DataCollectionOperationCounters operationCounters = new DataCollectionOperationCounters();
+
     protected final Clock clock;
-    private final ChangeEventQueueMetrics changeEventQueueMetrics;
+    protected final ChangeEventQueueMetrics changeEventQueueMetrics;
     protected final CdcSourceTaskContext taskContext;
 
     protected <T extends CdcSourceTaskContext> PipelineMetrics(T taskContext, String contextName, ChangeEventQueueMetrics changeEventQueueMetrics,
@@ -107,6 +115,8 @@ public void reset() {
         numberOfEventsFiltered.set(0);
         numberOfErroneousEvents.set(0);
         lastEvent = null;
+        sourceToEnqueueLatency.reset();
+        operationCounters.reset();
     }
 
     @Override
@@ -118,4 +128,71 @@ public int getQueueTotalCapacity() {
     public int getQueueRemainingCapacity() {
         return changeEventQueueMetrics.remainingCapacity();
     }
+
+    @Override
+    public long getMaxQueueSizeInBytes() {
+        return changeEventQueueMetrics.maxQueueSizeInBytes();
+    }
+
+    @Override
+    public long getCurrentQueueSizeInBytes() {
+        return changeEventQueueMetrics.currentQueueSizeInBytes();
+    }
+
+    @Override
+    public long getPeakQueueSizeInBytes() {
+        return changeEventQueueMetrics.peakQueueSizeInBytes();
+    }
+
+    public long getSourceToEnqueueLatencyMillisP50() {
+        return sourceToEnqueueLatency.getValueAtPercentile(50.0);
+    }
+
+    public long getSourceToEnqueueLatencyMillisP95() {
+        return sourceToEnqueueLatency.getValueAtPercentile(95.0);
+    }
+
+    public long getSourceToEnqueueLatencyMillisP99() {
+        return sourceToEnqueueLatency.getValueAtPercentile(99.0);
+    }
+
+    public long getSourceToEnqueueLatencyMillisP999() {
+        return sourceToEnqueueLatency.getValueAtPercentile(99.9);
+    }
+
+    public long getSourceToEnqueueLatencyMillisMax() {
+        return sourceToEnqueueLatency.getMax();
+    }
+
+    public long getEnqueueToPollLatencyMicrosP50() {
+        return changeEventQueueMetrics.enqueueToPollLatency().getValueAtPercentile(50.0);
+    }
+
+    public long getEnqueueToPollLatencyMicrosP95() {
+        return changeEventQueueMetrics.enqueueToPollLatency().getValueAtPercentile(95.0);
+    }
+
+    public long getEnqueueToPollLatencyMicrosP99() {
+        return changeEventQueueMetrics.enqueueToPollLatency().getValueAtPercentile(99.0);
+    }
+
+    public long getEnqueueToPollLatencyMicrosP999() {
+        return changeEventQueueMetrics.enqueueToPollLatency().getValueAtPercentile(99.9);
+    }
+
+    public long getEnqueueToPollLatencyMicrosMax() {
+        return changeEventQueueMetrics.enqueueToPollLatency().getMax();
+    }
+
+    public Map<String, Long> getNumberOfCreateEventsSeenPerDataCollection() {
+        return operationCounters.getCreates();
+    }
+
+    public Map<String, Long> getNumberOfUpdateEventsSeenPerDataCollection() {
+        return operationCounters.getUpdates();
+    }
+
+    public Map<String, Long> getNumberOfDeleteEventsSeenPerDataCollection() {
+        return operationCounters.getDeletes();
+    }
 }
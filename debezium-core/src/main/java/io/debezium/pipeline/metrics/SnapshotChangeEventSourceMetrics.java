@@ -6,8 +6,10 @@
 package io.debezium.pipeline.metrics;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -21,6 +23,7 @@
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.relational.TableId;
 import io.debezium.schema.DataCollectionId;
+import io.debezium.util.RateLimiter;
 
 /**
  * Metrics related to the initial snapshot of a connector.
@@ -36,14 +39,19 @@ public class SnapshotChangeEventSourceMetrics extends PipelineMetrics implements
     private final AtomicLong startTime = new AtomicLong();
     private final AtomicLong stopTime = new AtomicLong();
     private final ConcurrentMap<String, Long> rowsScanned = new ConcurrentHashMap<String, Long>();
+    private final ConcurrentMap<String, Long> totalChunks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> completedChunks = new ConcurrentHashMap<>();
 
     private final ConcurrentMap<String, String> remainingTables = new ConcurrentHashMap<>();
 
     private final Set<String> monitoredTables = Collections.synchronizedSet(new HashSet<>());
 
+    private final RateLimiter rateLimiter;
+
     public <T extends CdcSourceTaskContext> SnapshotChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
                                                                              EventMetadataProvider metadataProvider) {
         super(taskContext, "snapshot", changeEventQueueMetrics, metadataProvider);
+        this.rateLimiter = taskContext.getSnapshotRateLimiter();
     }
 
     @Override
@@ -141,6 +149,54 @@ public ConcurrentMap<String, Long> getRowsScanned() {
         return rowsScanned;
     }
 
+    @Override
+    public void dataCollectionChunksDetermined(DataCollectionId dataCollectionId, int numChunks) {
+        totalChunks.put(dataCollectionId.identifier(), (long) numChunks);
+        completedChunks.put(dataCollectionId.identifier(), new AtomicLong());
+    }
+
+    @Override
+    public void dataCollectionChunkCompleted(DataCollectionId dataCollectionId) {
+        completedChunks.computeIfAbsent(dataCollectionId.identifier(), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public Map<String, Long> getTotalChunksPerTable() {
+        return totalChunks;
+    }
+
+    @Override
+    public Map<String, Long> getCompletedChunksPerTable() {
+        final Map<String, Long> result = new HashMap<>();
+        completedChunks.forEach((table, chunks) -> result.put(table, chunks.get()));
+        return result;
+    }
+
+    @Override
+    public long getSnapshotMaxRowsPerSecond() {
+        return rateLimiter.getMaxRowsPerSecond();
+    }
+
+    @Override
+    public void setSnapshotMaxRowsPerSecond(long maxRowsPerSecond) {
+        rateLimiter.setMaxRowsPerSecond(maxRowsPerSecond);
+    }
+
+    @Override
+    public long getSnapshotMaxBytesPerSecond() {
+        return rateLimiter.getMaxBytesPerSecond();
+    }
+
+    @Override
+    public void setSnapshotMaxBytesPerSecond(long maxBytesPerSecond) {
+        rateLimiter.setMaxBytesPerSecond(maxBytesPerSecond);
+    }
+
+    @Override
+    public long getSnapshotThrottledTimeInMilliSeconds() {
+        return rateLimiter.getThrottledTimeInMillis();
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -150,6 +206,8 @@ public void reset() {
         startTime.set(0);
         stopTime.set(0);
         rowsScanned.clear();
+        totalChunks.clear();
+        completedChunks.clear();
         remainingTables.clear();
         monitoredTables.clear();
     }
@@ -25,4 +25,18 @@ public interface SnapshotChangeEventSourceMetricsMXBean extends ChangeEventSourc
     long getSnapshotDurationInSeconds();
 
     Map<String, Long> getRowsScanned();
+
+    Map<String, Long> getTotalChunksPerTable();
+
+    Map<String, Long> getCompletedChunksPerTable();
+
+    long getSnapshotMaxRowsPerSecond();
+
+    void setSnapshotMaxRowsPerSecond(long maxRowsPerSecond);
+
+    long getSnapshotMaxBytesPerSecond();
+
+    void setSnapshotMaxBytesPerSecond(long maxBytesPerSecond);
+
+    long getSnapshotThrottledTimeInMilliSeconds();
 }
@@ -5,7 +5,6 @@
  */
 package io.debezium.pipeline.metrics;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
@@ -35,7 +34,7 @@ public class StreamingChangeEventSourceMetrics extends PipelineMetrics implement
     private static final Logger LOGGER = LoggerFactory.getLogger(StreamingChangeEventSourceMetrics.class);
 
     private final AtomicBoolean connected = new AtomicBoolean();
-    private final AtomicReference<Duration> lagBehindSource = new AtomicReference<>();
+    private final AtomicLong lagBehindSource = new AtomicLong(-1);
     private final AtomicLong numberOfCommittedTransactions = new AtomicLong();
     private final AtomicReference<Map<String, String>> sourceEventPosition = new AtomicReference<Map<String, String>>(Collections.emptyMap());
     private final AtomicReference<String> lastTransactionId = new AtomicReference<>();
@@ -67,8 +66,7 @@ public Map<String, String> getSourceEventPosition() {
 
     @Override
     public long getMilliSecondsBehindSource() {
-        Duration lag = lagBehindSource.get();
-        return lag != null ? lag.toMillis() : -1;
+        return lagBehindSource.get();
     }
 
     @Override
@@ -82,8 +80,11 @@ public void onEvent(DataCollectionId source, OffsetContext offset, Object key, S
 
         final Instant eventTimestamp = metadataProvider.getEventTimestamp(source, offset, key, value);
         if (eventTimestamp != null) {
-            lagBehindSource.set(Duration.between(eventTimestamp, Instant.now()));
+            final long lag = clock.currentTimeInMillis() - eventTimestamp.toEpochMilli();
+            lagBehindSource.set(lag);
+            sourceToEnqueueLatency.record(lag);
         }
+        operationCounters.onEvent(source, value);
 
         final String transactionId = metadataProvider.getTransactionId(source, offset, key, value);
         if (transactionId != null) {
@@ -112,7 +113,7 @@ public String getLastTransactionId() {
     public void reset() {
         super.reset();
         connected.set(false);
-        lagBehindSource.set(null);
+        lagBehindSource.set(-1);
         numberOfCommittedTransactions.set(0);
         sourceEventPosition.set(Collections.emptyMap());
         lastTransactionId.set(null);
@@ -23,4 +23,46 @@ public interface StreamingChangeEventSourceMetricsMXBean extends ChangeEventSour
     Map<String, String> getSourceEventPosition();
 
     String getLastTransactionId();
+
+    /**
+     * Percentiles of the time in milliseconds between a change in the source database and the moment the
+     * corresponding event was handed over to the queue.
+     */
+    long getSourceToEnqueueLatencyMillisP50();
+
+    long getSourceToEnqueueLatencyMillisP95();
+
+    long getSourceToEnqueueLatencyMillisP99();
+
+    long getSourceToEnqueueLatencyMillisP999();
+
+    long getSourceToEnqueueLatencyMillisMax();
+
+    /**
+     * Percentiles of the time in microseconds events spent in the queue before being polled by Kafka Connect.
+     */
+    long getEnqueueToPollLatencyMicrosP50();
+
+    long getEnqueueToPollLatencyMicrosP95();
+
+    long getEnqueueToPollLatencyMicrosP99();
+
+    long getEnqueueToPollLatencyMicrosP999();
+
+    long getEnqueueToPollLatencyMicrosMax();
+
+    /**
+     * The number of create events seen per captured table or collection.
+     */
+    Map<String, Long> getNumberOfCreateEventsSeenPerDataCollection();
+
+    /**
+     * The number of update events seen per captured table or collection.
+     */
+    Map<String, Long> getNumberOfUpdateEventsSeenPerDataCollection();
+
+    /**
+     * The number of delete events seen per captured table or collection.
+     */
+    Map<String, Long> getNumberOfDeleteEventsSeenPerDataCollection();
 }
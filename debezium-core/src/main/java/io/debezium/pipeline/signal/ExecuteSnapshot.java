@@ -0,0 +1,72 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.signal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.document.Array;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.pipeline.signal.Signal.Payload;
+import io.debezium.pipeline.source.spi.IncrementalSnapshotChangeEventSource;
+
+/**
+ * The action to trigger an incremental snapshot of the data collections given in the signal data, e.g.
+ * <pre>{"data-collections": ["public.customers", "public.orders"]}</pre>
+ */
+public class ExecuteSnapshot implements Signal.Action {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteSnapshot.class);
+
+    public static final String NAME = "execute-snapshot";
+    public static final String FIELD_DATA_COLLECTIONS = "data-collections";
+
+    private final IncrementalSnapshotChangeEventSource<?> eventSource;
+
+    public ExecuteSnapshot(IncrementalSnapshotChangeEventSource<?> eventSource) {
+        this.eventSource = eventSource;
+    }
+
+    @Override
+    public boolean arrived(Payload signalPayload) throws InterruptedException {
+        final List<String> dataCollections = getDataCollections(signalPayload);
+        if (dataCollections.isEmpty()) {
+            LOGGER.warn("Execute snapshot signal '{}' has arrived but the requested field '{}' is missing or empty", signalPayload,
+                    FIELD_DATA_COLLECTIONS);
+            return false;
+        }
+        LOGGER.info("Requested incremental snapshot of data collections {}", dataCollections);
+        eventSource.addDataCollectionNamesToSnapshot(dataCollections, signalPayload.offsetContext);
+        return true;
+    }
+
+    private static List<String> getDataCollections(Payload signalPayload) {
+        final List<String> dataCollections = new ArrayList<>();
+        if (signalPayload.data == null) {
+            return dataCollections;
+        }
+        final Document data;
+        try {
+            data = DocumentReader.defaultReader().read(signalPayload.data);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Execute snapshot signal '{}' has arrived but the data is not valid JSON", signalPayload, e);
+            return dataCollections;
+        }
+        final Array array = data.getArray(FIELD_DATA_COLLECTIONS);
+        if (array != null) {
+            for (Array.Entry entry : array) {
+                dataCollections.add(entry.getValue().asString());
+            }
+        }
+        return dataCollections;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.signal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.data.Envelope;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.schema.DataCollectionId;
+
+/**
+ * Processes signals sent to the connector by inserting rows into the signaling data collection configured via
+ * {@link CommonConnectorConfig#SIGNAL_DATA_COLLECTION}. Signals are received from the change events of that data
+ * collection, so they are processed in order with the other change events; its first three columns are the id of the
+ * signal, its type and optional data in JSON format.
+ */
+public class Signal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Signal.class);
+
+    /**
+     * A signal with its payload.
+     */
+    public static class Payload {
+        public final String id;
+        public final String type;
+        public final String data;
+        public final OffsetContext offsetContext;
+
+        public Payload(String id, String type, String data, OffsetContext offsetContext) {
+            this.id = id;
+            this.type = type;
+            this.data = data;
+            this.offsetContext = offsetContext;
+        }
+
+        @Override
+        public String toString() {
+            return "Payload [id=" + id + ", type=" + type + ", data=" + data + "]";
+        }
+    }
+
+    /**
+     * The action executed when a signal of a given type arrives.
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        /**
+         * @return {@code true} if the signal was processed
+         */
+        boolean arrived(Payload signalPayload) throws InterruptedException;
+    }
+
+    private final String signalDataCollectionId;
+    private final Map<String, Action> signalActions = new HashMap<>();
+
+    public Signal(CommonConnectorConfig connectorConfig) {
+        this.signalDataCollectionId = connectorConfig.getSignalingDataCollectionId();
+    }
+
+    public void registerSignalAction(String id, Action signal) {
+        LOGGER.debug("Registering signal '{}' using class '{}'", id, signal.getClass().getName());
+        signalActions.put(id, signal);
+    }
+
+    public boolean isEnabled() {
+        return signalDataCollectionId != null;
+    }
+
+    public boolean isSignal(DataCollectionId dataCollectionId) {
+        return signalDataCollectionId != null && signalDataCollectionId.equals(dataCollectionId.identifier());
+    }
+
+    /**
+     * Processes the signal contained in the given change event value of the signaling data collection.
+     */
+    public boolean process(Struct value, OffsetContext offset) throws InterruptedException {
+        final Struct after = value.getStruct(Envelope.FieldName.AFTER);
+        if (after == null) {
+            return false;
+        }
+        final List<Field> fields = after.schema().fields();
+        if (fields.size() < 3) {
+            LOGGER.warn("The signaling data collection '{}' must have at least three columns (id, type, data), ignoring signal {}",
+                    signalDataCollectionId, after);
+            return false;
+        }
+        return process(asString(after.get(fields.get(0))), asString(after.get(fields.get(1))), asString(after.get(fields.get(2))), offset);
+    }
+
+    public boolean process(String id, String type, String data, OffsetContext offset) throws InterruptedException {
+        LOGGER.debug("Arrived signal '{}' of type '{}' with data '{}'", id, type, data);
+        final Action action = signalActions.get(type);
+        if (action == null) {
+            LOGGER.warn("Signal '{}' has arrived but the type '{}' is not recognized", id, type);
+            return false;
+        }
+        try {
+            return action.arrived(new Payload(id, type, data, offset));
+        }
+        catch (InterruptedException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            LOGGER.warn("Action '{}' failed for signal '{}'", type, id, e);
+            return false;
+        }
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -22,6 +22,7 @@
 import io.debezium.schema.DataCollectionId;
 import io.debezium.util.Clock;
 import io.debezium.util.Metronome;
+import io.debezium.util.RateLimiter;
 import io.debezium.util.Threads;
 
 /**
@@ -38,10 +39,17 @@ public abstract class AbstractSnapshotChangeEventSource implements SnapshotChang
     protected final OffsetContext previousOffset;
     private final SnapshotProgressListener snapshotProgressListener;
 
-    public AbstractSnapshotChangeEventSource(CommonConnectorConfig connectorConfig, OffsetContext previousOffset, SnapshotProgressListener snapshotProgressListener) {
+    /**
+     * Limits the rate of rows and bytes read by all threads of the snapshot.
+     */
+    protected final RateLimiter rateLimiter;
+
+    public AbstractSnapshotChangeEventSource(CommonConnectorConfig connectorConfig, OffsetContext previousOffset, SnapshotProgressListener snapshotProgressListener,
+                                             RateLimiter rateLimiter) {
         this.connectorConfig = connectorConfig;
         this.previousOffset = previousOffset;
         this.snapshotProgressListener = snapshotProgressListener;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
@@ -0,0 +1,157 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.schema.DataCollectionId;
+import io.debezium.util.CompactMap;
+
+/**
+ * The progress of a snapshot reading tables one after another in a fixed order. The main data tracked are
+ * <ul>
+ * <li>the last table whose rows have all been emitted</li>
+ * <li>the table currently being read</li>
+ * <li>the primary key of the row emitted before the current one, if the current table is read in the order of a
+ * single-column integer primary key</li>
+ * </ul>
+ *
+ * The state of this checkpoint is stored in the offsets of snapshot records, so that a snapshot interrupted by a
+ * restart can be continued after the last row whose record has been committed, rather than starting over. As the
+ * key of the <em>preceding</em> row is stored, the offset of a record never claims a row to be emitted that hasn't
+ * been, no matter whether the offset is determined when the record is dispatched or only when the next record is.
+ */
+@NotThreadSafe
+public class SnapshotCheckpoint {
+
+    public static final String COMPLETED_TABLE_KEY = "snapshot_completed_table";
+    public static final String TABLE_KEY = "snapshot_table";
+    public static final String LAST_KEY_KEY = "snapshot_last_key";
+
+    private String completedTable;
+    private String table;
+    private Long lastKey;
+    private Long currentKey;
+
+    /**
+     * Signals that the rows of the given table will be emitted next; the previous table, if any, has been completed.
+     */
+    public void tableStarted(DataCollectionId tableId) {
+        final String identifier = tableId.identifier();
+        if (table != null && !table.equals(identifier)) {
+            completedTable = table;
+        }
+        table = identifier;
+        lastKey = null;
+        currentKey = null;
+    }
+
+    /**
+     * Signals that the row with the given primary key of the current table will be emitted next.
+     *
+     * @param key the primary key of the row or {@code null} if the table isn't read in the order of its primary key
+     */
+    public void rowStarted(Long key) {
+        lastKey = currentKey;
+        currentKey = key;
+    }
+
+    /**
+     * Resumes reading the current table after the given key, e.g. when continuing a snapshot.
+     */
+    public void tableResumed(DataCollectionId tableId, Long key) {
+        table = tableId.identifier();
+        lastKey = key;
+        currentKey = key;
+    }
+
+    public String getCompletedTable() {
+        return completedTable;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public Long getLastKey() {
+        return lastKey;
+    }
+
+    public boolean isEmpty() {
+        return completedTable == null && table == null;
+    }
+
+    public void clear() {
+        completedTable = null;
+        table = null;
+        lastKey = null;
+        currentKey = null;
+    }
+
+    /**
+     * Returns the given tables that still need to be read, keeping their order, or {@code null} if the checkpoint
+     * doesn't apply to the given tables, e.g. because the last completed table isn't captured anymore or another
+     * table is to be read next than the one that has been read when the checkpoint was taken.
+     */
+    public <T extends DataCollectionId> List<T> remainingTables(Collection<T> tables) {
+        final List<T> all = new ArrayList<>(tables);
+        List<T> remaining = null;
+        if (completedTable == null) {
+            remaining = all;
+        }
+        else {
+            for (int i = 0; i < all.size(); i++) {
+                if (all.get(i).identifier().equals(completedTable)) {
+                    remaining = all.subList(i + 1, all.size());
+                    break;
+                }
+            }
+        }
+        if (remaining == null || (table != null && (remaining.isEmpty() || !remaining.get(0).identifier().equals(table)))) {
+            return null;
+        }
+        return remaining;
+    }
+
+    /**
+     * Returns the key to continue reading the given table after, or {@code null} if the table is to be read entirely.
+     */
+    public Long resumeKeyFor(DataCollectionId tableId) {
+        return tableId.identifier().equals(table) ? lastKey : null;
+    }
+
+    public CompactMap.Builder<Object> store(CompactMap.Builder<Object> offset) {
+        if (completedTable != null) {
+            offset.put(COMPLETED_TABLE_KEY, completedTable);
+        }
+        if (table != null) {
+            offset.put(TABLE_KEY, table);
+        }
+        if (lastKey != null) {
+            offset.put(LAST_KEY_KEY, lastKey);
+        }
+        return offset;
+    }
+
+    public static SnapshotCheckpoint load(Map<String, ?> offset) {
+        final SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+        checkpoint.completedTable = (String) offset.get(COMPLETED_TABLE_KEY);
+        checkpoint.table = (String) offset.get(TABLE_KEY);
+        final Object lastKey = offset.get(LAST_KEY_KEY);
+        checkpoint.lastKey = lastKey != null ? ((Number) lastKey).longValue() : null;
+        checkpoint.currentKey = checkpoint.lastKey;
+        return checkpoint;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotCheckpoint [completedTable=" + completedTable + ", table=" + table + ", lastKey=" + lastKey + "]";
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.connect.errors.ConnectException;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.document.Array;
+import io.debezium.document.ArrayReader;
+import io.debezium.document.ArrayWriter;
+import io.debezium.document.Value;
+import io.debezium.util.CompactMap;
+
+/**
+ * The state of an incremental snapshot, i.e. the data collections still to be snapshotted and the position within the
+ * data collection currently being read. The state is stored in the offsets of all change events emitted while the
+ * incremental snapshot is running, so it continues after a restart of the connector.
+ * <p>
+ * A data collection is read in chunks ordered by its primary key. The position is the primary key of the last row of
+ * the last chunk whose events have been emitted.
+ */
+@NotThreadSafe
+public class IncrementalSnapshotContext {
+
+    public static final String DATA_COLLECTIONS_TO_SNAPSHOT_KEY = "incremental_snapshot_collections";
+    public static final String EVENT_PRIMARY_KEY = "incremental_snapshot_primary_key";
+    public static final String TABLE_MAXIMUM_KEY = "incremental_snapshot_maximum_key";
+
+    private final Deque<String> dataCollectionsToSnapshot = new ArrayDeque<>();
+
+    /**
+     * The primary key of the last row of the last emitted chunk; {@code null} if no chunk has been emitted yet.
+     */
+    private Object[] lastEventKeySent;
+
+    /**
+     * The largest primary key of the current data collection when its snapshot has been started; rows inserted
+     * afterwards are captured by streaming anyway.
+     */
+    private Object[] maximumKey;
+
+    /**
+     * The primary key of the last row of the chunk being read, which becomes the position once the chunk is emitted.
+     */
+    private Object[] chunkEndPosition;
+
+    private String currentChunkId;
+    private boolean windowOpened;
+
+    public boolean snapshotRunning() {
+        return !dataCollectionsToSnapshot.isEmpty();
+    }
+
+    /**
+     * Adds the given data collections to the end of the data collections to be snapshotted, ignoring those that are
+     * already to be snapshotted.
+     */
+    public void addDataCollectionNamesToSnapshot(List<String> dataCollectionIds) {
+        for (String dataCollectionId : dataCollectionIds) {
+            if (!dataCollectionsToSnapshot.contains(dataCollectionId)) {
+                dataCollectionsToSnapshot.add(dataCollectionId);
+            }
+        }
+    }
+
+    public String currentDataCollectionId() {
+        return dataCollectionsToSnapshot.peek();
+    }
+
+    /**
+     * Completes the snapshot of the current data collection.
+     *
+     * @return the data collection to be snapshotted next or {@code null} if the incremental snapshot is complete
+     */
+    public String nextDataCollection() {
+        dataCollectionsToSnapshot.poll();
+        lastEventKeySent = null;
+        maximumKey = null;
+        chunkEndPosition = null;
+        return dataCollectionsToSnapshot.peek();
+    }
+
+    public void startNewChunk() {
+        currentChunkId = UUID.randomUUID().toString();
+        windowOpened = false;
+        chunkEndPosition = null;
+    }
+
+    public String currentChunkId() {
+        return currentChunkId;
+    }
+
+    public void openWindow() {
+        windowOpened = true;
+    }
+
+    public void closeWindow() {
+        windowOpened = false;
+    }
+
+    public boolean deduplicationNeeded() {
+        return windowOpened;
+    }
+
+    public Object[] chunkEndPosition() {
+        return chunkEndPosition;
+    }
+
+    public void chunkEndPosition(Object[] chunkEndPosition) {
+        this.chunkEndPosition = chunkEndPosition;
+    }
+
+    /**
+     * Moves the position to the end of the current chunk, as all of its events have been emitted.
+     */
+    public void nextChunkPosition() {
+        if (chunkEndPosition != null) {
+            lastEventKeySent = chunkEndPosition;
+            chunkEndPosition = null;
+        }
+    }
+
+    public Object[] lastEventKeySent() {
+        return lastEventKeySent;
+    }
+
+    public Object[] maximumKey() {
+        return maximumKey;
+    }
+
+    public void maximumKey(Object[] maximumKey) {
+        this.maximumKey = maximumKey;
+    }
+
+    public CompactMap.Builder<Object> store(CompactMap.Builder<Object> offset) {
+        if (!snapshotRunning()) {
+            return offset;
+        }
+        offset.put(DATA_COLLECTIONS_TO_SNAPSHOT_KEY, arrayToString(dataCollectionsToSnapshot.toArray()));
+        if (lastEventKeySent != null) {
+            offset.put(EVENT_PRIMARY_KEY, arrayToString(lastEventKeySent));
+        }
+        if (maximumKey != null) {
+            offset.put(TABLE_MAXIMUM_KEY, arrayToString(maximumKey));
+        }
+        return offset;
+    }
+
+    public static IncrementalSnapshotContext load(Map<String, ?> offset) {
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        final String dataCollections = (String) offset.get(DATA_COLLECTIONS_TO_SNAPSHOT_KEY);
+        if (dataCollections != null) {
+            for (Object dataCollectionId : stringToArray(dataCollections)) {
+                context.dataCollectionsToSnapshot.add((String) dataCollectionId);
+            }
+            final String lastEventKeySent = (String) offset.get(EVENT_PRIMARY_KEY);
+            context.lastEventKeySent = lastEventKeySent != null ? stringToArray(lastEventKeySent) : null;
+            final String maximumKey = (String) offset.get(TABLE_MAXIMUM_KEY);
+            context.maximumKey = maximumKey != null ? stringToArray(maximumKey) : null;
+        }
+        return context;
+    }
+
+    /**
+     * Serializes the given primary key or list of names as a JSON array. Key values of types that have no JSON
+     * representation are stored as strings.
+     */
+    private static String arrayToString(Object[] values) {
+        final Array array = Array.create();
+        for (Object value : values) {
+            if (value instanceof Short || value instanceof Byte) {
+                array.add(Value.create(((Number) value).intValue()));
+            }
+            else if (Value.isValid(value)) {
+                array.add(Value.create(value));
+            }
+            else {
+                array.add(Value.create(value.toString()));
+            }
+        }
+        try {
+            return ArrayWriter.defaultWriter().write(array);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Cannot serialize incremental snapshot state " + array, e);
+        }
+    }
+
+    private static Object[] stringToArray(String json) {
+        try {
+            final Array array = ArrayReader.defaultReader().readArray(json);
+            final List<Object> values = new ArrayList<>(array.size());
+            for (Array.Entry entry : array) {
+                values.add(entry.getValue().asObject());
+            }
+            return values.toArray();
+        }
+        catch (IOException e) {
+            throw new ConnectException("Cannot deserialize incremental snapshot state " + json, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalSnapshotContext [dataCollectionsToSnapshot=" + dataCollectionsToSnapshot + ", lastEventKeySent="
+                + Arrays.toString(lastEventKeySent) + ", maximumKey=" + Arrays.toString(maximumKey) + "]";
+    }
+}
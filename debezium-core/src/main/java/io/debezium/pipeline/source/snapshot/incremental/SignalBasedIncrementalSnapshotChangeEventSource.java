@@ -0,0 +1,338 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.EventDispatcher.SnapshotReceiver;
+import io.debezium.pipeline.source.spi.IncrementalSnapshotChangeEventSource;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.SnapshotChangeRecordEmitter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.util.Clock;
+
+/**
+ * An {@link IncrementalSnapshotChangeEventSource} for relational databases. The watermarks are written to the
+ * signaling table, so they are streamed like any other change and processed as signals:
+ * <ol>
+ * <li>a low watermark is written,</li>
+ * <li>the next chunk of the table is read in primary key order into a buffer,</li>
+ * <li>a high watermark is written.</li>
+ * </ol>
+ * Once the low watermark is streamed, streamed changes remove the rows with the same key from the buffer. Once the high
+ * watermark is streamed, the remaining rows are emitted as read events and the next chunk is read.
+ */
+@ThreadSafe
+public class SignalBasedIncrementalSnapshotChangeEventSource implements IncrementalSnapshotChangeEventSource<TableId> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBasedIncrementalSnapshotChangeEventSource.class);
+
+    private final JdbcConnection jdbcConnection;
+    private final EventDispatcher<TableId> dispatcher;
+    private final RelationalDatabaseSchema databaseSchema;
+    private final Clock clock;
+    private final int chunkSize;
+    private final String signalWindowStatement;
+
+    /**
+     * The rows of the current chunk by their key.
+     */
+    private final Map<Struct, Object[]> window = new LinkedHashMap<>();
+    private IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+    private Table currentTable;
+
+    public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig connectorConfig, JdbcConnection jdbcConnection,
+                                                           EventDispatcher<TableId> dispatcher, RelationalDatabaseSchema databaseSchema,
+                                                           Clock clock) {
+        this.jdbcConnection = jdbcConnection;
+        this.dispatcher = dispatcher;
+        this.databaseSchema = databaseSchema;
+        this.clock = clock;
+        this.chunkSize = connectorConfig.getIncrementalSnapshotChunkSize();
+        this.signalWindowStatement = "INSERT INTO " + quote(TableId.parse(connectorConfig.getSignalingDataCollectionId(), false))
+                + " VALUES (?, ?, NULL)";
+    }
+
+    @Override
+    public synchronized void init(OffsetContext offsetContext) throws InterruptedException {
+        if (offsetContext != null && offsetContext.getIncrementalSnapshotContext() != null) {
+            context = offsetContext.getIncrementalSnapshotContext();
+        }
+        if (context.snapshotRunning()) {
+            LOGGER.info("Incremental snapshot in progress, continuing at {}", context);
+            readChunk();
+        }
+    }
+
+    @Override
+    public synchronized void processMessage(TableId dataCollectionId, Object key) {
+        if (!context.deduplicationNeeded() || window.isEmpty() || !currentTable.id().equals(dataCollectionId)) {
+            return;
+        }
+        if (window.remove(key) != null) {
+            LOGGER.trace("Removed '{}' from window", key);
+        }
+    }
+
+    @Override
+    public synchronized void windowOpened(String id) {
+        if (context.snapshotRunning() && windowId(OPEN_WINDOW).equals(id)) {
+            LOGGER.debug("Opening window {} for incremental snapshot chunk", id);
+            context.openWindow();
+        }
+    }
+
+    @Override
+    public synchronized void windowClosed(String id, OffsetContext offsetContext) throws InterruptedException {
+        if (!context.snapshotRunning() || !windowId(CLOSE_WINDOW).equals(id)) {
+            return;
+        }
+        LOGGER.debug("Closing window {} for incremental snapshot chunk", id);
+        context.closeWindow();
+        sendWindowEvents(offsetContext);
+        readChunk();
+    }
+
+    @Override
+    public synchronized void addDataCollectionNamesToSnapshot(List<String> dataCollectionIds, OffsetContext offsetContext)
+            throws InterruptedException {
+        if (offsetContext != null && offsetContext.getIncrementalSnapshotContext() != null) {
+            context = offsetContext.getIncrementalSnapshotContext();
+        }
+        final boolean shouldReadChunk = !context.snapshotRunning();
+        final List<String> tableIds = dataCollectionIds.stream()
+                .map(String::trim)
+                .map(this::toTableId)
+                .map(TableId::toString)
+                .collect(Collectors.toList());
+        context.addDataCollectionNamesToSnapshot(tableIds);
+        if (shouldReadChunk) {
+            readChunk();
+        }
+    }
+
+    private void sendWindowEvents(OffsetContext offsetContext) throws InterruptedException {
+        LOGGER.debug("Sending {} events from window buffer", window.size());
+        final SnapshotReceiver receiver = dispatcher.getIncrementalSnapshotChangeEventReceiver();
+        for (Object[] row : window.values()) {
+            dispatcher.dispatchSnapshotEvent(currentTable.id(), new SnapshotChangeRecordEmitter(offsetContext, row, clock), receiver);
+        }
+        window.clear();
+        // the events of the chunk have been emitted, so subsequent offsets continue after the chunk
+        context.nextChunkPosition();
+    }
+
+    private void readChunk() throws InterruptedException {
+        if (!context.snapshotRunning()) {
+            return;
+        }
+        try {
+            context.startNewChunk();
+            emitWindowSignal(OPEN_WINDOW);
+            while (context.snapshotRunning()) {
+                final TableId tableId = toTableId(context.currentDataCollectionId());
+                currentTable = databaseSchema.tableFor(tableId);
+                if (currentTable == null) {
+                    LOGGER.warn("Schema not found for table '{}', the table is not captured; skipping it", tableId);
+                    nextDataCollection();
+                    continue;
+                }
+                if (currentTable.primaryKeyColumns().isEmpty()) {
+                    LOGGER.warn("Table '{}' has no primary key, incremental snapshots require one; skipping it", tableId);
+                    nextDataCollection();
+                    continue;
+                }
+                if (context.maximumKey() == null) {
+                    final Object[] maximumKey = readMaximumKey();
+                    if (maximumKey == null) {
+                        LOGGER.info("Table '{}' is empty; skipping it", tableId);
+                        nextDataCollection();
+                        continue;
+                    }
+                    context.maximumKey(maximumKey);
+                    LOGGER.info("Incremental snapshot of table '{}' started, reading rows up to key {}", tableId, maximumKey);
+                }
+                createDataEventsForChunk();
+                if (window.isEmpty()) {
+                    LOGGER.info("No data returned by the query, incremental snapshot of table '{}' finished", tableId);
+                    nextDataCollection();
+                    continue;
+                }
+                break;
+            }
+            emitWindowSignal(CLOSE_WINDOW);
+        }
+        catch (SQLException e) {
+            throw new ConnectException("Database error while executing incremental snapshot", e);
+        }
+    }
+
+    private void nextDataCollection() {
+        if (context.nextDataCollection() == null) {
+            LOGGER.info("Incremental snapshot completed");
+        }
+    }
+
+    private void createDataEventsForChunk() throws SQLException {
+        final TableSchema tableSchema = databaseSchema.schemaFor(currentTable.id());
+        final List<Column> columns = databaseSchema.snapshotColumnsFor(currentTable);
+        final List<Object> parameters = new ArrayList<>();
+        final String sql = buildChunkQuery(currentTable, parameters);
+        LOGGER.debug("Reading chunk of table '{}' using '{}' with parameters {}", currentTable.id(), sql, parameters);
+
+        jdbcConnection.prepareQuery(sql, parameters, (params, rs) -> {
+            Object[] lastRow = null;
+            while (rs.next()) {
+                // only the snapshot columns are selected, but the row is indexed by position like a full table row
+                final Object[] row = new Object[currentTable.columns().size()];
+                for (int i = 0; i < columns.size(); i++) {
+                    row[columns.get(i).position() - 1] = getColumnValue(rs, i + 1, columns.get(i));
+                }
+                window.put(tableSchema.keyFromColumnData(row), row);
+                lastRow = row;
+            }
+            if (lastRow != null) {
+                context.chunkEndPosition(keyFromRow(lastRow));
+            }
+        });
+        jdbcConnection.commit();
+    }
+
+    private Object[] readMaximumKey() throws SQLException {
+        final List<Column> keyColumns = currentTable.primaryKeyColumns();
+        final String sql = withRowLimit("SELECT " + columnList(keyColumns, "") + " FROM " + quote(currentTable.id())
+                + " ORDER BY " + columnList(keyColumns, " DESC"), 1);
+        final Object[] maximumKey = jdbcConnection.queryAndMap(sql, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            final Object[] key = new Object[keyColumns.size()];
+            for (int i = 0; i < keyColumns.size(); i++) {
+                key[i] = getColumnValue(rs, i + 1, keyColumns.get(i));
+            }
+            return key;
+        });
+        jdbcConnection.commit();
+        return maximumKey;
+    }
+
+    /**
+     * Returns the query for the next chunk of the given table, i.e. the rows following the last emitted row up to the
+     * maximum key, in primary key order. Composite keys are compared lexicographically. Only the columns that are
+     * part of the change events are selected.
+     */
+    protected String buildChunkQuery(Table table, List<Object> parameters) {
+        final List<Column> keyColumns = table.primaryKeyColumns();
+        final StringBuilder sql = new StringBuilder("SELECT ")
+                .append(columnList(databaseSchema.snapshotColumnsFor(table), ""))
+                .append(" FROM ")
+                .append(quote(table.id()))
+                .append(" WHERE ");
+        if (context.lastEventKeySent() != null) {
+            addKeyGreaterThan(keyColumns, context.lastEventKeySent(), sql, parameters);
+            sql.append(" AND ");
+        }
+        sql.append("NOT ");
+        addKeyGreaterThan(keyColumns, context.maximumKey(), sql, parameters);
+        sql.append(" ORDER BY ").append(columnList(keyColumns, ""));
+        return withRowLimit(sql.toString(), chunkSize);
+    }
+
+    private void addKeyGreaterThan(List<Column> keyColumns, Object[] key, StringBuilder sql, List<Object> parameters) {
+        sql.append('(');
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append('(');
+            for (int j = 0; j < i; j++) {
+                sql.append(quote(keyColumns.get(j).name())).append(" = ? AND ");
+                parameters.add(key[j]);
+            }
+            sql.append(quote(keyColumns.get(i).name())).append(" > ?)");
+            parameters.add(key[i]);
+        }
+        sql.append(')');
+    }
+
+    private Object[] keyFromRow(Object[] row) {
+        return currentTable.primaryKeyColumns().stream()
+                .map(column -> row[column.position() - 1])
+                .toArray();
+    }
+
+    private void emitWindowSignal(String type) throws SQLException {
+        final String id = windowId(type);
+        LOGGER.debug("Emitting incremental snapshot watermark '{}'", id);
+        jdbcConnection.prepareUpdate(signalWindowStatement, statement -> {
+            statement.setString(1, id);
+            statement.setString(2, type);
+        });
+        jdbcConnection.commit();
+    }
+
+    private String windowId(String type) {
+        return context.currentChunkId() + (OPEN_WINDOW.equals(type) ? "-open" : "-close");
+    }
+
+    private String columnList(List<Column> columns, String suffix) {
+        return columns.stream()
+                .map(column -> quote(column.name()) + suffix)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Returns the id of the table with the given name as given in a signal.
+     */
+    protected TableId toTableId(String dataCollectionId) {
+        return TableId.parse(dataCollectionId, false);
+    }
+
+    /**
+     * Limits the number of rows returned by the given query. By default, a {@code LIMIT} clause is appended.
+     */
+    protected String withRowLimit(String query, int limit) {
+        return query + " LIMIT " + limit;
+    }
+
+    protected String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    protected String quote(TableId tableId) {
+        final StringBuilder quoted = new StringBuilder();
+        if (tableId.catalog() != null) {
+            quoted.append(quote(tableId.catalog())).append('.');
+        }
+        if (tableId.schema() != null) {
+            quoted.append(quote(tableId.schema())).append('.');
+        }
+        return quoted.append(quote(tableId.table())).toString();
+    }
+
+    protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+        return rs.getObject(columnIndex);
+    }
+}
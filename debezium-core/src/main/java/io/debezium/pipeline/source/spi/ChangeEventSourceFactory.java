@@ -5,7 +5,10 @@
  */
 package io.debezium.pipeline.source.spi;
 
+import java.util.Optional;
+
 import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.schema.DataCollectionId;
 
 /**
  * A factory for creating {@link ChangeEventSource}s specific to one database.
@@ -34,4 +37,16 @@ public interface ChangeEventSourceFactory {
      * Returns a streaming change event source that starts streaming at the given offset.
      */
     StreamingChangeEventSource getStreamingChangeEventSource(OffsetContext offsetContext);
+
+    /**
+     * Returns an incremental snapshot change event source that snapshots data collections while streaming, when
+     * triggered by a signal, or empty if the connector doesn't support incremental snapshots or no signaling data
+     * collection is configured.
+     *
+     * @param offsetContext
+     *            A context representing the offset streaming is started at.
+     */
+    default Optional<IncrementalSnapshotChangeEventSource<? extends DataCollectionId>> getIncrementalSnapshotChangeEventSource(OffsetContext offsetContext) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.spi;
+
+import java.util.List;
+
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.schema.DataCollectionId;
+
+/**
+ * A change event source that snapshots data collections while streaming is running, triggered by a signal. Data
+ * collections are read in chunks, each chunk between a low and a high watermark written to the database; rows of a
+ * chunk that are changed by streamed events within the watermarks are not emitted, as the streamed event is more recent.
+ *
+ * @param <T> the type of data collection ids
+ */
+public interface IncrementalSnapshotChangeEventSource<T extends DataCollectionId> {
+
+    /**
+     * The signal type of low watermarks.
+     */
+    String OPEN_WINDOW = "snapshot-window-open";
+
+    /**
+     * The signal type of high watermarks.
+     */
+    String CLOSE_WINDOW = "snapshot-window-close";
+
+    /**
+     * Continues an incremental snapshot that has been running when the connector was stopped, if any.
+     */
+    void init(OffsetContext offsetContext) throws InterruptedException;
+
+    /**
+     * Invoked for every streamed change event, so the row with the given key can be removed from the current chunk.
+     */
+    void processMessage(T dataCollectionId, Object key);
+
+    /**
+     * Invoked when the low watermark with the given id has been streamed.
+     */
+    void windowOpened(String id);
+
+    /**
+     * Invoked when the high watermark with the given id has been streamed; emits the remaining rows of the current
+     * chunk and reads the next chunk.
+     */
+    void windowClosed(String id, OffsetContext offsetContext) throws InterruptedException;
+
+    /**
+     * Adds the given data collections to the incremental snapshot, starting it if it isn't running yet.
+     */
+    void addDataCollectionNamesToSnapshot(List<String> dataCollectionIds, OffsetContext offsetContext) throws InterruptedException;
+}
@@ -27,6 +27,10 @@ public interface SnapshotProgressListener {
 
     void rowsScanned(TableId tableId, long numRows);
 
+    void dataCollectionChunksDetermined(DataCollectionId dataCollectionId, int numChunks);
+
+    void dataCollectionChunkCompleted(DataCollectionId dataCollectionId);
+
     public static SnapshotProgressListener NO_OP = new SnapshotProgressListener() {
 
         @Override
@@ -37,6 +41,14 @@ public void snapshotStarted() {
         public void rowsScanned(TableId tableId, long numRows) {
         }
 
+        @Override
+        public void dataCollectionChunksDetermined(DataCollectionId dataCollectionId, int numChunks) {
+        }
+
+        @Override
+        public void dataCollectionChunkCompleted(DataCollectionId dataCollectionId) {
+        }
+
         @Override
         public void monitoredDataCollectionsDetermined(Iterable<? extends DataCollectionId> dataCollectionIds) {
         }
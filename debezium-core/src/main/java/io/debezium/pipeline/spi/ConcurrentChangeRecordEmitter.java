@@ -0,0 +1,27 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.spi;
+
+import io.debezium.schema.DataCollectionSchema;
+
+/**
+ * A {@link ChangeRecordEmitter} whose {@link #emitChangeRecords(DataCollectionSchema, Receiver)} method may be invoked
+ * on another thread than the one reading the change stream. Before handing the emitter over, the reading thread calls
+ * {@link #prepareForConcurrentEmission(DataCollectionSchema)}, which must resolve all state shared with subsequent
+ * changes, e.g. the row values or the current offset; record construction then only relies on that resolved state.
+ */
+public interface ConcurrentChangeRecordEmitter extends ChangeRecordEmitter {
+
+    /**
+     * Resolves all state of this emitter which may change once the next change is read from the stream. Invoked on the
+     * thread reading the change stream.
+     *
+     * @param schema the schema of the data collection the change applies to
+     * @return the schema to be passed to {@link #emitChangeRecords(DataCollectionSchema, Receiver)}, which may differ
+     *         from the given one if the schema had to be refreshed
+     */
+    DataCollectionSchema prepareForConcurrentEmission(DataCollectionSchema schema);
+}
@@ -11,6 +11,8 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 
+import io.debezium.pipeline.source.SnapshotCheckpoint;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
 import io.debezium.schema.DataCollectionId;
 
@@ -78,4 +80,24 @@ interface Loader {
      * @return transaction context
      */
     TransactionContext getTransactionContext();
+
+    /**
+     * Provide the progress of a running snapshot, which is persisted in offsets so an interrupted snapshot can be
+     * continued after a restart.
+     *
+     * @return snapshot checkpoint or {@code null} if the connector doesn't support continuing snapshots
+     */
+    default SnapshotCheckpoint getSnapshotCheckpoint() {
+        return null;
+    }
+
+    /**
+     * Provide the state of a running incremental snapshot, which is persisted in offsets so the incremental snapshot
+     * continues after a restart.
+     *
+     * @return incremental snapshot context or {@code null} if the connector doesn't support incremental snapshots
+     */
+    default IncrementalSnapshotContext getIncrementalSnapshotContext() {
+        return null;
+    }
 }
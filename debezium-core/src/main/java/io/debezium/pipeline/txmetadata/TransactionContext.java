@@ -12,6 +12,7 @@
 
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.schema.DataCollectionId;
+import io.debezium.util.CompactMap;
 
 /**
  * The context holds internal state necessary for book-keeping of events in active transaction.
@@ -37,6 +38,7 @@ public class TransactionContext {
     private String transactionId = null;
     private final Map<String, Long> perTableEventCount = new HashMap<>();
     private final Map<String, Long> viewPerTableEventCount = Collections.unmodifiableMap(perTableEventCount);
+    private final Map<String, String> offsetKeysPerTable = new HashMap<>();
     private long totalEventCount = 0;
 
     private void reset() {
@@ -45,15 +47,18 @@ private void reset() {
         perTableEventCount.clear();
     }
 
-    public Map<String, Object> store(Map<String, Object> offset) {
+    public CompactMap.Builder<Object> store(CompactMap.Builder<Object> offset) {
         offset.put(OFFSET_TRANSACTION_ID, transactionId);
-        final String tableCountPrefix = OFFSET_TABLE_COUNT_PREFIX;
         for (final Entry<String, Long> e : perTableEventCount.entrySet()) {
-            offset.put(tableCountPrefix + e.getKey(), e.getValue());
+            offset.put(offsetKey(e.getKey()), e.getValue());
         }
         return offset;
     }
 
+    private String offsetKey(String dataCollectionId) {
+        return offsetKeysPerTable.computeIfAbsent(dataCollectionId, id -> OFFSET_TABLE_COUNT_PREFIX + id);
+    }
+
     @SuppressWarnings("unchecked")
     public static TransactionContext load(Map<String, ?> offsets) {
         final Map<String, Object> o = (Map<String, Object>) offsets;
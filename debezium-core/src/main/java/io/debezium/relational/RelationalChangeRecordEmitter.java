@@ -15,6 +15,7 @@
 import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.AbstractChangeRecordEmitter;
 import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.ConcurrentChangeRecordEmitter;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.schema.DataCollectionSchema;
 import io.debezium.util.Clock;
@@ -24,13 +25,17 @@
  *
  * @author Gunnar Morling
  */
-public abstract class RelationalChangeRecordEmitter extends AbstractChangeRecordEmitter<TableSchema> {
+public abstract class RelationalChangeRecordEmitter extends AbstractChangeRecordEmitter<TableSchema> implements ConcurrentChangeRecordEmitter {
 
     public static final String PK_UPDATE_OLDKEY_FIELD = "__debezium.oldkey";
     public static final String PK_UPDATE_NEWKEY_FIELD = "__debezium.newkey";
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+    private boolean prepared;
+    private Object[] preparedOldColumnValues;
+    private Object[] preparedNewColumnValues;
+
     public RelationalChangeRecordEmitter(OffsetContext offsetContext, Clock clock) {
         super(offsetContext, clock);
     }
@@ -58,10 +63,40 @@ public void emitChangeRecords(DataCollectionSchema schema, Receiver receiver) th
         }
     }
 
+    @Override
+    public DataCollectionSchema prepareForConcurrentEmission(DataCollectionSchema schema) {
+        // old values are resolved first, as some connectors derive new values from them
+        switch (getOperation()) {
+            case CREATE:
+            case READ:
+                preparedNewColumnValues = getNewColumnValues();
+                break;
+            case UPDATE:
+                preparedOldColumnValues = getOldColumnValues();
+                preparedNewColumnValues = getNewColumnValues();
+                break;
+            case DELETE:
+                preparedOldColumnValues = getOldColumnValues();
+                break;
+            default:
+                break;
+        }
+        prepared = true;
+        freezeOffset();
+        return schema;
+    }
+
+    /**
+     * Whether the state of this emitter has been resolved via {@link #prepareForConcurrentEmission(DataCollectionSchema)}.
+     */
+    protected boolean isPrepared() {
+        return prepared;
+    }
+
     @Override
     protected void emitCreateRecord(Receiver receiver, TableSchema tableSchema)
             throws InterruptedException {
-        Object[] newColumnValues = getNewColumnValues();
+        Object[] newColumnValues = newColumnValues();
         Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
         Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
         Struct envelope = tableSchema.getEnvelopeSchema().create(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
@@ -77,7 +112,7 @@ protected void emitCreateRecord(Receiver receiver, TableSchema tableSchema)
     @Override
     protected void emitReadRecord(Receiver receiver, TableSchema tableSchema)
             throws InterruptedException {
-        Object[] newColumnValues = getNewColumnValues();
+        Object[] newColumnValues = newColumnValues();
         Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
         Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
         Struct envelope = tableSchema.getEnvelopeSchema().read(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
@@ -88,8 +123,8 @@ protected void emitReadRecord(Receiver receiver, TableSchema tableSchema)
     @Override
     protected void emitUpdateRecord(Receiver receiver, TableSchema tableSchema)
             throws InterruptedException {
-        Object[] oldColumnValues = getOldColumnValues();
-        Object[] newColumnValues = getNewColumnValues();
+        Object[] oldColumnValues = oldColumnValues();
+        Object[] newColumnValues = newColumnValues();
 
         Struct oldKey = tableSchema.keyFromColumnData(oldColumnValues);
         Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
@@ -125,7 +160,7 @@ protected void emitUpdateRecord(Receiver receiver, TableSchema tableSchema)
 
     @Override
     protected void emitDeleteRecord(Receiver receiver, TableSchema tableSchema) throws InterruptedException {
-        Object[] oldColumnValues = getOldColumnValues();
+        Object[] oldColumnValues = oldColumnValues();
         Struct oldKey = tableSchema.keyFromColumnData(oldColumnValues);
         Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
 
@@ -138,6 +173,14 @@ protected void emitDeleteRecord(Receiver receiver, TableSchema tableSchema) thro
         receiver.changeRecord(tableSchema, Operation.DELETE, oldKey, envelope, getOffset(), null);
     }
 
+    private Object[] oldColumnValues() {
+        return prepared ? preparedOldColumnValues : getOldColumnValues();
+    }
+
+    private Object[] newColumnValues() {
+        return prepared ? preparedNewColumnValues : getNewColumnValues();
+    }
+
     /**
      * Returns the operation done by the represented change.
      */
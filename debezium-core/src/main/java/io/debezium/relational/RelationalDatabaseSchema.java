@@ -5,9 +5,11 @@
  */
 package io.debezium.relational;
 
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.data.Schema;
 import org.slf4j.Logger;
@@ -114,6 +116,25 @@ public Table tableFor(TableId id) {
         return tableFilter.isIncluded(id) ? tables.forTable(id) : null;
     }
 
+    /**
+     * Returns the columns of the given table that a snapshot needs to read, i.e. the primary key columns, the columns
+     * of the message key and the columns included by the column filter, in the order of the table.
+     *
+     * @param table the table; may not be null
+     * @return the columns to be read; never null
+     */
+    public List<Column> snapshotColumnsFor(Table table) {
+        final TableId id = table.id();
+        final List<Column> keyColumns = new Key.Builder(table).customKeyMapper(customKeysMapper).build().keyColumns();
+        return table.columns()
+                .stream()
+                .filter(column -> columnFilter == null
+                        || table.isPrimaryKeyColumn(column.name())
+                        || keyColumns.contains(column)
+                        || columnFilter.matches(id.catalog(), id.schema(), id.table(), column.name()))
+                .collect(Collectors.toList());
+    }
+
     protected Tables tables() {
         return tables;
     }
@@ -10,11 +10,19 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -28,6 +36,7 @@
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.EventDispatcher.SnapshotReceiver;
 import io.debezium.pipeline.source.AbstractSnapshotChangeEventSource;
+import io.debezium.pipeline.source.SnapshotCheckpoint;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
@@ -37,6 +46,7 @@
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.util.Clock;
 import io.debezium.util.ColumnUtils;
+import io.debezium.util.RateLimiter;
 import io.debezium.util.Strings;
 import io.debezium.util.Threads;
 import io.debezium.util.Threads.Timer;
@@ -68,8 +78,9 @@ public abstract class RelationalSnapshotChangeEventSource extends AbstractSnapsh
 
     public RelationalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig connectorConfig,
                                                OffsetContext previousOffset, JdbcConnection jdbcConnection, HistorizedRelationalDatabaseSchema schema,
-                                               EventDispatcher<TableId> dispatcher, Clock clock, SnapshotProgressListener snapshotProgressListener) {
-        super(connectorConfig, previousOffset, snapshotProgressListener);
+                                               EventDispatcher<TableId> dispatcher, Clock clock, SnapshotProgressListener snapshotProgressListener,
+                                               RateLimiter rateLimiter) {
+        super(connectorConfig, previousOffset, snapshotProgressListener, rateLimiter);
         this.connectorConfig = connectorConfig;
         this.previousOffset = previousOffset;
         this.jdbcConnection = jdbcConnection;
@@ -81,8 +92,9 @@ public RelationalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig con
 
     public RelationalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig connectorConfig,
                                                OffsetContext previousOffset, JdbcConnection jdbcConnection,
-                                               EventDispatcher<TableId> dispatcher, Clock clock, SnapshotProgressListener snapshotProgressListener) {
-        this(connectorConfig, previousOffset, jdbcConnection, null, dispatcher, clock, snapshotProgressListener);
+                                               EventDispatcher<TableId> dispatcher, Clock clock, SnapshotProgressListener snapshotProgressListener,
+                                               RateLimiter rateLimiter) {
+        this(connectorConfig, previousOffset, jdbcConnection, null, dispatcher, clock, snapshotProgressListener, rateLimiter);
     }
 
     @Override
@@ -95,7 +107,7 @@ public SnapshotResult doExecute(ChangeEventSourceContext context, SnapshotContex
             LOGGER.info("Snapshot step 1 - Preparing");
             snapshotProgressListener.snapshotStarted();
 
-            if (previousOffset != null && previousOffset.isSnapshotRunning()) {
+            if (previousOffset != null && previousOffset.isSnapshotRunning() && !connectorConfig.isSnapshotResumable()) {
                 LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken.");
             }
 
@@ -115,8 +127,15 @@ public SnapshotResult doExecute(ChangeEventSourceContext context, SnapshotContex
                 lockTablesForSchemaSnapshot(context, ctx);
             }
 
-            LOGGER.info("Snapshot step 4 - Determining snapshot offset");
-            determineSnapshotOffset(ctx);
+            final List<TableId> resumedTables = snapshottingTask.snapshotData() ? determineResumedTables(ctx) : null;
+            if (resumedTables != null) {
+                LOGGER.info("Snapshot step 4 - Continuing previous snapshot at {}", previousOffset.getSnapshotCheckpoint());
+                ctx.offset = previousOffset;
+            }
+            else {
+                LOGGER.info("Snapshot step 4 - Determining snapshot offset");
+                determineSnapshotOffset(ctx);
+            }
 
             LOGGER.info("Snapshot step 5 - Reading structure of captured tables");
             readTableStructure(context, ctx);
@@ -135,7 +154,7 @@ public SnapshotResult doExecute(ChangeEventSourceContext context, SnapshotContex
 
             if (snapshottingTask.snapshotData()) {
                 LOGGER.info("Snapshot step 7 - Snapshotting data");
-                createDataEvents(context, ctx);
+                createDataEvents(context, ctx, resumedTables);
             }
             else {
                 LOGGER.info("Snapshot step 7 - Skipping snapshotting of data");
@@ -203,6 +222,33 @@ private void determineCapturedTables(RelationalSnapshotContext ctx) throws Excep
         ctx.capturedTables = sort(capturedTables);
     }
 
+    /**
+     * Returns the captured tables still to be read if the previous snapshot was interrupted and can be continued based
+     * on the checkpoint in its offset, or {@code null} if a new snapshot is to be taken.
+     */
+    private List<TableId> determineResumedTables(RelationalSnapshotContext ctx) {
+        if (!connectorConfig.isSnapshotResumable() || previousOffset == null || !previousOffset.isSnapshotRunning()) {
+            return null;
+        }
+        final SnapshotCheckpoint checkpoint = previousOffset.getSnapshotCheckpoint();
+        if (checkpoint == null || checkpoint.isEmpty()) {
+            LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken.");
+            return null;
+        }
+        if (connectorConfig.getSnapshotMaxThreads() > 1) {
+            LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken as snapshots using multiple threads cannot be continued.");
+            return null;
+        }
+        final List<TableId> remainingTables = checkpoint.remainingTables(ctx.capturedTables);
+        if (remainingTables == null) {
+            LOGGER.info("Previous snapshot was cancelled before completion at {}, which doesn't match the captured tables; a new snapshot will be taken.",
+                    checkpoint);
+            return null;
+        }
+        LOGGER.info("Previous snapshot was cancelled before completion; continuing with {} of {} tables", remainingTables.size(), ctx.capturedTables.size());
+        return remainingTables;
+    }
+
     /**
      * Returns all candidate tables; the current filter configuration will be applied to the result set, resulting in
      * the effective set of captured tables.
@@ -269,21 +315,41 @@ private void createSchemaChangeEventsForTables(ChangeEventSourceContext sourceCo
      */
     protected abstract SchemaChangeEvent getCreateTableEvent(RelationalSnapshotContext snapshotContext, Table table) throws Exception;
 
-    private void createDataEvents(ChangeEventSourceContext sourceContext, RelationalSnapshotContext snapshotContext) throws InterruptedException {
+    private void createDataEvents(ChangeEventSourceContext sourceContext, RelationalSnapshotContext snapshotContext, List<TableId> resumedTables)
+            throws Exception {
         SnapshotReceiver snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
         tryStartingSnapshot(snapshotContext);
 
-        for (Iterator<TableId> tableIdIterator = snapshotContext.capturedTables.iterator(); tableIdIterator.hasNext();) {
-            final TableId tableId = tableIdIterator.next();
-            snapshotContext.lastTable = !tableIdIterator.hasNext();
-
-            if (!sourceContext.isRunning()) {
-                throw new InterruptedException("Interrupted while snapshotting table " + tableId);
+        if (connectorConfig.getSnapshotMaxThreads() > 1) {
+            final Map<TableId, TableProgress> progress = new HashMap<>();
+            final List<SnapshotTask> tasks = determineSnapshotTasks(sourceContext, snapshotContext, progress);
+            final int threads = Math.min(connectorConfig.getSnapshotMaxThreads(), tasks.size());
+            final List<JdbcConnection> connections = createParallelSnapshotConnections(snapshotContext, Math.max(threads, 1));
+            try {
+                createDataEventsInParallel(sourceContext, snapshotContext, snapshotReceiver, connections, tasks, progress);
+            }
+            finally {
+                closeParallelSnapshotConnections(connections);
+            }
+        }
+        else {
+            final SnapshotCheckpoint checkpoint = connectorConfig.isSnapshotResumable() ? snapshotContext.offset.getSnapshotCheckpoint() : null;
+            if (checkpoint != null && resumedTables == null) {
+                checkpoint.clear();
             }
+            final Collection<TableId> tableIds = resumedTables != null ? resumedTables : snapshotContext.capturedTables;
+            for (Iterator<TableId> tableIdIterator = tableIds.iterator(); tableIdIterator.hasNext();) {
+                final TableId tableId = tableIdIterator.next();
+                snapshotContext.lastTable = !tableIdIterator.hasNext();
 
-            LOGGER.debug("Snapshotting table {}", tableId);
+                if (!sourceContext.isRunning()) {
+                    throw new InterruptedException("Interrupted while snapshotting table " + tableId);
+                }
+
+                LOGGER.debug("Snapshotting table {}", tableId);
 
-            createDataEventsForTable(sourceContext, snapshotContext, snapshotReceiver, snapshotContext.tables.forTable(tableId));
+                createDataEventsForTable(sourceContext, snapshotContext, snapshotReceiver, snapshotContext.tables.forTable(tableId), checkpoint);
+            }
         }
 
         snapshotContext.offset.preSnapshotCompletion();
@@ -291,6 +357,202 @@ private void createDataEvents(ChangeEventSourceContext sourceContext, Relational
         snapshotContext.offset.postSnapshotCompletion();
     }
 
+    /**
+     * Determines the queries to be executed by the snapshot threads. Tables with more rows than the configured chunk
+     * size are split into ranges of their primary key, so that they can be read by multiple threads.
+     */
+    private List<SnapshotTask> determineSnapshotTasks(ChangeEventSourceContext sourceContext, RelationalSnapshotContext snapshotContext,
+                                                      Map<TableId, TableProgress> progress)
+            throws Exception {
+        final List<SnapshotTask> tasks = new ArrayList<>();
+        for (TableId tableId : snapshotContext.capturedTables) {
+            if (!sourceContext.isRunning()) {
+                throw new InterruptedException("Interrupted while preparing snapshot of table " + tableId);
+            }
+
+            final Optional<String> selectStatement = determineSnapshotSelect(snapshotContext, tableId);
+            if (!selectStatement.isPresent()) {
+                LOGGER.warn("For table '{}' the select statement was not provided, skipping table", tableId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(tableId, 0);
+                continue;
+            }
+            LOGGER.info("\t For table '{}' using select statement: '{}'", tableId, selectStatement.get());
+
+            final Table table = snapshotContext.tables.forTable(tableId);
+            final List<String> chunks = determineChunks(snapshotContext, table, selectStatement.get());
+            final TableProgress tableProgress = new TableProgress(chunks.size());
+            progress.put(tableId, tableProgress);
+            snapshotProgressListener.dataCollectionChunksDetermined(tableId, chunks.size());
+
+            for (int i = 0; i < chunks.size(); i++) {
+                tasks.add(new SnapshotTask(table, chunks.get(i), i + 1, tableProgress));
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Splits the given snapshot query of a table into queries for ranges of its primary key, based on the estimated
+     * number of rows, see {@link SnapshotChunks#keyRangeConditions}.
+     *
+     * @return the queries to be executed for reading the table, the original query if it isn't split
+     */
+    private List<String> determineChunks(RelationalSnapshotContext snapshotContext, Table table, String selectStatement) throws Exception {
+        final long chunkSize = connectorConfig.getSnapshotChunkSize();
+        final Column keyColumn = SnapshotChunks.integralKeyColumn(table);
+        if (chunkSize <= 0 || keyColumn == null) {
+            return Collections.singletonList(selectStatement);
+        }
+        final OptionalLong rowCount = estimateRowCount(snapshotContext, table.id());
+        if (!rowCount.isPresent()) {
+            return Collections.singletonList(selectStatement);
+        }
+
+        final String source = "(" + selectStatement + ") AS dbz_chunk";
+        final List<String> conditions = SnapshotChunks.keyRangeConditions(jdbcConnection, table.id(), source, quote(keyColumn.name()),
+                rowCount.getAsLong(), chunkSize);
+        if (conditions.isEmpty()) {
+            return Collections.singletonList(selectStatement);
+        }
+        return conditions.stream()
+                .map(condition -> "SELECT * FROM " + source + " WHERE " + condition)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Quotes the given identifier as specified by ANSI SQL.
+     */
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Returns the estimated number of rows of the given table, as used for splitting large tables into chunks when
+     * reading them concurrently. Tables are not split if empty is returned.
+     */
+    protected OptionalLong estimateRowCount(RelationalSnapshotContext snapshotContext, TableId tableId) throws Exception {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Creates the additional connections used for reading tables concurrently; the connection of this source is always
+     * the first one. Less connections than requested are returned if the connector doesn't support reading tables
+     * concurrently.
+     */
+    private List<JdbcConnection> createParallelSnapshotConnections(RelationalSnapshotContext snapshotContext, int threads) throws Exception {
+        final List<JdbcConnection> connections = new ArrayList<>(threads);
+        connections.add(jdbcConnection);
+        try {
+            for (int i = 1; i < threads; i++) {
+                final Optional<JdbcConnection> connection = createParallelSnapshotConnection(snapshotContext);
+                if (!connection.isPresent()) {
+                    LOGGER.info("Reading tables concurrently is not supported, snapshotting tables one after another");
+                    break;
+                }
+                connections.add(connection.get());
+            }
+        }
+        catch (Exception e) {
+            closeParallelSnapshotConnections(connections);
+            throw e;
+        }
+        return connections;
+    }
+
+    /**
+     * Creates an additional connection for reading captured tables concurrently with the connection of this source.
+     * Data read via the returned connection must reflect the same state of the database as data read via the snapshot
+     * connection, e.g. by sharing its transaction snapshot.
+     *
+     * @return the connection or empty if tables cannot be read concurrently
+     */
+    protected Optional<JdbcConnection> createParallelSnapshotConnection(RelationalSnapshotContext snapshotContext) throws Exception {
+        return Optional.empty();
+    }
+
+    private void closeParallelSnapshotConnections(List<JdbcConnection> connections) {
+        for (JdbcConnection connection : connections) {
+            if (connection == jdbcConnection) {
+                continue;
+            }
+            try {
+                connection.connection().rollback();
+                connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close snapshot connection", e);
+            }
+        }
+    }
+
+    /**
+     * Executes the given snapshot tasks on one thread per connection. The rows are dispatched on the calling thread,
+     * so the rows of each query are emitted in the order in which they were read and the last record of the snapshot
+     * is marked as such.
+     */
+    private void createDataEventsInParallel(ChangeEventSourceContext sourceContext, RelationalSnapshotContext snapshotContext,
+                                            SnapshotReceiver snapshotReceiver, List<JdbcConnection> connections, List<SnapshotTask> tasks,
+                                            Map<TableId, TableProgress> progress)
+            throws Exception {
+        LOGGER.info("Snapshotting {} tables with {} queries using {} threads", progress.size(), tasks.size(), connections.size());
+
+        final SnapshotRowDispatcher rowDispatcher = new SnapshotRowDispatcher(snapshotContext, snapshotReceiver);
+        SnapshotChunks.readConcurrently(connections, tasks, connectorConfig.getMaxQueueSize(),
+                Threads.threadFactory(connectorConfig.getConnectorName(), connectorConfig.getLogicalName(), "snapshot", true, true),
+                sourceContext::isRunning, this::readChunk, rowDispatcher);
+
+        snapshotContext.offset.markLastSnapshotRecord();
+        rowDispatcher.dispatchPrevious();
+    }
+
+    /**
+     * Reads the rows of a table or of a chunk of a table on a snapshot thread, handing them over to the dispatching
+     * thread.
+     */
+    private void readChunk(JdbcConnection connection, SnapshotTask task, SnapshotChunks.RowConsumer rows) throws InterruptedException, SQLException {
+        final Table table = task.table;
+        final TableProgress tableProgress = task.progress;
+        final long chunkStart = clock.currentTimeInMillis();
+        tableProgress.exportStart.compareAndSet(0, chunkStart);
+        LOGGER.info("\t Exporting data from table '{}' (chunk {} of {})", table.id(), task.chunk, tableProgress.chunks);
+
+        try (SnapshotRowReader reader = openSnapshotRowReader(connection, table, task.selectStatement)) {
+
+            long count = 0;
+            Timer logTimer = getTableScanLogTimer();
+
+            for (Object[] row = reader.next(); row != null; row = reader.next()) {
+                count++;
+                rateLimiter.acquireFor(1, row);
+                rows.accept(row);
+
+                final long tableRows = tableProgress.rows.incrementAndGet();
+                if (logTimer.expired()) {
+                    LOGGER.info("\t Exported {} records for table '{}' after {}", tableRows, table.id(),
+                            Strings.duration(clock.currentTimeInMillis() - tableProgress.exportStart.get()));
+                    snapshotProgressListener.rowsScanned(table.id(), tableRows);
+                    logTimer = getTableScanLogTimer();
+                }
+            }
+
+            LOGGER.info("\t Finished exporting {} records for table '{}' (chunk {} of {}); duration '{}'", count, table.id(), task.chunk,
+                    tableProgress.chunks, Strings.duration(clock.currentTimeInMillis() - chunkStart));
+        }
+        catch (SQLException e) {
+            throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
+        }
+    }
+
+    private void chunkCompleted(TableId tableId, TableProgress tableProgress) {
+        snapshotProgressListener.dataCollectionChunkCompleted(tableId);
+        if (--tableProgress.remainingChunks == 0) {
+            final long rows = tableProgress.rows.get();
+            LOGGER.info("\t Finished exporting {} records for table '{}'; total duration '{}'", rows,
+                    tableId, Strings.duration(clock.currentTimeInMillis() - tableProgress.exportStart.get()));
+            snapshotProgressListener.dataCollectionSnapshotCompleted(tableId, rows);
+        }
+    }
+
     private void tryStartingSnapshot(RelationalSnapshotContext snapshotContext) {
         if (!snapshotContext.offset.isSnapshotRunning()) {
             snapshotContext.offset.preSnapshotStart();
@@ -301,41 +563,55 @@ private void tryStartingSnapshot(RelationalSnapshotContext snapshotContext) {
      * Dispatches the data change events for the records of a single table.
      */
     private void createDataEventsForTable(ChangeEventSourceContext sourceContext, RelationalSnapshotContext snapshotContext,
-                                          SnapshotReceiver snapshotReceiver, Table table)
+                                          SnapshotReceiver snapshotReceiver, Table table, SnapshotCheckpoint checkpoint)
             throws InterruptedException {
 
         long exportStart = clock.currentTimeInMillis();
         LOGGER.info("\t Exporting data from table '{}'", table.id());
 
-        final Optional<String> selectStatement = determineSnapshotSelect(snapshotContext, table.id());
+        Optional<String> selectStatement = determineSnapshotSelect(snapshotContext, table.id());
         if (!selectStatement.isPresent()) {
             LOGGER.warn("For table '{}' the select statement was not provided, skipping table", table.id());
             snapshotProgressListener.dataCollectionSnapshotCompleted(table.id(), 0);
             return;
         }
+
+        // tables with a suitable key are read in key order, so reading them can be continued after the last emitted key
+        final Column keyColumn = checkpoint != null && getSnapshotSelectOverride(table.id()) == null ? SnapshotChunks.integralKeyColumn(table) : null;
+        if (checkpoint != null) {
+            final Long resumeKey = keyColumn != null ? checkpoint.resumeKeyFor(table.id()) : null;
+            if (resumeKey != null) {
+                LOGGER.info("\t Continuing to export data from table '{}' after key {}", table.id(), resumeKey);
+                checkpoint.tableResumed(table.id(), resumeKey);
+            }
+            else {
+                checkpoint.tableStarted(table.id());
+            }
+            if (keyColumn != null) {
+                selectStatement = Optional.of(keyOrderedSelect(selectStatement.get(), keyColumn, resumeKey));
+            }
+        }
         LOGGER.info("\t For table '{}' using select statement: '{}'", table.id(), selectStatement.get());
 
-        try (Statement statement = readTableStatement();
-                ResultSet rs = statement.executeQuery(selectStatement.get())) {
+        try (SnapshotRowReader reader = openSnapshotRowReader(jdbcConnection, table, selectStatement.get())) {
 
-            ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
             long rows = 0;
             Timer logTimer = getTableScanLogTimer();
             snapshotContext.lastRecordInTable = false;
 
-            if (rs.next()) {
+            Object[] nextRow = reader.next();
+            if (nextRow != null) {
                 while (!snapshotContext.lastRecordInTable) {
                     if (!sourceContext.isRunning()) {
                         throw new InterruptedException("Interrupted while snapshotting table " + table.id());
                     }
 
                     rows++;
-                    final Object[] row = new Object[columnArray.getGreatestColumnPosition()];
-                    for (int i = 0; i < columnArray.getColumns().length; i++) {
-                        row[columnArray.getColumns()[i].position() - 1] = getColumnValue(rs, i + 1, columnArray.getColumns()[i]);
-                    }
+                    final Object[] row = nextRow;
+                    rateLimiter.acquireFor(1, row);
 
-                    snapshotContext.lastRecordInTable = !rs.next();
+                    nextRow = reader.next();
+                    snapshotContext.lastRecordInTable = nextRow == null;
                     if (logTimer.expired()) {
                         long stop = clock.currentTimeInMillis();
                         LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
@@ -347,6 +623,9 @@ private void createDataEventsForTable(ChangeEventSourceContext sourceContext, Re
                     if (snapshotContext.lastTable && snapshotContext.lastRecordInTable) {
                         snapshotContext.offset.markLastSnapshotRecord();
                     }
+                    if (checkpoint != null) {
+                        checkpoint.rowStarted(keyColumn != null ? keyOf(row[keyColumn.position() - 1]) : null);
+                    }
                     dispatcher.dispatchSnapshotEvent(table.id(), getChangeRecordEmitter(snapshotContext, table.id(), row), snapshotReceiver);
                 }
             }
@@ -364,6 +643,23 @@ else if (snapshotContext.lastTable) {
         }
     }
 
+    /**
+     * Returns a query reading the rows of the given snapshot query in the order of the given key, optionally only
+     * the rows after the given key.
+     */
+    private static String keyOrderedSelect(String selectStatement, Column keyColumn, Long afterKey) {
+        final String key = quote(keyColumn.name());
+        final StringBuilder sql = new StringBuilder("SELECT * FROM (").append(selectStatement).append(") AS dbz_snapshot");
+        if (afterKey != null) {
+            sql.append(" WHERE ").append(key).append(" > ").append(afterKey);
+        }
+        return sql.append(" ORDER BY ").append(key).toString();
+    }
+
+    private static Long keyOf(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
     private Timer getTableScanLogTimer() {
         return Threads.timer(clock, LOG_INTERVAL);
     }
@@ -384,14 +680,18 @@ protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext snapshotCon
      * @return a valid query string or empty if table will not be snapshotted
      */
     private Optional<String> determineSnapshotSelect(RelationalSnapshotContext snapshotContext, TableId tableId) {
+        String overriddenSelect = getSnapshotSelectOverride(tableId);
+        return overriddenSelect != null ? Optional.of(enhanceOverriddenSelect(snapshotContext, overriddenSelect, tableId)) : getSnapshotSelect(snapshotContext, tableId);
+    }
+
+    private String getSnapshotSelectOverride(TableId tableId) {
         String overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(tableId);
 
         // try without catalog id, as this might or might not be populated based on the given connector
         if (overriddenSelect == null) {
             overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(new TableId(null, tableId.schema(), tableId.table()));
         }
-
-        return overriddenSelect != null ? Optional.of(enhanceOverriddenSelect(snapshotContext, overriddenSelect, tableId)) : getSnapshotSelect(snapshotContext, tableId);
+        return overriddenSelect;
     }
 
     /**
@@ -417,9 +717,25 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
         return rs.getObject(columnIndex);
     }
 
-    private Statement readTableStatement() throws SQLException {
+    /**
+     * Opens a reader of the rows returned by the given snapshot query. By default the query is executed via JDBC and
+     * the column values are obtained via {@link #getColumnValue(ResultSet, int, Column)}; connectors may read the
+     * rows in a more efficient way.
+     */
+    protected SnapshotRowReader openSnapshotRowReader(JdbcConnection connection, Table table, String selectStatement) throws SQLException {
+        final Statement statement = readTableStatement(connection);
+        try {
+            return new ResultSetRowReader(statement, statement.executeQuery(selectStatement), table);
+        }
+        catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    private Statement readTableStatement(JdbcConnection connection) throws SQLException {
         int fetchSize = connectorConfig.getSnapshotFetchSize();
-        Statement statement = jdbcConnection.connection().createStatement(); // the default cursor is FORWARD_ONLY
+        Statement statement = connection.connection().createStatement(); // the default cursor is FORWARD_ONLY
         statement.setFetchSize(fetchSize);
         return statement;
     }
@@ -441,6 +757,80 @@ private void rollbackTransaction(Connection connection) {
         }
     }
 
+    /**
+     * A query executed by a snapshot thread, reading a table or a chunk of a table.
+     */
+    private static class SnapshotTask {
+
+        private final Table table;
+        private final String selectStatement;
+        private final int chunk;
+        private final TableProgress progress;
+
+        private SnapshotTask(Table table, String selectStatement, int chunk, TableProgress progress) {
+            this.table = table;
+            this.selectStatement = selectStatement;
+            this.chunk = chunk;
+            this.progress = progress;
+        }
+    }
+
+    /**
+     * The progress of reading a table by one or more snapshot threads.
+     */
+    private static class TableProgress {
+
+        private final int chunks;
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong exportStart = new AtomicLong();
+
+        /**
+         * Only accessed by the dispatching thread
+         */
+        private int remainingChunks;
+
+        private TableProgress(int chunks) {
+            this.chunks = chunks;
+            this.remainingChunks = chunks;
+        }
+    }
+
+    /**
+     * Dispatches the rows read by the snapshot threads with a look-ahead of one row, so the very last row of all tables
+     * can be marked as the last snapshot record.
+     */
+    private class SnapshotRowDispatcher implements SnapshotChunks.ChunkHandler<SnapshotTask> {
+
+        private final RelationalSnapshotContext snapshotContext;
+        private final SnapshotReceiver snapshotReceiver;
+        private TableId previousTableId;
+        private Object[] previousRow;
+
+        private SnapshotRowDispatcher(RelationalSnapshotContext snapshotContext, SnapshotReceiver snapshotReceiver) {
+            this.snapshotContext = snapshotContext;
+            this.snapshotReceiver = snapshotReceiver;
+        }
+
+        @Override
+        public void rowRead(SnapshotTask task, Object[] row) throws InterruptedException {
+            dispatchPrevious();
+            previousTableId = task.table.id();
+            previousRow = row;
+        }
+
+        @Override
+        public void chunkCompleted(SnapshotTask task) {
+            RelationalSnapshotChangeEventSource.this.chunkCompleted(task.table.id(), task.progress);
+        }
+
+        private void dispatchPrevious() throws InterruptedException {
+            if (previousRow != null) {
+                dispatcher.dispatchSnapshotEvent(previousTableId, getChangeRecordEmitter(snapshotContext, previousTableId, previousRow),
+                        snapshotReceiver);
+            }
+        }
+    }
+
     /**
      * Mutable context which is populated in the course of snapshotting.
      */
@@ -458,6 +848,60 @@ public RelationalSnapshotContext(String catalogName) throws SQLException {
         }
     }
 
+    /**
+     * Reads the rows returned by a snapshot query.
+     */
+    public interface SnapshotRowReader extends AutoCloseable {
+
+        /**
+         * Returns the next row, with the value of each column at the index of its position minus one.
+         *
+         * @return the next row or {@code null} if all rows have been read
+         */
+        Object[] next() throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    /**
+     * Reads the rows of a JDBC result set.
+     */
+    private class ResultSetRowReader implements SnapshotRowReader {
+
+        private final Statement statement;
+        private final ResultSet rs;
+        private final ColumnUtils.ColumnArray columnArray;
+
+        private ResultSetRowReader(Statement statement, ResultSet rs, Table table) throws SQLException {
+            this.statement = statement;
+            this.rs = rs;
+            this.columnArray = ColumnUtils.toArray(rs, table);
+        }
+
+        @Override
+        public Object[] next() throws SQLException {
+            if (!rs.next()) {
+                return null;
+            }
+            final Object[] row = new Object[columnArray.getGreatestColumnPosition()];
+            for (int i = 0; i < columnArray.getColumns().length; i++) {
+                row[columnArray.getColumns()[i].position() - 1] = getColumnValue(rs, i + 1, columnArray.getColumns()[i]);
+            }
+            return row;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                rs.close();
+            }
+            finally {
+                statement.close();
+            }
+        }
+    }
+
     protected Clock getClock() {
         return clock;
     }
@@ -10,7 +10,9 @@
 
 import java.util.function.Predicate;
 
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
+import io.debezium.function.Predicates;
 import io.debezium.relational.Selectors.TableIdToStringMapper;
 import io.debezium.relational.Tables.TableFilter;
 import io.debezium.schema.DataCollectionFilters;
@@ -47,7 +49,14 @@ public RelationalTableFilters(Configuration config, TableFilter systemTablesFilt
                 ? predicate.and(systemTablesFilter::isIncluded)
                 : predicate;
 
-        this.tableFilter = finalPredicate::test;
+        // the signaling table is always captured, as signals are received from its change events
+        final String signalDataCollection = config.getString(CommonConnectorConfig.SIGNAL_DATA_COLLECTION);
+        if (signalDataCollection != null) {
+            finalPredicate = finalPredicate.or(tableId -> signalDataCollection.equals(tableId.identifier()));
+        }
+
+        // the filter is evaluated for every change event, so remember the decision for each table
+        this.tableFilter = Predicates.memoize(finalPredicate)::test;
         this.excludeColumns = config.getFallbackStringProperty(COLUMN_EXCLUDE_LIST, COLUMN_BLACKLIST);
     }
 
@@ -0,0 +1,289 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.jdbc.JdbcConnection;
+
+/**
+ * Utilities for snapshots reading tables concurrently: large tables are split into ranges of their primary key, and the
+ * resulting queries are read on one thread per connection while their rows are processed on the calling thread.
+ */
+public final class SnapshotChunks {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotChunks.class);
+
+    /**
+     * The maximum number of primary key ranges a single table is split into.
+     */
+    public static final int MAX_CHUNKS_PER_TABLE = 10_000;
+
+    private SnapshotChunks() {
+    }
+
+    /**
+     * Returns the primary key column of the given table if it is a single column with values representable as
+     * {@code long}, or {@code null} otherwise.
+     */
+    public static Column integralKeyColumn(Table table) {
+        if (table == null || table.primaryKeyColumns().size() != 1) {
+            return null;
+        }
+        final Column keyColumn = table.primaryKeyColumns().get(0);
+        switch (keyColumn.jdbcType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return keyColumn;
+            case Types.BIGINT:
+                return keyColumn.typeName().toUpperCase().contains("UNSIGNED") ? null : keyColumn;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the conditions selecting the ranges of the given key a table is split into, based on its estimated number
+     * of rows and its lowest and highest key. The first and last range are open-ended, so all rows are read even if a
+     * connection sees a different state of the table.
+     *
+     * @param connection the connection for determining the lowest and highest key
+     * @param tableId the identifier of the table, used for logging
+     * @param source the table or derived table to read the key range of
+     * @param key the quoted name of the key column
+     * @param rowCount the estimated number of rows of the table
+     * @param chunkSize the number of rows per range
+     * @return the conditions of the ranges, empty if the table isn't split
+     */
+    public static List<String> keyRangeConditions(JdbcConnection connection, TableId tableId, String source, String key, long rowCount,
+                                                   long chunkSize)
+            throws SQLException {
+        if (chunkSize <= 0 || rowCount <= chunkSize) {
+            return Collections.emptyList();
+        }
+        final long[] keyRange = connection.queryAndMap("SELECT MIN(" + key + "), MAX(" + key + ") FROM " + source, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            final long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{ min, rs.getLong(2) };
+        });
+        if (keyRange == null) {
+            return Collections.emptyList();
+        }
+
+        final int chunkCount = (int) Math.min(MAX_CHUNKS_PER_TABLE, (rowCount + chunkSize - 1) / chunkSize);
+        final long[] boundaries = chunkBoundaries(keyRange[0], keyRange[1], chunkCount);
+        if (boundaries.length == 0) {
+            return Collections.emptyList();
+        }
+        final List<String> conditions = new ArrayList<>(boundaries.length + 1);
+        for (int i = 0; i <= boundaries.length; i++) {
+            final StringBuilder condition = new StringBuilder();
+            if (i > 0) {
+                condition.append(key).append(" >= ").append(boundaries[i - 1]);
+            }
+            if (i > 0 && i < boundaries.length) {
+                condition.append(" AND ");
+            }
+            if (i < boundaries.length) {
+                condition.append(key).append(" < ").append(boundaries[i]);
+            }
+            conditions.add(condition.toString());
+        }
+        LOGGER.info("\t Splitting table '{}' with about {} rows into {} chunks of column {} from {} to {}", tableId, rowCount,
+                conditions.size(), key, keyRange[0], keyRange[1]);
+        return conditions;
+    }
+
+    /**
+     * Returns the boundaries splitting the range from {@code min} to {@code max} (both inclusive) into at most
+     * {@code chunkCount} ranges of about the same size; range {@code i} starts at boundary {@code i - 1} (inclusive)
+     * and ends at boundary {@code i} (exclusive).
+     */
+    static long[] chunkBoundaries(long min, long max, int chunkCount) {
+        if (chunkCount <= 1 || max <= min) {
+            return new long[0];
+        }
+        final BigInteger lower = BigInteger.valueOf(min);
+        final BigInteger width = BigInteger.valueOf(max).subtract(lower).add(BigInteger.ONE);
+        final BigInteger count = BigInteger.valueOf(chunkCount);
+        final long[] boundaries = new long[chunkCount - 1];
+        int length = 0;
+        for (int i = 1; i < chunkCount; i++) {
+            final long boundary = lower.add(width.multiply(BigInteger.valueOf(i)).divide(count)).longValue();
+            if (boundary > min && (length == 0 || boundary > boundaries[length - 1])) {
+                boundaries[length++] = boundary;
+            }
+        }
+        return Arrays.copyOf(boundaries, length);
+    }
+
+    /**
+     * Reads the given chunks on one thread per connection, each thread reading one chunk at a time. The rows are
+     * handed over to the given handler on the calling thread, so the rows of each chunk are handled in the order in
+     * which they were read.
+     *
+     * @param connections the connections to read the chunks with, all of them seeing the same state of the database
+     * @param chunks the chunks to read
+     * @param maxQueueSize the maximum number of rows read ahead of the handler
+     * @param threadFactory the factory of the reading threads
+     * @param isRunning whether the snapshot is still running
+     * @param reader reads a single chunk on a reading thread
+     * @param handler handles the rows read on the calling thread
+     * @throws InterruptedException if the snapshot is stopped before all chunks have been read; the reading threads
+     * have been stopped then
+     */
+    public static <C> void readConcurrently(List<JdbcConnection> connections, List<C> chunks, int maxQueueSize, ThreadFactory threadFactory,
+                                            BooleanSupplier isRunning, ChunkReader<C> reader, ChunkHandler<C> handler)
+            throws Exception {
+        final Queue<C> pendingChunks = new ConcurrentLinkedQueue<>(chunks);
+        final BlockingQueue<ChunkRow<C>> rows = new ArrayBlockingQueue<>(Math.max(maxQueueSize, connections.size()));
+        final ChunkRow<C> workerCompleted = new ChunkRow<>(null, null, null);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(connections.size(), threadFactory);
+
+        try {
+            for (JdbcConnection connection : connections) {
+                executor.execute(() -> {
+                    try {
+                        C chunk;
+                        while (running.get() && (chunk = pendingChunks.poll()) != null) {
+                            final C current = chunk;
+                            reader.read(connection, current, row -> {
+                                if (!running.get()) {
+                                    throw new InterruptedException("Interrupted while snapshotting tables");
+                                }
+                                rows.put(new ChunkRow<>(current, row, null));
+                            });
+                            rows.put(new ChunkRow<>(current, null, null));
+                        }
+                        rows.put(workerCompleted);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    catch (Exception e) {
+                        try {
+                            rows.put(new ChunkRow<>(null, null, e));
+                        }
+                        catch (InterruptedException ie) {
+                            // the handling thread has stopped already
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+
+            int runningWorkers = connections.size();
+            while (runningWorkers > 0) {
+                if (!isRunning.getAsBoolean()) {
+                    LOGGER.info("Stopping the snapshot threads as the snapshot has been stopped");
+                    throw new InterruptedException("Interrupted while snapshotting tables");
+                }
+                final ChunkRow<C> current = rows.poll(100, TimeUnit.MILLISECONDS);
+                if (current == null) {
+                    continue;
+                }
+                if (current == workerCompleted) {
+                    runningWorkers--;
+                }
+                else if (current.failure != null) {
+                    if (current.failure instanceof RuntimeException) {
+                        throw (RuntimeException) current.failure;
+                    }
+                    throw new ConnectException("Snapshotting of tables failed", current.failure);
+                }
+                else if (current.row == null) {
+                    handler.chunkCompleted(current.chunk);
+                }
+                else {
+                    handler.rowRead(current.chunk, current.row);
+                }
+            }
+        }
+        finally {
+            running.set(false);
+            executor.shutdownNow();
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Snapshot threads did not terminate in time");
+            }
+        }
+    }
+
+    /**
+     * Reads the rows of a chunk on a snapshot thread.
+     */
+    @FunctionalInterface
+    public interface ChunkReader<C> {
+
+        /**
+         * Reads all rows of the given chunk using the given connection, passing each of them to the given consumer.
+         */
+        void read(JdbcConnection connection, C chunk, RowConsumer rows) throws Exception;
+    }
+
+    /**
+     * Hands the rows read on a snapshot thread over to the calling thread.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+
+        /**
+         * Passes the given row on, waiting while the calling thread is behind.
+         *
+         * @throws InterruptedException if the snapshot has been stopped
+         */
+        void accept(Object[] row) throws InterruptedException;
+    }
+
+    /**
+     * Handles the rows read by the snapshot threads on the calling thread.
+     */
+    public interface ChunkHandler<C> {
+
+        void rowRead(C chunk, Object[] row) throws InterruptedException;
+
+        void chunkCompleted(C chunk) throws InterruptedException;
+    }
+
+    /**
+     * A row read by a snapshot thread, the completion of a chunk if the row is {@code null} or a failure.
+     */
+    private static class ChunkRow<C> {
+
+        private final C chunk;
+        private final Object[] row;
+        private final Exception failure;
+
+        private ChunkRow(C chunk, Object[] row, Exception failure) {
+            this.chunk = chunk;
+            this.row = row;
+            this.failure = failure;
+        }
+    }
+}
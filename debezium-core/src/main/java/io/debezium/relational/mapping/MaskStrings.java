@@ -112,12 +112,25 @@ protected static final class HashValueConverter implements ValueConverter {
 
         private static final Logger LOGGER = LoggerFactory.getLogger(HashValueConverter.class);
         private final byte[] salt;
-        private final MessageDigest hashAlgorithm;
+        // values may be converted concurrently, but message digests are stateful
+        private final ThreadLocal<MessageDigest> hashAlgorithm;
 
         public HashValueConverter(byte[] salt, String hashAlgorithm) {
             this.salt = salt;
+            final MessageDigest digest = getMessageDigest(hashAlgorithm);
+            this.hashAlgorithm = ThreadLocal.withInitial(() -> {
+                try {
+                    return (MessageDigest) digest.clone();
+                }
+                catch (CloneNotSupportedException e) {
+                    return getMessageDigest(hashAlgorithm);
+                }
+            });
+        }
+
+        private static MessageDigest getMessageDigest(String hashAlgorithm) {
             try {
-                this.hashAlgorithm = MessageDigest.getInstance(hashAlgorithm);
+                return MessageDigest.getInstance(hashAlgorithm);
             }
             catch (NoSuchAlgorithmException e) {
                 throw new IllegalArgumentException(e);
@@ -140,6 +153,7 @@ public Object convert(Object value) {
         }
 
         private String toHash(Serializable value) throws IOException {
+            final MessageDigest hashAlgorithm = this.hashAlgorithm.get();
             hashAlgorithm.reset();
             hashAlgorithm.update(salt);
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+/**
+ * Calculates an approximate memory footprint of {@link SourceRecord}s by walking their key and value {@link Struct}s.
+ * The estimate is driven by the schema of the structs, so it is considerably cheaper than a reflective object size
+ * calculation while still reflecting the size of large textual and binary column values.
+ */
+public class ApproximateStructSizeCalculator {
+
+    private static final int OBJECT_HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int EMPTY_STRUCT_SIZE = OBJECT_HEADER_SIZE + 2 * REFERENCE_SIZE;
+    private static final int EMPTY_STRING_SIZE = OBJECT_HEADER_SIZE + 24;
+    private static final int EMPTY_BYTES_SIZE = OBJECT_HEADER_SIZE;
+    private static final int EMPTY_BYTE_BUFFER_SIZE = OBJECT_HEADER_SIZE + 32;
+    private static final int EMPTY_LIST_SIZE = OBJECT_HEADER_SIZE + 24;
+    private static final int EMPTY_MAP_SIZE = OBJECT_HEADER_SIZE + 48;
+    private static final int MAP_ENTRY_SIZE = OBJECT_HEADER_SIZE + 3 * REFERENCE_SIZE;
+    private static final int BOXED_PRIMITIVE_SIZE = OBJECT_HEADER_SIZE + 8;
+    private static final int EMPTY_RECORD_SIZE = OBJECT_HEADER_SIZE + 10 * REFERENCE_SIZE;
+
+    private ApproximateStructSizeCalculator() {
+    }
+
+    /**
+     * Returns the approximate size of the given record in bytes, including its key, value, source partition and
+     * source offset.
+     */
+    public static long getApproximateRecordSize(SourceRecord record) {
+        long size = EMPTY_RECORD_SIZE;
+        size += getStringSize(record.topic());
+        size += getValueSize(record.keySchema(), record.key());
+        size += getValueSize(record.valueSchema(), record.value());
+        size += getMapSize(record.sourcePartition());
+        size += getMapSize(record.sourceOffset());
+        return size;
+    }
+
+    /**
+     * Returns the approximate size of the given struct in bytes.
+     */
+    public static long getStructSize(Struct struct) {
+        if (struct == null) {
+            return 0;
+        }
+        final List<Field> fields = struct.schema().fields();
+        long size = EMPTY_STRUCT_SIZE + OBJECT_HEADER_SIZE + (long) fields.size() * REFERENCE_SIZE;
+        for (Field field : fields) {
+            size += getValueSize(field.schema(), struct.getWithoutDefault(field.name()));
+        }
+        return size;
+    }
+
+    private static long getValueSize(Schema schema, Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (schema == null) {
+            return getUntypedValueSize(value);
+        }
+        switch (schema.type()) {
+            case BOOLEAN:
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case FLOAT32:
+            case FLOAT64:
+                return BOXED_PRIMITIVE_SIZE;
+            case STRING:
+                return getStringSize((String) value);
+            case BYTES:
+                return getBytesSize(value);
+            case STRUCT:
+                return getStructSize((Struct) value);
+            case ARRAY:
+                return getListSize(schema.valueSchema(), (List<?>) value);
+            case MAP:
+                return getMapSize(schema.keySchema(), schema.valueSchema(), (Map<?, ?>) value);
+            default:
+                return getUntypedValueSize(value);
+        }
+    }
+
+    private static long getUntypedValueSize(Object value) {
+        if (value instanceof String) {
+            return getStringSize((String) value);
+        }
+        else if (value instanceof Struct) {
+            return getStructSize((Struct) value);
+        }
+        else if (value instanceof byte[] || value instanceof ByteBuffer) {
+            return getBytesSize(value);
+        }
+        else if (value instanceof Map) {
+            return getMapSize((Map<?, ?>) value);
+        }
+        else if (value instanceof List) {
+            return getListSize(null, (List<?>) value);
+        }
+        return BOXED_PRIMITIVE_SIZE;
+    }
+
+    private static long getStringSize(String value) {
+        // Assumes compact strings, i.e. one byte per character for the majority of the data
+        return value == null ? 0 : EMPTY_STRING_SIZE + value.length();
+    }
+
+    private static long getBytesSize(Object value) {
+        if (value instanceof ByteBuffer) {
+            return EMPTY_BYTE_BUFFER_SIZE + EMPTY_BYTES_SIZE + ((ByteBuffer) value).capacity();
+        }
+        return EMPTY_BYTES_SIZE + ((byte[]) value).length;
+    }
+
+    private static long getListSize(Schema elementSchema, List<?> value) {
+        long size = EMPTY_LIST_SIZE + (long) value.size() * REFERENCE_SIZE;
+        for (Object element : value) {
+            size += getValueSize(elementSchema, element);
+        }
+        return size;
+    }
+
+    private static long getMapSize(Schema keySchema, Schema valueSchema, Map<?, ?> value) {
+        long size = EMPTY_MAP_SIZE + (long) value.size() * MAP_ENTRY_SIZE;
+        for (Entry<?, ?> entry : value.entrySet()) {
+            size += getValueSize(keySchema, entry.getKey());
+            size += getValueSize(valueSchema, entry.getValue());
+        }
+        return size;
+    }
+
+    private static long getMapSize(Map<?, ?> value) {
+        return value == null ? 0 : getMapSize(null, null, value);
+    }
+}
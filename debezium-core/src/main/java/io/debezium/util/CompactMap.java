@@ -0,0 +1,296 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import io.debezium.annotation.Immutable;
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * An immutable, array-backed {@link Map} with {@link String} keys, intended for small maps such as Kafka Connect source
+ * partitions and offsets that are created for every emitted record. Compared to a {@link java.util.HashMap}, such a map
+ * needs far fewer objects:
+ * <ul>
+ * <li>maps created by the same {@link Builder} with the same keys in the same order share a single key array,</li>
+ * <li>{@link #with(String, Object)} creates a map that shares all entries of its base map and only stores the added
+ * entry, e.g. the row number of one of many rows of the same event.</li>
+ * </ul>
+ * Lookups are linear in the number of entries, which is faster than hashing for the handful of entries such maps have.
+ * {@code null} values are permitted, {@code null} keys are not.
+ *
+ * @param <V> the type of values
+ */
+@Immutable
+public final class CompactMap<V> extends AbstractMap<String, V> {
+
+    private static final String[] NO_KEYS = new String[0];
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final CompactMap<?> EMPTY = new CompactMap<>(null, NO_KEYS, NO_VALUES, 0);
+
+    /**
+     * The maximum number of chained maps before {@link #with(String, Object)} copies all entries into a flat map.
+     */
+    private static final int MAX_DEPTH = 4;
+
+    private final CompactMap<V> base;
+    private final String[] keys;
+    private final Object[] values;
+    private final int length;
+    private final int size;
+    private final int depth;
+    private int hashCode;
+
+    private CompactMap(CompactMap<V> base, String[] keys, Object[] values, int length) {
+        this.base = base;
+        this.keys = keys;
+        this.values = values;
+        this.length = length;
+        this.size = length + (base != null ? base.size : 0);
+        this.depth = base != null ? base.depth + 1 : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> CompactMap<V> empty() {
+        return (CompactMap<V>) EMPTY;
+    }
+
+    public static <V> CompactMap<V> of(String key, V value) {
+        return new CompactMap<>(null, new String[]{ key }, new Object[]{ value }, 1);
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a builder whose first built map shares the key array of the given map if it has the same keys in the
+     * same order, e.g. for building the offset of each event with a new builder based on the previous offset.
+     *
+     * @param template a previously built map; may be null
+     */
+    public static <V> Builder<V> builder(CompactMap<V> template) {
+        final Builder<V> builder = new Builder<>();
+        if (template != null && template.base == null) {
+            builder.lastKeys = template.keys;
+        }
+        return builder;
+    }
+
+    /**
+     * Returns a map containing all entries of this map and the given entry. The returned map references this map
+     * rather than copying its entries, unless the key is already present.
+     */
+    public CompactMap<V> with(String key, V value) {
+        if (key == null) {
+            throw new NullPointerException("Key must not be null");
+        }
+        if (containsKey(key) || depth >= MAX_DEPTH) {
+            final Builder<V> builder = new Builder<>();
+            builder.putAll(this);
+            builder.put(key, value);
+            return builder.build();
+        }
+        return new CompactMap<>(this, new String[]{ key }, new Object[]{ value }, 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        for (CompactMap<V> map = this; map != null; map = map.base) {
+            if (map.indexOf(key) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        for (CompactMap<V> map = this; map != null; map = map.base) {
+            final int index = map.indexOf(key);
+            if (index >= 0) {
+                return (V) map.values[index];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0 && size != 0) {
+            for (CompactMap<V> map = this; map != null; map = map.base) {
+                for (int i = 0; i < map.length; i++) {
+                    result += map.keys[i].hashCode() ^ (map.values[i] == null ? 0 : map.values[i].hashCode());
+                }
+            }
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < length; i++) {
+            final String candidate = keys[i];
+            if (candidate == key || candidate.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Iterates the entries of the innermost base map first, so that the iteration order is the insertion order.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+
+        @SuppressWarnings("unchecked")
+        private final CompactMap<V>[] chain = new CompactMap[depth + 1];
+        private int chainIndex;
+        private int index;
+
+        private EntryIterator() {
+            int i = depth;
+            for (CompactMap<V> map = CompactMap.this; map != null; map = map.base) {
+                chain[i--] = map;
+            }
+            advance();
+        }
+
+        private void advance() {
+            while (chainIndex < chain.length && index >= chain[chainIndex].length) {
+                chainIndex++;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return chainIndex < chain.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<String, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final CompactMap<V> map = chain[chainIndex];
+            final Entry<String, V> entry = new SimpleImmutableEntry<>(map.keys[index], (V) map.values[index]);
+            index++;
+            advance();
+            return entry;
+        }
+    }
+
+    /**
+     * Collects the entries of a {@link CompactMap}. A builder can be reused after {@link #build()}; if subsequently built
+     * maps have the same keys in the same order, they share the same key array.
+     *
+     * @param <V> the type of values
+     */
+    @NotThreadSafe
+    public static final class Builder<V> {
+
+        private String[] keys = new String[8];
+        private Object[] values = new Object[8];
+        private int length;
+        private String[] lastKeys = NO_KEYS;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an entry, replacing the value of an already added entry with the same key.
+         */
+        public Builder<V> put(String key, V value) {
+            if (key == null) {
+                throw new NullPointerException("Key must not be null");
+            }
+            for (int i = 0; i < length; i++) {
+                if (keys[i].equals(key)) {
+                    values[i] = value;
+                    return this;
+                }
+            }
+            if (length == keys.length) {
+                keys = Arrays.copyOf(keys, length * 2);
+                values = Arrays.copyOf(values, length * 2);
+            }
+            keys[length] = key;
+            values[length] = value;
+            length++;
+            return this;
+        }
+
+        public Builder<V> putAll(Map<String, ? extends V> map) {
+            for (Entry<String, ? extends V> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Returns an immutable map with all entries added since the last invocation and resets this builder.
+         */
+        public CompactMap<V> build() {
+            if (length == 0) {
+                return empty();
+            }
+            if (!sameKeysAsLastBuild()) {
+                lastKeys = Arrays.copyOf(keys, length);
+            }
+            final CompactMap<V> result = new CompactMap<>(null, lastKeys, Arrays.copyOf(values, length), length);
+            Arrays.fill(values, 0, length, null);
+            length = 0;
+            return result;
+        }
+
+        private boolean sameKeysAsLastBuild() {
+            if (lastKeys.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (!lastKeys[i].equals(keys[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
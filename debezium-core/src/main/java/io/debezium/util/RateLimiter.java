@@ -0,0 +1,191 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A token bucket limiting the number of rows and bytes per second read by any number of threads. Each bucket holds up
+ * to one second worth of tokens, so reading may burst after a pause. A thread taking more tokens than available
+ * borrows them from the future and waits until they would have been refilled, so threads are throttled in the order
+ * in which they asked for tokens.
+ * <p>
+ * The limits can be changed at any time; a limit of zero or less disables limiting the respective unit.
+ */
+@ThreadSafe
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int REFERENCE_SIZE = 8;
+
+    private final Clock clock;
+    private final Bucket rows = new Bucket();
+    private final Bucket bytes = new Bucket();
+    private final AtomicLong throttledNanos = new AtomicLong();
+    private volatile boolean limited;
+    private volatile boolean bytesLimited;
+
+    public RateLimiter(Clock clock, long maxRowsPerSecond, long maxBytesPerSecond) {
+        this.clock = clock;
+        setMaxRowsPerSecond(maxRowsPerSecond);
+        setMaxBytesPerSecond(maxBytesPerSecond);
+    }
+
+    public synchronized long getMaxRowsPerSecond() {
+        return rows.rate;
+    }
+
+    public synchronized void setMaxRowsPerSecond(long maxRowsPerSecond) {
+        rows.setRate(maxRowsPerSecond, clock.currentTimeInNanos());
+        limited = rows.rate > 0 || bytes.rate > 0;
+    }
+
+    public synchronized long getMaxBytesPerSecond() {
+        return bytes.rate;
+    }
+
+    public synchronized void setMaxBytesPerSecond(long maxBytesPerSecond) {
+        bytes.setRate(maxBytesPerSecond, clock.currentTimeInNanos());
+        limited = rows.rate > 0 || bytes.rate > 0;
+        bytesLimited = bytes.rate > 0;
+    }
+
+    /**
+     * Returns the total time threads have been waiting for tokens.
+     */
+    public long getThrottledTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(throttledNanos.get());
+    }
+
+    /**
+     * Takes the tokens for the given number of rows and bytes, waiting until they are available.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public void acquire(long numRows, long numBytes) throws InterruptedException {
+        if (!limited) {
+            return;
+        }
+        final long waitNanos = reserve(numRows, numBytes);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes the tokens for the given number of rows with the given values, waiting until they are available. The size
+     * of the values is only {@link #sizeOf(Object) estimated} if the number of bytes is limited.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public void acquireFor(long numRows, Object values) throws InterruptedException {
+        if (!limited) {
+            return;
+        }
+        acquire(numRows, bytesLimited ? sizeOf(values) : 0);
+    }
+
+    /**
+     * Takes the tokens for the given number of rows and bytes.
+     *
+     * @return the time in nanoseconds to wait until the tokens are available
+     */
+    synchronized long reserve(long numRows, long numBytes) {
+        final long now = clock.currentTimeInNanos();
+        final long waitNanos = Math.max(rows.take(numRows, now), bytes.take(numBytes, now));
+        throttledNanos.addAndGet(waitNanos);
+        return waitNanos;
+    }
+
+    /**
+     * Returns the approximate number of bytes of the given value as read from a database, i.e. the length of
+     * textual and binary values, the sum of the sizes of the elements of arrays, collections and maps, and the size
+     * of a reference for any other value.
+     */
+    public static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        else if (value instanceof String) {
+            return ((String) value).length();
+        }
+        else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        else if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).remaining();
+        }
+        else if (value instanceof Object[]) {
+            long size = 0;
+            for (Object element : (Object[]) value) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        else if (value instanceof Collection) {
+            long size = 0;
+            for (Object element : (Collection<?>) value) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        else if (value instanceof Map) {
+            long size = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+            return size;
+        }
+        return REFERENCE_SIZE;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter [maxRowsPerSecond=" + getMaxRowsPerSecond() + ", maxBytesPerSecond=" + getMaxBytesPerSecond() + "]";
+    }
+
+    /**
+     * The tokens of one unit; only accessed while holding the lock of the rate limiter.
+     */
+    private static class Bucket {
+
+        private long rate;
+
+        /**
+         * The available tokens; negative if tokens have been borrowed from the future.
+         */
+        private double available;
+        private long lastRefill;
+
+        private void setRate(long rate, long now) {
+            refill(now);
+            this.rate = Math.max(rate, 0);
+            available = Math.min(available, this.rate);
+        }
+
+        private long take(long tokens, long now) {
+            if (rate <= 0) {
+                return 0;
+            }
+            refill(now);
+            available -= tokens;
+            return available < 0 ? (long) Math.ceil(-available * NANOS_PER_SECOND / rate) : 0;
+        }
+
+        private void refill(long now) {
+            if (rate > 0) {
+                available = Math.min(rate, available + (double) (now - lastRefill) * rate / NANOS_PER_SECOND);
+            }
+            lastRefill = now;
+        }
+    }
+}
@@ -270,13 +270,34 @@ public static ThreadFactory threadFactory(Class<? extends SourceConnector> conne
             LOGGER.info("Requested thread factory for connector {}, id = {} named = {}", connector.getSimpleName(), connectorId, name);
         }
 
+        return threadFactory(connector.getSimpleName().toLowerCase(), connectorId, name, indexed, daemon, callback);
+    }
+
+    /**
+     * Returns a thread factory that creates threads conforming to Debezium thread naming
+     * pattern {@code debezium-<connector name>-<connector-id>-<thread-name>}, for use by components
+     * which are not aware of the connector class.
+     *
+     * @param connectorName - the name of the connector, e.g. {@code postgresql}
+     * @param connectorId - the identifier to differentiate between connector instances
+     * @param name - the name of the thread
+     * @param indexed - true if the thread name should be appended with an index
+     * @param daemon - true if the thread should be a daemon thread
+     * @return the thread factory setting the correct name
+     */
+    public static ThreadFactory threadFactory(String connectorName, String connectorId, String name, boolean indexed, boolean daemon) {
+        return threadFactory(connectorName, connectorId, name, indexed, daemon, null);
+    }
+
+    private static ThreadFactory threadFactory(String connectorName, String connectorId, String name, boolean indexed, boolean daemon,
+                                               Consumer<Thread> callback) {
         return new ThreadFactory() {
             private final AtomicInteger index = new AtomicInteger(0);
 
             @Override
             public Thread newThread(Runnable r) {
                 StringBuilder threadName = new StringBuilder(DEBEZIUM_THREAD_NAME_PREFIX)
-                        .append(connector.getSimpleName().toLowerCase())
+                        .append(connectorName)
                         .append('-')
                         .append(connectorId)
                         .append('-')
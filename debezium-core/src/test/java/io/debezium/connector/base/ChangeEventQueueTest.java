@@ -0,0 +1,328 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import io.debezium.util.IoUtil;
+import io.debezium.util.LoggingContext;
+
+/**
+ * Unit test for {@link ChangeEventQueue}.
+ */
+public class ChangeEventQueueTest {
+
+    @Test
+    public void shouldTrackSizeInBytes() throws Exception {
+        ChangeEventQueue<SizedEvent> queue = queue(10, 1_000);
+
+        queue.enqueue(new SizedEvent(100));
+        queue.enqueue(new SizedEvent(300));
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(400);
+        assertThat(queue.peakQueueSizeInBytes()).isEqualTo(400);
+        assertThat(queue.remainingCapacity()).isEqualTo(8);
+
+        List<SizedEvent> events = queue.poll();
+        assertThat(events).hasSize(2);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+        assertThat(queue.peakQueueSizeInBytes()).isEqualTo(400);
+        assertThat(queue.remainingCapacity()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldBlockProducerWhenByteLimitIsReached() throws Exception {
+        ChangeEventQueue<SizedEvent> queue = queue(10, 500);
+        queue.enqueue(new SizedEvent(400));
+
+        CountDownLatch enqueued = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.enqueue(new SizedEvent(200));
+                enqueued.countDown();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(enqueued.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        assertThat(queue.poll()).hasSize(1);
+        assertThat(enqueued.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(200);
+        producer.join();
+    }
+
+    @Test
+    public void shouldAcceptOversizedEventIntoEmptyQueue() throws Exception {
+        ChangeEventQueue<SizedEvent> queue = queue(10, 500);
+
+        queue.enqueue(new SizedEvent(2_000));
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(2_000);
+        assertThat(queue.poll()).hasSize(1);
+    }
+
+    @Test
+    public void shouldNotTrackSizeIfByteLimitIsDisabled() throws Exception {
+        ChangeEventQueue<SizedEvent> queue = queue(10, 0);
+
+        queue.enqueue(new SizedEvent(2_000));
+        queue.enqueue(new SizedEvent(2_000));
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+        assertThat(queue.poll()).hasSize(2);
+    }
+
+    @Test
+    public void shouldWakeUpPollerOnEnqueue() throws Exception {
+        ChangeEventQueue<SizedEvent> queue = new ChangeEventQueue.Builder<SizedEvent>()
+                .pollInterval(Duration.ofSeconds(4))
+                .maxBatchSize(5)
+                .maxQueueSize(10)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                queue.enqueue(new SizedEvent(1));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        final long start = System.nanoTime();
+        assertThat(queue.poll()).hasSize(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        producer.join();
+    }
+
+    @Test
+    public void shouldLingerUntilBatchIsComplete() throws Exception {
+        ChangeEventQueue<SizedEvent> queue = new ChangeEventQueue.Builder<SizedEvent>()
+                .pollInterval(Duration.ofMillis(100))
+                .maxLinger(Duration.ofSeconds(4))
+                .maxBatchSize(3)
+                .maxQueueSize(10)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+
+        queue.enqueue(new SizedEvent(1));
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+                queue.enqueue(new SizedEvent(1));
+                queue.enqueue(new SizedEvent(1));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        final long start = System.nanoTime();
+        assertThat(queue.poll()).hasSize(3);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        producer.join();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRaiseProducerExceptionWhileWaiting() throws Exception {
+        ChangeEventQueue<SizedEvent> queue = new ChangeEventQueue.Builder<SizedEvent>()
+                .pollInterval(Duration.ofSeconds(4))
+                .maxBatchSize(5)
+                .maxQueueSize(10)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                queue.producerException(new IllegalStateException("producer failed"));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        queue.poll();
+    }
+
+    @Test
+    public void shouldSpillToDiskAndRetainOrder() throws Exception {
+        Path spillDirectory = Files.createTempDirectory("queue-spill");
+        try {
+            ChangeEventQueue<SizedEvent> queue = spillingQueue(spillDirectory);
+
+            // would block without spilling
+            for (int i = 0; i < 10; i++) {
+                queue.enqueue(new SizedEvent(i));
+            }
+            assertThat(spillFiles(spillDirectory)).isGreaterThan(1);
+
+            List<Long> sizes = new ArrayList<>();
+            queue.poll().forEach(e -> sizes.add(e.size));
+
+            // only spilled once all spilled events have been read back
+            queue.enqueue(new SizedEvent(10));
+
+            List<SizedEvent> events;
+            while (!(events = queue.poll()).isEmpty()) {
+                events.forEach(e -> sizes.add(e.size));
+            }
+            assertThat(sizes).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            assertThat(spillFiles(spillDirectory)).isEqualTo(0);
+
+            queue.close();
+            assertThat(lockFiles(spillDirectory)).isEqualTo(0);
+        }
+        finally {
+            IoUtil.delete(spillDirectory);
+        }
+    }
+
+    @Test
+    public void shouldCreateSpillDirectory() throws Exception {
+        Path parentDirectory = Files.createTempDirectory("queue-spill");
+        try {
+            Path spillDirectory = parentDirectory.resolve("spill");
+            ChangeEventQueue<SizedEvent> queue = spillingQueue(spillDirectory);
+            assertThat(Files.isDirectory(spillDirectory)).isTrue();
+
+            for (int i = 0; i < 10; i++) {
+                queue.enqueue(new SizedEvent(i));
+            }
+            assertThat(spillFiles(spillDirectory)).isGreaterThan(1);
+
+            // spilled events not polled yet are discarded
+            queue.close();
+            assertThat(spillFiles(spillDirectory)).isEqualTo(0);
+            assertThat(lockFiles(spillDirectory)).isEqualTo(0);
+        }
+        finally {
+            IoUtil.delete(parentDirectory);
+        }
+    }
+
+    @Test
+    public void shouldDeleteAbandonedSpillFilesOnly() throws Exception {
+        Path spillDirectory = Files.createTempDirectory("queue-spill");
+        try {
+            // left behind by a queue which has been neither closed nor is running any more
+            Files.createFile(spillDirectory.resolve("debezium-queue-1.lock"));
+            Files.createFile(spillDirectory.resolve("debezium-queue-1-1.spill"));
+            Files.createFile(spillDirectory.resolve("debezium-queue-2-1.spill"));
+
+            ChangeEventQueue<SizedEvent> running = spillingQueue(spillDirectory);
+            for (int i = 0; i < 10; i++) {
+                running.enqueue(new SizedEvent(i));
+            }
+            assertThat(Files.exists(spillDirectory.resolve("debezium-queue-1.lock"))).isFalse();
+            assertThat(Files.exists(spillDirectory.resolve("debezium-queue-1-1.spill"))).isFalse();
+            assertThat(Files.exists(spillDirectory.resolve("debezium-queue-2-1.spill"))).isFalse();
+            final long spilled = spillFiles(spillDirectory);
+
+            // the files of the running queue are retained
+            ChangeEventQueue<SizedEvent> other = spillingQueue(spillDirectory);
+            assertThat(spillFiles(spillDirectory)).isEqualTo(spilled);
+            assertThat(lockFiles(spillDirectory)).isEqualTo(2);
+
+            List<Long> sizes = new ArrayList<>();
+            List<SizedEvent> events;
+            while (!(events = running.poll()).isEmpty()) {
+                events.forEach(e -> sizes.add(e.size));
+            }
+            assertThat(sizes).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+
+            running.close();
+            other.close();
+        }
+        finally {
+            IoUtil.delete(spillDirectory);
+        }
+    }
+
+    private ChangeEventQueue<SizedEvent> spillingQueue(Path spillDirectory) {
+        return new ChangeEventQueue.Builder<SizedEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(4)
+                .maxQueueSize(3)
+                .spillDirectory(spillDirectory)
+                .spillSegmentSize(16)
+                .spillCodec(new SizedEventCodec())
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    private static long spillFiles(Path spillDirectory) throws IOException {
+        return filesWithSuffix(spillDirectory, ".spill");
+    }
+
+    private static long lockFiles(Path spillDirectory) throws IOException {
+        // the lock file of the directory itself is retained
+        return filesWithSuffix(spillDirectory, ".lock") - 1;
+    }
+
+    private static long filesWithSuffix(Path spillDirectory, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(suffix)).count();
+        }
+    }
+
+    private ChangeEventQueue<SizedEvent> queue(int maxQueueSize, long maxQueueSizeInBytes) {
+        return new ChangeEventQueue.Builder<SizedEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(5)
+                .maxQueueSize(maxQueueSize)
+                .maxQueueSizeInBytes(maxQueueSizeInBytes)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    private static class SizedEvent implements Sizeable {
+
+        private final long size;
+
+        SizedEvent(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public long objectSize() {
+            return size;
+        }
+    }
+
+    private static class SizedEventCodec implements SpillCodec<SizedEvent> {
+
+        @Override
+        public void write(SizedEvent element, DataOutput out) throws IOException {
+            out.writeLong(element.size);
+        }
+
+        @Override
+        public SizedEvent read(DataInput in) throws IOException {
+            return new SizedEvent(in.readLong());
+        }
+    }
+}
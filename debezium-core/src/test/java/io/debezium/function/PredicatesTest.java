@@ -8,6 +8,7 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -89,4 +90,28 @@ public void shouldMatchCommaSeparatedUuidLiterals() {
 
     }
 
+    @Test
+    public void shouldRememberDecisionsOfMemoizedPredicate() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Predicate<String> p = Predicates.memoize(s -> {
+            evaluations.incrementAndGet();
+            return s.startsWith("inventory.");
+        }, 2);
+
+        assertThat(p.test("inventory.orders")).isTrue();
+        assertThat(p.test("inventory.orders")).isTrue();
+        assertThat(p.test("sales.orders")).isFalse();
+        assertThat(p.test("sales.orders")).isFalse();
+        assertThat(evaluations.get()).isEqualTo(2);
+
+        // exceeding the maximum size forgets the least recently used decision only
+        assertThat(p.test("inventory.orders")).isTrue();
+        assertThat(p.test("inventory.customers")).isTrue();
+        assertThat(p.test("inventory.orders")).isTrue();
+        assertThat(evaluations.get()).isEqualTo(3);
+        assertThat(p.test("sales.orders")).isFalse();
+        assertThat(evaluations.get()).isEqualTo(4);
+
+        assertThat(Predicates.memoize(p)).isSameAs(p);
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldReportZeroWhenEmpty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getMax()).isEqualTo(0);
+        assertThat(histogram.getValueAtPercentile(99.0)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldRecordSmallValuesExactly() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getMax()).isEqualTo(100);
+        assertThat(histogram.getMean()).isEqualTo(50.5);
+        assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(50);
+        assertThat(histogram.getValueAtPercentile(99.0)).isEqualTo(99);
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(100);
+    }
+
+    @Test
+    public void shouldBoundRelativeErrorOfLargeValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1_000; value <= 1_000_000; value += 1_000) {
+            histogram.record(value);
+        }
+
+        final long p50 = histogram.getValueAtPercentile(50.0);
+        assertThat(p50).isGreaterThanOrEqualTo(500_000);
+        assertThat(p50).isLessThanOrEqualTo(510_000);
+
+        final long p99 = histogram.getValueAtPercentile(99.0);
+        assertThat(p99).isGreaterThanOrEqualTo(990_000);
+        assertThat(p99).isLessThanOrEqualTo(1_000_000);
+    }
+
+    @Test
+    public void shouldClampOutOfRangeValuesAndReset() {
+        final LatencyHistogram histogram = new LatencyHistogram(7, 20);
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(0);
+        assertThat(histogram.getMax()).isEqualTo((1L << 20) - 1);
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getMax()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DataChangeEventSpillCodec}.
+ */
+public class DataChangeEventSpillCodecTest {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .build();
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("price", Decimal.builder(2).optional().build())
+            .field("created", Timestamp.builder().optional().build())
+            .field("data", Schema.OPTIONAL_BYTES_SCHEMA)
+            .field("buffer", Schema.OPTIONAL_BYTES_SCHEMA)
+            .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+            .field("flag", SchemaBuilder.bool().defaultValue(false).build())
+            .field("nested", SchemaBuilder.struct().field("score", Schema.FLOAT64_SCHEMA).optional().build())
+            .build();
+
+    @Test
+    public void shouldRoundTripDataChangeEvents() throws Exception {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("lsn", 1234L);
+        offset.put("snapshot", true);
+        offset.put("txId", 42);
+        offset.put("file", "binlog.0001");
+        offset.put("gtid", null);
+
+        Struct value = new Struct(VALUE_SCHEMA)
+                .put("id", 1)
+                .put("name", "Hello")
+                .put("price", new BigDecimal("12.34"))
+                .put("created", new java.util.Date(1_600_000_000_000L))
+                .put("data", new byte[]{ 1, 2, 3 })
+                .put("buffer", ByteBuffer.wrap(new byte[]{ 4, 5 }))
+                .put("tags", Arrays.asList("a", "b"))
+                .put("nested", new Struct(VALUE_SCHEMA.field("nested").schema()).put("score", 1.5));
+        Struct key = new Struct(KEY_SCHEMA).put("id", 1);
+
+        SourceRecord record = new SourceRecord(Collections.singletonMap("server", "test"), offset, "test.table", null, KEY_SCHEMA, key, VALUE_SCHEMA,
+                value);
+        SourceRecord tombstone = new SourceRecord(Collections.singletonMap("server", "test"), offset, "test.table", null, KEY_SCHEMA, key, null, null);
+
+        DataChangeEventSpillCodec codec = new DataChangeEventSpillCodec();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        codec.write(new DataChangeEvent(record), out);
+        codec.write(new DataChangeEvent(tombstone), out);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        SourceRecord read = codec.read(in).getRecord();
+        assertThat(read.sourcePartition()).isEqualTo(record.sourcePartition());
+        assertThat(read.sourceOffset()).isEqualTo(offset);
+        assertThat(read.topic()).isEqualTo("test.table");
+        assertThat(read.keySchema()).isSameAs(KEY_SCHEMA);
+        assertThat(read.key()).isEqualTo(key);
+
+        Struct readValue = (Struct) read.value();
+        assertThat(readValue.get("name")).isEqualTo("Hello");
+        assertThat(readValue.get("price")).isEqualTo(new BigDecimal("12.34"));
+        assertThat(readValue.get("created")).isEqualTo(new java.util.Date(1_600_000_000_000L));
+        assertThat(readValue.getBytes("data")).isEqualTo(new byte[]{ 1, 2, 3 });
+        assertThat(readValue.get("buffer")).isEqualTo(ByteBuffer.wrap(new byte[]{ 4, 5 }));
+        assertThat(readValue.getArray("tags")).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(readValue.getWithoutDefault("flag")).isNull();
+        assertThat(readValue.getStruct("nested").getFloat64("score")).isEqualTo(1.5);
+
+        SourceRecord readTombstone = codec.read(in).getRecord();
+        assertThat(readTombstone.key()).isEqualTo(key);
+        assertThat(readTombstone.valueSchema()).isNull();
+        assertThat(readTombstone.value()).isNull();
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.ConcurrentChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionId;
+import io.debezium.schema.DataCollectionSchema;
+import io.debezium.schema.DatabaseSchema;
+import io.debezium.schema.TopicSelector;
+import io.debezium.util.BlockingConsumer;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Unit test for {@link EventDispatcher} processing change events on multiple threads.
+ */
+public class EventDispatcherTest {
+
+    private static final TableId TABLE_ID = new TableId(null, "s", "t");
+    private static final Map<String, ?> PARTITION = Collections.singletonMap("server", "server");
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .field("key", Schema.INT32_SCHEMA)
+            .build();
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .optional()
+            .field("key", Schema.INT32_SCHEMA)
+            .field("tx", Schema.INT32_SCHEMA)
+            .field("seq", Schema.INT32_SCHEMA)
+            .build();
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server.s.t.Envelope")
+            .withRecord(ROW_SCHEMA)
+            .withSource(SchemaBuilder.struct().optional().build())
+            .build();
+
+    private static final int EVENTS = 300;
+    private static final int KEYS = 7;
+    private static final int EVENTS_PER_TRANSACTION = 10;
+
+    /**
+     * The change events, schema changes and heartbeats in the order in which they have been passed to the queue.
+     */
+    private final List<String> emitted = Collections.synchronizedList(new ArrayList<>());
+    private final List<Struct> emittedRows = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Thread> emittingThreads = ConcurrentHashMap.newKeySet();
+    private final Random random = new Random(42);
+
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private EventDispatcher<TableId> dispatcher;
+
+    @Before
+    public void beforeEach() {
+        final Configuration config = Configuration.create()
+                .with(CommonConnectorConfig.EVENT_PROCESSING_THREADS, 4)
+                .build();
+        queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(1000)
+                .maxQueueSize(1000)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+        dispatcher = new EventDispatcher<>(new TestConnectorConfig(config),
+                TopicSelector.defaultSelector("server", "__debezium-heartbeat", ".", (id, prefix, delimiter) -> prefix + delimiter + id),
+                new TestDatabaseSchema(), queue, tableId -> true, this::createDataChangeEvent, unsupported(EventMetadataProvider.class),
+                new TestHeartbeat(), SchemaNameAdjuster.create((original, replacement, conflict) -> {
+                }));
+    }
+
+    @After
+    public void afterEach() {
+        dispatcher.close();
+    }
+
+    @Test
+    public void shouldKeepOrderOfConcurrentlyEmittedEventsPerKeyAndTransaction() throws Exception {
+        for (int seq = 0; seq < EVENTS; seq++) {
+            assertThat(dispatcher.dispatchDataChangeEvent(TABLE_ID, new TestChangeRecordEmitter(seq))).isTrue();
+        }
+        dispatcher.alwaysDispatchHeartbeatEvent(offsetContext(Collections.singletonMap("heartbeat", 0)));
+
+        assertThat(emittingThreads.size()).isGreaterThan(1);
+        assertThat(emittingThreads).excludes(Thread.currentThread());
+
+        final Map<Integer, List<Integer>> sequencesByKey = new LinkedHashMap<>();
+        final Map<Integer, List<Integer>> sequencesByTransaction = new LinkedHashMap<>();
+        for (Struct row : emittedRows) {
+            sequencesByKey.computeIfAbsent(row.getInt32("key"), key -> new ArrayList<>()).add(row.getInt32("seq"));
+            sequencesByTransaction.computeIfAbsent(row.getInt32("tx"), tx -> new ArrayList<>()).add(row.getInt32("seq"));
+        }
+        assertThat(sequencesByKey).hasSize(KEYS);
+        for (List<Integer> sequences : sequencesByKey.values()) {
+            assertAscending(sequences);
+        }
+        assertThat(sequencesByTransaction).hasSize(EVENTS / EVENTS_PER_TRANSACTION);
+        for (List<Integer> sequences : sequencesByTransaction.values()) {
+            assertThat(sequences).hasSize(EVENTS_PER_TRANSACTION);
+            assertAscending(sequences);
+        }
+        // the transactions are emitted one after the other, not interleaved
+        assertThat(new ArrayList<>(sequencesByTransaction.keySet())).isEqualTo(ascending(0, EVENTS / EVENTS_PER_TRANSACTION));
+
+        assertThat(enqueued()).isEqualTo(emitted);
+    }
+
+    @Test
+    public void shouldEmitSchemaChangesAndHeartbeatsOnlyAfterPendingConcurrentlyEmittedEvents() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        for (int seq = 0; seq < EVENTS; seq++) {
+            if (seq == 100) {
+                dispatcher.dispatchSchemaChangeEvent(TABLE_ID, receiver -> {
+                    // nothing dispatched before may still be pending
+                    assertThat(emitted).hasSize(100);
+                    emitted.add("schema-change");
+                });
+                expected.add("schema-change");
+            }
+            else if (seq == 200) {
+                dispatcher.alwaysDispatchHeartbeatEvent(offsetContext(Collections.singletonMap("heartbeat", 1)));
+                expected.add("heartbeat-1");
+            }
+            else if (seq == 250) {
+                dispatcher.dispatchHeartbeatEvent(offsetContext(Collections.singletonMap("heartbeat", 2)));
+                expected.add("heartbeat-2");
+            }
+            dispatcher.dispatchDataChangeEvent(TABLE_ID, new TestChangeRecordEmitter(seq));
+            expected.add("event-" + seq);
+        }
+        dispatcher.alwaysDispatchHeartbeatEvent(offsetContext(Collections.singletonMap("heartbeat", 3)));
+        expected.add("heartbeat-3");
+
+        assertThat(emitted).isEqualTo(expected);
+        expected.remove("schema-change");
+        assertThat(enqueued()).isEqualTo(expected);
+    }
+
+    private DataChangeEvent createDataChangeEvent(SourceRecord record) {
+        final Struct row = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+        emittedRows.add(row);
+        emitted.add("event-" + row.getInt32("seq"));
+        return new DataChangeEvent(record);
+    }
+
+    private List<String> enqueued() throws InterruptedException {
+        final List<String> enqueued = new ArrayList<>();
+        for (DataChangeEvent event : queue.poll()) {
+            final SourceRecord record = event.getRecord();
+            if (record.sourceOffset().containsKey("heartbeat")) {
+                enqueued.add("heartbeat-" + record.sourceOffset().get("heartbeat"));
+            }
+            else {
+                enqueued.add("event-" + ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER).getInt32("seq"));
+            }
+        }
+        return enqueued;
+    }
+
+    private static void assertAscending(List<Integer> sequences) {
+        final List<Integer> sorted = new ArrayList<>(sequences);
+        Collections.sort(sorted);
+        assertThat(sequences).isEqualTo(sorted);
+    }
+
+    private static List<Integer> ascending(int from, int to) {
+        final List<Integer> values = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    private static OffsetContext offsetContext(Map<String, ?> offset) {
+        return (OffsetContext) Proxy.newProxyInstance(OffsetContext.class.getClassLoader(),
+                new Class<?>[]{ OffsetContext.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getPartition":
+                            return PARTITION;
+                        case "getOffset":
+                            return offset;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static <T> T unsupported(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{ type }, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    /**
+     * Emits an insert of the row with the given sequence number after a random delay, so that the events are completed
+     * by the event processing threads out of order.
+     */
+    private class TestChangeRecordEmitter implements ConcurrentChangeRecordEmitter {
+
+        private final int seq;
+        private final int delay;
+        private final OffsetContext offset;
+
+        TestChangeRecordEmitter(int seq) {
+            this.seq = seq;
+            this.delay = random.nextInt(3);
+            this.offset = offsetContext(Collections.singletonMap("seq", seq));
+        }
+
+        @Override
+        public DataCollectionSchema prepareForConcurrentEmission(DataCollectionSchema schema) {
+            return schema;
+        }
+
+        @Override
+        public void emitChangeRecords(DataCollectionSchema schema, Receiver receiver) throws InterruptedException {
+            Thread.sleep(delay);
+            emittingThreads.add(Thread.currentThread());
+
+            final Struct key = new Struct(KEY_SCHEMA).put("key", seq % KEYS);
+            final Struct row = new Struct(ROW_SCHEMA)
+                    .put("key", seq % KEYS)
+                    .put("tx", seq / EVENTS_PER_TRANSACTION)
+                    .put("seq", seq);
+            receiver.changeRecord(schema, Operation.CREATE, key, ENVELOPE.create(row, null, null), offset, null);
+        }
+
+        @Override
+        public OffsetContext getOffset() {
+            return offset;
+        }
+    }
+
+    /**
+     * Emits a heartbeat for each offset with a {@code heartbeat} entry.
+     */
+    private class TestHeartbeat implements Heartbeat {
+
+        @Override
+        public void heartbeat(Map<String, ?> partition, Map<String, ?> offset, BlockingConsumer<SourceRecord> consumer) throws InterruptedException {
+            if (offset.containsKey("heartbeat")) {
+                forcedBeat(partition, offset, consumer);
+            }
+        }
+
+        @Override
+        public void heartbeat(Map<String, ?> partition, OffsetProducer offsetProducer, BlockingConsumer<SourceRecord> consumer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forcedBeat(Map<String, ?> partition, Map<String, ?> offset, BlockingConsumer<SourceRecord> consumer) throws InterruptedException {
+            emitted.add("heartbeat-" + offset.get("heartbeat"));
+            consumer.accept(new SourceRecord(partition, offset, "__debezium-heartbeat.server", null, null));
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+
+    private static class TestDatabaseSchema implements DatabaseSchema<TableId> {
+
+        private final DataCollectionSchema schema = new DataCollectionSchema() {
+
+            @Override
+            public DataCollectionId id() {
+                return TABLE_ID;
+            }
+
+            @Override
+            public Schema keySchema() {
+                return KEY_SCHEMA;
+            }
+
+            @Override
+            public Envelope getEnvelopeSchema() {
+                return ENVELOPE;
+            }
+        };
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public DataCollectionSchema schemaFor(TableId id) {
+            return schema;
+        }
+
+        @Override
+        public boolean tableInformationComplete() {
+            return true;
+        }
+    }
+
+    private static class TestConnectorConfig extends CommonConnectorConfig {
+
+        TestConnectorConfig(Configuration config) {
+            super(config, "server", 0);
+        }
+
+        @Override
+        public String getContextName() {
+            return "test";
+        }
+
+        @Override
+        public String getConnectorName() {
+            return "test";
+        }
+
+        @Override
+        protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+            return new SourceInfoStructMaker<AbstractSourceInfo>() {
+
+                @Override
+                public Schema schema() {
+                    return SchemaBuilder.struct().build();
+                }
+
+                @Override
+                public Struct struct(AbstractSourceInfo sourceInfo) {
+                    return null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OrderedTaskExecutor}.
+ */
+public class OrderedTaskExecutorTest {
+
+    private OrderedTaskExecutor executor;
+
+    @Before
+    public void beforeEach() {
+        executor = new OrderedTaskExecutor(Executors.newFixedThreadPool(4), 8);
+    }
+
+    @After
+    public void afterEach() {
+        executor.close();
+    }
+
+    @Test
+    public void shouldDeliverResultsInSubmissionOrder() throws Exception {
+        final List<Integer> delivered = new CopyOnWriteArrayList<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 200; i++) {
+            final int value = i;
+            final int delay = random.nextInt(3);
+            executor.<Integer> submit(() -> {
+                Thread.sleep(delay);
+                return value;
+            }, delivered::add);
+        }
+        executor.awaitCompletion();
+
+        assertThat(delivered).hasSize(200);
+        for (int i = 0; i < 200; i++) {
+            assertThat(delivered.get(i)).isEqualTo(i);
+        }
+        assertThat(executor.isIdle()).isTrue();
+    }
+
+    @Test
+    public void shouldDeliverWithoutTaskAfterPendingResults() throws Exception {
+        final List<Integer> delivered = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        executor.<Integer> submit(() -> {
+            release.await();
+            return 1;
+        }, delivered::add);
+        executor.<Integer> submit(null, ignored -> delivered.add(2));
+
+        assertThat(executor.isIdle()).isFalse();
+        assertThat(delivered).isEmpty();
+
+        release.countDown();
+        executor.awaitCompletion();
+
+        assertThat(delivered).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldBlockSubmitterWhenCapacityIsExhausted() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 8; i++) {
+            executor.<Integer> submit(() -> {
+                release.await();
+                return 0;
+            }, result -> {
+            });
+        }
+
+        final CountDownLatch submitted = new CountDownLatch(1);
+        final Thread submitter = new Thread(() -> {
+            try {
+                executor.<Integer> submit(() -> 0, result -> {
+                });
+                submitted.countDown();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submitter.start();
+
+        assertThat(submitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.awaitCompletion();
+    }
+
+    @Test
+    public void shouldRethrowTaskFailureAndStopDelivering() throws Exception {
+        final List<Integer> delivered = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        executor.<Integer> submit(() -> 1, delivered::add);
+        executor.<Integer> submit(() -> {
+            release.await();
+            throw new IllegalStateException("boom");
+        }, delivered::add);
+        executor.<Integer> submit(() -> 3, delivered::add);
+        release.countDown();
+
+        try {
+            executor.awaitCompletion();
+            throw new AssertionError("Failure should have been rethrown");
+        }
+        catch (ConnectException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(delivered).containsExactly(1);
+
+        try {
+            executor.<Integer> submit(() -> 4, delivered::add);
+            throw new AssertionError("Failure should have been rethrown");
+        }
+        catch (ConnectException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
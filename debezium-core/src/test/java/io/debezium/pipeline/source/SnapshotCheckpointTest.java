@@ -0,0 +1,93 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.debezium.relational.TableId;
+import io.debezium.util.CompactMap;
+
+public class SnapshotCheckpointTest {
+
+    private static final TableId A = new TableId("db", null, "a");
+    private static final TableId B = new TableId("db", null, "b");
+    private static final TableId C = new TableId("db", null, "c");
+
+    @Test
+    public void shouldStoreKeyOfPrecedingRow() {
+        final SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+        checkpoint.tableStarted(A);
+        checkpoint.rowStarted(1L);
+        assertThat(checkpoint.getLastKey()).isNull();
+
+        checkpoint.rowStarted(2L);
+        assertThat(checkpoint.getLastKey()).isEqualTo(1L);
+
+        checkpoint.tableStarted(B);
+        checkpoint.rowStarted(7L);
+        assertThat(checkpoint.getCompletedTable()).isEqualTo(A.identifier());
+        assertThat(checkpoint.getTable()).isEqualTo(B.identifier());
+        assertThat(checkpoint.getLastKey()).isNull();
+    }
+
+    @Test
+    public void shouldRoundTripThroughOffset() {
+        final SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+        checkpoint.tableStarted(A);
+        checkpoint.tableStarted(B);
+        checkpoint.rowStarted(41L);
+        checkpoint.rowStarted(42L);
+
+        final Map<String, Object> offset = checkpoint.store(CompactMap.builder()).build();
+        final SnapshotCheckpoint loaded = SnapshotCheckpoint.load(offset);
+
+        assertThat(loaded.getCompletedTable()).isEqualTo(A.identifier());
+        assertThat(loaded.getTable()).isEqualTo(B.identifier());
+        assertThat(loaded.getLastKey()).isEqualTo(41L);
+        assertThat(loaded.resumeKeyFor(B)).isEqualTo(41L);
+        assertThat(loaded.resumeKeyFor(C)).isNull();
+        assertThat(SnapshotCheckpoint.load(new HashMap<>()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldDetermineRemainingTables() {
+        final SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+        checkpoint.tableStarted(A);
+        checkpoint.tableStarted(B);
+
+        final List<TableId> remaining = checkpoint.remainingTables(Arrays.asList(A, B, C));
+        assertThat(remaining).containsExactly(B, C);
+
+        // the table being read isn't the next one anymore
+        assertThat(checkpoint.remainingTables(Arrays.asList(A, C, B))).isNull();
+
+        // the last completed table isn't captured anymore
+        assertThat(checkpoint.remainingTables(Arrays.asList(B, C))).isNull();
+    }
+
+    @Test
+    public void shouldNotCompleteResumedTable() {
+        final Map<String, Object> offset = new HashMap<>();
+        offset.put(SnapshotCheckpoint.TABLE_KEY, A.identifier());
+        offset.put(SnapshotCheckpoint.LAST_KEY_KEY, 10);
+        final SnapshotCheckpoint checkpoint = SnapshotCheckpoint.load(offset);
+
+        checkpoint.tableResumed(A, checkpoint.resumeKeyFor(A));
+        checkpoint.rowStarted(11L);
+        assertThat(checkpoint.getCompletedTable()).isNull();
+        assertThat(checkpoint.getLastKey()).isEqualTo(10L);
+
+        checkpoint.tableStarted(B);
+        assertThat(checkpoint.getCompletedTable()).isEqualTo(A.identifier());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.debezium.util.CompactMap;
+
+public class IncrementalSnapshotContextTest {
+
+    @Test
+    public void shouldNotStoreAnythingWhenNotRunning() {
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+
+        assertThat(context.snapshotRunning()).isFalse();
+        assertThat(context.store(CompactMap.builder()).build()).isEmpty();
+    }
+
+    @Test
+    public void shouldRoundTripThroughOffset() {
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        context.addDataCollectionNamesToSnapshot(Arrays.asList("public.a", "public.b", "public.a"));
+        context.maximumKey(new Object[]{ 100L, "z" });
+        context.startNewChunk();
+        context.chunkEndPosition(new Object[]{ 42, (short) 7 });
+
+        // the position only moves once the chunk has been emitted
+        Map<String, Object> offset = context.store(CompactMap.builder()).build();
+        assertThat(offset.containsKey(IncrementalSnapshotContext.EVENT_PRIMARY_KEY)).isFalse();
+
+        context.nextChunkPosition();
+        offset = context.store(CompactMap.builder()).build();
+
+        final IncrementalSnapshotContext loaded = IncrementalSnapshotContext.load(offset);
+        assertThat(loaded.snapshotRunning()).isTrue();
+        assertThat(loaded.currentDataCollectionId()).isEqualTo("public.a");
+        assertThat(loaded.lastEventKeySent()).isEqualTo(new Object[]{ 42, 7 });
+        assertThat(loaded.maximumKey()).isEqualTo(new Object[]{ 100, "z" });
+
+        assertThat(loaded.nextDataCollection()).isEqualTo("public.b");
+        assertThat(loaded.lastEventKeySent()).isNull();
+        assertThat(loaded.maximumKey()).isNull();
+        assertThat(loaded.nextDataCollection()).isNull();
+        assertThat(loaded.snapshotRunning()).isFalse();
+    }
+
+    @Test
+    public void shouldDeduplicateOnlyWhileWindowIsOpen() {
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        context.startNewChunk();
+        assertThat(context.deduplicationNeeded()).isFalse();
+
+        context.openWindow();
+        assertThat(context.deduplicationNeeded()).isTrue();
+
+        context.closeWindow();
+        assertThat(context.deduplicationNeeded()).isFalse();
+    }
+}
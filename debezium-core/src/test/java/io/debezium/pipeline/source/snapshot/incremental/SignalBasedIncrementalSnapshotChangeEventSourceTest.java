@@ -0,0 +1,325 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.CustomConverterRegistry;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.relational.Tables.ColumnNameFilterFactory;
+import io.debezium.relational.Tables.TableFilter;
+import io.debezium.schema.TopicSelector;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.SchemaNameAdjuster;
+
+public class SignalBasedIncrementalSnapshotChangeEventSourceTest {
+
+    private static final TableId TABLE_ID = new TableId(null, "s", "t");
+    private static final TableId OTHER_TABLE_ID = new TableId(null, "s", "other");
+    private static final TopicSelector<TableId> TOPIC_SELECTOR = TopicSelector.defaultSelector("server", "__debezium-heartbeat", ".",
+            (id, prefix, delimiter) -> prefix + delimiter + id);
+
+    @Test
+    public void shouldReadChunkWhenColumnInTheMiddleIsExcluded() throws Exception {
+        final Configuration config = Configuration.create()
+                .with(CommonConnectorConfig.SIGNAL_DATA_COLLECTION, "s.signal")
+                .build();
+        final TestRelationalDatabaseConfig connectorConfig = new TestRelationalDatabaseConfig(config);
+        final TestDatabaseSchema schema = new TestDatabaseSchema(connectorConfig, "s.t.excluded");
+        schema.add(Table.editor()
+                .tableId(TABLE_ID)
+                .addColumns(
+                        Column.editor().name("id").type("INTEGER").jdbcType(Types.INTEGER).position(1).optional(false).create(),
+                        Column.editor().name("excluded").type("VARCHAR").jdbcType(Types.VARCHAR).position(2).create(),
+                        Column.editor().name("value").type("VARCHAR").jdbcType(Types.VARCHAR).position(3).create())
+                .setPrimaryKeyNames("id")
+                .create());
+        assertThat(schema.snapshotColumnsFor(schema.tableFor(TABLE_ID))).hasSize(2);
+
+        final List<String> queries = new ArrayList<>();
+        final JdbcConnection connection = connection(queries, new Object[]{ 2 }, rows(new Object[]{ 1, "a" }, new Object[]{ 2, "b" }));
+
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        final OffsetContext offsetContext = offsetContext(context);
+
+        final SignalBasedIncrementalSnapshotChangeEventSource source = new SignalBasedIncrementalSnapshotChangeEventSource(
+                connectorConfig, connection, null, schema, Clock.system());
+        source.addDataCollectionNamesToSnapshot(Collections.singletonList("s.t"), offsetContext);
+
+        assertThat(queries.get(1)).isEqualTo("SELECT \"id\", \"value\" FROM \"s\".\"t\" WHERE NOT ((\"id\" > ?)) ORDER BY \"id\" LIMIT 1024");
+        assertThat(context.maximumKey()).isEqualTo(new Object[]{ 2 });
+        assertThat(context.chunkEndPosition()).isEqualTo(new Object[]{ 2 });
+    }
+
+    @Test
+    public void shouldRemoveStreamedKeysFromChunkOnlyWhileWindowIsOpen() throws Exception {
+        final TestRelationalDatabaseConfig connectorConfig = new TestRelationalDatabaseConfig(config());
+        final TestDatabaseSchema schema = schema(connectorConfig);
+        final ChangeEventQueue<DataChangeEvent> queue = queue();
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        final OffsetContext offsetContext = offsetContext(context);
+
+        final SignalBasedIncrementalSnapshotChangeEventSource source = new SignalBasedIncrementalSnapshotChangeEventSource(
+                connectorConfig, connection(new ArrayList<>(), new Object[]{ 4 },
+                        rows(new Object[]{ 1, "a" }, new Object[]{ 2, "b" }, new Object[]{ 3, "c" }, new Object[]{ 4, "d" })),
+                dispatcher(connectorConfig, schema, queue), schema, Clock.system());
+        source.addDataCollectionNamesToSnapshot(Collections.singletonList("s.t"), offsetContext);
+
+        // streamed before the low watermark, so the chunk may have been read after the change
+        source.processMessage(TABLE_ID, key(schema, 1));
+        source.windowOpened(context.currentChunkId() + "-open");
+        source.processMessage(TABLE_ID, key(schema, 2));
+        source.processMessage(OTHER_TABLE_ID, key(schema, 3));
+        source.processMessage(TABLE_ID, key(schema, 4));
+        assertThat(queue.poll()).isEmpty();
+
+        source.windowClosed(context.currentChunkId() + "-close", offsetContext);
+        assertThat(emittedKeys(queue)).containsExactly(1, 3);
+    }
+
+    @Test
+    public void shouldEmitBufferedRowsAtHighWatermark() throws Exception {
+        final TestRelationalDatabaseConfig connectorConfig = new TestRelationalDatabaseConfig(config());
+        final TestDatabaseSchema schema = schema(connectorConfig);
+        final ChangeEventQueue<DataChangeEvent> queue = queue();
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        final OffsetContext offsetContext = offsetContext(context);
+
+        final SignalBasedIncrementalSnapshotChangeEventSource source = new SignalBasedIncrementalSnapshotChangeEventSource(
+                connectorConfig, connection(new ArrayList<>(), new Object[]{ 4 },
+                        rows(new Object[]{ 1, "a" }, new Object[]{ 2, "b" }),
+                        rows(new Object[]{ 3, "c" }, new Object[]{ 4, "d" })),
+                dispatcher(connectorConfig, schema, queue), schema, Clock.system());
+        source.addDataCollectionNamesToSnapshot(Collections.singletonList("s.t"), offsetContext);
+
+        final String firstChunkId = context.currentChunkId();
+        source.windowOpened(firstChunkId + "-open");
+        // watermarks of other chunks don't close the window
+        source.windowClosed("unknown-close", offsetContext);
+        assertThat(queue.poll()).isEmpty();
+
+        source.windowClosed(firstChunkId + "-close", offsetContext);
+        assertThat(emittedKeys(queue)).containsExactly(1, 2);
+        assertThat(context.lastEventKeySent()).isEqualTo(new Object[]{ 2 });
+        assertThat(context.currentChunkId()).isNotEqualTo(firstChunkId);
+
+        // streamed after the high watermark of the previous chunk, but before the low watermark of the next one
+        source.processMessage(TABLE_ID, key(schema, 3));
+        source.windowOpened(context.currentChunkId() + "-open");
+        source.windowClosed(context.currentChunkId() + "-close", offsetContext);
+        assertThat(emittedKeys(queue)).containsExactly(3, 4);
+        assertThat(context.snapshotRunning()).isFalse();
+    }
+
+    private static Configuration config() {
+        return Configuration.create()
+                .with(CommonConnectorConfig.SIGNAL_DATA_COLLECTION, "s.signal")
+                .build();
+    }
+
+    private static TestDatabaseSchema schema(RelationalDatabaseConnectorConfig connectorConfig) {
+        final TestDatabaseSchema schema = new TestDatabaseSchema(connectorConfig, null);
+        schema.add(Table.editor()
+                .tableId(TABLE_ID)
+                .addColumns(
+                        Column.editor().name("id").type("INTEGER").jdbcType(Types.INTEGER).position(1).optional(false).create(),
+                        Column.editor().name("value").type("VARCHAR").jdbcType(Types.VARCHAR).position(2).create())
+                .setPrimaryKeyNames("id")
+                .create());
+        return schema;
+    }
+
+    private static Struct key(TestDatabaseSchema schema, int id) {
+        return schema.schemaFor(TABLE_ID).keyFromColumnData(new Object[]{ id, null });
+    }
+
+    private static ChangeEventQueue<DataChangeEvent> queue() {
+        return new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(10)
+                .maxQueueSize(100)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    private static List<Integer> emittedKeys(ChangeEventQueue<DataChangeEvent> queue) throws InterruptedException {
+        return queue.poll().stream()
+                .map(event -> ((Struct) event.getRecord().key()).getInt32("id"))
+                .collect(Collectors.toList());
+    }
+
+    private static EventDispatcher<TableId> dispatcher(RelationalDatabaseConnectorConfig connectorConfig, TestDatabaseSchema schema,
+                                                       ChangeEventQueue<DataChangeEvent> queue) {
+        final EventMetadataProvider metadataProvider = (EventMetadataProvider) Proxy.newProxyInstance(EventMetadataProvider.class.getClassLoader(),
+                new Class<?>[]{ EventMetadataProvider.class }, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new EventDispatcher<>(connectorConfig, TOPIC_SELECTOR, schema, queue, tableId -> true, DataChangeEvent::new,
+                metadataProvider, SchemaNameAdjuster.create((original, replacement, conflict) -> {
+                }));
+    }
+
+    private static OffsetContext offsetContext(IncrementalSnapshotContext context) {
+        return (OffsetContext) Proxy.newProxyInstance(OffsetContext.class.getClassLoader(),
+                new Class<?>[]{ OffsetContext.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getIncrementalSnapshotContext":
+                            return context;
+                        case "getPartition":
+                        case "getOffset":
+                            return Collections.emptyMap();
+                        case "getSourceInfo":
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Returns a connection reading the given maximum key and the given chunks, one per chunk query; once all chunks
+     * have been read, no further rows are returned.
+     */
+    @SafeVarargs
+    private static JdbcConnection connection(List<String> queries, Object[] maximumKey, List<Object[]>... chunks) {
+        final Deque<List<Object[]>> remainingChunks = new ArrayDeque<>(Arrays.asList(chunks));
+        return new JdbcConnection(Configuration.empty(), c -> null) {
+
+            @Override
+            public <T> T queryAndMap(String query, ResultSetMapper<T> mapper) throws SQLException {
+                queries.add(query);
+                return mapper.apply(resultSet(Collections.singletonList(maximumKey)));
+            }
+
+            @Override
+            public JdbcConnection prepareQuery(String query, List<?> parameters, ParameterResultSetConsumer consumer) throws SQLException {
+                queries.add(query);
+                final List<Object[]> chunk = remainingChunks.poll();
+                consumer.accept(parameters, resultSet(chunk != null ? chunk : Collections.emptyList()));
+                return this;
+            }
+
+            @Override
+            public JdbcConnection prepareUpdate(String statement, StatementPreparer preparer) {
+                return this;
+            }
+
+            @Override
+            public JdbcConnection commit() {
+                return this;
+            }
+        };
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    private static ResultSet resultSet(List<Object[]> rows) {
+        final AtomicInteger current = new AtomicInteger(-1);
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ ResultSet.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return current.incrementAndGet() < rows.size();
+                        case "getObject":
+                            return rows.get(current.get())[(Integer) args[0] - 1];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static class TestRelationalDatabaseConfig extends RelationalDatabaseConnectorConfig {
+
+        TestRelationalDatabaseConfig(Configuration config) {
+            super(config, "server", null, null, 0);
+        }
+
+        @Override
+        public String getContextName() {
+            return null;
+        }
+
+        @Override
+        public String getConnectorName() {
+            return null;
+        }
+
+        @Override
+        protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+            return new SourceInfoStructMaker<AbstractSourceInfo>() {
+
+                @Override
+                public Schema schema() {
+                    return SchemaBuilder.struct().build();
+                }
+
+                @Override
+                public Struct struct(AbstractSourceInfo sourceInfo) {
+                    return null;
+                }
+            };
+        }
+    }
+
+    private static class TestDatabaseSchema extends RelationalDatabaseSchema {
+
+        TestDatabaseSchema(RelationalDatabaseConnectorConfig config, String columnExcludeList) {
+            super(config, TOPIC_SELECTOR,
+                    TableFilter.includeAll(), ColumnNameFilterFactory.createExcludeListFilter(columnExcludeList),
+                    new TableSchemaBuilder(new JdbcValueConverters(), SchemaNameAdjuster.create((original, replacement, conflict) -> {
+                    }), new CustomConverterRegistry(null), SchemaBuilder.struct().build(), false),
+                    false, null);
+        }
+
+        void add(Table table) {
+            tables().overwriteTable(table);
+            buildAndRegisterSchema(table);
+        }
+
+        @Override
+        public boolean tableInformationComplete() {
+            return true;
+        }
+    }
+}
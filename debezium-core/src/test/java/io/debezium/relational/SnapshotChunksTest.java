@@ -0,0 +1,32 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class SnapshotChunksTest {
+
+    @Test
+    public void shouldSplitKeyRangeIntoChunksOfEqualSize() {
+        assertThat(SnapshotChunks.chunkBoundaries(1, 100, 4)).isEqualTo(new long[]{ 26, 51, 76 });
+        assertThat(SnapshotChunks.chunkBoundaries(-10, 9, 2)).isEqualTo(new long[]{ 0 });
+    }
+
+    @Test
+    public void shouldNotSplitSmallKeyRanges() {
+        assertThat(SnapshotChunks.chunkBoundaries(1, 1, 10)).isEmpty();
+        assertThat(SnapshotChunks.chunkBoundaries(1, 100, 1)).isEmpty();
+        assertThat(SnapshotChunks.chunkBoundaries(1, 3, 10)).isEqualTo(new long[]{ 2, 3 });
+    }
+
+    @Test
+    public void shouldSplitEntireRangeOfLong() {
+        final long[] boundaries = SnapshotChunks.chunkBoundaries(Long.MIN_VALUE, Long.MAX_VALUE, 4);
+        assertThat(boundaries).isEqualTo(new long[]{ Long.MIN_VALUE / 2, 0, Long.MAX_VALUE / 2 + 1 });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class CompactMapTest {
+
+    @Test
+    public void shouldBehaveLikeHashMap() {
+        final CompactMap<Object> map = CompactMap.builder()
+                .put("file", "mysql-bin.000003")
+                .put("pos", 154L)
+                .put("gtids", null)
+                .build();
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("file", "mysql-bin.000003");
+        expected.put("pos", 154L);
+        expected.put("gtids", null);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get("pos")).isEqualTo(154L);
+        assertThat(map.containsKey("gtids")).isTrue();
+        assertThat(map.containsKey("row")).isFalse();
+        assertThat(map).isEqualTo(expected);
+        assertThat(expected).isEqualTo(map);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void shouldShareEntriesOfBaseMap() {
+        final CompactMap<Object> base = CompactMap.builder().put("file", "mysql-bin.000003").put("pos", 154L).build();
+        final CompactMap<Object> row1 = base.with("row", 1L);
+        final CompactMap<Object> row2 = base.with("row", 2L);
+
+        assertThat(row1.size()).isEqualTo(3);
+        assertThat(row1.get("row")).isEqualTo(1L);
+        assertThat(row2.get("row")).isEqualTo(2L);
+        assertThat(row2.get("pos")).isEqualTo(154L);
+        assertThat(base.containsKey("row")).isFalse();
+
+        final List<String> keys = new ArrayList<>(row1.keySet());
+        assertThat(keys).containsExactly("file", "pos", "row");
+
+        final CompactMap<Object> replaced = row1.with("row", 5L);
+        assertThat(replaced.size()).isEqualTo(3);
+        assertThat(replaced.get("row")).isEqualTo(5L);
+    }
+
+    @Test
+    public void shouldReuseBuilder() {
+        final CompactMap.Builder<Object> builder = CompactMap.builder();
+        final CompactMap<Object> first = builder.put("lsn", 1L).put("txId", 10L).build();
+        final CompactMap<Object> second = builder.put("lsn", 2L).put("txId", 11L).build();
+        final CompactMap<Object> third = builder.put("lsn", 3L).build();
+
+        assertThat(first.get("lsn")).isEqualTo(1L);
+        assertThat(second.get("lsn")).isEqualTo(2L);
+        assertThat(third.size()).isEqualTo(1);
+        assertThat(third.containsKey("txId")).isFalse();
+        assertThat(builder.build()).isEqualTo(CompactMap.empty());
+    }
+
+    @Test
+    public void shouldBuildMapBasedOnTemplate() {
+        final CompactMap<Object> first = CompactMap.builder().put("lsn", 1L).put("txId", 10L).build();
+        final CompactMap<Object> second = CompactMap.builder(first).put("lsn", 2L).put("txId", 11L).build();
+        final CompactMap<Object> third = CompactMap.builder(first).put("txId", 12L).put("lsn", 3L).build();
+        final CompactMap<Object> fourth = CompactMap.builder(first.with("row", 1L)).put("lsn", 4L).build();
+
+        assertThat(second.get("lsn")).isEqualTo(2L);
+        assertThat(second.get("txId")).isEqualTo(11L);
+        assertThat(new ArrayList<>(third.keySet())).containsExactly("txId", "lsn");
+        assertThat(fourth).isEqualTo(CompactMap.of("lsn", 4L));
+        assertThat(CompactMap.builder(null).put("lsn", 5L).build()).isEqualTo(CompactMap.of("lsn", 5L));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldBeImmutable() {
+        CompactMap.<Object> of("server", "dbserver1").put("other", "value");
+    }
+}
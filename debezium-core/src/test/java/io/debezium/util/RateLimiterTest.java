@@ -0,0 +1,78 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class RateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void shouldNotThrottleWithoutLimits() throws Exception {
+        final RateLimiter limiter = new RateLimiter(new MockClock(), 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.reserve(1, 1000)).isEqualTo(0);
+        }
+        limiter.acquire(1, 1000);
+        assertThat(limiter.getThrottledTimeInMillis()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldThrottleRows() {
+        final MockClock clock = new MockClock(1000);
+        final RateLimiter limiter = new RateLimiter(clock, 10, 0);
+        assertThat(limiter.reserve(1, 1000)).isEqualTo(100 * MILLIS);
+        assertThat(limiter.reserve(1, 1000)).isEqualTo(200 * MILLIS);
+        assertThat(limiter.getThrottledTimeInMillis()).isEqualTo(300);
+
+        // the borrowed tokens are refilled, but no more than one second worth of tokens is kept
+        clock.increment(1_000);
+        assertThat(limiter.reserve(8, 0)).isEqualTo(0);
+        clock.increment(10_000);
+        assertThat(limiter.reserve(10, 0)).isEqualTo(0);
+        assertThat(limiter.reserve(1, 0)).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    public void shouldThrottleByTheMoreRestrictiveLimit() {
+        final MockClock clock = new MockClock(1000);
+        final RateLimiter limiter = new RateLimiter(clock, 10, 1000);
+        assertThat(limiter.reserve(1, 500)).isEqualTo(500 * MILLIS);
+        clock.increment(500);
+        assertThat(limiter.reserve(1, 0)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldApplyChangedLimits() {
+        final MockClock clock = new MockClock(1000);
+        final RateLimiter limiter = new RateLimiter(clock, 10, 0);
+        limiter.setMaxRowsPerSecond(0);
+        assertThat(limiter.reserve(100, 0)).isEqualTo(0);
+
+        limiter.setMaxRowsPerSecond(100);
+        assertThat(limiter.getMaxRowsPerSecond()).isEqualTo(100);
+        assertThat(limiter.reserve(10, 0)).isEqualTo(100 * MILLIS);
+
+        limiter.setMaxBytesPerSecond(10);
+        limiter.setMaxRowsPerSecond(0);
+        assertThat(limiter.reserve(10, 1)).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    public void shouldEstimateSizeOfValues() {
+        assertThat(RateLimiter.sizeOf(null)).isEqualTo(0);
+        assertThat(RateLimiter.sizeOf(new Object[]{ 1, "abc", "de".getBytes(StandardCharsets.UTF_8), null })).isEqualTo(13);
+        assertThat(RateLimiter.sizeOf(Collections.singletonMap("key", Arrays.asList("a", 2L)))).isEqualTo(12);
+    }
+}
@@ -0,0 +1,550 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.source.SourceTaskContext;
+import org.apache.kafka.connect.storage.OffsetStorageReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.config.Field;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.AbstractSourceInfoStructMaker;
+import io.debezium.connector.SnapshotRecord;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.common.BaseSourceTask;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.pipeline.ChangeEventSourceCoordinator;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalChangeRecordEmitter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.schema.DataCollectionId;
+import io.debezium.schema.DataCollectionSchema;
+import io.debezium.schema.DatabaseSchema;
+import io.debezium.schema.TopicSelector;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Measures the in-memory part of the change data capture pipeline, without any database: synthetic row changes are
+ * dispatched through {@link EventDispatcher}, converted by {@link TableSchema}, buffered in {@link ChangeEventQueue} and
+ * handed over to Kafka Connect by {@link BaseSourceTask#poll()}.
+ */
+public class PipelinePerf {
+
+    private static final String LOGICAL_NAME = "perf";
+    private static final TableId TABLE_ID = new TableId("perf", null, "t");
+    private static final int DISTINCT_ROWS = 1024;
+
+    @State(Scope.Thread)
+    public static class RowState {
+
+        @Param({ "10", "100" })
+        public int columnCount;
+
+        @Param({ "INT", "VARCHAR", "DECIMAL", "TIMESTAMP", "MIXED" })
+        public String columnType;
+
+        @Param({ "1", "256", "2048" })
+        public int batchSize;
+
+        public TableSchema tableSchema;
+        public Object[][] rows;
+        public int nextRow;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final PerfConnectorConfig connectorConfig = new PerfConnectorConfig(Configuration.empty());
+            final Table table = createTable();
+            tableSchema = new TableSchemaBuilder(new JdbcValueConverters(), SchemaNameAdjuster.defaultAdjuster(), connectorConfig.customConverterRegistry(),
+                    connectorConfig.getSourceInfoStructMaker().schema(), false)
+                            .create(LOGICAL_NAME, LOGICAL_NAME + ".perf.t.Envelope", table, null, null, null);
+            rows = createRows(table);
+            doSetupPipeline();
+        }
+
+        protected void doSetupPipeline() {
+        }
+
+        public Object[] nextRow() {
+            final Object[] row = rows[nextRow];
+            nextRow = (nextRow + 1) % rows.length;
+            return row;
+        }
+
+        private Table createTable() {
+            final List<Column> columns = new ArrayList<>(columnCount);
+            // the first column always serves as integer primary key
+            columns.add(Column.editor().name("c0").jdbcType(Types.INTEGER).type("INT").position(1).create());
+            for (int i = 1; i < columnCount; i++) {
+                columns.add(createColumn(i, columnTypeAt(i)));
+            }
+            return Table.editor()
+                    .tableId(TABLE_ID)
+                    .addColumns(columns)
+                    .setPrimaryKeyNames("c0")
+                    .create();
+        }
+
+        private int columnTypeAt(int position) {
+            switch (columnType) {
+                case "INT":
+                    return Types.INTEGER;
+                case "VARCHAR":
+                    return Types.VARCHAR;
+                case "DECIMAL":
+                    return Types.DECIMAL;
+                case "TIMESTAMP":
+                    return Types.TIMESTAMP;
+                case "MIXED":
+                    final int[] types = { Types.INTEGER, Types.BIGINT, Types.VARCHAR, Types.DECIMAL, Types.TIMESTAMP };
+                    return types[position % types.length];
+                default:
+                    throw new IllegalArgumentException("Unsupported column type " + columnType);
+            }
+        }
+
+        private Column createColumn(int position, int jdbcType) {
+            final String name = "c" + position;
+            switch (jdbcType) {
+                case Types.INTEGER:
+                    return Column.editor().name(name).jdbcType(jdbcType).type("INT").position(position + 1).optional(true).create();
+                case Types.BIGINT:
+                    return Column.editor().name(name).jdbcType(jdbcType).type("BIGINT").position(position + 1).optional(true).create();
+                case Types.VARCHAR:
+                    return Column.editor().name(name).jdbcType(jdbcType).type("VARCHAR").length(255).position(position + 1).optional(true).create();
+                case Types.DECIMAL:
+                    return Column.editor().name(name).jdbcType(jdbcType).type("DECIMAL").length(12).scale(2).position(position + 1).optional(true)
+                            .create();
+                case Types.TIMESTAMP:
+                    return Column.editor().name(name).jdbcType(jdbcType).type("TIMESTAMP").position(position + 1).optional(true).create();
+                default:
+                    throw new IllegalArgumentException("Unsupported JDBC type " + jdbcType);
+            }
+        }
+
+        private Object[][] createRows(Table table) {
+            final Random random = new Random(42);
+            final List<Column> columns = table.columns();
+            final Object[][] rows = new Object[DISTINCT_ROWS][];
+            for (int i = 0; i < rows.length; i++) {
+                final Object[] row = new Object[columns.size()];
+                row[0] = i;
+                for (int j = 1; j < row.length; j++) {
+                    row[j] = createValue(columns.get(j).jdbcType(), random);
+                }
+                rows[i] = row;
+            }
+            return rows;
+        }
+
+        private Object createValue(int jdbcType, Random random) {
+            switch (jdbcType) {
+                case Types.INTEGER:
+                    return random.nextInt();
+                case Types.BIGINT:
+                    return random.nextLong();
+                case Types.VARCHAR:
+                    final char[] chars = new char[8 + random.nextInt(56)];
+                    for (int i = 0; i < chars.length; i++) {
+                        chars[i] = (char) ('a' + random.nextInt(26));
+                    }
+                    return new String(chars);
+                case Types.DECIMAL:
+                    return BigDecimal.valueOf(random.nextInt(1_000_000_000), 2);
+                case Types.TIMESTAMP:
+                    return new Timestamp(1_600_000_000_000L + random.nextInt(Integer.MAX_VALUE));
+                default:
+                    throw new IllegalArgumentException("Unsupported JDBC type " + jdbcType);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PipelineState extends RowState {
+
+        @Param({ "0", "4" })
+        public int eventProcessingThreads;
+
+        public PerfOffsetContext offsetContext;
+        public EventDispatcher<TableId> dispatcher;
+        public PerfSourceTask task;
+
+        @Override
+        protected void doSetupPipeline() {
+            final Configuration config = Configuration.create()
+                    .with(CommonConnectorConfig.MAX_BATCH_SIZE, batchSize)
+                    .with(CommonConnectorConfig.MAX_QUEUE_SIZE, Math.max(2 * batchSize, CommonConnectorConfig.DEFAULT_MAX_QUEUE_SIZE))
+                    .with(CommonConnectorConfig.EVENT_PROCESSING_THREADS, eventProcessingThreads)
+                    .build();
+            final PerfConnectorConfig connectorConfig = new PerfConnectorConfig(config);
+            offsetContext = new PerfOffsetContext(connectorConfig);
+
+            final ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                    .pollInterval(connectorConfig.getPollInterval())
+                    .maxBatchSize(connectorConfig.getMaxBatchSize())
+                    .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .loggingContextSupplier(() -> LoggingContext.forConnector("perf", LOGICAL_NAME, "pipeline"))
+                    .build();
+
+            dispatcher = new EventDispatcher<>(
+                    connectorConfig,
+                    TopicSelector.defaultSelector(connectorConfig, (id, prefix, delimiter) -> prefix + delimiter + id),
+                    new PerfDatabaseSchema(tableSchema),
+                    queue,
+                    id -> true,
+                    DataChangeEvent::new,
+                    new PerfEventMetadataProvider(),
+                    SchemaNameAdjuster.defaultAdjuster());
+
+            task = new PerfSourceTask(queue);
+            task.initialize(new PerfSourceTaskContext());
+            task.start(config.asMap());
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() {
+            task.stop();
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * Dispatches a batch of row inserts and polls the resulting records from the task, i.e. measures the complete
+     * in-memory pipeline.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void dispatchAndPoll(PipelineState state, Blackhole blackhole) throws InterruptedException {
+        for (int i = 0; i < state.batchSize; i++) {
+            state.offsetContext.nextPosition();
+            state.dispatcher.dispatchDataChangeEvent(TABLE_ID, new PerfChangeRecordEmitter(state.offsetContext, state.nextRow()));
+        }
+        int polled = 0;
+        while (polled < state.batchSize) {
+            final List<SourceRecord> records = state.task.poll();
+            polled += records.size();
+            blackhole.consume(records);
+        }
+    }
+
+    /**
+     * Converts a batch of rows into key and value structs, i.e. measures the {@link TableSchema} part of the pipeline
+     * in isolation.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void convertRows(RowState state, Blackhole blackhole) {
+        for (int i = 0; i < state.batchSize; i++) {
+            final Object[] row = state.nextRow();
+            blackhole.consume(state.tableSchema.keyFromColumnData(row));
+            blackhole.consume(state.tableSchema.valueFromColumnData(row));
+        }
+    }
+
+    private static class PerfConnectorConfig extends CommonConnectorConfig {
+
+        private static final Field.Set ALL_FIELDS = Field.setOf(CONFIG_DEFINITION.all());
+
+        PerfConnectorConfig(Configuration config) {
+            super(config, LOGICAL_NAME, 0);
+        }
+
+        @Override
+        public String getContextName() {
+            return "Perf";
+        }
+
+        @Override
+        public String getConnectorName() {
+            return "perf";
+        }
+
+        @Override
+        protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+            return new PerfSourceInfoStructMaker(this);
+        }
+    }
+
+    private static class PerfSourceInfo extends AbstractSourceInfo {
+
+        private long position;
+
+        PerfSourceInfo(CommonConnectorConfig config) {
+            super(config);
+        }
+
+        @Override
+        protected Instant timestamp() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        protected SnapshotRecord snapshot() {
+            return null;
+        }
+
+        @Override
+        protected String database() {
+            return TABLE_ID.catalog();
+        }
+    }
+
+    private static class PerfSourceInfoStructMaker extends AbstractSourceInfoStructMaker<PerfSourceInfo> {
+
+        private final Schema schema;
+
+        PerfSourceInfoStructMaker(CommonConnectorConfig connectorConfig) {
+            super("perf", "1.0", connectorConfig);
+            schema = commonSchemaBuilder()
+                    .name("io.debezium.connector.perf.Source")
+                    .field("pos", Schema.INT64_SCHEMA)
+                    .build();
+        }
+
+        @Override
+        public Schema schema() {
+            return schema;
+        }
+
+        @Override
+        public Struct struct(PerfSourceInfo sourceInfo) {
+            return commonStruct(sourceInfo).put("pos", sourceInfo.position);
+        }
+    }
+
+    private static class PerfOffsetContext implements OffsetContext {
+
+        private final Map<String, ?> partition = Collections.singletonMap("server", LOGICAL_NAME);
+        private final PerfSourceInfo sourceInfo;
+        private final TransactionContext transactionContext = new TransactionContext();
+
+        PerfOffsetContext(CommonConnectorConfig connectorConfig) {
+            this.sourceInfo = new PerfSourceInfo(connectorConfig);
+        }
+
+        void nextPosition() {
+            sourceInfo.position++;
+        }
+
+        @Override
+        public Map<String, ?> getPartition() {
+            return partition;
+        }
+
+        @Override
+        public Map<String, ?> getOffset() {
+            final Map<String, Object> offset = new HashMap<>();
+            offset.put("pos", sourceInfo.position);
+            return offset;
+        }
+
+        @Override
+        public Schema getSourceInfoSchema() {
+            return sourceInfo.schema();
+        }
+
+        @Override
+        public Struct getSourceInfo() {
+            return sourceInfo.struct();
+        }
+
+        @Override
+        public boolean isSnapshotRunning() {
+            return false;
+        }
+
+        @Override
+        public void markLastSnapshotRecord() {
+        }
+
+        @Override
+        public void preSnapshotStart() {
+        }
+
+        @Override
+        public void preSnapshotCompletion() {
+        }
+
+        @Override
+        public void postSnapshotCompletion() {
+        }
+
+        @Override
+        public void event(DataCollectionId collectionId, Instant timestamp) {
+        }
+
+        @Override
+        public TransactionContext getTransactionContext() {
+            return transactionContext;
+        }
+    }
+
+    private static class PerfChangeRecordEmitter extends RelationalChangeRecordEmitter {
+
+        private final Object[] row;
+
+        PerfChangeRecordEmitter(OffsetContext offsetContext, Object[] row) {
+            super(offsetContext, Clock.SYSTEM);
+            this.row = row;
+        }
+
+        @Override
+        protected Operation getOperation() {
+            return Operation.CREATE;
+        }
+
+        @Override
+        protected Object[] getOldColumnValues() {
+            return null;
+        }
+
+        @Override
+        protected Object[] getNewColumnValues() {
+            return row;
+        }
+    }
+
+    private static class PerfEventMetadataProvider implements EventMetadataProvider {
+
+        @Override
+        public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+    }
+
+    private static class PerfDatabaseSchema implements DatabaseSchema<TableId> {
+
+        private final TableSchema tableSchema;
+
+        PerfDatabaseSchema(TableSchema tableSchema) {
+            this.tableSchema = tableSchema;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public DataCollectionSchema schemaFor(TableId id) {
+            return tableSchema;
+        }
+
+        @Override
+        public boolean tableInformationComplete() {
+            return true;
+        }
+    }
+
+    private static class PerfSourceTask extends BaseSourceTask {
+
+        private final ChangeEventQueue<DataChangeEvent> queue;
+
+        PerfSourceTask(ChangeEventQueue<DataChangeEvent> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public String version() {
+            return "perf";
+        }
+
+        @Override
+        protected ChangeEventSourceCoordinator start(Configuration config) {
+            // events are dispatched by the benchmark itself
+            return null;
+        }
+
+        @Override
+        protected List<SourceRecord> doPoll() throws InterruptedException {
+            return queue.poll()
+                    .stream()
+                    .map(DataChangeEvent::getRecord)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        protected void doStop() {
+        }
+
+        @Override
+        protected Iterable<Field> getAllConfigurationFields() {
+            return PerfConnectorConfig.ALL_FIELDS;
+        }
+    }
+
+    private static class PerfSourceTaskContext implements SourceTaskContext {
+
+        @Override
+        public Map<String, String> configs() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public OffsetStorageReader offsetStorageReader() {
+            return null;
+        }
+    }
+}
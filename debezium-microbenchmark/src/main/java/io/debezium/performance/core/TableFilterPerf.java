@@ -0,0 +1,106 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.function.Predicates;
+import io.debezium.relational.Selectors;
+import io.debezium.relational.TableId;
+
+/**
+ * Compares evaluating table include/exclude lists with regular expressions for every change event with
+ * {@link Predicates#memoize(Predicate) remembering} the decision per table.
+ */
+public class TableFilterPerf {
+
+    @State(Scope.Thread)
+    public static class FilterState {
+
+        @Param({ "10", "100", "500" })
+        public int patternCount;
+
+        @Param({ "100", "5000" })
+        public int tableCount;
+
+        public Predicate<TableId> regexFilter;
+        public Predicate<TableId> memoizedFilter;
+        public TableId[] events;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final StringBuilder includeList = new StringBuilder();
+            final StringBuilder excludeList = new StringBuilder();
+            for (int i = 0; i < patternCount; i++) {
+                if (i > 0) {
+                    includeList.append(',');
+                    excludeList.append(',');
+                }
+                includeList.append("schema").append(i).append("\\.orders_.*");
+                excludeList.append("schema").append(i).append("\\.orders_archive_").append(i).append(".*");
+            }
+            regexFilter = Selectors.tableSelector()
+                    .includeTables(includeList.toString())
+                    .excludeTables(excludeList.toString())
+                    .build();
+            memoizedFilter = Predicates.memoize(regexFilter);
+
+            final List<TableId> tables = new ArrayList<>(tableCount);
+            for (int i = 0; i < tableCount; i++) {
+                tables.add(new TableId(null, "schema" + (i % (patternCount * 2)), (i % 3 == 0 ? "customers_" : "orders_") + i));
+            }
+
+            // a stream of change events in random tables
+            final Random random = new Random(42);
+            events = new TableId[1024];
+            for (int i = 0; i < events.length; i++) {
+                events[i] = tables.get(random.nextInt(tables.size()));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void regex(FilterState state, Blackhole blackhole) {
+        for (TableId id : state.events) {
+            blackhole.consume(state.regexFilter.test(id));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void memoized(FilterState state, Blackhole blackhole) {
+        for (TableId id : state.events) {
+            blackhole.consume(state.memoizedFilter.test(id));
+        }
+    }
+}